@@ -29,6 +29,7 @@ import java.util.List;
 
 import org.opt4j.benchmarks.DoubleString;
 import org.opt4j.core.Objective;
+import org.opt4j.core.ObjectiveSchema;
 import org.opt4j.core.Objectives;
 import org.opt4j.core.problem.Evaluator;
 
@@ -42,6 +43,8 @@ abstract class DTLZEvaluator implements Evaluator<DoubleString> {
 
 	protected final List<Objective> objectives = new ArrayList<>();
 
+	protected final ObjectiveSchema schema;
+
 	protected final int m;
 
 	protected final int n;
@@ -62,6 +65,7 @@ abstract class DTLZEvaluator implements Evaluator<DoubleString> {
 		for (int i = 0; i < m; i++) {
 			objectives.add(new Objective("f" + (i + 1), MIN));
 		}
+		schema = new ObjectiveSchema(objectives);
 	}
 
 	/**
@@ -94,7 +98,7 @@ abstract class DTLZEvaluator implements Evaluator<DoubleString> {
 		final double g = g(x.subList(m - 1, n));
 		final List<Double> f = f(x.subList(0, m - 1), g);
 
-		Objectives obj = new Objectives();
+		Objectives obj = schema.create();
 		for (int i = 0; i < objectives.size(); i++) {
 			Objective objective = objectives.get(i);
 			obj.add(objective, f.get(i));
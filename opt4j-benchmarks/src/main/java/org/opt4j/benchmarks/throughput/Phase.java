@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.benchmarks.throughput;
+
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.optimizer.Archive;
+import org.opt4j.core.optimizer.IndividualCompleter;
+import org.opt4j.core.problem.MultiEvaluator;
+import org.opt4j.optimizers.ea.Mating;
+import org.opt4j.optimizers.ea.Selector;
+
+/**
+ * The {@link Phase}s of an optimization that are measured by the
+ * {@link Profiler}.
+ * 
+ * @author agent
+ * 
+ */
+public enum Phase {
+	/**
+	 * The creation of new individuals ({@link IndividualFactory#create()}).
+	 */
+	CREATION,
+	/**
+	 * The creation of offspring ({@link Mating}) without the creation of the
+	 * individuals.
+	 */
+	MATING,
+	/**
+	 * The completion of the individuals ({@link IndividualCompleter}) without
+	 * the evaluation, i.e., the decoding and the framework overhead.
+	 */
+	COMPLETION,
+	/**
+	 * The evaluation of the phenotypes ({@link MultiEvaluator}).
+	 */
+	EVALUATION,
+	/**
+	 * The update of the {@link Archive}.
+	 */
+	ARCHIVE,
+	/**
+	 * The selection of parents and lames ({@link Selector}).
+	 */
+	SELECTION;
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.benchmarks.throughput;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * The {@link Profiler} measures the time that is spent in each {@link Phase}.
+ * The times are exclusive, i.e., the time of a nested phase (e.g., the
+ * creation of individuals during the mating) is only counted for the nested
+ * phase. Phases that are executed concurrently (e.g., parallel evaluations)
+ * are summed up over all threads.
+ * 
+ * @author agent
+ * 
+ */
+public class Profiler {
+
+	protected final Map<Phase, LongAdder> times = new EnumMap<>(Phase.class);
+
+	protected final Map<Phase, LongAdder> calls = new EnumMap<>(Phase.class);
+
+	protected final ThreadLocal<Deque<Frame>> stack = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * A {@link Frame} is a running measurement of a {@link Phase}.
+	 */
+	protected static class Frame {
+		protected final Phase phase;
+		protected long nested = 0;
+
+		Frame(Phase phase) {
+			this.phase = phase;
+		}
+	}
+
+	/**
+	 * Constructs a {@link Profiler}.
+	 */
+	public Profiler() {
+		for (Phase phase : Phase.values()) {
+			times.put(phase, new LongAdder());
+			calls.put(phase, new LongAdder());
+		}
+	}
+
+	/**
+	 * Returns the {@link MethodInterceptor} that measures the given
+	 * {@link Phase}.
+	 * 
+	 * @param phase
+	 *            the phase
+	 * @return the interceptor
+	 */
+	public MethodInterceptor getInterceptor(final Phase phase) {
+		return new MethodInterceptor() {
+			@Override
+			public Object invoke(MethodInvocation invocation) throws Throwable {
+				Deque<Frame> frames = stack.get();
+				Frame frame = new Frame(phase);
+				frames.push(frame);
+				long start = System.nanoTime();
+				try {
+					return invocation.proceed();
+				} finally {
+					long time = System.nanoTime() - start;
+					frames.pop();
+					Frame parent = frames.peek();
+					if (parent != null) {
+						parent.nested += time;
+					}
+					// delegating calls within the same phase count once
+					if (parent == null || parent.phase != phase) {
+						calls.get(phase).increment();
+					}
+					times.get(phase).add(time - frame.nested);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns the time in nanoseconds that was spent in the given
+	 * {@link Phase}.
+	 * 
+	 * @param phase
+	 *            the phase
+	 * @return the time in nanoseconds
+	 */
+	public long getTime(Phase phase) {
+		return times.get(phase).sum();
+	}
+
+	/**
+	 * Returns the number of calls of the given {@link Phase}.
+	 * 
+	 * @param phase
+	 *            the phase
+	 * @return the number of calls
+	 */
+	public long getCalls(Phase phase) {
+		return calls.get(phase).sum();
+	}
+
+	/**
+	 * Resets all times and calls.
+	 */
+	public void reset() {
+		for (Phase phase : Phase.values()) {
+			times.get(phase).reset();
+			calls.get(phase).reset();
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.benchmarks.throughput;
+
+import static com.google.inject.matcher.Matchers.subclassesOf;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.optimizer.Archive;
+import org.opt4j.core.optimizer.IndividualCompleter;
+import org.opt4j.core.problem.MultiEvaluator;
+import org.opt4j.optimizers.ea.Mating;
+import org.opt4j.optimizers.ea.Selector;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.matcher.Matcher;
+
+/**
+ * The {@link ProfilerModule} intercepts the methods of each {@link Phase} and
+ * measures them with a {@link Profiler}. The module is not an
+ * {@link org.opt4j.core.start.Opt4JModule} such that it is not offered in the
+ * configurator.
+ * 
+ * @author agent
+ * 
+ */
+public class ProfilerModule extends AbstractModule {
+
+	protected final Profiler profiler;
+
+	/**
+	 * Constructs a {@link ProfilerModule}.
+	 * 
+	 * @param profiler
+	 *            the profiler
+	 */
+	public ProfilerModule(Profiler profiler) {
+		this.profiler = profiler;
+	}
+
+	/**
+	 * Returns a {@link Matcher} for the non-synthetic methods with the given
+	 * names.
+	 * 
+	 * @param names
+	 *            the names of the methods
+	 * @return the matcher
+	 */
+	protected static Matcher<Method> named(String... names) {
+		final Set<String> set = new HashSet<>(Arrays.asList(names));
+		// the default and/or of the Matcher delegate to the Matchers
+		return method -> !method.isSynthetic() && set.contains(method.getName());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.inject.AbstractModule#configure()
+	 */
+	@Override
+	protected void configure() {
+		bind(Profiler.class).toInstance(profiler);
+		bindInterceptor(subclassesOf(IndividualFactory.class), named("create"),
+				profiler.getInterceptor(Phase.CREATION));
+		bindInterceptor(subclassesOf(Mating.class), named("getOffspring"), profiler.getInterceptor(Phase.MATING));
+		bindInterceptor(subclassesOf(IndividualCompleter.class), named("complete"),
+				profiler.getInterceptor(Phase.COMPLETION));
+		bindInterceptor(subclassesOf(MultiEvaluator.class), named("evaluate"),
+				profiler.getInterceptor(Phase.EVALUATION));
+		bindInterceptor(subclassesOf(Archive.class), named("update"), profiler.getInterceptor(Phase.ARCHIVE));
+		bindInterceptor(subclassesOf(Selector.class), named("getParents", "getLames"),
+				profiler.getInterceptor(Phase.SELECTION));
+	}
+}
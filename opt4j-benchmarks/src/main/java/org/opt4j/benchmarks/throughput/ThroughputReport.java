@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.benchmarks.throughput;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+import org.opt4j.core.start.Opt4J;
+
+/**
+ * The {@link ThroughputReport} writes {@link ThroughputResult}s as CSV or
+ * JSON. All times are given in milliseconds, except the selection time per
+ * generation which is given in microseconds.
+ * 
+ * @author agent
+ * 
+ */
+public class ThroughputReport {
+
+	protected final List<ThroughputResult> results;
+
+	/**
+	 * Constructs a {@link ThroughputReport}.
+	 * 
+	 * @param results
+	 *            the results
+	 */
+	public ThroughputReport(List<ThroughputResult> results) {
+		this.results = results;
+	}
+
+	protected static String format(double value) {
+		return String.format(Locale.US, "%.3f", value);
+	}
+
+	protected static String millis(long nanos) {
+		return format(nanos / 1e6);
+	}
+
+	protected static String column(Phase phase) {
+		return phase.name().toLowerCase(Locale.US) + "_ms";
+	}
+
+	/**
+	 * Writes the results as CSV with one line per run.
+	 * 
+	 * @param writer
+	 *            the writer
+	 * @throws IOException
+	 *             if the writing fails
+	 */
+	public void writeCSV(Writer writer) throws IOException {
+		StringBuilder header = new StringBuilder(
+				"name,run,seed,generations,evaluations,wall_ms,evaluations_per_second,overhead_ms");
+		for (Phase phase : Phase.values()) {
+			header.append(',').append(column(phase));
+		}
+		header.append(",selection_per_generation_us\n");
+		writer.write(header.toString());
+
+		for (ThroughputResult result : results) {
+			StringBuilder line = new StringBuilder();
+			line.append(result.getName()).append(',');
+			line.append(result.getRun()).append(',');
+			line.append(result.getSeed()).append(',');
+			line.append(result.getGenerations()).append(',');
+			line.append(result.getEvaluations()).append(',');
+			line.append(millis(result.getWallTime())).append(',');
+			line.append(format(result.getEvaluationsPerSecond())).append(',');
+			line.append(millis(result.getOverhead()));
+			for (Phase phase : Phase.values()) {
+				line.append(',').append(millis(result.getTime(phase)));
+			}
+			line.append(',').append(format(result.getSelectionPerGeneration() / 1e3)).append('\n');
+			writer.write(line.toString());
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Writes the results as JSON together with the versions of Opt4J and Java.
+	 * 
+	 * @param writer
+	 *            the writer
+	 * @throws IOException
+	 *             if the writing fails
+	 */
+	public void writeJSON(Writer writer) throws IOException {
+		StringBuilder json = new StringBuilder("{\n");
+		json.append("  \"opt4j\": ").append(quote(Opt4J.getVersion())).append(",\n");
+		json.append("  \"java\": ").append(quote(System.getProperty("java.version"))).append(",\n");
+		json.append("  \"results\": [");
+		for (int i = 0; i < results.size(); i++) {
+			ThroughputResult result = results.get(i);
+			json.append(i == 0 ? "\n" : ",\n");
+			json.append("    {");
+			json.append("\"name\": ").append(quote(result.getName()));
+			json.append(", \"run\": ").append(result.getRun());
+			json.append(", \"seed\": ").append(result.getSeed());
+			json.append(", \"generations\": ").append(result.getGenerations());
+			json.append(", \"evaluations\": ").append(result.getEvaluations());
+			json.append(", \"wall_ms\": ").append(millis(result.getWallTime()));
+			json.append(", \"evaluations_per_second\": ").append(format(result.getEvaluationsPerSecond()));
+			json.append(", \"overhead_ms\": ").append(millis(result.getOverhead()));
+			for (Phase phase : Phase.values()) {
+				json.append(", \"").append(column(phase)).append("\": ").append(millis(result.getTime(phase)));
+			}
+			json.append(", \"selection_per_generation_us\": ")
+					.append(format(result.getSelectionPerGeneration() / 1e3));
+			json.append("}");
+		}
+		json.append("\n  ]\n}\n");
+		writer.write(json.toString());
+		writer.flush();
+	}
+
+	protected static String quote(String value) {
+		if (value == null) {
+			return "null";
+		}
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+}
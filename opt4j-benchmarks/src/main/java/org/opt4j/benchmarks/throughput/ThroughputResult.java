@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.benchmarks.throughput;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The {@link ThroughputResult} contains the measurements of a single run of
+ * an optimizer configuration.
+ * 
+ * @author agent
+ * 
+ */
+public class ThroughputResult {
+
+	protected final String name;
+
+	protected final int run;
+
+	protected final long seed;
+
+	protected final int generations;
+
+	protected final long evaluations;
+
+	protected final long wallTime;
+
+	protected final Map<Phase, Long> times = new EnumMap<>(Phase.class);
+
+	/**
+	 * Constructs a {@link ThroughputResult}.
+	 * 
+	 * @param name
+	 *            the name of the configuration
+	 * @param run
+	 *            the index of the run
+	 * @param seed
+	 *            the seed of the run
+	 * @param generations
+	 *            the number of generations
+	 * @param wallTime
+	 *            the wall time in nanoseconds
+	 * @param profiler
+	 *            the profiler with the times of the phases
+	 */
+	public ThroughputResult(String name, int run, long seed, int generations, long wallTime, Profiler profiler) {
+		this.name = name;
+		this.run = run;
+		this.seed = seed;
+		this.generations = generations;
+		this.wallTime = wallTime;
+		this.evaluations = profiler.getCalls(Phase.EVALUATION);
+		for (Phase phase : Phase.values()) {
+			times.put(phase, profiler.getTime(phase));
+		}
+	}
+
+	/**
+	 * Returns the name of the configuration.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the index of the run.
+	 * 
+	 * @return the index of the run
+	 */
+	public int getRun() {
+		return run;
+	}
+
+	/**
+	 * Returns the seed of the run.
+	 * 
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the number of generations.
+	 * 
+	 * @return the number of generations
+	 */
+	public int getGenerations() {
+		return generations;
+	}
+
+	/**
+	 * Returns the number of evaluations.
+	 * 
+	 * @return the number of evaluations
+	 */
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * Returns the wall time of the optimization in nanoseconds.
+	 * 
+	 * @return the wall time
+	 */
+	public long getWallTime() {
+		return wallTime;
+	}
+
+	/**
+	 * Returns the time in nanoseconds that was spent in the given
+	 * {@link Phase}.
+	 * 
+	 * @param phase
+	 *            the phase
+	 * @return the time in nanoseconds
+	 */
+	public long getTime(Phase phase) {
+		return times.get(phase);
+	}
+
+	/**
+	 * Returns the wall time without the time of the evaluations, i.e., the
+	 * overhead of the framework in nanoseconds.
+	 * 
+	 * @return the overhead
+	 */
+	public long getOverhead() {
+		return Math.max(0, wallTime - getTime(Phase.EVALUATION));
+	}
+
+	/**
+	 * Returns the number of evaluations per second (of wall time).
+	 * 
+	 * @return the evaluations per second
+	 */
+	public double getEvaluationsPerSecond() {
+		return wallTime == 0 ? 0 : evaluations * 1e9 / wallTime;
+	}
+
+	/**
+	 * Returns the selection time per generation in nanoseconds.
+	 * 
+	 * @return the selection time per generation
+	 */
+	public double getSelectionPerGeneration() {
+		return generations == 0 ? 0 : (double) getTime(Phase.SELECTION) / generations;
+	}
+}
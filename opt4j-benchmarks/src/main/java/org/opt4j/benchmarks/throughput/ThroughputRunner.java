@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.benchmarks.throughput;
+
+import java.io.FileWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.opt4j.benchmarks.dtlz.DTLZModule;
+import org.opt4j.benchmarks.knapsack.KnapsackModule;
+import org.opt4j.benchmarks.wfg.WFGModule;
+import org.opt4j.core.common.random.RandomModule;
+import org.opt4j.core.start.Opt4JTask;
+import org.opt4j.optimizers.ea.EvolutionaryAlgorithmModule;
+import org.opt4j.optimizers.ea.Nsga2Module;
+
+import com.google.inject.Module;
+
+/**
+ * The {@link ThroughputRunner} runs optimizer configurations headless with
+ * fixed seeds and measures the wall time, the evaluations per second, and the
+ * time of each {@link Phase}. A configuration is a set of modules, typically
+ * an optimizer and a problem; the runner adds a {@link RandomModule} with the
+ * seed of the run and the {@link ProfilerModule}.
+ * <p>
+ * The benchmark problems are cheap to evaluate such that the wall time is
+ * dominated by the framework. The evaluation time is measured separately such
+ * that the overhead of the framework is the wall time without the evaluation
+ * time.
+ * </p>
+ * <p>
+ * Usage: {@code ThroughputRunner [--generations g] [--population p]
+ * [--runs r] [--warmup w] [--seed s] [--output prefix]}. The results are
+ * written to {@code prefix.csv} and {@code prefix.json}.
+ * </p>
+ * 
+ * @author agent
+ * 
+ */
+public class ThroughputRunner {
+
+	protected final int runs;
+
+	protected final int warmup;
+
+	protected final long seed;
+
+	protected final Map<String, List<Module>> configurations = new LinkedHashMap<>();
+
+	/**
+	 * Constructs a {@link ThroughputRunner}.
+	 * 
+	 * @param runs
+	 *            the number of measured runs per configuration
+	 * @param warmup
+	 *            the number of discarded warm-up runs per configuration
+	 * @param seed
+	 *            the seed of the first run; run {@code i} uses
+	 *            {@code seed + i}
+	 */
+	public ThroughputRunner(int runs, int warmup, long seed) {
+		if (runs <= 0) {
+			throw new IllegalArgumentException("Invalid runs: " + runs);
+		}
+		if (warmup < 0) {
+			throw new IllegalArgumentException("Invalid warmup: " + warmup);
+		}
+		this.runs = runs;
+		this.warmup = warmup;
+		this.seed = seed;
+	}
+
+	/**
+	 * Adds a configuration.
+	 * 
+	 * @param name
+	 *            the name of the configuration
+	 * @param modules
+	 *            the modules of the configuration
+	 */
+	public void addConfiguration(String name, Module... modules) {
+		configurations.put(name, Arrays.asList(modules));
+	}
+
+	/**
+	 * Adds the default configurations, i.e., the {@link Nsga2Module} with the
+	 * {@link EvolutionaryAlgorithmModule} on the DTLZ2 and WFG4 problems with
+	 * three objectives and on the knapsack problem.
+	 * 
+	 * @param generations
+	 *            the number of generations
+	 * @param population
+	 *            the population size
+	 */
+	public void addDefaultConfigurations(int generations, int population) {
+		DTLZModule dtlz = new DTLZModule();
+		dtlz.setFunction(DTLZModule.Function.DTLZ2);
+		dtlz.setM(3);
+
+		WFGModule wfg = new WFGModule();
+		wfg.setFunction(WFGModule.Function.WFG4);
+		wfg.setM(3);
+
+		KnapsackModule knapsack = new KnapsackModule();
+
+		addConfiguration("NSGA2-DTLZ2", getEvolutionaryAlgorithm(generations, population), new Nsga2Module(), dtlz);
+		addConfiguration("NSGA2-WFG4", getEvolutionaryAlgorithm(generations, population), new Nsga2Module(), wfg);
+		addConfiguration("NSGA2-Knapsack", getEvolutionaryAlgorithm(generations, population), new Nsga2Module(),
+				knapsack);
+	}
+
+	/**
+	 * Returns an {@link EvolutionaryAlgorithmModule} where a quarter of the
+	 * population is replaced in each generation.
+	 * 
+	 * @param generations
+	 *            the number of generations
+	 * @param population
+	 *            the population size
+	 * @return the module
+	 */
+	protected static EvolutionaryAlgorithmModule getEvolutionaryAlgorithm(int generations, int population) {
+		EvolutionaryAlgorithmModule ea = new EvolutionaryAlgorithmModule();
+		ea.setGenerations(generations);
+		ea.setPopulationSize(population);
+		ea.setParentsPerGeneration(Math.max(1, population / 4));
+		ea.setOffspringsPerGeneration(Math.max(1, population / 4));
+		return ea;
+	}
+
+	/**
+	 * Runs all configurations.
+	 * 
+	 * @return the results of the measured runs
+	 * @throws Exception
+	 *             if an optimization fails
+	 */
+	public List<ThroughputResult> run() throws Exception {
+		List<ThroughputResult> results = new ArrayList<>();
+		for (Map.Entry<String, List<Module>> entry : configurations.entrySet()) {
+			for (int i = 0; i < warmup; i++) {
+				run(entry.getKey(), -1, seed + i, entry.getValue());
+			}
+			for (int i = 0; i < runs; i++) {
+				results.add(run(entry.getKey(), i, seed + i, entry.getValue()));
+			}
+		}
+		return Collections.unmodifiableList(results);
+	}
+
+	/**
+	 * Runs a single configuration.
+	 * 
+	 * @param name
+	 *            the name of the configuration
+	 * @param run
+	 *            the index of the run
+	 * @param seed
+	 *            the seed
+	 * @param modules
+	 *            the modules of the configuration
+	 * @return the result
+	 * @throws Exception
+	 *             if the optimization fails
+	 */
+	protected ThroughputResult run(String name, int run, long seed, List<Module> modules) throws Exception {
+		Profiler profiler = new Profiler();
+		RandomModule random = new RandomModule();
+		random.setSeed(seed);
+
+		List<Module> all = new ArrayList<>(modules);
+		all.add(random);
+		all.add(new ProfilerModule(profiler));
+
+		Opt4JTask task = new Opt4JTask(false);
+		task.init(all);
+		try {
+			task.open();
+			long start = System.nanoTime();
+			task.execute();
+			long wallTime = System.nanoTime() - start;
+			return new ThroughputResult(name, run, seed, task.getIteration(), wallTime, profiler);
+		} finally {
+			task.close();
+		}
+	}
+
+	/**
+	 * Runs the default configurations and writes the results.
+	 * 
+	 * @param args
+	 *            the options
+	 * @throws Exception
+	 *             if an optimization or the writing fails
+	 */
+	public static void main(String[] args) throws Exception {
+		int generations = 100;
+		int population = 100;
+		int runs = 5;
+		int warmup = 1;
+		long seed = 0;
+		String output = "throughput";
+
+		for (int i = 0; i < args.length; i++) {
+			if (i + 1 == args.length) {
+				throw new IllegalArgumentException("Missing value of option " + args[i]);
+			}
+			String value = args[++i];
+			switch (args[i - 1]) {
+			case "--generations":
+				generations = Integer.parseInt(value);
+				break;
+			case "--population":
+				population = Integer.parseInt(value);
+				break;
+			case "--runs":
+				runs = Integer.parseInt(value);
+				break;
+			case "--warmup":
+				warmup = Integer.parseInt(value);
+				break;
+			case "--seed":
+				seed = Long.parseLong(value);
+				break;
+			case "--output":
+				output = value;
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option " + args[i - 1]);
+			}
+		}
+
+		ThroughputRunner runner = new ThroughputRunner(runs, warmup, seed);
+		runner.addDefaultConfigurations(generations, population);
+		List<ThroughputResult> results = runner.run();
+
+		for (ThroughputResult result : results) {
+			System.out.println(String.format(Locale.US, "%-16s run %d: %8.1f ms, %10.0f evaluations/s, overhead %8.1f ms",
+					result.getName(), result.getRun(), result.getWallTime() / 1e6, result.getEvaluationsPerSecond(),
+					result.getOverhead() / 1e6));
+		}
+
+		ThroughputReport report = new ThroughputReport(results);
+		try (Writer writer = new FileWriter(output + ".csv")) {
+			report.writeCSV(writer);
+		}
+		try (Writer writer = new FileWriter(output + ".json")) {
+			report.writeJSON(writer);
+		}
+	}
+}
@@ -31,6 +31,7 @@ import org.opt4j.benchmarks.DoubleString;
 import org.opt4j.benchmarks.K;
 import org.opt4j.benchmarks.M;
 import org.opt4j.core.Objective;
+import org.opt4j.core.ObjectiveSchema;
 import org.opt4j.core.Objectives;
 import org.opt4j.core.problem.Evaluator;
 
@@ -49,6 +50,8 @@ public abstract class WFGEvaluator implements Evaluator<DoubleString> {
 
 	protected final List<Objective> keys = new ArrayList<>();
 
+	protected final ObjectiveSchema schema;
+
 	/**
 	 * Constructs a {@link WFGEvaluator}.
 	 * 
@@ -65,6 +68,7 @@ public abstract class WFGEvaluator implements Evaluator<DoubleString> {
 		for (int i = 0; i < M; i++) {
 			keys.add(new Objective("f" + (i + 1)));
 		}
+		schema = new ObjectiveSchema(keys);
 	}
 
 	public abstract List<Double> f(List<Double> y);
@@ -80,7 +84,7 @@ public abstract class WFGEvaluator implements Evaluator<DoubleString> {
 
 		assert (f.size() == keys.size());
 
-		Objectives objectives = new Objectives();
+		Objectives objectives = schema.create();
 		for (int i = 0; i < M; i++) {
 			objectives.add(keys.get(i), f.get(i));
 		}
@@ -26,6 +26,7 @@ package org.opt4j.benchmarks.zdt;
 import static org.opt4j.core.Objective.Sign.MIN;
 
 import org.opt4j.core.Objective;
+import org.opt4j.core.ObjectiveSchema;
 import org.opt4j.core.Objectives;
 import org.opt4j.core.problem.Evaluator;
 
@@ -55,6 +56,7 @@ abstract class ZDTEvaluator<A extends Object> implements Evaluator<A> {
 
 	protected final Objective f1obj = new Objective("f1", MIN);
 	protected final Objective f2obj = new Objective("f2", MIN);
+	protected final ObjectiveSchema schema = new ObjectiveSchema(f1obj, f2obj);
 
 	/**
 	 * Function f1.
@@ -110,7 +112,7 @@ abstract class ZDTEvaluator<A extends Object> implements Evaluator<A> {
 		final double h = h(f1, g);
 		final double f2 = f2(g, h);
 
-		Objectives objectives = new Objectives();
+		Objectives objectives = schema.create();
 		objectives.add(f1obj, f1);
 		objectives.add(f2obj, f2);
 		return objectives;
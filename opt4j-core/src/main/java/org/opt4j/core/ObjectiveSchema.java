@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core;
+
+import static org.opt4j.core.Objective.Sign.MAX;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link ObjectiveSchema} is a fixed and ordered set of {@link Objective}s
+ * that is shared by all {@link Objectives} of an
+ * {@link org.opt4j.core.problem.Evaluator}. {@link Objectives} that are created
+ * with a schema store their values in a flat array with one slot for each
+ * {@link Objective} instead of a map of {@link Value}s.
+ * <p>
+ * The order of the {@link Objective}s is their natural order such that the
+ * {@link Objectives#array()} values are identical to the values of
+ * {@link Objectives} without a schema. Typically, an
+ * {@link org.opt4j.core.problem.Evaluator} creates the schema once:
+ * </p>
+ * 
+ * <pre>
+ * protected final Objective f1 = new Objective(&quot;f1&quot;, MIN);
+ * protected final Objective f2 = new Objective(&quot;f2&quot;, MAX);
+ * protected final ObjectiveSchema schema = new ObjectiveSchema(f1, f2);
+ * 
+ * public Objectives evaluate(Phenotype phenotype) {
+ * 	Objectives objectives = schema.create();
+ * 	objectives.add(f1, ...);
+ * 	objectives.add(f2, ...);
+ * 	return objectives;
+ * }
+ * </pre>
+ * 
+ * @see Objectives
+ * @author agent
+ * 
+ */
+public class ObjectiveSchema {
+
+	protected final Objective[] objectives;
+
+	protected final boolean[] maximize;
+
+	protected final Map<Objective, Integer> indices = new HashMap<>();
+
+	/**
+	 * Constructs an {@link ObjectiveSchema}.
+	 * 
+	 * @param objectives
+	 *            the objectives
+	 */
+	public ObjectiveSchema(Objective... objectives) {
+		this(Arrays.asList(objectives));
+	}
+
+	/**
+	 * Constructs an {@link ObjectiveSchema}.
+	 * 
+	 * @param objectives
+	 *            the objectives
+	 */
+	public ObjectiveSchema(Collection<Objective> objectives) {
+		this.objectives = objectives.toArray(new Objective[0]);
+		Arrays.sort(this.objectives);
+		this.maximize = new boolean[this.objectives.length];
+
+		for (int i = 0; i < this.objectives.length; i++) {
+			Objective objective = this.objectives[i];
+			if (i > 0 && objective.compareTo(this.objectives[i - 1]) == 0) {
+				throw new IllegalArgumentException("Duplicate objective: " + objective);
+			}
+			maximize[i] = objective.getSign() == MAX;
+			indices.put(objective, i);
+		}
+	}
+
+	/**
+	 * Creates new empty {@link Objectives} based on this schema.
+	 * 
+	 * @return the new objectives
+	 */
+	public Objectives create() {
+		return new Objectives(this);
+	}
+
+	/**
+	 * Returns the number of {@link Objective}s.
+	 * 
+	 * @return the number of objectives
+	 */
+	public int size() {
+		return objectives.length;
+	}
+
+	/**
+	 * Returns the index of the {@link Objective} or {@code -1} if the schema
+	 * does not contain the objective.
+	 * 
+	 * @param objective
+	 *            the objective
+	 * @return the index
+	 */
+	public int indexOf(Objective objective) {
+		Integer index = indices.get(objective);
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Returns the {@link Objective} at the index.
+	 * 
+	 * @param index
+	 *            the index
+	 * @return the objective
+	 */
+	public Objective get(int index) {
+		return objectives[index];
+	}
+
+	/**
+	 * Returns {@code true} if the {@link Objective} at the index is maximized.
+	 * 
+	 * @param index
+	 *            the index
+	 * @return {@code true} if maximized
+	 */
+	public boolean isMaximized(int index) {
+		return maximize[index];
+	}
+
+	/**
+	 * Returns the ordered {@link Objective}s.
+	 * 
+	 * @return the objectives
+	 */
+	public List<Objective> getObjectives() {
+		return Collections.unmodifiableList(Arrays.asList(objectives));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(objectives);
+	}
+}
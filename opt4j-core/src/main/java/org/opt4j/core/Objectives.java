@@ -24,7 +24,9 @@ package org.opt4j.core;
 
 import static org.opt4j.core.Objective.Sign.MAX;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.SortedMap;
@@ -35,17 +37,65 @@ import org.opt4j.core.Objective.Sign;
 /**
  * The {@link Objectives} contain the {@link Objective}-{@link Value} pairs of
  * an {@link Individual}.
+ * <p>
+ * {@link Objectives} that are constructed with an {@link ObjectiveSchema} store
+ * the values in a flat array with one slot for each {@link Objective} of the
+ * schema, i.e., the {@link #array()} values are written directly by the
+ * {@code add} methods. The map based methods are a view on this array: each
+ * {@link Objective} of the schema is contained, {@link Objective}s that were
+ * not added are {@link Objective#INFEASIBLE}, and values that were added as
+ * primitives are returned as {@link DoubleValue}s. Adding an {@link Objective}
+ * that is not part of the schema is not allowed.
+ * </p>
  * 
  * @see Value
  * @see Objective
+ * @see ObjectiveSchema
  * @author lukasiewycz
  * 
  */
 public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 
-	protected final SortedMap<Objective, Value<?>> map = new TreeMap<>();
+	protected final SortedMap<Objective, Value<?>> map;
 
-	protected double[] array = null;
+	protected final ObjectiveSchema schema;
+
+	protected Value<?>[] values = null;
+
+	protected volatile double[] array = null;
+
+	/**
+	 * Constructs empty {@link Objectives}.
+	 */
+	public Objectives() {
+		this.map = new TreeMap<>();
+		this.schema = null;
+	}
+
+	/**
+	 * Constructs empty {@link Objectives} that are based on the
+	 * {@link ObjectiveSchema}.
+	 * 
+	 * @see ObjectiveSchema#create()
+	 * @param schema
+	 *            the objective schema
+	 */
+	public Objectives(ObjectiveSchema schema) {
+		this.map = null;
+		this.schema = schema;
+		this.array = new double[schema.size()];
+		Arrays.fill(this.array, Double.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the {@link ObjectiveSchema} or {@code null} if these
+	 * {@link Objectives} are not based on a schema.
+	 * 
+	 * @return the objective schema
+	 */
+	public ObjectiveSchema getSchema() {
+		return schema;
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -54,7 +104,84 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 */
 	@Override
 	public Iterator<Entry<Objective, Value<?>>> iterator() {
-		return map.entrySet().iterator();
+		return getMap().entrySet().iterator();
+	}
+
+	/**
+	 * Returns the map of the {@link Objective}-{@link Value} pairs. If these
+	 * {@link Objectives} are based on an {@link ObjectiveSchema}, an
+	 * unmodifiable copy of the current values is returned.
+	 * 
+	 * @return the map of objectives to values
+	 */
+	protected SortedMap<Objective, Value<?>> getMap() {
+		if (schema == null) {
+			return map;
+		}
+		SortedMap<Objective, Value<?>> view = new TreeMap<>();
+		for (int i = 0; i < schema.size(); i++) {
+			view.put(schema.get(i), getValue(i));
+		}
+		return Collections.unmodifiableSortedMap(view);
+	}
+
+	/**
+	 * Returns the value of the slot of the {@link ObjectiveSchema}.
+	 * 
+	 * @param index
+	 *            the slot
+	 * @return the value
+	 */
+	protected Value<?> getValue(int index) {
+		if (values != null && values[index] != null) {
+			return values[index];
+		}
+		double v = array[index];
+		if (v == Double.MAX_VALUE) {
+			return new DoubleValue(null);
+		}
+		return new DoubleValue(schema.isMaximized(index) ? -v : v);
+	}
+
+	/**
+	 * Returns the slot of the {@link Objective} in the {@link ObjectiveSchema}.
+	 * 
+	 * @param objective
+	 *            the objective
+	 * @return the slot
+	 * @throws IllegalArgumentException
+	 *             if the objective is not part of the schema
+	 */
+	protected int indexOf(Objective objective) {
+		int index = schema.indexOf(objective);
+		if (index < 0) {
+			throw new IllegalArgumentException("Objective " + objective + " is not in the schema " + schema);
+		}
+		return index;
+	}
+
+	/**
+	 * Writes a value to the slot of the {@link ObjectiveSchema}.
+	 * 
+	 * @param objective
+	 *            the objective
+	 * @param value
+	 *            the value or {@code null} if infeasible
+	 * @return the slot
+	 */
+	protected int setValue(Objective objective, Double value) {
+		int index = indexOf(objective);
+		if (value == null) {
+			array[index] = Double.MAX_VALUE;
+		} else if (schema.isMaximized(index)) {
+			array[index] = -value;
+		} else {
+			array[index] = value;
+		}
+		if (values != null) {
+			values[index] = null;
+		}
+		return index;
 	}
 
 	/**
@@ -65,37 +192,41 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 * @return an array containing values which have to be minimized
 	 */
 	public double[] array() {
+		double[] array = this.array;
 		if (array == null) {
-			submit();
+			array = submit();
 		}
 
 		return array;
 	}
 
 	/**
-	 * Calculates the array.
+	 * Calculates the array. Concurrent calls may calculate the array more than
+	 * once, but all calculate the same values.
+	 * 
+	 * @return the array
 	 */
-	protected synchronized void submit() {
-		if (array == null) {
-			array = new double[size()];
-			int i = 0;
-			for (Entry<Objective, Value<?>> entry : this) {
-				Objective objective = entry.getKey();
-				Value<?> value = entry.getValue();
-
-				Double v = value.getDouble();
-
-				if (v == null) {
-					array[i] = Double.MAX_VALUE;
-				} else if (objective.getSign() == MAX) {
-					array[i] = -v;
-				} else {
-					array[i] = v;
-				}
+	protected double[] submit() {
+		double[] array = new double[size()];
+		int i = 0;
+		for (Entry<Objective, Value<?>> entry : map.entrySet()) {
+			Objective objective = entry.getKey();
+			Value<?> value = entry.getValue();
 
-				i++;
+			Double v = value.getDouble();
+
+			if (v == null) {
+				array[i] = Double.MAX_VALUE;
+			} else if (objective.getSign() == MAX) {
+				array[i] = -v;
+			} else {
+				array[i] = v;
 			}
+
+			i++;
 		}
+		this.array = array;
+		return array;
 	}
 
 	/**
@@ -104,7 +235,7 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 * @return the number of set objectives
 	 */
 	public int size() {
-		return map.size();
+		return schema == null ? map.size() : schema.size();
 	}
 
 	/**
@@ -113,7 +244,7 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 * @return all objectives
 	 */
 	public Collection<Objective> getKeys() {
-		return map.keySet();
+		return schema == null ? map.keySet() : schema.getObjectives();
 	}
 
 	/**
@@ -122,7 +253,7 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 * @return all values
 	 */
 	public Collection<Value<?>> getValues() {
-		return map.values();
+		return getMap().values();
 	}
 
 	/**
@@ -134,7 +265,11 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 * @return the value
 	 */
 	public Value<?> get(Objective objective) {
-		return map.get(objective);
+		if (schema == null) {
+			return map.get(objective);
+		}
+		int index = schema.indexOf(objective);
+		return index < 0 ? null : getValue(index);
 	}
 
 	/**
@@ -167,12 +302,21 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 *            the value
 	 */
 	public void add(Objective objective, Value<?> value) {
-		if (value == null) {
+		if (schema != null) {
+			int index = setValue(objective, value == null ? null : value.getDouble());
+			if (value != null && !(value instanceof DoubleValue)) {
+				if (values == null) {
+					values = new Value<?>[schema.size()];
+				}
+				values[index] = value;
+			}
+		} else if (value == null) {
 			map.put(objective, new DoubleValue(null));
+			array = null;
 		} else {
 			map.put(objective, value);
+			array = null;
 		}
-		array = null;
 	}
 
 	/**
@@ -198,7 +342,11 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 *            the value
 	 */
 	public void add(Objective objective, double value) {
-		add(objective, new DoubleValue(value));
+		if (schema != null) {
+			setValue(objective, value);
+		} else {
+			add(objective, new DoubleValue(value));
+		}
 	}
 
 	/**
@@ -224,7 +372,11 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 *            the value
 	 */
 	public void add(Objective objective, int value) {
-		add(objective, new IntegerValue(value));
+		if (schema != null) {
+			setValue(objective, (double) value);
+		} else {
+			add(objective, new IntegerValue(value));
+		}
 	}
 
 	/**
@@ -249,8 +401,26 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	 *            the objectives
 	 */
 	public void addAll(Objectives objectives) {
-		map.putAll(objectives.map);
-		array = null;
+		if (schema == null && objectives.schema == null) {
+			map.putAll(objectives.map);
+			array = null;
+		} else if (schema != null && objectives.schema != null) {
+			for (int i = 0; i < objectives.schema.size(); i++) {
+				int index = indexOf(objectives.schema.get(i));
+				array[index] = objectives.array[i];
+				Value<?> value = objectives.values == null ? null : objectives.values[i];
+				if (value != null && values == null) {
+					values = new Value<?>[schema.size()];
+				}
+				if (values != null) {
+					values[index] = value;
+				}
+			}
+		} else {
+			for (Entry<Objective, Value<?>> entry : objectives) {
+				add(entry.getKey(), entry.getValue());
+			}
+		}
 	}
 
 	/**
@@ -344,7 +514,7 @@ public class Objectives implements Iterable<Entry<Objective, Value<?>>> {
 	@Override
 	public String toString() {
 		StringBuilder s = new StringBuilder("");
-		for (Entry<Objective, Value<?>> entry : map.entrySet()) {
+		for (Entry<Objective, Value<?>> entry : getMap().entrySet()) {
 			Objective o = entry.getKey();
 			Value<?> v = entry.getValue();
 			s.append(o).append("=").append(v).append(" ");
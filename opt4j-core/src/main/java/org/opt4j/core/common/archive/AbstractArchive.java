@@ -29,9 +29,12 @@ import java.util.List;
 import java.util.Set;
 
 import org.opt4j.core.Individual;
-import org.opt4j.core.Objectives;
+import org.opt4j.core.common.dominance.DominanceKernel;
+import org.opt4j.core.common.dominance.DominanceKernelScalar;
 import org.opt4j.core.optimizer.Archive;
 
+import com.google.inject.Inject;
+
 /**
  * This {@link AbstractArchive} provides some common methods for {@link Archive}
  * s. If one or more new {@link Individual}s are added to this {@link Archive},
@@ -46,6 +49,20 @@ import org.opt4j.core.optimizer.Archive;
  */
 public abstract class AbstractArchive extends Archive {
 
+	protected DominanceKernel kernel = new DominanceKernelScalar();
+
+	/**
+	 * Sets the {@link DominanceKernel} that is used to compare the candidates
+	 * with the {@link Individual}s of the archive.
+	 * 
+	 * @param kernel
+	 *            the dominance kernel
+	 */
+	@Inject
+	protected void injectKernel(DominanceKernel kernel) {
+		this.kernel = kernel;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -75,20 +92,40 @@ public abstract class AbstractArchive extends Archive {
 	 *            the list of candidates to sanitize
 	 */
 	protected void removeDominatedCandidates(List<Individual> candidates) {
-		for (int i = 0; i < candidates.size() - 1; i++) {
-			Objectives o1 = candidates.get(i).getObjectives();
-			for (int j = i + 1; j < candidates.size(); j++) {
-				Objectives o2 = candidates.get(j).getObjectives();
-				if (o2.weaklyDominates(o1)) {
-					candidates.remove(i);
-					i--;
-					break;
-				} else if (o1.weaklyDominates(o2)) {
-					candidates.remove(j);
-					j--;
+		final int n = candidates.size();
+		List<double[]> points = new ArrayList<>(n);
+		for (Individual candidate : candidates) {
+			points.add(candidate.getObjectives().array());
+		}
+		double[][] columns = DominanceKernel.columns(points);
+		byte[] relation = new byte[n];
+		boolean[] removed = new boolean[n];
+
+		for (int i = 0; i < n - 1; i++) {
+			if (removed[i]) {
+				continue;
+			}
+			double[] candidate = points.get(i);
+			// a later candidate with equal objectives is kept
+			if (kernel.findWeaklyDominating(candidate, columns, i + 1, n) >= 0) {
+				removed[i] = true;
+			} else {
+				kernel.compare(candidate, columns, i + 1, n, relation);
+				for (int j = i + 1; j < n; j++) {
+					if (relation[j] == DominanceKernel.DOMINATES) {
+						removed[j] = true;
+					}
 				}
 			}
 		}
+
+		int i = 0;
+		for (Iterator<Individual> it = candidates.iterator(); it.hasNext(); i++) {
+			it.next();
+			if (removed[i]) {
+				it.remove();
+			}
+		}
 	}
 
 	/**
@@ -102,17 +139,31 @@ public abstract class AbstractArchive extends Archive {
 	 *            the list of candidates to sanitize
 	 */
 	protected void removeArchiveDominated(List<Individual> candidates) {
-		Iterator<Individual> i1;
-		Iterator<Individual> i2;
-		for (i1 = candidates.iterator(); i1.hasNext();) {
-			Objectives o1 = i1.next().getObjectives();
-			for (i2 = this.iterator(); i2.hasNext();) {
-				Objectives o2 = i2.next().getObjectives();
-				if (o2.weaklyDominates(o1)) {
-					i1.remove();
-					break;
-				} else if (o1.dominates(o2)) {
-					i2.remove();
+		List<Individual> members = new ArrayList<>(this);
+		List<double[]> points = new ArrayList<>(members.size());
+		for (Individual member : members) {
+			points.add(member.getObjectives().array());
+		}
+		final int n = members.size();
+		double[][] columns = DominanceKernel.columns(points);
+		byte[] relation = new byte[n];
+		boolean[] removed = new boolean[n];
+
+		for (Iterator<Individual> it = candidates.iterator(); it.hasNext();) {
+			double[] candidate = it.next().getObjectives().array();
+			int j = kernel.findWeaklyDominating(candidate, columns, 0, n);
+			while (j >= 0 && removed[j]) {
+				j = kernel.findWeaklyDominating(candidate, columns, j + 1, n);
+			}
+			if (j >= 0) {
+				it.remove();
+			} else {
+				kernel.compare(candidate, columns, 0, n, relation);
+				for (j = 0; j < n; j++) {
+					if (relation[j] == DominanceKernel.DOMINATES && !removed[j]) {
+						remove(members.get(j));
+						removed[j] = true;
+					}
 				}
 			}
 		}
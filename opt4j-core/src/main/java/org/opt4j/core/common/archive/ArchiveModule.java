@@ -19,6 +19,7 @@ package org.opt4j.core.common.archive;
 
 import static org.opt4j.core.config.annotations.Citation.PublicationMonth.APRIL;
 import static org.opt4j.core.config.annotations.Citation.PublicationMonth.AUGUST;
+import static org.opt4j.core.config.annotations.Citation.PublicationMonth.OCTOBER;
 
 import org.opt4j.core.config.Icons;
 import org.opt4j.core.config.annotations.Citation;
@@ -58,6 +59,11 @@ public class ArchiveModule extends Opt4JModule {
 	@Constant(value = "div", namespace = AdaptiveGridArchive.class)
 	protected int divisions = 7;
 
+	@Info("Maintain the crowding distances incrementally and remove the most crowded individual one at a time")
+	@Required(property = "type", elements = { "CROWDING" })
+	@Constant(value = "incremental", namespace = CrowdingArchive.class)
+	protected boolean incremental = false;
+
 	/** Archive type. */
 	public enum Type {
 		/**
@@ -92,7 +98,16 @@ public class ArchiveModule extends Opt4JModule {
 		 */
 		@Info("Bounded archive based on the crowding distance (NSGA2)")
 		@Citation(title = "A fast and elitist multiobjective genetic algorithm : NSGA-II", authors = "Kalyanmoy Deb, Amrit Pratap, Samir Agarwal, and Tanaka Meyarivan", journal = "IEEETransactions on Evolutionary Computation", pageFirst = 182, pageLast = 197, month = AUGUST, year = 2002)
-		CROWDING;
+		CROWDING,
+
+		/**
+		 * Archive of unlimited size with a dominance index.
+		 * 
+		 * @see IndexedArchive
+		 */
+		@Info("Archive of unlimited size with a dominance index (ND-tree) for large archives")
+		@Citation(title = "ND-Tree-Based Update: A Fast Algorithm for the Dynamic Nondominance Problem", authors = "Andrzej Jaszkiewicz and Thibaut Lust", journal = "IEEE Transactions on Evolutionary Computation", volume = 22, number = 5, pageFirst = 778, pageLast = 791, month = OCTOBER, year = 2018)
+		INDEXED;
 	}
 
 	/**
@@ -116,6 +131,29 @@ public class ArchiveModule extends Opt4JModule {
 		this.divisions = divisions;
 	}
 
+	/**
+	 * Returns {@code true} if the {@link CrowdingArchive} maintains the
+	 * crowding distances incrementally.
+	 * 
+	 * @see #setIncremental
+	 * @return {@code true} if incremental
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Sets the incremental mode of the {@link CrowdingArchive}.
+	 * 
+	 * @see #isIncremental
+	 * @param incremental
+	 *            {@code true} if incremental (using namespace
+	 *            {@link CrowdingArchive})
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	/**
 	 * Sets the archive type to the specified value.
 	 * 
@@ -177,6 +215,9 @@ public class ArchiveModule extends Opt4JModule {
 		case CROWDING:
 			archiveClass = CrowdingArchive.class;
 			break;
+		case INDEXED:
+			archiveClass = IndexedArchive.class;
+			break;
 		default: // UNBOUNDED
 			archiveClass = UnboundedArchive.class;
 			break;
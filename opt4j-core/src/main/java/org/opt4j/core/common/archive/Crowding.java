@@ -59,37 +59,73 @@ public class Crowding implements FrontDensityIndicator {
 	private Map<Individual, Double> getValues(Collection<Individual> individuals) {
 		Map<Individual, Double> map = new HashMap<>();
 		List<Individual> list = new ArrayList<>(individuals);
+		double[] values = getDensityValues(FrontDensityIndicator.toMatrix(list));
 
-		for (Individual individual : list) {
-			map.put(individual, 0.0);
+		for (int i = 0; i < values.length; i++) {
+			map.put(list.get(i), values[i]);
+		}
+		return map;
+	}
+
+	/**
+	 * Calculates the crowding distance for a front that is given as a matrix
+	 * of objective values. The {@code i}-th value is the crowding distance of
+	 * the {@code i}-th row.
+	 * 
+	 * @param objectives
+	 *            the objective values of the front
+	 * @return the crowding distances
+	 */
+	public double[] getDensityValues(double[][] objectives) {
+		final int n = objectives.length;
+		double[] values = new double[n];
+		if (n == 0) {
+			return values;
 		}
 
-		int m = list.get(0).getObjectives().array().length;
+		int m = objectives[0].length;
+		int[] order = new int[n];
+		int[] buffer = new int[n];
+		double[] keys = new double[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
 
-		for (int i = 0; i < m; i++) {
-			final int dim = i;
-			Comparator<Individual> foo = (Individual o1, Individual o2) -> (int) Math
-					.signum(o1.getObjectives().array()[dim] - o2.getObjectives().array()[dim]);
-			Collections.sort(list, foo);
+		for (int dim = 0; dim < m; dim++) {
+			for (int i = 0; i < n; i++) {
+				keys[i] = objectives[i][dim];
+			}
+			sort(order, keys, buffer);
 
-			Individual minIndividual = list.get(0);
-			Individual maxIndividual = list.get(list.size() - 1);
+			int min = order[0];
+			int max = order[n - 1];
 
-			double diff = maxIndividual.getObjectives().array()[dim] - minIndividual.getObjectives().array()[dim];
+			double diff = keys[max] - keys[min];
 			if (diff > 0) {
-				map.put(minIndividual, Double.MAX_VALUE);
-				map.put(maxIndividual, Double.MAX_VALUE);
-
-				for (int j = 1; j < list.size() - 1; j++) {
-					double p = list.get(j - 1).getObjectives().array()[dim];
-					double n = list.get(j + 1).getObjectives().array()[dim];
-					Individual ind = list.get(j);
-					map.put(ind, map.get(ind) + ((n - p) / diff));
+				values[min] = Double.MAX_VALUE;
+				values[max] = Double.MAX_VALUE;
+
+				for (int j = 1; j < n - 1; j++) {
+					double p = keys[order[j - 1]];
+					double q = keys[order[j + 1]];
+					values[order[j]] += (q - p) / diff;
 				}
 			}
 		}
 
-		return map;
+		return values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.archive.FrontDensityIndicator#getDensityValues(
+	 * double[][], java.util.List)
+	 */
+	@Override
+	public double[] getDensityValues(double[][] objectives, List<Individual> individuals) {
+		return getDensityValues(objectives);
 	}
 
 	/**
@@ -109,6 +145,67 @@ public class Crowding implements FrontDensityIndicator {
 		return list;
 	}
 
+	/**
+	 * Returns the indices of the values ordered by their crowding distance.
+	 * Indices with a high crowding distance are sorted to the front.
+	 * 
+	 * @param values
+	 *            the crowding distance values
+	 * @return the sorted indices
+	 */
+	public int[] order(double[] values) {
+		final int n = values.length;
+		int[] order = new int[n];
+		double[] keys = new double[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+			keys[i] = -values[i];
+		}
+		sort(order, keys, new int[n]);
+		return order;
+	}
+
+	/**
+	 * Sorts the indices ascending by their keys. The sorting is stable such
+	 * that indices with equal keys keep their relative order.
+	 * 
+	 * @param order
+	 *            the indices that are sorted
+	 * @param keys
+	 *            the keys of the indices
+	 * @param buffer
+	 *            a buffer of the same length as the indices
+	 */
+	public static void sort(int[] order, double[] keys, int[] buffer) {
+		final int n = order.length;
+		int[] from = order;
+		int[] to = buffer;
+		for (int width = 1; width < n; width *= 2) {
+			for (int left = 0; left < n; left += 2 * width) {
+				int mid = Math.min(left + width, n);
+				int right = Math.min(left + 2 * width, n);
+				int i = left;
+				int j = mid;
+				int k = left;
+				while (i < mid && j < right) {
+					to[k++] = keys[from[j]] < keys[from[i]] ? from[j++] : from[i++];
+				}
+				while (i < mid) {
+					to[k++] = from[i++];
+				}
+				while (j < right) {
+					to[k++] = from[j++];
+				}
+			}
+			int[] swap = from;
+			from = to;
+			to = swap;
+		}
+		if (from != order) {
+			System.arraycopy(from, 0, order, 0, n);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
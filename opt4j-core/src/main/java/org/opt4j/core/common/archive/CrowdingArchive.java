@@ -23,33 +23,91 @@
 
 package org.opt4j.core.common.archive;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualSet;
+import org.opt4j.core.IndividualSetListener;
 import org.opt4j.core.start.Constant;
 
 import com.google.inject.Inject;
 
 /**
  * The {@link CrowdingArchive} is based on the {@link Crowding} distance.
+ * <p>
+ * By default, the crowding distances of the archive and the candidates are
+ * calculated once and the individuals with the smallest distances are removed
+ * at once. In the incremental mode, the distances are maintained by an
+ * {@link IncrementalCrowding} across updates and the individual with the
+ * smallest distance is removed one at a time while the distances of its
+ * neighbors are updated.
+ * </p>
  * 
  * @author lukasiewycz
  * @see Crowding
+ * @see IncrementalCrowding
  * 
  */
 public class CrowdingArchive extends BoundedArchive {
 
+	protected final IncrementalCrowding crowding;
+
+	/**
+	 * Constructs a {@link CrowdingArchive}.
+	 * 
+	 * @param capacity
+	 *            capacity of this archive (using namespace
+	 *            {@link BoundedArchive})
+	 */
+	public CrowdingArchive(int capacity) {
+		this(capacity, false);
+	}
+
 	/**
 	 * Constructs a {@link CrowdingArchive}.
 	 * 
 	 * @param capacity
 	 *            capacity of this archive (using namespace
 	 *            {@link BoundedArchive})
+	 * @param incremental
+	 *            {@code true} if the crowding distances are maintained
+	 *            incrementally (using namespace {@link CrowdingArchive})
 	 */
 	@Inject
-	public CrowdingArchive(@Constant(value = "capacity", namespace = BoundedArchive.class) int capacity) {
+	public CrowdingArchive(@Constant(value = "capacity", namespace = BoundedArchive.class) int capacity,
+			@Constant(value = "incremental", namespace = CrowdingArchive.class) boolean incremental) {
 		super(capacity);
+		if (incremental) {
+			crowding = new IncrementalCrowding();
+			// not the overridable addListener since the subclass is not constructed yet
+			listeners.add(new IndividualSetListener() {
+				@Override
+				public void individualAdded(IndividualSet collection, Individual individual) {
+					crowding.add(individual);
+				}
+
+				@Override
+				public void individualRemoved(IndividualSet collection, Individual individual) {
+					crowding.remove(individual);
+				}
+			});
+		} else {
+			crowding = null;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the crowding distances are maintained
+	 * incrementally.
+	 * 
+	 * @return {@code true} if incremental
+	 */
+	public boolean isIncremental() {
+		return crowding != null;
 	}
 
 	/*
@@ -64,16 +122,21 @@ public class CrowdingArchive extends BoundedArchive {
 		boolean changed = false;
 		if (this.size() + candidates.size() <= capacity) {
 			changed = addCheckedIndividuals(candidates);
+		} else if (crowding != null) {
+			changed = updateIncremental(candidates);
 		} else {
-			candidates.addAll(this);
+			List<Individual> all = new ArrayList<>(candidates);
+			all.addAll(this);
 			Crowding crowding = new Crowding();
-			List<Individual> list = crowding.order(crowding.getDensityValues(candidates));
-			List<Individual> worst = list.subList(capacity, list.size());
-			candidates.removeAll(worst);
+			int[] order = crowding.order(crowding.getDensityValues(FrontDensityIndicator.toMatrix(all)));
+			Set<Individual> worst = new HashSet<>();
+			for (int i = capacity; i < order.length; i++) {
+				worst.add(all.get(order[i]));
+			}
 
-			this.retainAll(candidates);
+			changed = this.removeAll(worst);
 			for (Individual i : candidates) {
-				if (!this.contains(i)) {
+				if (!worst.contains(i)) {
 					changed |= addCheckedIndividual(i);
 				}
 			}
@@ -81,4 +144,30 @@ public class CrowdingArchive extends BoundedArchive {
 		return changed;
 	}
 
+	/**
+	 * Adds the candidates to the {@link IncrementalCrowding} and removes the
+	 * individuals with the smallest crowding distance one at a time until the
+	 * capacity is met. The remaining candidates are added to the archive.
+	 * 
+	 * @param candidates
+	 *            the non-dominated candidates
+	 * @return true if the archive changed
+	 */
+	protected boolean updateIncremental(Collection<Individual> candidates) {
+		boolean changed = false;
+		for (Individual candidate : candidates) {
+			crowding.add(candidate);
+		}
+		while (crowding.size() > capacity) {
+			Individual worst = crowding.removeWorst();
+			changed |= this.remove(worst);
+		}
+		for (Individual candidate : candidates) {
+			if (crowding.contains(candidate) && !this.contains(candidate)) {
+				changed |= addCheckedIndividual(candidate);
+			}
+		}
+		return changed;
+	}
+
 }
@@ -23,6 +23,7 @@
 package org.opt4j.core.common.archive;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.opt4j.core.Individual;
@@ -51,4 +52,46 @@ public interface FrontDensityIndicator {
 	 */
 	public Map<Individual, Double> getDensityValues(Collection<Individual> individuals);
 
+	/**
+	 * Returns the density values for a front that is given as a matrix of
+	 * objective values, i.e., the {@link org.opt4j.core.Objectives#array()}
+	 * values. The {@code i}-th value belongs to the {@code i}-th row of the
+	 * matrix and the {@code i}-th individual.
+	 * <p>
+	 * Implementations that operate on the objective values directly override
+	 * this method and ignore the individuals. The default implementation is an
+	 * adapter to {@link #getDensityValues(Collection)}.
+	 * </p>
+	 * 
+	 * @param objectives
+	 *            the objective values of the front
+	 * @param individuals
+	 *            the individuals of the front in the order of the rows
+	 * @return the density values
+	 */
+	public default double[] getDensityValues(double[][] objectives, List<Individual> individuals) {
+		Map<Individual, Double> map = getDensityValues(individuals);
+		double[] values = new double[individuals.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = map.get(individuals.get(i));
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the matrix of the {@link org.opt4j.core.Objectives#array()}
+	 * values of the individuals. The rows are not copied.
+	 * 
+	 * @param individuals
+	 *            the individuals
+	 * @return the objective values
+	 */
+	public static double[][] toMatrix(List<Individual> individuals) {
+		double[][] objectives = new double[individuals.size()][];
+		for (int i = 0; i < objectives.length; i++) {
+			objectives[i] = individuals.get(i).getObjectives().array();
+		}
+		return objectives;
+	}
+
 }
@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.archive;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.opt4j.core.Individual;
+
+/**
+ * The {@link IncrementalCrowding} maintains the {@link Crowding} distances of
+ * a changing set of {@link Individual}s. For each objective, the individuals
+ * are kept in a sorted order such that an insertion or a removal only updates
+ * the distances of the direct neighbors. The individuals are additionally
+ * ordered by their distance such that the most crowded individual is found
+ * without a complete recalculation.
+ * <p>
+ * The distances are normalized by the range of each objective. If a range
+ * changes, i.e., an extreme individual is added or removed, the distance order
+ * is rebuilt on the next request. Otherwise, the costs of an update are
+ * logarithmic in the number of individuals.
+ * </p>
+ * 
+ * @see Crowding
+ * @see CrowdingArchive
+ * @author agent
+ * 
+ */
+public class IncrementalCrowding {
+
+	/**
+	 * The {@link Entry} of an {@link Individual}.
+	 */
+	protected static class Entry {
+
+		protected final Individual individual;
+
+		protected final double[] point;
+
+		protected final long id;
+
+		protected final double[] gaps;
+
+		protected double distance = 0;
+
+		protected Entry(Individual individual, double[] point, long id) {
+			this.individual = individual;
+			this.point = point;
+			this.id = id;
+			this.gaps = new double[point.length];
+		}
+	}
+
+	protected final Map<Individual, Entry> entries = new HashMap<>();
+
+	protected final TreeSet<Entry> byDistance = new TreeSet<>(
+			Comparator.<Entry> comparingDouble(e -> e.distance).thenComparingLong(e -> e.id));
+
+	protected TreeSet<Entry>[] orders = null;
+
+	protected double[] ranges = null;
+
+	protected boolean dirty = false;
+
+	protected long ids = 0;
+
+	/**
+	 * Returns the number of individuals.
+	 * 
+	 * @return the number of individuals
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns {@code true} if the individual is contained.
+	 * 
+	 * @param individual
+	 *            the individual
+	 * @return {@code true} if the individual is contained
+	 */
+	public boolean contains(Individual individual) {
+		return entries.containsKey(individual);
+	}
+
+	/**
+	 * Returns the current crowding distance of the individual.
+	 * 
+	 * @param individual
+	 *            the individual
+	 * @return the crowding distance
+	 */
+	public double getDistance(Individual individual) {
+		Entry entry = entries.get(individual);
+		if (entry == null) {
+			throw new IllegalArgumentException("Unknown individual: " + individual);
+		}
+		return distance(entry);
+	}
+
+	/**
+	 * Removes all individuals.
+	 */
+	public void clear() {
+		entries.clear();
+		byDistance.clear();
+		orders = null;
+		ranges = null;
+		dirty = false;
+	}
+
+	/**
+	 * Adds the individual.
+	 * 
+	 * @param individual
+	 *            the individual
+	 * @return {@code true} if the individual was not contained
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public boolean add(Individual individual) {
+		if (entries.containsKey(individual)) {
+			return false;
+		}
+		double[] point = individual.getObjectives().array();
+		final int m = point.length;
+		if (orders == null) {
+			orders = new TreeSet[m];
+			for (int k = 0; k < m; k++) {
+				final int dim = k;
+				orders[k] = new TreeSet<>(
+						Comparator.<Entry> comparingDouble(e -> e.point[dim]).thenComparingLong(e -> e.id));
+			}
+			ranges = new double[m];
+		}
+
+		Entry entry = new Entry(individual, point, ids++);
+		entries.put(individual, entry);
+
+		List<Entry> touched = neighbors(entry);
+		unqueue(touched);
+		for (int k = 0; k < m; k++) {
+			orders[k].add(entry);
+		}
+		touched.add(entry);
+		update(touched);
+		return true;
+	}
+
+	/**
+	 * Removes the individual.
+	 * 
+	 * @param individual
+	 *            the individual
+	 * @return {@code true} if the individual was contained
+	 */
+	public boolean remove(Individual individual) {
+		Entry entry = entries.remove(individual);
+		if (entry == null) {
+			return false;
+		}
+		List<Entry> touched = neighbors(entry);
+		touched.add(entry);
+		unqueue(touched);
+		touched.remove(entry);
+		for (TreeSet<Entry> order : orders) {
+			order.remove(entry);
+		}
+		update(touched);
+		return true;
+	}
+
+	/**
+	 * Removes and returns the individual with the smallest crowding distance.
+	 * 
+	 * @return the removed individual or {@code null} if empty
+	 */
+	public Individual removeWorst() {
+		if (entries.isEmpty()) {
+			return null;
+		}
+		if (dirty) {
+			rebuild();
+		}
+		Individual worst = byDistance.first().individual;
+		remove(worst);
+		return worst;
+	}
+
+	/**
+	 * Returns the direct neighbors of the entry in all objectives.
+	 * 
+	 * @param entry
+	 *            the entry
+	 * @return the neighbors
+	 */
+	protected List<Entry> neighbors(Entry entry) {
+		List<Entry> neighbors = new ArrayList<>(2 * orders.length);
+		for (TreeSet<Entry> order : orders) {
+			Entry lower = order.lower(entry);
+			Entry higher = order.higher(entry);
+			if (lower != null && !neighbors.contains(lower)) {
+				neighbors.add(lower);
+			}
+			if (higher != null && !neighbors.contains(higher)) {
+				neighbors.add(higher);
+			}
+		}
+		return neighbors;
+	}
+
+	/**
+	 * Removes the entries from the distance order.
+	 * 
+	 * @param touched
+	 *            the entries
+	 */
+	protected void unqueue(List<Entry> touched) {
+		if (!dirty) {
+			for (Entry entry : touched) {
+				byDistance.remove(entry);
+			}
+		}
+	}
+
+	/**
+	 * Recalculates the gaps of the changed entries and either reinserts them
+	 * into the distance order or marks the order as dirty if a range changed.
+	 * 
+	 * @param touched
+	 *            the changed entries
+	 */
+	protected void update(List<Entry> touched) {
+		for (Entry entry : touched) {
+			for (int k = 0; k < orders.length; k++) {
+				Entry lower = orders[k].lower(entry);
+				Entry higher = orders[k].higher(entry);
+				entry.gaps[k] = (lower == null || higher == null) ? Double.POSITIVE_INFINITY
+						: higher.point[k] - lower.point[k];
+			}
+		}
+		for (int k = 0; k < orders.length; k++) {
+			double range = orders[k].isEmpty() ? 0 : orders[k].last().point[k] - orders[k].first().point[k];
+			if (range != ranges[k]) {
+				ranges[k] = range;
+				dirty = true;
+			}
+		}
+		if (!dirty) {
+			for (Entry entry : touched) {
+				entry.distance = distance(entry);
+				byDistance.add(entry);
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the distance order of all entries.
+	 */
+	protected void rebuild() {
+		byDistance.clear();
+		for (Entry entry : entries.values()) {
+			entry.distance = distance(entry);
+			byDistance.add(entry);
+		}
+		dirty = false;
+	}
+
+	/**
+	 * Calculates the normalized crowding distance of the entry.
+	 * 
+	 * @param entry
+	 *            the entry
+	 * @return the crowding distance
+	 */
+	protected double distance(Entry entry) {
+		double distance = 0;
+		for (int k = 0; k < ranges.length; k++) {
+			if (ranges[k] > 0) {
+				distance += entry.gaps[k] / ranges[k];
+			}
+		}
+		return distance;
+	}
+}
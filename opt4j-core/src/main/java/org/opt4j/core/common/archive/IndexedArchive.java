@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.archive;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualSet;
+import org.opt4j.core.IndividualSetListener;
+import org.opt4j.core.Objectives;
+import org.opt4j.core.optimizer.Archive;
+
+import com.google.inject.Singleton;
+
+/**
+ * The {@code IndexedArchive} is an {@link Archive} with unbounded size that
+ * keeps its {@link Individual}s in an {@link NDTree}. The dominance checks of
+ * an update are answered by the tree such that an update typically does not
+ * compare each candidate with each {@link Individual} of the archive.
+ * <p>
+ * The index is synchronized by an {@link IndividualSetListener} such that the
+ * archive may be modified with the common {@link IndividualSet} methods. The
+ * {@link Objectives} of an archived {@link Individual} must not change.
+ * </p>
+ * 
+ * @see NDTree
+ * @author agent
+ */
+@Singleton
+public class IndexedArchive extends AbstractArchive {
+
+	protected final NDTree tree = new NDTree();
+
+	/**
+	 * Constructs an {@link IndexedArchive}.
+	 */
+	public IndexedArchive() {
+		super();
+		// not the overridable addListener since the subclass is not constructed yet
+		listeners.add(new IndividualSetListener() {
+			@Override
+			public void individualAdded(IndividualSet collection, Individual individual) {
+				tree.add(individual);
+			}
+
+			@Override
+			public void individualRemoved(IndividualSet collection, Individual individual) {
+				tree.remove(individual);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.archive.AbstractArchive#removeArchiveDominated(java
+	 * .util.List)
+	 */
+	@Override
+	protected void removeArchiveDominated(List<Individual> candidates) {
+		for (Iterator<Individual> it = candidates.iterator(); it.hasNext();) {
+			Objectives objectives = it.next().getObjectives();
+			if (tree.isWeaklyDominated(objectives)) {
+				it.remove();
+			} else {
+				for (Individual dominated : tree.getDominated(objectives)) {
+					remove(dominated);
+				}
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.archive.AbstractArchive#updateWithNondominated(java
+	 * .util.Collection)
+	 */
+	@Override
+	protected boolean updateWithNondominated(Collection<Individual> candidates) {
+		boolean changed = false;
+		for (Individual i : candidates) {
+			if (!contains(i)) {
+				changed |= addCheckedIndividual(i);
+			}
+		}
+		return changed;
+	}
+}
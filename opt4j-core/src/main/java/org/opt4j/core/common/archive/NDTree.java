@@ -0,0 +1,435 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.archive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opt4j.core.Individual;
+import org.opt4j.core.Objectives;
+
+/**
+ * The {@link NDTree} is a spatial index for a set of mutually non-dominated
+ * {@link Individual}s that answers dominance queries without scanning all
+ * individuals, see "Jaszkiewicz, A., and Lust, T. (2018): ND-Tree-Based Update:
+ * A Fast Algorithm for the Dynamic Nondominance Problem. IEEE Transactions on
+ * Evolutionary Computation 22(5), 778-791".
+ * <p>
+ * Each node stores the ideal point (the minimum in each objective) and the
+ * nadir point (the maximum in each objective) of its individuals. A query
+ * skips all nodes whose bounds show that no contained individual can satisfy
+ * the dominance relation and accepts whole nodes whose bounds show that all
+ * contained individuals satisfy it. The individuals are stored in leaves with
+ * a bounded size; full leaves are split along the objective with the largest
+ * range. All calculations are based on the {@link Objectives#array()} values.
+ * </p>
+ * 
+ * @see IndexedArchive
+ * @author agent
+ * 
+ */
+public class NDTree {
+
+	protected final int leafSize;
+
+	protected final int branching;
+
+	protected final Map<Individual, Node> leaves = new HashMap<>();
+
+	protected Node root = null;
+
+	/**
+	 * The {@link Node} of the {@link NDTree}. A node is either a leaf with
+	 * individuals or an inner node with children.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class Node {
+
+		protected Node parent;
+
+		protected double[] ideal;
+
+		protected double[] nadir;
+
+		protected final List<Node> children = new ArrayList<>();
+
+		protected final List<Individual> individuals = new ArrayList<>();
+
+		protected final List<double[]> points = new ArrayList<>();
+
+		protected boolean isLeaf() {
+			return children.isEmpty();
+		}
+
+		protected boolean isEmpty() {
+			return children.isEmpty() && individuals.isEmpty();
+		}
+
+		/**
+		 * Extends the bounds of this node by the point.
+		 * 
+		 * @param point
+		 *            the point
+		 */
+		protected void extend(double[] point) {
+			if (ideal == null) {
+				ideal = point.clone();
+				nadir = point.clone();
+			} else {
+				for (int k = 0; k < point.length; k++) {
+					ideal[k] = Math.min(ideal[k], point[k]);
+					nadir[k] = Math.max(nadir[k], point[k]);
+				}
+			}
+		}
+
+		/**
+		 * Recalculates the bounds of this node from its points or children.
+		 */
+		protected void recalculate() {
+			ideal = null;
+			nadir = null;
+			for (double[] point : points) {
+				extend(point);
+			}
+			for (Node child : children) {
+				extend(child.ideal);
+				extend(child.nadir);
+			}
+		}
+	}
+
+	/**
+	 * Constructs an {@link NDTree}.
+	 * 
+	 * @param leafSize
+	 *            the maximal number of individuals in a leaf
+	 * @param branching
+	 *            the number of children that are created if a leaf is split
+	 */
+	public NDTree(int leafSize, int branching) {
+		if (leafSize < 2) {
+			throw new IllegalArgumentException("The leaf size must be at least 2: " + leafSize);
+		}
+		if (branching < 2 || branching > leafSize) {
+			throw new IllegalArgumentException("Invalid branching: " + branching);
+		}
+		this.leafSize = leafSize;
+		this.branching = branching;
+	}
+
+	/**
+	 * Constructs an {@link NDTree} with a leaf size of {@code 20} and a
+	 * branching of {@code 4}.
+	 */
+	public NDTree() {
+		this(20, 4);
+	}
+
+	/**
+	 * Returns the number of indexed individuals.
+	 * 
+	 * @return the number of individuals
+	 */
+	public int size() {
+		return leaves.size();
+	}
+
+	/**
+	 * Returns {@code true} if the individual is indexed.
+	 * 
+	 * @param individual
+	 *            the individual
+	 * @return {@code true} if the individual is indexed
+	 */
+	public boolean contains(Individual individual) {
+		return leaves.containsKey(individual);
+	}
+
+	/**
+	 * Removes all individuals.
+	 */
+	public void clear() {
+		leaves.clear();
+		root = null;
+	}
+
+	/**
+	 * Adds the individual to the index.
+	 * 
+	 * @param individual
+	 *            the individual
+	 */
+	public void add(Individual individual) {
+		if (leaves.containsKey(individual)) {
+			return;
+		}
+		double[] point = individual.getObjectives().array();
+		if (root == null) {
+			root = new Node();
+		}
+
+		Node node = root;
+		node.extend(point);
+		while (!node.isLeaf()) {
+			node = closest(node.children, point);
+			node.extend(point);
+		}
+		node.individuals.add(individual);
+		node.points.add(point);
+		leaves.put(individual, node);
+
+		if (node.individuals.size() > leafSize) {
+			split(node);
+		}
+	}
+
+	/**
+	 * Removes the individual from the index.
+	 * 
+	 * @param individual
+	 *            the individual
+	 */
+	public void remove(Individual individual) {
+		Node node = leaves.remove(individual);
+		if (node == null) {
+			return;
+		}
+		int index = node.individuals.indexOf(individual);
+		node.individuals.remove(index);
+		node.points.remove(index);
+
+		while (node != null) {
+			Node parent = node.parent;
+			if (node.isEmpty()) {
+				if (parent == null) {
+					root = null;
+				} else {
+					parent.children.remove(node);
+				}
+			} else {
+				node.recalculate();
+			}
+			node = parent;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if an indexed individual weakly dominates the
+	 * objectives.
+	 * 
+	 * @param objectives
+	 *            the objectives
+	 * @return {@code true} if the objectives are weakly dominated
+	 */
+	public boolean isWeaklyDominated(Objectives objectives) {
+		return root != null && isWeaklyDominated(root, objectives.array());
+	}
+
+	/**
+	 * Returns all indexed individuals that are dominated by the objectives.
+	 * 
+	 * @param objectives
+	 *            the objectives
+	 * @return the dominated individuals
+	 */
+	public List<Individual> getDominated(Objectives objectives) {
+		List<Individual> dominated = new ArrayList<>();
+		if (root != null) {
+			collectDominated(root, objectives.array(), dominated);
+		}
+		return dominated;
+	}
+
+	/**
+	 * Returns {@code true} if an individual of the node weakly dominates the
+	 * point.
+	 * 
+	 * @param node
+	 *            the node
+	 * @param point
+	 *            the point
+	 * @return {@code true} if the point is weakly dominated
+	 */
+	protected boolean isWeaklyDominated(Node node, double[] point) {
+		if (!weaklyDominates(node.ideal, point)) {
+			return false;
+		} else if (weaklyDominates(node.nadir, point)) {
+			return true;
+		} else if (node.isLeaf()) {
+			for (double[] p : node.points) {
+				if (weaklyDominates(p, point)) {
+					return true;
+				}
+			}
+			return false;
+		} else {
+			for (Node child : node.children) {
+				if (isWeaklyDominated(child, point)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Collects the individuals of the node that are dominated by the point.
+	 * 
+	 * @param node
+	 *            the node
+	 * @param point
+	 *            the point
+	 * @param dominated
+	 *            the dominated individuals
+	 */
+	protected void collectDominated(Node node, double[] point, Collection<Individual> dominated) {
+		if (!weaklyDominates(point, node.nadir)) {
+			return;
+		} else if (node.isLeaf()) {
+			for (int i = 0; i < node.points.size(); i++) {
+				if (dominates(point, node.points.get(i))) {
+					dominated.add(node.individuals.get(i));
+				}
+			}
+		} else {
+			for (Node child : node.children) {
+				collectDominated(child, point, dominated);
+			}
+		}
+	}
+
+	/**
+	 * Splits a leaf into {@link #branching} children along the objective with
+	 * the largest range.
+	 * 
+	 * @param leaf
+	 *            the leaf
+	 */
+	protected void split(Node leaf) {
+		int m = leaf.ideal.length;
+		int objective = 0;
+		for (int k = 1; k < m; k++) {
+			if (leaf.nadir[k] - leaf.ideal[k] > leaf.nadir[objective] - leaf.ideal[objective]) {
+				objective = k;
+			}
+		}
+
+		final int n = leaf.individuals.size();
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		final int k = objective;
+		Arrays.sort(order, (a, b) -> Double.compare(leaf.points.get(a)[k], leaf.points.get(b)[k]));
+
+		for (int c = 0; c < branching; c++) {
+			Node child = new Node();
+			child.parent = leaf;
+			for (int i = c * n / branching; i < (c + 1) * n / branching; i++) {
+				Individual individual = leaf.individuals.get(order[i]);
+				double[] point = leaf.points.get(order[i]);
+				child.individuals.add(individual);
+				child.points.add(point);
+				child.extend(point);
+				leaves.put(individual, child);
+			}
+			leaf.children.add(child);
+		}
+		leaf.individuals.clear();
+		leaf.points.clear();
+	}
+
+	/**
+	 * Returns the node whose center is closest to the point.
+	 * 
+	 * @param nodes
+	 *            the nodes
+	 * @param point
+	 *            the point
+	 * @return the closest node
+	 */
+	protected Node closest(List<Node> nodes, double[] point) {
+		Node closest = null;
+		double min = Double.POSITIVE_INFINITY;
+		for (Node node : nodes) {
+			double distance = 0;
+			for (int k = 0; k < point.length; k++) {
+				double d = (node.ideal[k] + node.nadir[k]) / 2 - point[k];
+				distance += d * d;
+			}
+			if (distance < min) {
+				min = distance;
+				closest = node;
+			}
+		}
+		return closest;
+	}
+
+	/**
+	 * Returns {@code true} if {@code a} is not greater than {@code b} in any
+	 * objective.
+	 * 
+	 * @param a
+	 *            the first point
+	 * @param b
+	 *            the second point
+	 * @return {@code true} if {@code a} weakly dominates {@code b}
+	 */
+	protected static boolean weaklyDominates(double[] a, double[] b) {
+		for (int k = 0; k < a.length; k++) {
+			if (a[k] > b[k]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} if {@code a} weakly dominates {@code b} and is
+	 * smaller in at least one objective.
+	 * 
+	 * @param a
+	 *            the first point
+	 * @param b
+	 *            the second point
+	 * @return {@code true} if {@code a} dominates {@code b}
+	 */
+	protected static boolean dominates(double[] a, double[] b) {
+		boolean equal = true;
+		for (int k = 0; k < a.length; k++) {
+			if (a[k] > b[k]) {
+				return false;
+			} else if (a[k] < b[k]) {
+				equal = false;
+			}
+		}
+		return !equal;
+	}
+}
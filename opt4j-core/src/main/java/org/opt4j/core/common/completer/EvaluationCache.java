@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.completer;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.Individual;
+import org.opt4j.core.Objectives;
+import org.opt4j.core.optimizer.IndividualCompleter;
+
+import com.google.inject.ImplementedBy;
+
+/**
+ * <p>
+ * The {@link EvaluationCache} stores the phenotype and the {@link Objectives}
+ * of evaluated {@link Individual}s by the content of their {@link Genotype}.
+ * The {@link IndividualCompleter}s consult the cache before decoding and
+ * evaluating an individual and skip both steps if an equal genotype has
+ * already been evaluated.
+ * </p>
+ * <p>
+ * Genotypes are compared by {@link Object#equals(Object)} and
+ * {@link Object#hashCode()} which are content based for the list genotypes
+ * and the {@link org.opt4j.core.genotype.CompositeGenotype}. The genotype of
+ * an individual must not be changed after it has been evaluated.
+ * </p>
+ * 
+ * @author agent
+ * 
+ */
+@ImplementedBy(EvaluationCacheDisabled.class)
+public interface EvaluationCache {
+
+	/**
+	 * Completes the given {@link Individual} with the cached phenotype and
+	 * {@link Objectives} if an equal {@link Genotype} has been evaluated
+	 * before. Only individuals in the state
+	 * {@link Individual.State#GENOTYPED} are considered.
+	 * 
+	 * @param individual
+	 *            the individual to complete
+	 * @return {@code true} if the individual was completed from the cache
+	 */
+	public boolean lookup(Individual individual);
+
+	/**
+	 * Stores the phenotype and {@link Objectives} of an evaluated
+	 * {@link Individual}.
+	 * 
+	 * @param individual
+	 *            the evaluated individual
+	 */
+	public void put(Individual individual);
+
+	/**
+	 * Returns the number of cache hits.
+	 * 
+	 * @return the number of hits
+	 */
+	public long getHits();
+
+	/**
+	 * Returns the number of cache misses.
+	 * 
+	 * @return the number of misses
+	 */
+	public long getMisses();
+
+	/**
+	 * Returns the fraction of lookups that were answered from the cache.
+	 * 
+	 * @return the hit rate between {@code 0} and {@code 1}
+	 */
+	public default double getHitRate() {
+		long hits = getHits();
+		long total = hits + getMisses();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * Returns the number of cached entries.
+	 * 
+	 * @return the number of cached entries
+	 */
+	public int size();
+}
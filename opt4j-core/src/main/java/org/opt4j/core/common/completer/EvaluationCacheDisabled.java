@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.completer;
+
+import org.opt4j.core.Individual;
+
+/**
+ * The {@link EvaluationCacheDisabled} is the default {@link EvaluationCache}
+ * that does not cache anything.
+ * 
+ * @author agent
+ * 
+ */
+public class EvaluationCacheDisabled implements EvaluationCache {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.completer.EvaluationCache#lookup(org.opt4j.core.
+	 * Individual)
+	 */
+	@Override
+	public boolean lookup(Individual individual) {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.completer.EvaluationCache#put(org.opt4j.core.
+	 * Individual)
+	 */
+	@Override
+	public void put(Individual individual) {
+		// do nothing
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.completer.EvaluationCache#getHits()
+	 */
+	@Override
+	public long getHits() {
+		return 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.completer.EvaluationCache#getMisses()
+	 */
+	@Override
+	public long getMisses() {
+		return 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.completer.EvaluationCache#size()
+	 */
+	@Override
+	public int size() {
+		return 0;
+	}
+}
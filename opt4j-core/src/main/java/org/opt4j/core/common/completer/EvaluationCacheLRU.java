@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.completer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.Individual;
+import org.opt4j.core.Individual.State;
+import org.opt4j.core.Objectives;
+import org.opt4j.core.common.metrics.Counter;
+import org.opt4j.core.common.metrics.Metrics;
+import org.opt4j.core.common.metrics.MetricsDisabled;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The {@link EvaluationCacheLRU} is a thread-safe {@link EvaluationCache} with
+ * a maximal number of entries. If the capacity is exceeded, the least recently
+ * used entry is evicted. The hits and misses are also reported to the
+ * {@link Metrics} counters {@link Metrics#CACHE_HITS} and
+ * {@link Metrics#CACHE_MISSES}.
+ * 
+ * @author agent
+ * 
+ */
+@Singleton
+public class EvaluationCacheLRU implements EvaluationCache {
+
+	protected final int capacity;
+
+	protected final Map<Key, Entry> map;
+
+	protected final AtomicLong hits = new AtomicLong();
+
+	protected final AtomicLong misses = new AtomicLong();
+
+	protected Counter hitCounter = MetricsDisabled.COUNTER;
+
+	protected Counter missCounter = MetricsDisabled.COUNTER;
+
+	/**
+	 * The {@link Key} wraps a {@link Genotype} with its precomputed content
+	 * hash. Genotypes of different classes are never equal.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class Key {
+
+		protected final Genotype genotype;
+
+		protected final int hash;
+
+		/**
+		 * Constructs a {@link Key}.
+		 * 
+		 * @param genotype
+		 *            the genotype
+		 */
+		public Key(Genotype genotype) {
+			this.genotype = genotype;
+			this.hash = 31 * genotype.getClass().hashCode() + genotype.hashCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash && genotype.getClass() == other.genotype.getClass()
+					&& genotype.equals(other.genotype);
+		}
+	}
+
+	/**
+	 * The {@link Entry} is the cached result of a completion.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class Entry {
+
+		protected final Object phenotype;
+
+		protected final Objectives objectives;
+
+		/**
+		 * Constructs an {@link Entry}.
+		 * 
+		 * @param phenotype
+		 *            the phenotype
+		 * @param objectives
+		 *            the objectives
+		 */
+		public Entry(Object phenotype, Objectives objectives) {
+			this.phenotype = phenotype;
+			this.objectives = objectives;
+		}
+	}
+
+	/**
+	 * Constructs an {@link EvaluationCacheLRU}.
+	 * 
+	 * @param capacity
+	 *            the maximal number of entries (using namespace
+	 *            {@link EvaluationCacheLRU})
+	 */
+	@Inject
+	public EvaluationCacheLRU(@Constant(value = "capacity", namespace = EvaluationCacheLRU.class) int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Invalid capacity: " + capacity);
+		}
+		this.capacity = capacity;
+		this.map = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > EvaluationCacheLRU.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * Injects the {@link Metrics} of the cache hits and misses.
+	 * 
+	 * @param metrics
+	 *            the metrics
+	 */
+	@Inject
+	protected void injectMetrics(Metrics metrics) {
+		this.hitCounter = metrics.counter(Metrics.CACHE_HITS);
+		this.missCounter = metrics.counter(Metrics.CACHE_MISSES);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.completer.EvaluationCache#lookup(org.opt4j.core.
+	 * Individual)
+	 */
+	@Override
+	public boolean lookup(Individual individual) {
+		Genotype genotype = individual.getGenotype();
+		if (individual.getState() != State.GENOTYPED || genotype == null) {
+			return false;
+		}
+
+		Key key = new Key(genotype);
+		Entry entry;
+		synchronized (map) {
+			entry = map.get(key);
+		}
+
+		if (entry == null) {
+			misses.incrementAndGet();
+			missCounter.increment();
+			return false;
+		}
+		hits.incrementAndGet();
+		hitCounter.increment();
+		individual.setPhenotype(entry.phenotype);
+		individual.setObjectives(entry.objectives);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.completer.EvaluationCache#put(org.opt4j.core.
+	 * Individual)
+	 */
+	@Override
+	public void put(Individual individual) {
+		Genotype genotype = individual.getGenotype();
+		if (!individual.isEvaluated() || genotype == null) {
+			return;
+		}
+
+		Key key = new Key(genotype);
+		Entry entry = new Entry(individual.getPhenotype(), individual.getObjectives());
+		synchronized (map) {
+			map.put(key, entry);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.completer.EvaluationCache#getHits()
+	 */
+	@Override
+	public long getHits() {
+		return hits.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.completer.EvaluationCache#getMisses()
+	 */
+	@Override
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.completer.EvaluationCache#size()
+	 */
+	@Override
+	public int size() {
+		synchronized (map) {
+			return map.size();
+		}
+	}
+}
@@ -50,6 +50,34 @@ public class IndividualCompleterModule extends Opt4JModule {
 	@Constant(value = "maxThreads", namespace = ParallelIndividualCompleter.class)
 	protected int threads = 4;
 
+	@Info("Sets the maximal number of individuals that are completed concurrently on virtual threads.")
+	@Required(property = "type", elements = { "VIRTUAL" })
+	@Constant(value = "maxPermits", namespace = VirtualIndividualCompleter.class)
+	protected int permits = 256;
+
+	@Info("Sets the number of decoding threads.")
+	@Required(property = "type", elements = { "PIPELINED" })
+	@Constant(value = "decodeThreads", namespace = PipelinedIndividualCompleter.class)
+	protected int decodeThreads = 2;
+
+	@Info("Sets the number of evaluation threads.")
+	@Required(property = "type", elements = { "PIPELINED" })
+	@Constant(value = "evaluateThreads", namespace = PipelinedIndividualCompleter.class)
+	protected int evaluateThreads = 2;
+
+	@Info("Sets the maximal number of decoded individuals waiting for evaluation.")
+	@Required(property = "type", elements = { "PIPELINED" })
+	@Constant(value = "bufferSize", namespace = PipelinedIndividualCompleter.class)
+	protected int bufferSize = 16;
+
+	@Info("Caches the phenotypes and objectives by the content of the genotypes to skip re-evaluations of equal genotypes.")
+	protected boolean caching = false;
+
+	@Info("Sets the maximal number of cached evaluations. The least recently used evaluations are evicted first.")
+	@Required(property = "caching", elements = { "TRUE" })
+	@Constant(value = "capacity", namespace = EvaluationCacheLRU.class)
+	protected int cacheCapacity = 10000;
+
 	/**
 	 * The {@link Type} of {@link IndividualCompleter} to use.
 	 * 
@@ -71,7 +99,23 @@ public class IndividualCompleterModule extends Opt4JModule {
 		 * @see ParallelIndividualCompleter
 		 */
 		@Info("Use a ParallelCompleter")
-		PARALLEL;
+		PARALLEL,
+
+		/**
+		 * Use a completer that runs each completion on a virtual thread.
+		 * 
+		 * @see VirtualIndividualCompleter
+		 */
+		@Info("Use a VirtualCompleter (for I/O-bound decoders and evaluators)")
+		VIRTUAL,
+
+		/**
+		 * Use a completer with separate decoding and evaluation stages.
+		 * 
+		 * @see PipelinedIndividualCompleter
+		 */
+		@Info("Use a PipelinedCompleter with separate decoding and evaluation threads")
+		PIPELINED;
 	}
 
 	/**
@@ -119,6 +163,150 @@ public class IndividualCompleterModule extends Opt4JModule {
 		this.threads = threads;
 	}
 
+	/**
+	 * Returns the maximal number of concurrently completed individuals on
+	 * virtual threads.
+	 * 
+	 * @see #setPermits
+	 * @return the maximal number of concurrently completed individuals
+	 */
+	public int getPermits() {
+		return permits;
+	}
+
+	/**
+	 * Sets the maximal number of concurrently completed individuals on
+	 * virtual threads.
+	 * 
+	 * @see #getPermits
+	 * @param permits
+	 *            the maximal number of concurrently completed individuals
+	 */
+	public void setPermits(int permits) {
+		if (permits <= 0) {
+			throw new IllegalArgumentException("The number of permits must be positive: " + permits);
+		}
+		this.permits = permits;
+	}
+
+	/**
+	 * Returns the number of decoding threads.
+	 * 
+	 * @see #setDecodeThreads
+	 * @return the number of decoding threads
+	 */
+	public int getDecodeThreads() {
+		return decodeThreads;
+	}
+
+	/**
+	 * Sets the number of decoding threads.
+	 * 
+	 * @see #getDecodeThreads
+	 * @param decodeThreads
+	 *            the number of decoding threads
+	 */
+	public void setDecodeThreads(int decodeThreads) {
+		if (decodeThreads <= 0) {
+			throw new IllegalArgumentException("The number of threads must be positive: " + decodeThreads);
+		}
+		this.decodeThreads = decodeThreads;
+	}
+
+	/**
+	 * Returns the number of evaluation threads.
+	 * 
+	 * @see #setEvaluateThreads
+	 * @return the number of evaluation threads
+	 */
+	public int getEvaluateThreads() {
+		return evaluateThreads;
+	}
+
+	/**
+	 * Sets the number of evaluation threads.
+	 * 
+	 * @see #getEvaluateThreads
+	 * @param evaluateThreads
+	 *            the number of evaluation threads
+	 */
+	public void setEvaluateThreads(int evaluateThreads) {
+		if (evaluateThreads <= 0) {
+			throw new IllegalArgumentException("The number of threads must be positive: " + evaluateThreads);
+		}
+		this.evaluateThreads = evaluateThreads;
+	}
+
+	/**
+	 * Returns the maximal number of decoded individuals waiting for
+	 * evaluation.
+	 * 
+	 * @see #setBufferSize
+	 * @return the buffer size
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Sets the maximal number of decoded individuals waiting for evaluation.
+	 * 
+	 * @see #getBufferSize
+	 * @param bufferSize
+	 *            the buffer size
+	 */
+	public void setBufferSize(int bufferSize) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("The buffer size must be positive: " + bufferSize);
+		}
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Returns {@code true} if the evaluations are cached.
+	 * 
+	 * @see #setCaching
+	 * @return {@code true} if the evaluations are cached
+	 */
+	public boolean isCaching() {
+		return caching;
+	}
+
+	/**
+	 * Enables or disables the caching of evaluations.
+	 * 
+	 * @see #isCaching
+	 * @param caching
+	 *            {@code true} if the evaluations shall be cached
+	 */
+	public void setCaching(boolean caching) {
+		this.caching = caching;
+	}
+
+	/**
+	 * Returns the maximal number of cached evaluations.
+	 * 
+	 * @see #setCacheCapacity
+	 * @return the maximal number of cached evaluations
+	 */
+	public int getCacheCapacity() {
+		return cacheCapacity;
+	}
+
+	/**
+	 * Sets the maximal number of cached evaluations.
+	 * 
+	 * @see #getCacheCapacity
+	 * @param cacheCapacity
+	 *            the maximal number of cached evaluations
+	 */
+	public void setCacheCapacity(int cacheCapacity) {
+		if (cacheCapacity <= 0) {
+			throw new IllegalArgumentException("The cache capacity must be positive: " + cacheCapacity);
+		}
+		this.cacheCapacity = cacheCapacity;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -126,10 +314,24 @@ public class IndividualCompleterModule extends Opt4JModule {
 	 */
 	@Override
 	public void config() {
+		if (caching) {
+			bind(EvaluationCache.class).to(EvaluationCacheLRU.class).in(SINGLETON);
+		}
+
 		switch (type) {
 		case SEQUENTIAL:
 			bind(IndividualCompleter.class).to(SequentialIndividualCompleter.class).in(SINGLETON);
 			break;
+		case VIRTUAL:
+			bind(VirtualIndividualCompleter.class).in(SINGLETON);
+			bind(IndividualCompleter.class).to(VirtualIndividualCompleter.class);
+			addOptimizerStateListener(VirtualIndividualCompleter.class);
+			break;
+		case PIPELINED:
+			bind(PipelinedIndividualCompleter.class).in(SINGLETON);
+			bind(IndividualCompleter.class).to(PipelinedIndividualCompleter.class);
+			addOptimizerStateListener(PipelinedIndividualCompleter.class);
+			break;
 		default: // PARALLEL
 			bind(ParallelIndividualCompleter.class).in(SINGLETON);
 			bind(IndividualCompleter.class).to(ParallelIndividualCompleter.class);
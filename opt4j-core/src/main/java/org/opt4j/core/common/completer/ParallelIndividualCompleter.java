@@ -25,6 +25,7 @@ package org.opt4j.core.common.completer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -86,9 +87,11 @@ public class ParallelIndividualCompleter extends SequentialIndividualCompleter i
 		public Void call() throws TerminationException {
 			if (!individual.isEvaluated()) {
 				control.checkpoint();
-				ParallelIndividualCompleter.this.decode(individual);
-				control.checkpoint();
-				ParallelIndividualCompleter.this.evaluate(individual);
+				if (!cache.lookup(individual)) {
+					ParallelIndividualCompleter.this.decode(individual);
+					control.checkpoint();
+					ParallelIndividualCompleter.this.evaluate(individual);
+				}
 				control.checkpoint();
 			}
 			return null;
@@ -128,7 +131,7 @@ public class ParallelIndividualCompleter extends SequentialIndividualCompleter i
 	 */
 	@Override
 	public void complete(Iterable<? extends Individual> iterable) throws TerminationException {
-
+		long start = completeTimer.start();
 		try {
 
 			List<Future<Void>> returns = new ArrayList<>();
@@ -152,9 +155,35 @@ public class ParallelIndividualCompleter extends SequentialIndividualCompleter i
 				throw (TerminationException) ex.getCause();
 			}
 			throw new RuntimeException(ex);
+		} finally {
+			completeTimer.stop(start);
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.IndividualCompleter#completeAsync(org.opt4j.core
+	 * .Individual)
+	 */
+	@Override
+	public CompletableFuture<Individual> completeAsync(Individual individual) {
+		if (individual.isEvaluated()) {
+			return CompletableFuture.completedFuture(individual);
+		}
+		CompletableFuture<Individual> future = new CompletableFuture<>();
+		executor.execute(() -> {
+			try {
+				new Complete(individual, control).call();
+				future.complete(individual);
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
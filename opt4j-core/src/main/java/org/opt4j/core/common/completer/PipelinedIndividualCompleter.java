@@ -0,0 +1,505 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.completer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.Individual;
+import org.opt4j.core.Individual.State;
+import org.opt4j.core.optimizer.Control;
+import org.opt4j.core.optimizer.Optimizer;
+import org.opt4j.core.optimizer.OptimizerStateListener;
+import org.opt4j.core.optimizer.TerminationException;
+import org.opt4j.core.problem.Decoder;
+import org.opt4j.core.problem.Evaluator;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+
+/**
+ * <p>
+ * The {@link PipelinedIndividualCompleter} completes {@link Individual}s in a
+ * two-stage pipeline: The {@link Decoder} and the {@link Evaluator} run in
+ * separate, separately sized groups of worker threads.
+ * </p>
+ * <p>
+ * The {@link State} of an {@link Individual} determines the stage it enters:
+ * {@link State#GENOTYPED} individuals are passed to the decoding stage,
+ * {@link State#PHENOTYPED} individuals directly to the evaluation stage. The
+ * decoding workers hand decoded individuals over to the evaluation workers via
+ * a bounded queue such that a slow evaluation stage applies back pressure to
+ * the decoding stage. The utilization of each stage is available via
+ * {@link #getUtilization(Stage)} to tune the number of threads per stage.
+ * </p>
+ * 
+ * @author agent
+ * 
+ */
+public class PipelinedIndividualCompleter extends SequentialIndividualCompleter implements OptimizerStateListener {
+
+	/**
+	 * The {@link Stage}s of the pipeline.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	public enum Stage {
+		/**
+		 * The decoding stage.
+		 */
+		DECODE,
+		/**
+		 * The evaluation stage.
+		 */
+		EVALUATE;
+	}
+
+	protected final int decodeThreads;
+
+	protected final int evaluateThreads;
+
+	protected final BlockingQueue<Task> decodeQueue = new LinkedBlockingQueue<>();
+
+	protected final BlockingQueue<Task> evaluateQueue;
+
+	protected final AtomicLong decodeBusy = new AtomicLong();
+
+	protected final AtomicLong evaluateBusy = new AtomicLong();
+
+	protected volatile long startTime = 0;
+
+	protected ExecutorService executor = null;
+
+	/**
+	 * The {@link Batch} collects the {@link Individual}s of a single
+	 * {@link #complete(Iterable)} call.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class Batch {
+
+		protected final CountDownLatch latch;
+
+		protected final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		/**
+		 * Constructs a {@link Batch}.
+		 * 
+		 * @param size
+		 *            the number of individuals in this batch
+		 */
+		public Batch(int size) {
+			this.latch = new CountDownLatch(size);
+		}
+
+		/**
+		 * Marks one individual as done.
+		 */
+		public void done() {
+			latch.countDown();
+		}
+
+		/**
+		 * Records a failure. Only the first failure is kept.
+		 * 
+		 * @param throwable
+		 *            the failure
+		 */
+		public void fail(Throwable throwable) {
+			failure.compareAndSet(null, throwable);
+		}
+
+		/**
+		 * Returns {@code true} if a failure occurred in this batch.
+		 * 
+		 * @return {@code true} if a failure occurred
+		 */
+		public boolean isFailed() {
+			return failure.get() != null;
+		}
+	}
+
+	/**
+	 * The {@link Task} is an {@link Individual} in the pipeline.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class Task {
+
+		protected final Individual individual;
+
+		protected final Batch batch;
+
+		/**
+		 * Constructs a {@link Task}.
+		 * 
+		 * @param individual
+		 *            the individual
+		 * @param batch
+		 *            the batch of the individual
+		 */
+		public Task(Individual individual, Batch batch) {
+			this.individual = individual;
+			this.batch = batch;
+		}
+	}
+
+	/**
+	 * The {@link DecodeWorker} decodes individuals and hands them over to the
+	 * evaluation stage.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected class DecodeWorker implements Runnable {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			Task task = null;
+			try {
+				while (true) {
+					task = decodeQueue.take();
+					if (!task.batch.isFailed()) {
+						long start = System.nanoTime();
+						try {
+							control.checkpoint();
+							if (!cache.lookup(task.individual)) {
+								decode(task.individual);
+							}
+							control.checkpoint();
+						} catch (Throwable e) {
+							task.batch.fail(e);
+						}
+						decodeBusy.addAndGet(System.nanoTime() - start);
+					}
+					if (task.batch.isFailed() || task.individual.isEvaluated()) {
+						task.batch.done();
+					} else {
+						evaluateQueue.put(task);
+					}
+					task = null;
+				}
+			} catch (InterruptedException e) {
+				// shutdown, the task in hand would never be done otherwise
+				if (task != null) {
+					task.batch.fail(e);
+					task.batch.done();
+				}
+			}
+		}
+	}
+
+	/**
+	 * The {@link EvaluateWorker} evaluates decoded individuals.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected class EvaluateWorker implements Runnable {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			try {
+				while (true) {
+					Task task = evaluateQueue.take();
+					if (!task.batch.isFailed()) {
+						long start = System.nanoTime();
+						try {
+							evaluate(task.individual);
+							control.checkpoint();
+						} catch (Throwable e) {
+							task.batch.fail(e);
+						}
+						evaluateBusy.addAndGet(System.nanoTime() - start);
+					}
+					task.batch.done();
+				}
+			} catch (InterruptedException e) {
+				// shutdown
+			}
+		}
+	}
+
+	/**
+	 * Constructs a {@link PipelinedIndividualCompleter}.
+	 * 
+	 * @param control
+	 *            the control
+	 * @param decoder
+	 *            the decoder
+	 * @param evaluator
+	 *            the evaluator
+	 * @param decodeThreads
+	 *            the number of decoding threads (using namespace
+	 *            {@link PipelinedIndividualCompleter})
+	 * @param evaluateThreads
+	 *            the number of evaluation threads (using namespace
+	 *            {@link PipelinedIndividualCompleter})
+	 * @param bufferSize
+	 *            the capacity of the queue between the decoding and the
+	 *            evaluation stage (using namespace
+	 *            {@link PipelinedIndividualCompleter})
+	 */
+	@Inject
+	public PipelinedIndividualCompleter(Control control, Decoder<Genotype, Object> decoder,
+			Evaluator<Object> evaluator,
+			@Constant(value = "decodeThreads", namespace = PipelinedIndividualCompleter.class) int decodeThreads,
+			@Constant(value = "evaluateThreads", namespace = PipelinedIndividualCompleter.class) int evaluateThreads,
+			@Constant(value = "bufferSize", namespace = PipelinedIndividualCompleter.class) int bufferSize) {
+		super(control, decoder, evaluator);
+
+		if (decodeThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of decoding threads: " + decodeThreads);
+		}
+		if (evaluateThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of evaluation threads: " + evaluateThreads);
+		}
+		if (bufferSize < 1) {
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+		}
+		this.decodeThreads = decodeThreads;
+		this.evaluateThreads = evaluateThreads;
+		this.evaluateQueue = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.completer.SequentialIndividualCompleter#complete(
+	 * java.lang.Iterable)
+	 */
+	@Override
+	public void complete(Iterable<? extends Individual> iterable) throws TerminationException {
+		long start = completeTimer.start();
+		List<Individual> individuals = new ArrayList<>();
+		for (Individual individual : iterable) {
+			if (!individual.isEvaluated()) {
+				individuals.add(individual);
+			}
+		}
+		if (individuals.isEmpty()) {
+			completeTimer.stop(start);
+			return;
+		}
+
+		startWorkers();
+
+		Batch batch = new Batch(individuals.size());
+		for (Individual individual : individuals) {
+			Task task = new Task(individual, batch);
+			if (individual.getState() == State.PHENOTYPED) {
+				enqueue(evaluateQueue, task);
+			} else {
+				enqueue(decodeQueue, task);
+			}
+		}
+
+		boolean finished = false;
+		while (!finished) {
+			try {
+				batch.latch.await();
+				finished = true;
+			} catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+		}
+		completeTimer.stop(start);
+
+		Throwable failure = batch.failure.get();
+		if (failure instanceof TerminationException) {
+			throw (TerminationException) failure;
+		} else if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		} else if (failure != null) {
+			throw new RuntimeException(failure);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.IndividualCompleter#completeAsync(org.opt4j.core
+	 * .Individual)
+	 */
+	@Override
+	public CompletableFuture<Individual> completeAsync(Individual individual) {
+		if (individual.isEvaluated()) {
+			return CompletableFuture.completedFuture(individual);
+		}
+
+		startWorkers();
+
+		CompletableFuture<Individual> future = new CompletableFuture<>();
+		Batch batch = new Batch(1) {
+			@Override
+			public void done() {
+				super.done();
+				Throwable failure = this.failure.get();
+				if (failure == null) {
+					future.complete(individual);
+				} else {
+					future.completeExceptionally(failure);
+				}
+			}
+		};
+		Task task = new Task(individual, batch);
+		if (individual.getState() == State.PHENOTYPED) {
+			enqueue(evaluateQueue, task);
+		} else {
+			enqueue(decodeQueue, task);
+		}
+		return future;
+	}
+
+	/**
+	 * Puts a {@link Task} into the given queue and waits if necessary.
+	 * 
+	 * @param queue
+	 *            the queue
+	 * @param task
+	 *            the task
+	 */
+	private void enqueue(BlockingQueue<Task> queue, Task task) {
+		boolean done = false;
+		while (!done) {
+			try {
+				queue.put(task);
+				done = true;
+			} catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Starts the worker threads of both stages if not yet running.
+	 */
+	protected synchronized void startWorkers() {
+		if (executor != null && executor.isShutdown()) {
+			throw new RejectedExecutionException("The pipeline has been shut down");
+		} else if (executor == null) {
+			executor = Executors.newFixedThreadPool(decodeThreads + evaluateThreads, runnable -> {
+				Thread thread = new Thread(runnable, "pipeline-worker");
+				thread.setDaemon(true);
+				return thread;
+			});
+			for (int i = 0; i < decodeThreads; i++) {
+				executor.execute(new DecodeWorker());
+			}
+			for (int i = 0; i < evaluateThreads; i++) {
+				executor.execute(new EvaluateWorker());
+			}
+			resetUtilization();
+		}
+	}
+
+	/**
+	 * Returns the utilization of the given {@link Stage}, i.e., the fraction of
+	 * time the worker threads of this stage spent decoding or evaluating since
+	 * the workers were started or the utilization was reset.
+	 * 
+	 * @param stage
+	 *            the stage
+	 * @return the utilization between {@code 0} and {@code 1}
+	 */
+	public double getUtilization(Stage stage) {
+		long elapsed = System.nanoTime() - startTime;
+		if (startTime == 0 || elapsed <= 0) {
+			return 0;
+		}
+		switch (stage) {
+		case DECODE:
+			return (double) decodeBusy.get() / (elapsed * decodeThreads);
+		default: // EVALUATE
+			return (double) evaluateBusy.get() / (elapsed * evaluateThreads);
+		}
+	}
+
+	/**
+	 * Resets the utilization of both stages.
+	 */
+	public void resetUtilization() {
+		decodeBusy.set(0);
+		evaluateBusy.set(0);
+		startTime = System.nanoTime();
+	}
+
+	/**
+	 * Shutdown the worker threads.
+	 */
+	protected synchronized void shutdownExecutorService() {
+		if (executor != null && !executor.isShutdown()) {
+			executor.shutdownNow();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStarted(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public void optimizationStarted(Optimizer optimizer) {
+		// do nothing
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStopped(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public void optimizationStopped(Optimizer optimizer) {
+		shutdownExecutorService();
+	}
+}
@@ -33,6 +33,9 @@ import org.opt4j.core.Individual;
 import org.opt4j.core.Individual.State;
 import org.opt4j.core.Objective;
 import org.opt4j.core.Objectives;
+import org.opt4j.core.common.metrics.Metrics;
+import org.opt4j.core.common.metrics.MetricsDisabled;
+import org.opt4j.core.common.metrics.Timer;
 import org.opt4j.core.optimizer.Control;
 import org.opt4j.core.optimizer.IndividualCompleter;
 import org.opt4j.core.optimizer.TerminationException;
@@ -52,6 +55,10 @@ import com.google.inject.Inject;
  * (possibly time consuming) completion steps to allow the user to control the
  * completion process.
  * </p>
+ * <p>
+ * Individuals whose genotype is found in the {@link EvaluationCache} are
+ * completed without decoding and evaluation.
+ * </p>
  * 
  * @author lukasiewycz
  * 
@@ -61,6 +68,10 @@ public class SequentialIndividualCompleter implements IndividualCompleter {
 	protected final Decoder<Genotype, Object> decoder;
 	protected final Evaluator<Object> evaluator;
 	protected final Control control;
+	protected EvaluationCache cache = new EvaluationCacheDisabled();
+	protected Timer completeTimer = MetricsDisabled.TIMER;
+	protected Timer decodeTimer = MetricsDisabled.TIMER;
+	protected Timer evaluateTimer = MetricsDisabled.TIMER;
 
 	/**
 	 * Constructs a {@link SequentialIndividualCompleter}.
@@ -81,6 +92,31 @@ public class SequentialIndividualCompleter implements IndividualCompleter {
 		this.evaluator = evaluator;
 	}
 
+	/**
+	 * Sets the {@link EvaluationCache} that is consulted before an
+	 * {@link Individual} is decoded and evaluated.
+	 * 
+	 * @param cache
+	 *            the evaluation cache
+	 */
+	@Inject
+	protected void injectCache(EvaluationCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Injects the {@link Metrics} of the completion, decoding, and evaluation.
+	 * 
+	 * @param metrics
+	 *            the metrics
+	 */
+	@Inject
+	protected void injectMetrics(Metrics metrics) {
+		this.completeTimer = metrics.timer(Metrics.COMPLETE);
+		this.decodeTimer = metrics.timer(Metrics.DECODE);
+		this.evaluateTimer = metrics.timer(Metrics.EVALUATE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -88,14 +124,21 @@ public class SequentialIndividualCompleter implements IndividualCompleter {
 	 */
 	@Override
 	public void complete(Iterable<? extends Individual> iterable) throws TerminationException {
-		for (Individual individual : iterable) {
-			if (!individual.isEvaluated()) {
-				control.checkpoint();
-				decode(individual);
-				control.checkpoint();
-				evaluate(individual);
-				control.checkpoint();
+		long start = completeTimer.start();
+		try {
+			for (Individual individual : iterable) {
+				if (!individual.isEvaluated()) {
+					control.checkpoint();
+					if (!cache.lookup(individual)) {
+						decode(individual);
+						control.checkpoint();
+						evaluate(individual);
+					}
+					control.checkpoint();
+				}
 			}
+		} finally {
+			completeTimer.stop(start);
 		}
 	}
 
@@ -125,10 +168,13 @@ public class SequentialIndividualCompleter implements IndividualCompleter {
 			individual.setState(State.EVALUATING);
 			Object phenotype = individual.getPhenotype();
 
+			long start = evaluateTimer.start();
 			Objectives objectives = evaluator.evaluate(phenotype);
+			evaluateTimer.stop(start);
 			assert isSameLength(objectives.getKeys()) : "Objectives changed: " + objectives.getKeys();
 
 			individual.setObjectives(objectives);
+			cache.put(individual);
 		} else {
 			throw new IllegalStateException("Cannot evaluate Individual, current state: " + state);
 		}
@@ -148,7 +194,9 @@ public class SequentialIndividualCompleter implements IndividualCompleter {
 		if (state == State.GENOTYPED) {
 			individual.setState(State.DECODING);
 			Genotype genotype = individual.getGenotype();
+			long start = decodeTimer.start();
 			Object phenotype = decoder.decode(genotype);
+			decodeTimer.stop(start);
 			individual.setPhenotype(phenotype);
 		} else {
 			throw new IllegalStateException("Cannot decode Individual, current state: " + state);
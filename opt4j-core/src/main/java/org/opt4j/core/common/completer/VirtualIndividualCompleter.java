@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.completer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.Individual;
+import org.opt4j.core.optimizer.Control;
+import org.opt4j.core.optimizer.Optimizer;
+import org.opt4j.core.optimizer.OptimizerStateListener;
+import org.opt4j.core.optimizer.TerminationException;
+import org.opt4j.core.problem.Decoder;
+import org.opt4j.core.problem.Evaluator;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+
+/**
+ * <p>
+ * The {@link VirtualIndividualCompleter} completes each {@link Individual} on
+ * its own virtual thread.
+ * </p>
+ * <p>
+ * This completer is intended for I/O-bound problems, e.g., {@link Decoder}s or
+ * {@link Evaluator}s that call external simulators via sockets or
+ * subprocesses. A blocked virtual thread does not occupy a platform thread
+ * such that a large number of evaluations may run concurrently. The number of
+ * evaluations in flight is bounded by the number of permits.
+ * </p>
+ * 
+ * @author agent
+ * 
+ */
+public class VirtualIndividualCompleter extends SequentialIndividualCompleter implements OptimizerStateListener {
+
+	protected final ExecutorService executor;
+
+	protected final Semaphore permits;
+
+	/**
+	 * The {@link Complete} class completes a single {@link Individual} and
+	 * releases its permit afterwards.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected class Complete implements Callable<Void> {
+
+		protected final Individual individual;
+
+		protected final Control control;
+
+		/**
+		 * Constructs {@link Complete} with an {@link Individual}.
+		 * 
+		 * @param individual
+		 *            the individual to complete
+		 * @param control
+		 *            the control
+		 */
+		public Complete(final Individual individual, final Control control) {
+			this.individual = individual;
+			this.control = control;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.concurrent.Callable#call()
+		 */
+		@Override
+		public Void call() throws TerminationException {
+			try {
+				if (!individual.isEvaluated()) {
+					control.checkpoint();
+					if (!cache.lookup(individual)) {
+						VirtualIndividualCompleter.this.decode(individual);
+						control.checkpoint();
+						VirtualIndividualCompleter.this.evaluate(individual);
+					}
+					control.checkpoint();
+				}
+			} finally {
+				permits.release();
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Constructs a {@link VirtualIndividualCompleter} with a specified maximal
+	 * number of concurrent evaluations.
+	 * 
+	 * @param control
+	 *            the control
+	 * @param decoder
+	 *            the decoder
+	 * @param evaluator
+	 *            the evaluator
+	 * @param maxPermits
+	 *            the maximal number of concurrently completed individuals
+	 *            (using namespace {@link VirtualIndividualCompleter})
+	 */
+	@Inject
+	public VirtualIndividualCompleter(Control control, Decoder<Genotype, Object> decoder, Evaluator<Object> evaluator,
+			@Constant(value = "maxPermits", namespace = VirtualIndividualCompleter.class) int maxPermits) {
+		super(control, decoder, evaluator);
+
+		if (maxPermits < 1) {
+			throw new IllegalArgumentException("Invalid number of permits: " + maxPermits);
+		}
+		this.permits = new Semaphore(maxPermits);
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.completer.SequentialIndividualCompleter#complete(
+	 * java.lang.Iterable)
+	 */
+	@Override
+	public void complete(Iterable<? extends Individual> iterable) throws TerminationException {
+		long start = completeTimer.start();
+		try {
+
+			List<Future<Void>> returns = new ArrayList<>();
+
+			for (Individual individual : iterable) {
+				if (individual.getState() != Individual.State.EVALUATED) {
+					// block the submitting thread instead of spawning threads
+					// that would only wait for a permit
+					permits.acquireUninterruptibly();
+					try {
+						returns.add(executor.submit(new Complete(individual, control)));
+					} catch (RejectedExecutionException e) {
+						permits.release();
+						throw e;
+					}
+				}
+			}
+
+			for (Future<Void> future : returns) {
+				try {
+					future.get();
+				} catch (InterruptedException e) {
+					e.printStackTrace();
+				}
+			}
+		} catch (ExecutionException ex) {
+			executor.shutdownNow();
+			if (ex.getCause() instanceof TerminationException) {
+				throw (TerminationException) ex.getCause();
+			}
+			throw new RuntimeException(ex);
+		} finally {
+			completeTimer.stop(start);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.IndividualCompleter#completeAsync(org.opt4j.core
+	 * .Individual)
+	 */
+	@Override
+	public CompletableFuture<Individual> completeAsync(Individual individual) {
+		if (individual.isEvaluated()) {
+			return CompletableFuture.completedFuture(individual);
+		}
+		permits.acquireUninterruptibly();
+		CompletableFuture<Individual> future = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				try {
+					new Complete(individual, control).call();
+					future.complete(individual);
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			permits.release();
+			throw e;
+		}
+		return future;
+	}
+
+	/**
+	 * Shutdown the {@link ExecutorService}.
+	 */
+	protected synchronized void shutdownExecutorService() {
+		if (!executor.isShutdown()) {
+			executor.shutdown();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStarted(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public void optimizationStarted(Optimizer optimizer) {
+		// do nothing
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStopped(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public void optimizationStopped(Optimizer optimizer) {
+		shutdownExecutorService();
+	}
+}
@@ -41,12 +41,17 @@
  * {@link org.opt4j.core.problem.Evaluator}.
  * </p>
  * <p>
- * There are two predefined completers: The
+ * There are four predefined completers: The
  * {@link org.opt4j.core.common.completer.SequentialIndividualCompleter} completes
  * each individual sequentially. The
  * {@link org.opt4j.core.common.completer.ParallelIndividualCompleter} completes
  * {@code n} individuals in parallel exploiting multicore architectures
- * efficiently.
+ * efficiently. The
+ * {@link org.opt4j.core.common.completer.VirtualIndividualCompleter} completes
+ * each individual on a virtual thread and is suited for I/O-bound decoders
+ * and evaluators. The
+ * {@link org.opt4j.core.common.completer.PipelinedIndividualCompleter} decodes
+ * and evaluates in separate stages with separate threads.
  * </p>
  */
 package org.opt4j.core.common.completer;
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.dominance;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.inject.ImplementedBy;
+
+/**
+ * The {@link DominanceKernel} compares objective vectors (all objectives are
+ * minimized, see {@link org.opt4j.core.Objectives#array()}) in batches: One
+ * candidate is compared with a range of points of a block. The block is stored
+ * column-wise such that {@code columns[k][j]} is the {@code k}-th objective of
+ * the {@code j}-th point, see {@link #columns(List)}.
+ * 
+ * @see DominanceKernelScalar
+ * @author agent
+ * 
+ */
+@ImplementedBy(DominanceKernelScalar.class)
+public interface DominanceKernel {
+
+	/**
+	 * The candidate dominates the point.
+	 */
+	public static final byte DOMINATES = 1;
+
+	/**
+	 * The candidate is dominated by the point.
+	 */
+	public static final byte DOMINATED = -1;
+
+	/**
+	 * Neither the candidate nor the point dominates the other.
+	 */
+	public static final byte NONE = 0;
+
+	/**
+	 * Compares the candidate with the points {@code from} (inclusive) to
+	 * {@code to} (exclusive) of the block. The relation of the candidate to
+	 * the {@code j}-th point is written to {@code relation[j]}.
+	 * 
+	 * @param candidate
+	 *            the candidate
+	 * @param columns
+	 *            the column-wise block of points
+	 * @param from
+	 *            the first point
+	 * @param to
+	 *            the end of the range
+	 * @param relation
+	 *            the relations ({@link #DOMINATES}, {@link #DOMINATED}, or
+	 *            {@link #NONE})
+	 */
+	public void compare(double[] candidate, double[][] columns, int from, int to, byte[] relation);
+
+	/**
+	 * Returns the index of the first point in the range {@code from}
+	 * (inclusive) to {@code to} (exclusive) that weakly dominates the
+	 * candidate.
+	 * 
+	 * @param candidate
+	 *            the candidate
+	 * @param columns
+	 *            the column-wise block of points
+	 * @param from
+	 *            the first point
+	 * @param to
+	 *            the end of the range
+	 * @return the index of the point or {@code -1} if no point weakly
+	 *         dominates the candidate
+	 */
+	public int findWeaklyDominating(double[] candidate, double[][] columns, int from, int to);
+
+	/**
+	 * Compares a block of candidates with a block of points, see
+	 * {@link #compare(double[], double[][], int, int, byte[])}.
+	 * 
+	 * @param candidates
+	 *            the candidates
+	 * @param columns
+	 *            the column-wise block of points
+	 * @param from
+	 *            the first point
+	 * @param to
+	 *            the end of the range
+	 * @param relation
+	 *            the relations, one row for each candidate
+	 */
+	public default void compare(double[][] candidates, double[][] columns, int from, int to, byte[][] relation) {
+		for (int i = 0; i < candidates.length; i++) {
+			compare(candidates[i], columns, from, to, relation[i]);
+		}
+	}
+
+	/**
+	 * Returns the column-wise block of the points.
+	 * 
+	 * @param points
+	 *            the points
+	 * @return the column-wise block
+	 */
+	public static double[][] columns(List<double[]> points) {
+		final int n = points.size();
+		final int m = n == 0 ? 0 : points.get(0).length;
+		double[][] columns = new double[m][n];
+		for (int j = 0; j < n; j++) {
+			double[] point = points.get(j);
+			for (int k = 0; k < m; k++) {
+				columns[k][j] = point[k];
+			}
+		}
+		return columns;
+	}
+
+	/**
+	 * Returns the column-wise block of the points.
+	 * 
+	 * @param points
+	 *            the points
+	 * @return the column-wise block
+	 */
+	public static double[][] columns(double[][] points) {
+		return columns(Arrays.asList(points));
+	}
+}
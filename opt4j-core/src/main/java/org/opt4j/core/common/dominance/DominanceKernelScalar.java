@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.dominance;
+
+/**
+ * The {@link DominanceKernelScalar} is the scalar implementation of the
+ * {@link DominanceKernel} that compares the candidate with one point at a
+ * time.
+ * 
+ * @author agent
+ * 
+ */
+public class DominanceKernelScalar implements DominanceKernel {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.dominance.DominanceKernel#compare(double[],
+	 * double[][], int, int, byte[])
+	 */
+	@Override
+	public void compare(double[] candidate, double[][] columns, int from, int to, byte[] relation) {
+		final int m = candidate.length;
+		for (int j = from; j < to; j++) {
+			boolean better = false;
+			boolean worse = false;
+			for (int k = 0; k < m && !(better && worse); k++) {
+				double a = candidate[k];
+				double b = columns[k][j];
+				better |= a < b;
+				worse |= a > b;
+			}
+			relation[j] = better == worse ? NONE : (better ? DOMINATES : DOMINATED);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.dominance.DominanceKernel#findWeaklyDominating(
+	 * double[], double[][], int, int)
+	 */
+	@Override
+	public int findWeaklyDominating(double[] candidate, double[][] columns, int from, int to) {
+		final int m = candidate.length;
+		for (int j = from; j < to; j++) {
+			int k = 0;
+			while (k < m && !(candidate[k] < columns[k][j])) {
+				k++;
+			}
+			if (k == m) {
+				return j;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+/**
+ * <p>
+ * Provides the kernels for the dominance checks of objective vectors.
+ * </p>
+ * <p>
+ * The {@link org.opt4j.core.common.dominance.DominanceKernel} compares one
+ * candidate with a block of points that is stored column-wise, i.e., one
+ * array for each objective. This layout allows implementations that compare
+ * the candidate with several points at once. The default implementation is
+ * the scalar {@link org.opt4j.core.common.dominance.DominanceKernelScalar};
+ * the {@code opt4j-vector} module provides an implementation that is based on
+ * the Java Vector API.
+ * </p>
+ */
+package org.opt4j.core.common.dominance;
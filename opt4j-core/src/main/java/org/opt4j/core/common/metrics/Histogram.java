@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.metrics;
+
+/**
+ * The {@link Histogram} records the distribution of values, e.g., sizes.
+ * 
+ * @author agent
+ * 
+ */
+public interface Histogram {
+
+	/**
+	 * Records a value.
+	 * 
+	 * @param value
+	 *            the value
+	 */
+	public void record(long value);
+
+	/**
+	 * Returns the number of recorded values.
+	 * 
+	 * @return the number of values
+	 */
+	public long getCount();
+
+	/**
+	 * Returns the sum of the recorded values.
+	 * 
+	 * @return the sum
+	 */
+	public long getSum();
+
+	/**
+	 * Returns the minimal recorded value or {@link Long#MAX_VALUE} if no value
+	 * is recorded.
+	 * 
+	 * @return the minimal value
+	 */
+	public long getMin();
+
+	/**
+	 * Returns the maximal recorded value or {@link Long#MIN_VALUE} if no value
+	 * is recorded.
+	 * 
+	 * @return the maximal value
+	 */
+	public long getMax();
+
+	/**
+	 * Returns the last recorded value.
+	 * 
+	 * @return the last value
+	 */
+	public long getLast();
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.metrics;
+
+import java.util.Map;
+
+import com.google.inject.ImplementedBy;
+
+/**
+ * The {@link Metrics} is the registry of the {@link Counter}s, {@link Timer}s,
+ * and {@link Histogram}s of an optimization. The metrics are identified by
+ * their names; the names of the metrics that are collected by Opt4J are given
+ * as constants.
+ * <p>
+ * The metrics are obtained once, e.g., when the {@link Metrics} are injected,
+ * and then updated in the hot paths. The default {@link MetricsDisabled}
+ * returns metrics that do nothing.
+ * </p>
+ * 
+ * @see MetricsModule
+ * @author agent
+ * 
+ */
+@ImplementedBy(MetricsDisabled.class)
+public interface Metrics {
+
+	/**
+	 * The timer of the iterations of the optimizer.
+	 */
+	public static final String ITERATION = "optimizer.iteration";
+
+	/**
+	 * The timer of {@link org.opt4j.core.optimizer.IndividualCompleter#complete(Iterable)}.
+	 */
+	public static final String COMPLETE = "completer.complete";
+
+	/**
+	 * The timer of {@link org.opt4j.core.problem.Decoder#decode(org.opt4j.core.Genotype)}.
+	 */
+	public static final String DECODE = "decoder.decode";
+
+	/**
+	 * The timer of {@link org.opt4j.core.problem.Evaluator#evaluate(Object)}.
+	 */
+	public static final String EVALUATE = "evaluator.evaluate";
+
+	/**
+	 * The counter of the individuals that were completed from the
+	 * {@link org.opt4j.core.common.completer.EvaluationCache}.
+	 */
+	public static final String CACHE_HITS = "cache.hits";
+
+	/**
+	 * The counter of the lookups in the
+	 * {@link org.opt4j.core.common.completer.EvaluationCache} that found no
+	 * entry.
+	 */
+	public static final String CACHE_MISSES = "cache.misses";
+
+	/**
+	 * The timer of {@link org.opt4j.core.optimizer.Archive#update(java.util.Set)}.
+	 */
+	public static final String ARCHIVE_UPDATE = "archive.update";
+
+	/**
+	 * The counter of the archive updates that changed the archive.
+	 */
+	public static final String ARCHIVE_CHANGED = "archive.changed";
+
+	/**
+	 * The histogram of the archive size after each iteration.
+	 */
+	public static final String ARCHIVE_SIZE = "archive.size";
+
+	/**
+	 * The timer of the selection of the parents.
+	 */
+	public static final String SELECTOR_PARENTS = "selector.getParents";
+
+	/**
+	 * The timer of the selection of the lames.
+	 */
+	public static final String SELECTOR_LAMES = "selector.getLames";
+
+	/**
+	 * The timer of the mating.
+	 */
+	public static final String MATING = "mating.getOffspring";
+
+	/**
+	 * Returns {@code true} if the metrics are collected.
+	 * 
+	 * @return {@code true} if the metrics are collected
+	 */
+	public boolean isEnabled();
+
+	/**
+	 * Returns the {@link Counter} with the given name.
+	 * 
+	 * @param name
+	 *            the name
+	 * @return the counter
+	 */
+	public Counter counter(String name);
+
+	/**
+	 * Returns the {@link Timer} with the given name.
+	 * 
+	 * @param name
+	 *            the name
+	 * @return the timer
+	 */
+	public Timer timer(String name);
+
+	/**
+	 * Returns the {@link Histogram} with the given name.
+	 * 
+	 * @param name
+	 *            the name
+	 * @return the histogram
+	 */
+	public Histogram histogram(String name);
+
+	/**
+	 * Returns all {@link Counter}s sorted by their names.
+	 * 
+	 * @return the counters
+	 */
+	public Map<String, Counter> getCounters();
+
+	/**
+	 * Returns all {@link Timer}s sorted by their names.
+	 * 
+	 * @return the timers
+	 */
+	public Map<String, Timer> getTimers();
+
+	/**
+	 * Returns all {@link Histogram}s sorted by their names.
+	 * 
+	 * @return the histograms
+	 */
+	public Map<String, Histogram> getHistograms();
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.inject.Singleton;
+
+/**
+ * The {@link MetricsDefault} collects the metrics with {@link LongAdder}s and
+ * {@link LongAccumulator}s such that concurrent updates, e.g., from parallel
+ * evaluations, do not block each other.
+ * 
+ * @author agent
+ * 
+ */
+@Singleton
+public class MetricsDefault implements Metrics {
+
+	protected final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+	protected final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+	protected final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+	/**
+	 * The {@link DefaultCounter}.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class DefaultCounter implements Counter {
+
+		protected final LongAdder count = new LongAdder();
+
+		@Override
+		public void increment() {
+			count.increment();
+		}
+
+		@Override
+		public void add(long value) {
+			count.add(value);
+		}
+
+		@Override
+		public long getCount() {
+			return count.sum();
+		}
+	}
+
+	/**
+	 * The {@link DefaultTimer}.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class DefaultTimer implements Timer {
+
+		protected final LongAdder count = new LongAdder();
+
+		protected final LongAdder total = new LongAdder();
+
+		protected final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+		@Override
+		public long start() {
+			return System.nanoTime();
+		}
+
+		@Override
+		public void stop(long start) {
+			record(System.nanoTime() - start);
+		}
+
+		@Override
+		public void record(long nanos) {
+			count.increment();
+			total.add(nanos);
+			max.accumulate(nanos);
+		}
+
+		@Override
+		public long getCount() {
+			return count.sum();
+		}
+
+		@Override
+		public long getTotalTime() {
+			return total.sum();
+		}
+
+		@Override
+		public long getMaxTime() {
+			return max.get();
+		}
+	}
+
+	/**
+	 * The {@link DefaultHistogram}.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class DefaultHistogram implements Histogram {
+
+		protected final LongAdder count = new LongAdder();
+
+		protected final LongAdder sum = new LongAdder();
+
+		protected final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+		protected final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+		protected volatile long last = 0;
+
+		@Override
+		public void record(long value) {
+			count.increment();
+			sum.add(value);
+			min.accumulate(value);
+			max.accumulate(value);
+			last = value;
+		}
+
+		@Override
+		public long getCount() {
+			return count.sum();
+		}
+
+		@Override
+		public long getSum() {
+			return sum.sum();
+		}
+
+		@Override
+		public long getMin() {
+			return min.get();
+		}
+
+		@Override
+		public long getMax() {
+			return max.get();
+		}
+
+		@Override
+		public long getLast() {
+			return last;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#isEnabled()
+	 */
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#counter(java.lang.String)
+	 */
+	@Override
+	public Counter counter(String name) {
+		return counters.computeIfAbsent(name, n -> new DefaultCounter());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#timer(java.lang.String)
+	 */
+	@Override
+	public Timer timer(String name) {
+		return timers.computeIfAbsent(name, n -> new DefaultTimer());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#histogram(java.lang.String)
+	 */
+	@Override
+	public Histogram histogram(String name) {
+		return histograms.computeIfAbsent(name, n -> new DefaultHistogram());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#getCounters()
+	 */
+	@Override
+	public Map<String, Counter> getCounters() {
+		return Collections.unmodifiableMap(new TreeMap<>(counters));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#getTimers()
+	 */
+	@Override
+	public Map<String, Timer> getTimers() {
+		return Collections.unmodifiableMap(new TreeMap<>(timers));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#getHistograms()
+	 */
+	@Override
+	public Map<String, Histogram> getHistograms() {
+		return Collections.unmodifiableMap(new TreeMap<>(histograms));
+	}
+}
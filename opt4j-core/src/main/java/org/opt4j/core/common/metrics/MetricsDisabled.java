@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The {@link MetricsDisabled} does not collect any metrics. The returned
+ * metrics do nothing; in particular, the {@link Timer}s do not read the
+ * system time.
+ * 
+ * @author agent
+ * 
+ */
+public class MetricsDisabled implements Metrics {
+
+	/**
+	 * The {@link Counter} that does nothing.
+	 */
+	public static final Counter COUNTER = new Counter() {
+		@Override
+		public void increment() {
+			// do nothing
+		}
+
+		@Override
+		public void add(long value) {
+			// do nothing
+		}
+
+		@Override
+		public long getCount() {
+			return 0;
+		}
+	};
+
+	/**
+	 * The {@link Timer} that does nothing.
+	 */
+	public static final Timer TIMER = new Timer() {
+		@Override
+		public long start() {
+			return 0;
+		}
+
+		@Override
+		public void stop(long start) {
+			// do nothing
+		}
+
+		@Override
+		public void record(long nanos) {
+			// do nothing
+		}
+
+		@Override
+		public long getCount() {
+			return 0;
+		}
+
+		@Override
+		public long getTotalTime() {
+			return 0;
+		}
+
+		@Override
+		public long getMaxTime() {
+			return 0;
+		}
+	};
+
+	/**
+	 * The {@link Histogram} that does nothing.
+	 */
+	public static final Histogram HISTOGRAM = new Histogram() {
+		@Override
+		public void record(long value) {
+			// do nothing
+		}
+
+		@Override
+		public long getCount() {
+			return 0;
+		}
+
+		@Override
+		public long getSum() {
+			return 0;
+		}
+
+		@Override
+		public long getMin() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public long getMax() {
+			return Long.MIN_VALUE;
+		}
+
+		@Override
+		public long getLast() {
+			return 0;
+		}
+	};
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#isEnabled()
+	 */
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#counter(java.lang.String)
+	 */
+	@Override
+	public Counter counter(String name) {
+		return COUNTER;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#timer(java.lang.String)
+	 */
+	@Override
+	public Timer timer(String name) {
+		return TIMER;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#histogram(java.lang.String)
+	 */
+	@Override
+	public Histogram histogram(String name) {
+		return HISTOGRAM;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#getCounters()
+	 */
+	@Override
+	public Map<String, Counter> getCounters() {
+		return Collections.emptyMap();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#getTimers()
+	 */
+	@Override
+	public Map<String, Timer> getTimers() {
+		return Collections.emptyMap();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.common.metrics.Metrics#getHistograms()
+	 */
+	@Override
+	public Map<String, Histogram> getHistograms() {
+		return Collections.emptyMap();
+	}
+}
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.opt4j.core.optimizer.Optimizer;
+import org.opt4j.core.optimizer.OptimizerStateListener;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The {@link MetricsJMX} exposes the {@link Metrics} as a read-only MBean
+ * {@code org.opt4j:type=Metrics,id=<n>} in the platform MBean server while the
+ * optimization is running. Each metric value is an attribute, e.g.,
+ * {@code archive.update.count} or {@code archive.update.totalMillis}.
+ * 
+ * @author agent
+ * 
+ */
+@Singleton
+public class MetricsJMX implements OptimizerStateListener, DynamicMBean {
+
+	protected static final AtomicInteger ids = new AtomicInteger();
+
+	protected final Metrics metrics;
+
+	protected ObjectName name = null;
+
+	/**
+	 * Constructs a {@link MetricsJMX}.
+	 * 
+	 * @param metrics
+	 *            the metrics
+	 */
+	@Inject
+	public MetricsJMX(Metrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStarted(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public synchronized void optimizationStarted(Optimizer optimizer) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			name = new ObjectName("org.opt4j:type=Metrics,id=" + ids.incrementAndGet());
+			server.registerMBean(this, name);
+		} catch (JMException e) {
+			name = null;
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStopped(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public synchronized void optimizationStopped(Optimizer optimizer) {
+		if (name != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+			} catch (JMException e) {
+				// already unregistered
+			}
+			name = null;
+		}
+	}
+
+	/**
+	 * Returns the name of the MBean or {@code null} if it is not registered.
+	 * 
+	 * @return the name of the MBean
+	 */
+	public synchronized ObjectName getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the current values of all metrics by the attribute names.
+	 * 
+	 * @return the values
+	 */
+	protected Map<String, Number> getValues() {
+		Map<String, Number> values = new LinkedHashMap<>();
+		for (Map.Entry<String, Timer> entry : metrics.getTimers().entrySet()) {
+			Timer timer = entry.getValue();
+			values.put(entry.getKey() + ".count", timer.getCount());
+			values.put(entry.getKey() + ".totalMillis", timer.getTotalTime() / 1e6);
+			values.put(entry.getKey() + ".maxMillis", timer.getMaxTime() / 1e6);
+		}
+		for (Map.Entry<String, Counter> entry : metrics.getCounters().entrySet()) {
+			values.put(entry.getKey() + ".count", entry.getValue().getCount());
+		}
+		for (Map.Entry<String, Histogram> entry : metrics.getHistograms().entrySet()) {
+			Histogram histogram = entry.getValue();
+			long count = histogram.getCount();
+			values.put(entry.getKey() + ".count", count);
+			values.put(entry.getKey() + ".last", histogram.getLast());
+			values.put(entry.getKey() + ".min", count == 0 ? 0 : histogram.getMin());
+			values.put(entry.getKey() + ".max", count == 0 ? 0 : histogram.getMax());
+			values.put(entry.getKey() + ".mean", count == 0 ? 0.0 : (double) histogram.getSum() / count);
+		}
+		return values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#getAttribute(java.lang.String)
+	 */
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		Number value = getValues().get(attribute);
+		if (value == null) {
+			throw new AttributeNotFoundException(attribute);
+		}
+		return value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#getAttributes(java.lang.String[])
+	 */
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		Map<String, Number> values = getValues();
+		AttributeList list = new AttributeList();
+		for (String attribute : attributes) {
+			Number value = values.get(attribute);
+			if (value != null) {
+				list.add(new Attribute(attribute, value));
+			}
+		}
+		return list;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#setAttribute(javax.management.Attribute)
+	 */
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException("Read-only attribute: " + attribute.getName());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * javax.management.DynamicMBean#setAttributes(javax.management.AttributeList)
+	 */
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#invoke(java.lang.String,
+	 * java.lang.Object[], java.lang.String[])
+	 */
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) {
+		throw new UnsupportedOperationException(actionName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.management.DynamicMBean#getMBeanInfo()
+	 */
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		List<MBeanAttributeInfo> attributes = new ArrayList<>();
+		for (Map.Entry<String, Number> entry : getValues().entrySet()) {
+			String type = entry.getValue() instanceof Double ? "double" : "long";
+			attributes.add(new MBeanAttributeInfo(entry.getKey(), type, entry.getKey(), true, false, false));
+		}
+		return new MBeanInfo(getClass().getName(), "The metrics of the Opt4J optimization.",
+				attributes.toArray(new MBeanAttributeInfo[0]), null, null, null);
+	}
+}
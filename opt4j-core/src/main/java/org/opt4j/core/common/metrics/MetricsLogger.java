@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.opt4j.core.optimizer.OptimizerIterationListener;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The {@link MetricsLogger} logs all {@link Metrics} after every
+ * {@code iterationStep} iterations to the {@link Logger} {@code org.opt4j.metrics}
+ * with the level {@link Level#INFO}. Times are logged in milliseconds.
+ * 
+ * @author agent
+ * 
+ */
+@Singleton
+public class MetricsLogger implements OptimizerIterationListener {
+
+	protected static final Logger LOGGER = Logger.getLogger("org.opt4j.metrics");
+
+	protected final Metrics metrics;
+
+	protected final int iterationStep;
+
+	/**
+	 * Constructs a {@link MetricsLogger}.
+	 * 
+	 * @param metrics
+	 *            the metrics
+	 * @param iterationStep
+	 *            the number of iterations between two log records
+	 */
+	@Inject
+	public MetricsLogger(Metrics metrics,
+			@Constant(value = "iterationStep", namespace = MetricsLogger.class) int iterationStep) {
+		if (iterationStep <= 0) {
+			throw new IllegalArgumentException("Invalid iteration step: " + iterationStep);
+		}
+		this.metrics = metrics;
+		this.iterationStep = iterationStep;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerIterationListener#iterationComplete(
+	 * int)
+	 */
+	@Override
+	public void iterationComplete(int iteration) {
+		if (iteration % iterationStep == 0 && LOGGER.isLoggable(Level.INFO)) {
+			LOGGER.info(format(iteration));
+		}
+	}
+
+	/**
+	 * Formats all metrics in a single line.
+	 * 
+	 * @param iteration
+	 *            the current iteration
+	 * @return the formatted metrics
+	 */
+	protected String format(int iteration) {
+		StringBuilder s = new StringBuilder("iteration ").append(iteration);
+		for (Map.Entry<String, Timer> entry : metrics.getTimers().entrySet()) {
+			Timer timer = entry.getValue();
+			long count = timer.getCount();
+			double mean = count == 0 ? 0 : (double) timer.getTotalTime() / count;
+			s.append(String.format(Locale.US, "; %s count=%d total=%.3fms mean=%.3fms max=%.3fms", entry.getKey(),
+					count, timer.getTotalTime() / 1e6, mean / 1e6, timer.getMaxTime() / 1e6));
+		}
+		for (Map.Entry<String, Counter> entry : metrics.getCounters().entrySet()) {
+			s.append("; ").append(entry.getKey()).append(" count=").append(entry.getValue().getCount());
+		}
+		for (Map.Entry<String, Histogram> entry : metrics.getHistograms().entrySet()) {
+			Histogram histogram = entry.getValue();
+			long count = histogram.getCount();
+			if (count > 0) {
+				s.append(String.format(Locale.US, "; %s last=%d min=%d max=%d mean=%.1f", entry.getKey(),
+						histogram.getLast(), histogram.getMin(), histogram.getMax(),
+						(double) histogram.getSum() / count));
+			}
+		}
+		return s.toString();
+	}
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.metrics;
+
+import org.opt4j.core.common.logger.OutputModule;
+import org.opt4j.core.config.Icons;
+import org.opt4j.core.config.annotations.Icon;
+import org.opt4j.core.config.annotations.Info;
+import org.opt4j.core.config.annotations.Order;
+import org.opt4j.core.config.annotations.Required;
+import org.opt4j.core.start.Constant;
+
+/**
+ * The {@link MetricsModule} enables the collection of the {@link Metrics} and
+ * configures their export by the {@link MetricsLogger} and the
+ * {@link MetricsJMX}.
+ * 
+ * @author agent
+ * 
+ */
+@Icon(Icons.CONSOLE)
+@Info("Collects the timers, counters, and histograms of the optimization, e.g., the time of the decoding, evaluation, archive update, selection, and mating.")
+public class MetricsModule extends OutputModule {
+
+	@Order(0)
+	@Info("Logs the metrics to the logger 'org.opt4j.metrics'.")
+	protected boolean logging = true;
+
+	@Order(1)
+	@Info("Number of iterations after which the metrics are logged.")
+	@Required(property = "logging", elements = { "TRUE" })
+	@Constant(value = "iterationStep", namespace = MetricsLogger.class)
+	protected int iterationStep = 1;
+
+	@Order(2)
+	@Info("Exposes the metrics as MBean 'org.opt4j:type=Metrics' during the optimization.")
+	protected boolean jmx = false;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.start.Opt4JModule#config()
+	 */
+	@Override
+	public void config() {
+		bind(Metrics.class).to(MetricsDefault.class).in(SINGLETON);
+
+		if (logging) {
+			addOptimizerIterationListener(MetricsLogger.class);
+		}
+		if (jmx) {
+			addOptimizerStateListener(MetricsJMX.class);
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the metrics are logged.
+	 * 
+	 * @see #setLogging
+	 * @return {@code true} if the metrics are logged
+	 */
+	public boolean isLogging() {
+		return logging;
+	}
+
+	/**
+	 * Sets the logging of the metrics.
+	 * 
+	 * @see #isLogging
+	 * @param logging
+	 *            {@code true} if the metrics are logged
+	 */
+	public void setLogging(boolean logging) {
+		this.logging = logging;
+	}
+
+	/**
+	 * Returns the step size of the iterations.
+	 * 
+	 * @see #setIterationStep
+	 * @return the step size of the iterations
+	 */
+	public int getIterationStep() {
+		return iterationStep;
+	}
+
+	/**
+	 * Sets the step size of the iterations.
+	 * 
+	 * @see #getIterationStep
+	 * @param iterationStep
+	 *            the step size of the iterations
+	 */
+	public void setIterationStep(int iterationStep) {
+		this.iterationStep = iterationStep;
+	}
+
+	/**
+	 * Returns {@code true} if the metrics are exposed via JMX.
+	 * 
+	 * @see #setJmx
+	 * @return {@code true} if the metrics are exposed via JMX
+	 */
+	public boolean isJmx() {
+		return jmx;
+	}
+
+	/**
+	 * Sets the exposure of the metrics via JMX.
+	 * 
+	 * @see #isJmx
+	 * @param jmx
+	 *            {@code true} if the metrics are exposed via JMX
+	 */
+	public void setJmx(boolean jmx) {
+		this.jmx = jmx;
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.metrics;
+
+/**
+ * The {@link Timer} measures the duration of an operation. The duration is
+ * measured with {@link System#nanoTime()}:
+ * 
+ * <pre>
+ * long start = timer.start();
+ * // the operation
+ * timer.stop(start);
+ * </pre>
+ * 
+ * @author agent
+ * 
+ */
+public interface Timer {
+
+	/**
+	 * Starts a measurement.
+	 * 
+	 * @return the start time that is passed to {@link #stop(long)}
+	 */
+	public long start();
+
+	/**
+	 * Stops a measurement and records its duration.
+	 * 
+	 * @param start
+	 *            the start time returned by {@link #start()}
+	 */
+	public void stop(long start);
+
+	/**
+	 * Records a duration.
+	 * 
+	 * @param nanos
+	 *            the duration in nanoseconds
+	 */
+	public void record(long nanos);
+
+	/**
+	 * Returns the number of recorded durations.
+	 * 
+	 * @return the number of durations
+	 */
+	public long getCount();
+
+	/**
+	 * Returns the sum of the recorded durations in nanoseconds.
+	 * 
+	 * @return the total time
+	 */
+	public long getTotalTime();
+
+	/**
+	 * Returns the maximal recorded duration in nanoseconds.
+	 * 
+	 * @return the maximal time
+	 */
+	public long getMaxTime();
+}
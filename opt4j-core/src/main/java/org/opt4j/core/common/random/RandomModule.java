@@ -72,7 +72,23 @@ public class RandomModule extends Opt4JModule {
 		 * @see RandomMersenneTwister
 		 */
 		@Info("Use the mersenne twister random number generator")
-		MERSENNE_TWISTER;
+		MERSENNE_TWISTER,
+
+		/**
+		 * Use thread-local streams split from a {@link java.util.SplittableRandom}.
+		 * 
+		 * @see RandomSplittable
+		 */
+		@Info("Use thread-local streams of the java SplittableRandom")
+		SPLITTABLE,
+
+		/**
+		 * Use thread-local streams split from a {@code L64X128MixRandom}.
+		 * 
+		 * @see RandomL64X128
+		 */
+		@Info("Use thread-local streams of the L64X128MixRandom")
+		L64X128;
 	}
 
 	/*
@@ -87,6 +103,12 @@ public class RandomModule extends Opt4JModule {
 		case JAVA:
 			randomClass = RandomJava.class;
 			break;
+		case SPLITTABLE:
+			randomClass = RandomSplittable.class;
+			break;
+		case L64X128:
+			randomClass = RandomL64X128.class;
+			break;
 		default: // MERSENNE TWISTER
 			randomClass = RandomMersenneTwister.class;
 			break;
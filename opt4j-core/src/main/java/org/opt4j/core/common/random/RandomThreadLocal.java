@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.common.random;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * <p>
+ * The {@link RandomThreadLocal} is a {@link Rand} that hands each thread an
+ * independent stream of a {@link SplittableGenerator}. In contrast to the
+ * {@link RandomMersenneTwister}, the generation of random numbers does not
+ * require any synchronization such that operators on many threads do not
+ * serialize on a single generator.
+ * </p>
+ * <p>
+ * All streams are split from a root generator that is created from the seed.
+ * A worker thread that is bound to an index with {@link #bind(int)} uses the
+ * stream of this index, which only depends on the seed and the index. Thus, a
+ * run is reproducible from one seed as long as the assignment of tasks to the
+ * worker indices is fixed, independent of the timing of the threads. Each
+ * index must be bound to at most one thread at a time.
+ * </p>
+ * <p>
+ * The threads that are not bound get their streams in the order in which
+ * they first use this generator. This is reproducible if only one of these
+ * threads uses the generator, e.g., the optimizer thread.
+ * </p>
+ * <p>
+ * A deserialized generator restarts all streams from its seed.
+ * </p>
+ * 
+ * @author agent
+ * 
+ */
+@SuppressWarnings("serial")
+public abstract class RandomThreadLocal extends Rand {
+
+	protected final String algorithm;
+
+	protected long seed;
+
+	protected transient volatile Streams streams;
+
+	protected transient ThreadLocal<Integer> workers = new ThreadLocal<>();
+
+	/**
+	 * The {@link Streams} split the streams for the threads from the root
+	 * generator.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class Streams extends ThreadLocal<RandomGenerator> {
+
+		protected final SplittableGenerator root;
+		protected final SplittableGenerator workerRoot;
+		protected final ThreadLocal<Integer> workers;
+		protected RandomGenerator[] workerStreams = new RandomGenerator[0];
+
+		/**
+		 * Constructs the {@link Streams}.
+		 * 
+		 * @param root
+		 *            the root generator
+		 * @param workers
+		 *            the worker indices of the threads
+		 */
+		public Streams(SplittableGenerator root, ThreadLocal<Integer> workers) {
+			this.workerRoot = root.split();
+			this.root = root;
+			this.workers = workers;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.ThreadLocal#initialValue()
+		 */
+		@Override
+		protected synchronized RandomGenerator initialValue() {
+			Integer worker = workers.get();
+			if (worker == null) {
+				return root.split();
+			}
+			return worker(worker);
+		}
+
+		/**
+		 * Returns the stream of a worker. The streams are split in the order of
+		 * their indices such that each stream only depends on its index.
+		 * 
+		 * @param index
+		 *            the worker index
+		 * @return the stream of the worker
+		 */
+		protected synchronized RandomGenerator worker(int index) {
+			int size = workerStreams.length;
+			if (index >= size) {
+				workerStreams = Arrays.copyOf(workerStreams, Math.max(index + 1, 2 * size));
+				for (int i = size; i < workerStreams.length; i++) {
+					workerStreams[i] = workerRoot.split();
+				}
+			}
+			return workerStreams[index];
+		}
+	}
+
+	/**
+	 * Constructs a {@link RandomThreadLocal}.
+	 * 
+	 * @param algorithm
+	 *            the name of the {@link SplittableGenerator} algorithm
+	 * @param seed
+	 *            the seed
+	 */
+	protected RandomThreadLocal(String algorithm, long seed) {
+		super(seed);
+		RandomGeneratorFactory<RandomGenerator> factory = RandomGeneratorFactory.of(algorithm);
+		if (!factory.isSplittable()) {
+			throw new IllegalArgumentException("Random generator is not splittable: " + algorithm);
+		}
+		this.algorithm = algorithm;
+		this.seed = seed;
+		this.streams = createStreams(algorithm, seed, workers);
+	}
+
+	/**
+	 * Creates the {@link Streams} with a new root generator.
+	 * 
+	 * @param algorithm
+	 *            the name of the {@link SplittableGenerator} algorithm
+	 * @param seed
+	 *            the seed
+	 * @param workers
+	 *            the worker indices of the threads
+	 * @return the streams
+	 */
+	private static Streams createStreams(String algorithm, long seed, ThreadLocal<Integer> workers) {
+		return new Streams((SplittableGenerator) RandomGeneratorFactory.of(algorithm).create(seed), workers);
+	}
+
+	/**
+	 * Binds the current thread to the stream of the worker with the given
+	 * index. The binding is kept if the seed is set again.
+	 * 
+	 * @param worker
+	 *            the worker index
+	 */
+	public void bind(int worker) {
+		if (worker < 0) {
+			throw new IllegalArgumentException("Worker index must not be negative: " + worker);
+		}
+		workers.set(worker);
+		streams.remove();
+	}
+
+	/**
+	 * Removes the binding of the current thread to a worker stream.
+	 */
+	public void unbind() {
+		workers.remove();
+		streams.remove();
+	}
+
+	/**
+	 * Restores the streams of a deserialized generator from the seed.
+	 * 
+	 * @param in
+	 *            the input stream
+	 * @throws IOException
+	 *             if the object cannot be read
+	 * @throws ClassNotFoundException
+	 *             if a class of the object cannot be found
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		workers = new ThreadLocal<>();
+		streams = createStreams(algorithm, seed, workers);
+	}
+
+	/**
+	 * Returns the stream of the current thread.
+	 * 
+	 * @return the stream of the current thread
+	 */
+	protected RandomGenerator stream() {
+		return streams.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#setSeed(long)
+	 */
+	@Override
+	public void setSeed(long seed) {
+		if (algorithm == null) {
+			// called by the super constructor
+			return;
+		}
+		this.seed = seed;
+		streams = createStreams(algorithm, seed, workers);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#next(int)
+	 */
+	@Override
+	protected int next(int bits) {
+		return (int) (stream().nextLong() >>> (64 - bits));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#nextInt()
+	 */
+	@Override
+	public int nextInt() {
+		return stream().nextInt();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#nextInt(int)
+	 */
+	@Override
+	public int nextInt(int bound) {
+		return stream().nextInt(bound);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#nextLong()
+	 */
+	@Override
+	public long nextLong() {
+		return stream().nextLong();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#nextBoolean()
+	 */
+	@Override
+	public boolean nextBoolean() {
+		return stream().nextBoolean();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#nextFloat()
+	 */
+	@Override
+	public float nextFloat() {
+		return stream().nextFloat();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#nextDouble()
+	 */
+	@Override
+	public double nextDouble() {
+		return stream().nextDouble();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#nextGaussian()
+	 */
+	@Override
+	public double nextGaussian() {
+		return stream().nextGaussian();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Random#nextBytes(byte[])
+	 */
+	@Override
+	public void nextBytes(byte[] bytes) {
+		stream().nextBytes(bytes);
+	}
+}
@@ -36,5 +36,9 @@
  * produce the same result. Keep in mind that this reproducibility might be
  * violated by, e.g., multi-threading or non-deterministic objects like Sets.
  * </p>
+ * <p>
+ * For operators on many threads, the {@link RandomThreadLocal} generators hand
+ * each thread an independent stream without any synchronization.
+ * </p>
  */
 package org.opt4j.core.common.random;
\ No newline at end of file
@@ -196,6 +196,39 @@ public class CompositeGenotype<K, V extends Genotype> implements Genotype, Itera
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + map.hashCode();
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		CompositeGenotype<?, ?> other = (CompositeGenotype<?, ?>) obj;
+		return map.equals(other.map);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
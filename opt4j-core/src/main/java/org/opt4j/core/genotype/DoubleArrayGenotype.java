@@ -0,0 +1,573 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.genotype;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ * The {@link DoubleArrayGenotype} is a {@link DoubleGenotype} that stores its
+ * values in a primitive {@code double} array instead of boxed {@link Double}
+ * objects. It is fully compatible with the {@link DoubleGenotype} and can be
+ * used with all its operators. Additionally, it offers the primitive accessors
+ * {@link #getDouble(int)} and {@link #setDouble(int, double)} and the bulk
+ * view {@link #array()} that allow operators to work without boxing.
+ * </p>
+ * <p>
+ * Example usage: <blockquote>
+ * 
+ * <pre>
+ * DoubleArrayGenotype genotype = new DoubleArrayGenotype();
+ * genotype.init(new Random(), 5000);
+ * </pre>
+ * 
+ * </blockquote>
+ * </p>
+ * 
+ * @author agent
+ * 
+ */
+@SuppressWarnings("serial")
+public class DoubleArrayGenotype extends DoubleGenotype {
+
+	private static final double[] EMPTY = new double[0];
+
+	protected double[] values = EMPTY;
+
+	protected int size = 0;
+
+	/**
+	 * The {@link View} is a plain {@link List} view on the primitive values
+	 * that provides the iterators and sub lists.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected class View extends AbstractList<Double> {
+
+		@Override
+		public Double get(int index) {
+			return DoubleArrayGenotype.this.get(index);
+		}
+
+		@Override
+		public Double set(int index, Double element) {
+			return DoubleArrayGenotype.this.set(index, element);
+		}
+
+		@Override
+		public void add(int index, Double element) {
+			DoubleArrayGenotype.this.add(index, element);
+		}
+
+		@Override
+		public Double remove(int index) {
+			return DoubleArrayGenotype.this.remove(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Constructs a {@link DoubleArrayGenotype} with lower bounds {@code 0.0}
+	 * and upper bounds {@code 1.0}.
+	 */
+	public DoubleArrayGenotype() {
+		this(0, 1);
+	}
+
+	/**
+	 * Constructs a {@link DoubleArrayGenotype} with a specified lower and upper
+	 * bound for all values.
+	 * 
+	 * @param lowerBound
+	 *            the lower bound
+	 * @param upperBound
+	 *            the upper bound
+	 */
+	public DoubleArrayGenotype(double lowerBound, double upperBound) {
+		this(new FixedBounds<>(lowerBound, upperBound));
+	}
+
+	/**
+	 * Constructs a {@link DoubleArrayGenotype} with the given {@link Bounds}.
+	 * 
+	 * @param bounds
+	 *            the bounds
+	 */
+	public DoubleArrayGenotype(Bounds<Double> bounds) {
+		super(bounds);
+	}
+
+	/**
+	 * Returns the {@code i}-th value without boxing.
+	 * 
+	 * @param index
+	 *            the index
+	 * @return the value
+	 */
+	public double getDouble(int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * Sets the {@code i}-th value without boxing.
+	 * 
+	 * @param index
+	 *            the index
+	 * @param value
+	 *            the value
+	 */
+	public void setDouble(int index, double value) {
+		checkIndex(index);
+		values[index] = value;
+	}
+
+	/**
+	 * Appends a value without boxing.
+	 * 
+	 * @param value
+	 *            the value
+	 */
+	public void addDouble(double value) {
+		ensureCapacity(size + 1);
+		values[size++] = value;
+	}
+
+	/**
+	 * Returns the backing array. Only the first {@link #size()} entries are
+	 * valid. Changes to the array are reflected in this genotype.
+	 * 
+	 * @return the backing array
+	 */
+	public double[] array() {
+		return values;
+	}
+
+	/**
+	 * Sets the size of this genotype. New entries are initialized with
+	 * {@code 0}.
+	 * 
+	 * @param size
+	 *            the new size
+	 */
+	public void setSize(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Invalid size: " + size);
+		}
+		ensureCapacity(size);
+		if (size > this.size) {
+			Arrays.fill(values, this.size, size, 0);
+		}
+		this.size = size;
+	}
+
+	/**
+	 * Copies the first {@code length} values of the given array into this
+	 * genotype.
+	 * 
+	 * @param source
+	 *            the source values
+	 * @param length
+	 *            the number of values
+	 */
+	public void setAll(double[] source, int length) {
+		ensureCapacity(length);
+		System.arraycopy(source, 0, values, 0, length);
+		size = length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.genotype.DoubleGenotype#init(java.util.Random, int)
+	 */
+	@Override
+	public void init(Random random, int n) {
+		try {
+			getLowerBound(n - 1);
+			getUpperBound(n - 1);
+		} catch (IndexOutOfBoundsException outOfBoundException) {
+			throw new IllegalArgumentException(
+					"Cannot initialize a genotype with " + n + " entries with the specified bounds",
+					outOfBoundException);
+		}
+		if (n > size) {
+			setSize(n);
+		}
+		for (int i = 0; i < n; i++) {
+			double lo = getLowerBound(i);
+			double hi = getUpperBound(i);
+			values[i] = lo + random.nextDouble() * (hi - lo);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#ensureCapacity(int)
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (values != null && minCapacity > values.length) {
+			int capacity = Math.max(minCapacity, values.length + (values.length >> 1) + 1);
+			values = Arrays.copyOf(values, capacity);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#trimToSize()
+	 */
+	@Override
+	public void trimToSize() {
+		if (values != null && values.length > size) {
+			values = Arrays.copyOf(values, size);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public Double get(int index) {
+		return getDouble(index);
+	}
+
+	@Override
+	public Double set(int index, Double element) {
+		checkIndex(index);
+		double old = values[index];
+		values[index] = element;
+		return old;
+	}
+
+	@Override
+	public boolean add(Double element) {
+		addDouble(element);
+		return true;
+	}
+
+	@Override
+	public void add(int index, Double element) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		double value = element;
+		ensureCapacity(size + 1);
+		System.arraycopy(values, index, values, index + 1, size - index);
+		values[index] = value;
+		size++;
+	}
+
+	@Override
+	public Double getFirst() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return values[0];
+	}
+
+	@Override
+	public Double getLast() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return values[size - 1];
+	}
+
+	@Override
+	public Double removeFirst() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return remove(0);
+	}
+
+	@Override
+	public Double removeLast() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return remove(size - 1);
+	}
+
+	@Override
+	public Double remove(int index) {
+		checkIndex(index);
+		double old = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		return old;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		int index = indexOf(o);
+		if (index >= 0) {
+			remove(index);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Double> c) {
+		ensureCapacity(size + c.size());
+		for (Double element : c) {
+			addDouble(element);
+		}
+		return !c.isEmpty();
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends Double> c) {
+		return new View().addAll(index, c);
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		System.arraycopy(values, toIndex, values, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		return removeIf(c::contains);
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		return removeIf(element -> !c.contains(element));
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super Double> filter) {
+		int j = 0;
+		for (int i = 0; i < size; i++) {
+			double value = values[i];
+			if (!filter.test(value)) {
+				values[j++] = value;
+			}
+		}
+		boolean changed = j != size;
+		size = j;
+		return changed;
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<Double> operator) {
+		for (int i = 0; i < size; i++) {
+			values[i] = operator.apply(values[i]);
+		}
+	}
+
+	@Override
+	public void sort(Comparator<? super Double> c) {
+		if (c == null) {
+			Arrays.sort(values, 0, size);
+		} else {
+			new View().sort(c);
+		}
+	}
+
+	@Override
+	public void forEach(Consumer<? super Double> action) {
+		for (int i = 0; i < size; i++) {
+			action.accept(values[i]);
+		}
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		if (o instanceof Double) {
+			for (int i = 0; i < size; i++) {
+				if (Double.valueOf(values[i]).equals(o)) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		if (o instanceof Double) {
+			for (int i = size - 1; i >= 0; i--) {
+				if (Double.valueOf(values[i]).equals(o)) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		for (int i = 0; i < size; i++) {
+			array[i] = values[i];
+		}
+		return array;
+	}
+
+	@Override
+	public <T> T[] toArray(T[] a) {
+		return new View().toArray(a);
+	}
+
+	@Override
+	public Iterator<Double> iterator() {
+		return new View().iterator();
+	}
+
+	@Override
+	public ListIterator<Double> listIterator() {
+		return new View().listIterator();
+	}
+
+	@Override
+	public ListIterator<Double> listIterator(int index) {
+		return new View().listIterator(index);
+	}
+
+	@Override
+	public List<Double> subList(int fromIndex, int toIndex) {
+		return new View().subList(fromIndex, toIndex);
+	}
+
+	@Override
+	public Spliterator<Double> spliterator() {
+		return new View().spliterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#clone()
+	 */
+	@Override
+	public Object clone() {
+		DoubleArrayGenotype clone = (DoubleArrayGenotype) super.clone();
+		clone.values = Arrays.copyOf(values, size);
+		return clone;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int i = 0; i < size; i++) {
+			hashCode = 31 * hashCode + Double.hashCode(values[i]);
+		}
+		return hashCode;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (o instanceof DoubleArrayGenotype) {
+			DoubleArrayGenotype other = (DoubleArrayGenotype) o;
+			if (size != other.size) {
+				return false;
+			}
+			for (int i = 0; i < size; i++) {
+				if (Double.doubleToLongBits(values[i]) != Double.doubleToLongBits(other.values[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (!(o instanceof List)) {
+			return false;
+		}
+		return new View().equals(o);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractCollection#toString()
+	 */
+	@Override
+	public String toString() {
+		return new View().toString();
+	}
+
+	/**
+	 * Checks the index.
+	 * 
+	 * @param index
+	 *            the index
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
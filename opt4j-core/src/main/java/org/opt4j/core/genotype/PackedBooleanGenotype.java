@@ -0,0 +1,654 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.core.genotype;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ * The {@link PackedBooleanGenotype} is a {@link BooleanGenotype} that stores
+ * its values as bits in an array of {@code long} words instead of boxed
+ * {@link Boolean} objects. It is fully compatible with the
+ * {@link BooleanGenotype} and can be used with all its operators.
+ * Additionally, it offers the primitive accessors {@link #getBoolean(int)},
+ * {@link #setBoolean(int, boolean)}, and {@link #flip(int)} and the bulk view
+ * {@link #words()} that allow operators to work on whole words.
+ * </p>
+ * <p>
+ * The bit {@code i} is stored in the word {@code i >> 6} at the position
+ * {@code i & 63}. All bits beyond {@link #size()} are always {@code 0}.
+ * </p>
+ * <p>
+ * Example usage: <blockquote>
+ * 
+ * <pre>
+ * PackedBooleanGenotype genotype = new PackedBooleanGenotype();
+ * genotype.init(new Random(), 100000);
+ * </pre>
+ * 
+ * </blockquote>
+ * </p>
+ * 
+ * @author agent
+ * 
+ */
+@SuppressWarnings("serial")
+public class PackedBooleanGenotype extends BooleanGenotype {
+
+	private static final long[] EMPTY = new long[0];
+
+	protected long[] words = EMPTY;
+
+	protected int size = 0;
+
+	/**
+	 * The {@link View} is a plain {@link List} view on the bits that provides
+	 * the iterators and sub lists.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected class View extends AbstractList<Boolean> {
+
+		@Override
+		public Boolean get(int index) {
+			return PackedBooleanGenotype.this.get(index);
+		}
+
+		@Override
+		public Boolean set(int index, Boolean element) {
+			return PackedBooleanGenotype.this.set(index, element);
+		}
+
+		@Override
+		public void add(int index, Boolean element) {
+			PackedBooleanGenotype.this.add(index, element);
+		}
+
+		@Override
+		public Boolean remove(int index) {
+			return PackedBooleanGenotype.this.remove(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Returns the number of words that are required for {@code size} bits.
+	 * 
+	 * @param size
+	 *            the number of bits
+	 * @return the number of words
+	 */
+	public static int wordCount(int size) {
+		return (size + 63) >>> 6;
+	}
+
+	/**
+	 * Returns the mask of the valid bits in the last word for {@code size}
+	 * bits.
+	 * 
+	 * @param size
+	 *            the number of bits
+	 * @return the mask of the last word
+	 */
+	public static long lastWordMask(int size) {
+		return -1L >>> -size;
+	}
+
+	/**
+	 * Returns the {@code i}-th value without boxing.
+	 * 
+	 * @param index
+	 *            the index
+	 * @return the value
+	 */
+	public boolean getBoolean(int index) {
+		checkIndex(index);
+		return (words[index >> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Sets the {@code i}-th value without boxing.
+	 * 
+	 * @param index
+	 *            the index
+	 * @param value
+	 *            the value
+	 */
+	public void setBoolean(int index, boolean value) {
+		checkIndex(index);
+		if (value) {
+			words[index >> 6] |= 1L << index;
+		} else {
+			words[index >> 6] &= ~(1L << index);
+		}
+	}
+
+	/**
+	 * Inverts the {@code i}-th value.
+	 * 
+	 * @param index
+	 *            the index
+	 */
+	public void flip(int index) {
+		checkIndex(index);
+		words[index >> 6] ^= 1L << index;
+	}
+
+	/**
+	 * Appends a value without boxing.
+	 * 
+	 * @param value
+	 *            the value
+	 */
+	public void addBoolean(boolean value) {
+		ensureCapacity(size + 1);
+		int index = size++;
+		if (value) {
+			words[index >> 6] |= 1L << index;
+		}
+	}
+
+	/**
+	 * Returns the number of {@code true} values.
+	 * 
+	 * @return the number of {@code true} values
+	 */
+	public int cardinality() {
+		int cardinality = 0;
+		for (int i = 0, n = wordCount(size); i < n; i++) {
+			cardinality += Long.bitCount(words[i]);
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Returns the backing words. Only the first {@link #wordCount(int)} words
+	 * for {@link #size()} bits are valid. Changes to the array are reflected in
+	 * this genotype; bits beyond {@link #size()} have to remain {@code 0}.
+	 * 
+	 * @return the backing words
+	 */
+	public long[] words() {
+		return words;
+	}
+
+	/**
+	 * Sets the size of this genotype. New entries are initialized with
+	 * {@code false}.
+	 * 
+	 * @param size
+	 *            the new size
+	 */
+	public void setSize(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Invalid size: " + size);
+		}
+		ensureCapacity(size);
+		if (size < this.size) {
+			clearFrom(size);
+		}
+		this.size = size;
+	}
+
+	/**
+	 * Copies the first {@code length} bits of the given words into this
+	 * genotype.
+	 * 
+	 * @param source
+	 *            the source words
+	 * @param length
+	 *            the number of bits
+	 */
+	public void setAll(long[] source, int length) {
+		ensureCapacity(length);
+		int n = wordCount(length);
+		System.arraycopy(source, 0, words, 0, n);
+		if (n < wordCount(size)) {
+			Arrays.fill(words, n, wordCount(size), 0);
+		}
+		if (n > 0) {
+			words[n - 1] &= lastWordMask(length);
+		}
+		size = length;
+	}
+
+	/**
+	 * Sets this genotype to the bits of {@code first} where the mask is set
+	 * and to the bits of {@code second} otherwise. Both genotypes must have
+	 * the same size which becomes the size of this genotype.
+	 * 
+	 * @param first
+	 *            the genotype for the set bits of the mask
+	 * @param second
+	 *            the genotype for the cleared bits of the mask
+	 * @param mask
+	 *            the selection mask with at least {@link #wordCount(int)}
+	 *            words
+	 */
+	public void setMasked(PackedBooleanGenotype first, PackedBooleanGenotype second, long[] mask) {
+		int length = first.size();
+		if (second.size() != length) {
+			throw new IllegalArgumentException("Different sizes: " + length + " and " + second.size());
+		}
+		setSize(length);
+		long[] w1 = first.words;
+		long[] w2 = second.words;
+		for (int i = 0; i < wordCount(length); i++) {
+			long m = mask[i];
+			words[i] = (w1[i] & m) | (w2[i] & ~m);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.genotype.BooleanGenotype#init(java.util.Random, int)
+	 */
+	@Override
+	public void init(Random random, int n) {
+		if (n > size) {
+			setSize(n);
+		}
+		for (int i = 0; i < n; i++) {
+			if (random.nextBoolean()) {
+				words[i >> 6] |= 1L << i;
+			} else {
+				words[i >> 6] &= ~(1L << i);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#ensureCapacity(int)
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		int n = wordCount(minCapacity);
+		if (words != null && n > words.length) {
+			int capacity = Math.max(n, words.length + (words.length >> 1) + 1);
+			words = Arrays.copyOf(words, capacity);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#trimToSize()
+	 */
+	@Override
+	public void trimToSize() {
+		int n = wordCount(size);
+		if (words != null && words.length > n) {
+			words = Arrays.copyOf(words, n);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public Boolean get(int index) {
+		return getBoolean(index);
+	}
+
+	@Override
+	public Boolean set(int index, Boolean element) {
+		boolean old = getBoolean(index);
+		setBoolean(index, element);
+		return old;
+	}
+
+	@Override
+	public boolean add(Boolean element) {
+		addBoolean(element);
+		return true;
+	}
+
+	@Override
+	public void add(int index, Boolean element) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		boolean value = element;
+		ensureCapacity(size + 1);
+		size++;
+		for (int i = size - 1; i > index; i--) {
+			setBoolean(i, getBoolean(i - 1));
+		}
+		setBoolean(index, value);
+	}
+
+	@Override
+	public Boolean getFirst() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return getBoolean(0);
+	}
+
+	@Override
+	public Boolean getLast() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return getBoolean(size - 1);
+	}
+
+	@Override
+	public Boolean removeFirst() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return remove(0);
+	}
+
+	@Override
+	public Boolean removeLast() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return remove(size - 1);
+	}
+
+	@Override
+	public Boolean remove(int index) {
+		boolean old = getBoolean(index);
+		removeRange(index, index + 1);
+		return old;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		int index = indexOf(o);
+		if (index >= 0) {
+			remove(index);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(words, 0, wordCount(size), 0);
+		size = 0;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Boolean> c) {
+		ensureCapacity(size + c.size());
+		for (Boolean element : c) {
+			addBoolean(element);
+		}
+		return !c.isEmpty();
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends Boolean> c) {
+		return new View().addAll(index, c);
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		int shift = toIndex - fromIndex;
+		for (int i = fromIndex; i < size - shift; i++) {
+			setBoolean(i, getBoolean(i + shift));
+		}
+		int newSize = size - shift;
+		clearFrom(newSize);
+		size = newSize;
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		return removeIf(c::contains);
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		return removeIf(element -> !c.contains(element));
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super Boolean> filter) {
+		int j = 0;
+		for (int i = 0; i < size; i++) {
+			boolean value = getBoolean(i);
+			if (!filter.test(value)) {
+				setBoolean(j++, value);
+			}
+		}
+		boolean changed = j != size;
+		clearFrom(j);
+		size = j;
+		return changed;
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<Boolean> operator) {
+		for (int i = 0; i < size; i++) {
+			setBoolean(i, operator.apply(getBoolean(i)));
+		}
+	}
+
+	@Override
+	public void sort(Comparator<? super Boolean> c) {
+		if (c == null) {
+			int ones = cardinality();
+			int n = size;
+			clear();
+			size = n;
+			for (int i = n - ones; i < n; i++) {
+				words[i >> 6] |= 1L << i;
+			}
+		} else {
+			new View().sort(c);
+		}
+	}
+
+	@Override
+	public void forEach(Consumer<? super Boolean> action) {
+		for (int i = 0; i < size; i++) {
+			action.accept(getBoolean(i));
+		}
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		if (o instanceof Boolean) {
+			boolean value = (Boolean) o;
+			for (int i = 0; i < size; i++) {
+				if (getBoolean(i) == value) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		if (o instanceof Boolean) {
+			boolean value = (Boolean) o;
+			for (int i = size - 1; i >= 0; i--) {
+				if (getBoolean(i) == value) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		for (int i = 0; i < size; i++) {
+			array[i] = getBoolean(i);
+		}
+		return array;
+	}
+
+	@Override
+	public <T> T[] toArray(T[] a) {
+		return new View().toArray(a);
+	}
+
+	@Override
+	public Iterator<Boolean> iterator() {
+		return new View().iterator();
+	}
+
+	@Override
+	public ListIterator<Boolean> listIterator() {
+		return new View().listIterator();
+	}
+
+	@Override
+	public ListIterator<Boolean> listIterator(int index) {
+		return new View().listIterator(index);
+	}
+
+	@Override
+	public List<Boolean> subList(int fromIndex, int toIndex) {
+		return new View().subList(fromIndex, toIndex);
+	}
+
+	@Override
+	public Spliterator<Boolean> spliterator() {
+		return new View().spliterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#clone()
+	 */
+	@Override
+	public Object clone() {
+		PackedBooleanGenotype clone = (PackedBooleanGenotype) super.clone();
+		clone.words = Arrays.copyOf(words, wordCount(size));
+		return clone;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int i = 0; i < size; i++) {
+			hashCode = 31 * hashCode + Boolean.hashCode(getBoolean(i));
+		}
+		return hashCode;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.ArrayList#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (o instanceof PackedBooleanGenotype) {
+			PackedBooleanGenotype other = (PackedBooleanGenotype) o;
+			return size == other.size
+					&& Arrays.equals(words, 0, wordCount(size), other.words, 0, wordCount(size));
+		}
+		if (!(o instanceof List)) {
+			return false;
+		}
+		return new View().equals(o);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractCollection#toString()
+	 */
+	@Override
+	public String toString() {
+		return new View().toString();
+	}
+
+	/**
+	 * Clears all bits from the given index up to the current size.
+	 * 
+	 * @param fromIndex
+	 *            the first bit to clear
+	 */
+	private void clearFrom(int fromIndex) {
+		int n = wordCount(size);
+		int first = fromIndex >> 6;
+		if (first < n) {
+			words[first] &= (1L << fromIndex) - 1;
+			Arrays.fill(words, first + 1, n, 0);
+		}
+	}
+
+	/**
+	 * Checks the index.
+	 * 
+	 * @param index
+	 *            the index
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
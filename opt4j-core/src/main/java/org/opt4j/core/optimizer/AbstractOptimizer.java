@@ -26,6 +26,11 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.common.metrics.Counter;
+import org.opt4j.core.common.metrics.Histogram;
+import org.opt4j.core.common.metrics.Metrics;
+import org.opt4j.core.common.metrics.MetricsDisabled;
+import org.opt4j.core.common.metrics.Timer;
 
 import com.google.inject.Inject;
 
@@ -62,6 +67,16 @@ public abstract class AbstractOptimizer implements Optimizer {
 
 	protected boolean optimizing = false;
 
+	protected Timer iterationTimer = MetricsDisabled.TIMER;
+
+	protected Timer archiveTimer = MetricsDisabled.TIMER;
+
+	protected Counter archiveChanged = MetricsDisabled.COUNTER;
+
+	protected Histogram archiveSize = MetricsDisabled.HISTOGRAM;
+
+	protected long iterationStart = 0;
+
 	/**
 	 * Constructs an {@link AbstractOptimizer} with a {@link Population}, an
 	 * {@link Archive}, an {@link IndividualFactory}, and a
@@ -94,6 +109,20 @@ public abstract class AbstractOptimizer implements Optimizer {
 		this.iterationListeners.addAll(iterationListeners);
 	}
 
+	/**
+	 * Injects the {@link Metrics} of the iterations and the archive updates.
+	 * 
+	 * @param metrics
+	 *            the metrics
+	 */
+	@Inject
+	protected void injectMetrics(Metrics metrics) {
+		this.iterationTimer = metrics.timer(Metrics.ITERATION);
+		this.archiveTimer = metrics.timer(Metrics.ARCHIVE_UPDATE);
+		this.archiveChanged = metrics.counter(Metrics.ARCHIVE_CHANGED);
+		this.archiveSize = metrics.histogram(Metrics.ARCHIVE_SIZE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -124,11 +153,18 @@ public abstract class AbstractOptimizer implements Optimizer {
 	 */
 	protected void nextIteration() throws TerminationException, StopException {
 		completer.complete(population);
-		archive.update(population);
+		long start = archiveTimer.start();
+		if (archive.update(population)) {
+			archiveChanged.increment();
+		}
+		archiveTimer.stop(start);
+		archiveSize.record(archive.size());
 		iteration.next();
+		iterationTimer.stop(iterationStart);
 		for (OptimizerIterationListener listener : iterationListeners) {
 			listener.iterationComplete(iteration.value());
 		}
+		iterationStart = iterationTimer.start();
 		control.checkpointStop();
 	}
 
@@ -144,6 +180,7 @@ public abstract class AbstractOptimizer implements Optimizer {
 			listener.optimizationStarted(this);
 		}
 		try {
+			iterationStart = iterationTimer.start();
 			optimize();
 		} catch (StopException e) {
 			System.out.println("Optimization stopped.");
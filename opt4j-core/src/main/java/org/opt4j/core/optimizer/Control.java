@@ -22,8 +22,11 @@
 
 package org.opt4j.core.optimizer;
 
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.locks.LockSupport;
 
 import com.google.inject.Singleton;
 
@@ -46,6 +49,12 @@ import com.google.inject.Singleton;
  * {@link #checkpointStop()} between the iterations and {@link #checkpoint()}
  * within the iteration.
  * </p>
+ * <p>
+ * The checkpoints are called from all completion threads for each individual.
+ * Therefore, they are lock-free: in the {@link State#RUNNING} state, a
+ * checkpoint is a single volatile read. Only paused threads are parked until
+ * the state changes. State transitions are synchronized and rare.
+ * </p>
  * 
  * @author lukasiewycz
  * 
@@ -53,10 +62,12 @@ import com.google.inject.Singleton;
 @Singleton
 public class Control {
 
-	protected State state = State.RUNNING;
+	protected volatile State state = State.RUNNING;
 
 	protected final Set<ControlListener> listeners = new CopyOnWriteArraySet<>();
 
+	protected final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
 	/**
 	 * The {@link State} of the control.
 	 * 
@@ -151,7 +162,7 @@ public class Control {
 	 * 
 	 * @return {@code true} if the optimization is running
 	 */
-	public synchronized boolean isRunning() {
+	public boolean isRunning() {
 		return (state == State.RUNNING);
 	}
 
@@ -160,7 +171,7 @@ public class Control {
 	 * 
 	 * @return {@code true} if the optimization is paused
 	 */
-	public synchronized boolean isPaused() {
+	public boolean isPaused() {
 		return (state == State.PAUSED);
 	}
 
@@ -169,7 +180,7 @@ public class Control {
 	 * 
 	 * @return {@code true} if the optimization is stopped
 	 */
-	public synchronized boolean isStopped() {
+	public boolean isStopped() {
 		return (state == State.STOPPED);
 	}
 
@@ -178,7 +189,7 @@ public class Control {
 	 * 
 	 * @return {@code true} if the optimization is terminated
 	 */
-	public synchronized boolean isTerminated() {
+	public boolean isTerminated() {
 		return (state == State.TERMINATED);
 	}
 
@@ -188,15 +199,15 @@ public class Control {
 	 * @throws TerminationException
 	 *             if the optimization is terminated
 	 */
-	public synchronized void checkpoint() throws TerminationException {
-		while (state == State.PAUSED) {
-			try {
-				wait();
-			} catch (InterruptedException e) {
-			}
+	public void checkpoint() throws TerminationException {
+		State s = state;
+		if (s == State.RUNNING) {
+			return;
 		}
-
-		if (state == State.TERMINATED) {
+		if (s == State.PAUSED) {
+			s = awaitResume();
+		}
+		if (s == State.TERMINATED) {
 			throw new TerminationException();
 		}
 	}
@@ -209,13 +220,43 @@ public class Control {
 	 * @throws StopException
 	 *             if the optimization is stopped
 	 */
-	public synchronized void checkpointStop() throws TerminationException, StopException {
-		checkpoint();
-		if (state == State.STOPPED) {
+	public void checkpointStop() throws TerminationException, StopException {
+		State s = state;
+		if (s == State.RUNNING) {
+			return;
+		}
+		if (s == State.PAUSED) {
+			s = awaitResume();
+		}
+		if (s == State.TERMINATED) {
+			throw new TerminationException();
+		} else if (s == State.STOPPED) {
 			throw new StopException();
 		}
 	}
 
+	/**
+	 * Parks the current thread as long as the optimization is paused.
+	 * Interrupts are ignored while waiting, i.e., only a state change resumes
+	 * the thread.
+	 * 
+	 * @return the new state
+	 */
+	protected State awaitResume() {
+		Thread thread = Thread.currentThread();
+		waiters.add(thread);
+		try {
+			State s;
+			while ((s = state) == State.PAUSED) {
+				LockSupport.park(this);
+				Thread.interrupted();
+			}
+			return s;
+		} finally {
+			waiters.remove(thread);
+		}
+	}
+
 	/**
 	 * Returns the state.
 	 * 
@@ -237,7 +278,9 @@ public class Control {
 		if (changed) {
 			this.state = state;
 			// wake up all potentially waiting (paused) processes
-			notifyAll();
+			for (Thread thread : waiters) {
+				LockSupport.unpark(thread);
+			}
 
 			for (ControlListener listener : listeners) {
 				listener.stateChanged(state);
@@ -23,6 +23,8 @@
 
 package org.opt4j.core.optimizer;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.opt4j.core.Individual;
 import org.opt4j.core.common.completer.SequentialIndividualCompleter;
 import org.opt4j.core.problem.Decoder;
@@ -62,4 +64,28 @@ public interface IndividualCompleter {
 	 *             if the optimization is terminated
 	 */
 	public void complete(Individual... individuals) throws TerminationException;
+
+	/**
+	 * Decodes and evaluates the given {@link Individual} asynchronously if it is
+	 * not already evaluated. The returned future completes with the individual
+	 * once it is evaluated or exceptionally with a {@link TerminationException}
+	 * if the optimization is terminated. This allows an {@link Optimizer} to
+	 * process each individual as soon as it is evaluated instead of waiting for
+	 * a whole set of individuals.
+	 * <p>
+	 * The default implementation completes the individual synchronously in the
+	 * calling thread.
+	 * 
+	 * @param individual
+	 *            the individual to be completed
+	 * @return the future of the completed individual
+	 */
+	public default CompletableFuture<Individual> completeAsync(Individual individual) {
+		try {
+			complete(individual);
+			return CompletableFuture.completedFuture(individual);
+		} catch (TerminationException | RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
 }
@@ -26,6 +26,8 @@ import java.util.Comparator;
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.opt4j.core.Objective;
+import org.opt4j.core.ObjectiveSchema;
 import org.opt4j.core.Objectives;
 
 import com.google.inject.Inject;
@@ -36,6 +38,9 @@ import com.google.inject.Provider;
  * them to evaluate the phenotype. Use {@link ProblemModule#addEvaluator(Class)}
  * to add additional {@link Evaluator} s.
  * 
+ * The {@link Objective}s of the first evaluation determine the
+ * {@link ObjectiveSchema} of all subsequent {@link Objectives}.
+ * 
  * The order of the {@link Evaluator}s can be controlled using the
  * {@link Priority} annotation for the {@link Evaluator} classes.
  * 
@@ -48,6 +53,9 @@ public class MultiEvaluator implements Evaluator<Object> {
 	protected final Set<Evaluator<Object>> evaluators = new TreeSet<>(new PriorityComparator());
 	protected final Provider<Objectives> objectivesProvider;
 
+	protected volatile ObjectiveSchema schema = null;
+	protected volatile boolean dynamic = false;
+
 	/**
 	 * Creates a new {@link MultiEvaluator}.
 	 * 
@@ -69,14 +77,49 @@ public class MultiEvaluator implements Evaluator<Object> {
 	 */
 	@Override
 	public Objectives evaluate(Object phenotype) {
-		Objectives objectives = objectivesProvider.get();
+		ObjectiveSchema schema = this.schema;
+		Objectives objectives = schema == null ? objectivesProvider.get() : schema.create();
 		for (Evaluator<Object> evaluator : evaluators) {
 			Objectives obj = evaluator.evaluate(phenotype);
+			if (schema != null && !contains(schema, obj)) {
+				// the objectives changed, continue without a schema
+				Objectives o = objectivesProvider.get();
+				o.addAll(objectives);
+				objectives = o;
+				schema = null;
+				this.schema = null;
+				this.dynamic = true;
+			}
 			objectives.addAll(obj);
 		}
+		if (schema == null && !dynamic && objectives.getClass() == Objectives.class) {
+			this.schema = new ObjectiveSchema(objectives.getKeys());
+		}
 		return objectives;
 	}
 
+	/**
+	 * Returns {@code true} if the {@link ObjectiveSchema} contains all
+	 * {@link Objective}s of the {@link Objectives}.
+	 * 
+	 * @param schema
+	 *            the schema
+	 * @param objectives
+	 *            the objectives
+	 * @return {@code true} if all objectives are contained
+	 */
+	protected boolean contains(ObjectiveSchema schema, Objectives objectives) {
+		if (objectives.getSchema() == schema) {
+			return true;
+		}
+		for (Objective objective : objectives.getKeys()) {
+			if (schema.indexOf(objective) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private static class PriorityComparator implements Comparator<Evaluator<Object>> {
 
 		@Override
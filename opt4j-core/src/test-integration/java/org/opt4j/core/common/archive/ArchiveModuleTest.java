@@ -43,6 +43,17 @@ public class ArchiveModuleTest extends AbstractArchiveOptimalityTester {
 		archiveOptimalityTest(crowding);
 	}
 
+	/**
+	 * Tests the {@link CrowdingArchive} in the incremental mode.
+	 */
+	@Test
+	public void incrementalCrowdingArchive() {
+		ArchiveModule crowding = new ArchiveModule();
+		crowding.setType(Type.CROWDING);
+		crowding.setIncremental(true);
+		archiveOptimalityTest(crowding);
+	}
+
 	/**
 	 * Tests the {@link UnboundedArchive}.
 	 */
@@ -1,75 +1,199 @@
-/*******************************************************************************
- * Copyright (c) 2014 Opt4J
- *
- * Permission is hereby granted, free of charge, to any person obtaining a copy
- * of this software and associated documentation files (the "Software"), to deal
- * in the Software without restriction, including without limitation the rights
- * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
- * copies of the Software, and to permit persons to whom the Software is
- * furnished to do so, subject to the following conditions:
- *
- * The above copyright notice and this permission notice shall be included in all
- * copies or substantial portions of the Software.
- *
- * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
- * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
- * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
- * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
- * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
- * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
- * SOFTWARE.
- *******************************************************************************/
-package org.opt4j.common.random;
-
-
-
-import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.Test;
-import org.opt4j.core.common.random.Rand;
-import org.opt4j.core.common.random.RandomJava;
-import org.opt4j.core.common.random.RandomMersenneTwister;
-
-public class RandomTest {
-
-	protected static final int SAMPLES = 10000;
-
-	@Test
-	public void testConsistencyRandomMersenneTwister() {
-		RandomMersenneTwister r0 = new RandomMersenneTwister(123);
-		RandomMersenneTwister r1 = new RandomMersenneTwister(123);
-		Assertions.assertTrue(testConsistency(r0, r1));
-	}
-
-	@Test
-	public void testConsistencyRandomJava() {
-		RandomJava r0 = new RandomJava(123);
-		RandomJava r1 = new RandomJava(123);
-		Assertions.assertTrue(testConsistency(r0, r1));
-	}
-
-	public boolean testConsistency(Rand r0, Rand r1) {
-		for (int i = 0; i < SAMPLES; i++) {
-			Assertions.assertEquals(r0.nextDouble(), r1.nextDouble(), 0.0);
-		}
-		for (int i = 0; i < SAMPLES; i++) {
-			Assertions.assertEquals(r0.nextBoolean(), r1.nextBoolean());
-		}
-		for (int i = 0; i < SAMPLES; i++) {
-			Assertions.assertEquals(r0.nextInt(), r1.nextInt());
-		}
-		for (int i = 0; i < SAMPLES; i++) {
-			Assertions.assertEquals(r0.nextInt(100), r1.nextInt(100));
-		}
-		for (int i = 0; i < SAMPLES; i++) {
-			Assertions.assertEquals(r0.nextFloat(), r1.nextFloat(), 0.0);
-		}
-		for (int i = 0; i < SAMPLES; i++) {
-			Assertions.assertEquals(r0.nextLong(), r1.nextLong());
-		}
-		for (int i = 0; i < SAMPLES; i++) {
-			Assertions.assertEquals(r0.nextGaussian(), r1.nextGaussian(), 0.0);
-		}
-
-		return true;
-	}
-}
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package org.opt4j.common.random;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.common.random.RandomJava;
+import org.opt4j.core.common.random.RandomL64X128;
+import org.opt4j.core.common.random.RandomMersenneTwister;
+import org.opt4j.core.common.random.RandomModule;
+import org.opt4j.core.common.random.RandomModule.RandType;
+import org.opt4j.core.common.random.RandomSplittable;
+import org.opt4j.core.common.random.RandomThreadLocal;
+
+import com.google.inject.Guice;
+
+public class RandomTest {
+
+	protected static final int SAMPLES = 10000;
+
+	@Test
+	public void testConsistencyRandomMersenneTwister() {
+		RandomMersenneTwister r0 = new RandomMersenneTwister(123);
+		RandomMersenneTwister r1 = new RandomMersenneTwister(123);
+		Assertions.assertTrue(testConsistency(r0, r1));
+	}
+
+	@Test
+	public void testConsistencyRandomJava() {
+		RandomJava r0 = new RandomJava(123);
+		RandomJava r1 = new RandomJava(123);
+		Assertions.assertTrue(testConsistency(r0, r1));
+	}
+
+	@Test
+	public void testConsistencyRandomSplittable() {
+		RandomSplittable r0 = new RandomSplittable(123);
+		RandomSplittable r1 = new RandomSplittable(123);
+		Assertions.assertTrue(testConsistency(r0, r1));
+	}
+
+	@Test
+	public void testConsistencyRandomL64X128() {
+		RandomL64X128 r0 = new RandomL64X128(123);
+		RandomL64X128 r1 = new RandomL64X128(123);
+		Assertions.assertTrue(testConsistency(r0, r1));
+	}
+
+	@Test
+	public void testThreadLocalStreams() throws Exception {
+		double[] first = sampleThreads(new RandomL64X128(5));
+		double[] second = sampleThreads(new RandomL64X128(5));
+		Assertions.assertArrayEquals(first, second, 0.0);
+		Assertions.assertNotEquals(first[0], first[1]);
+	}
+
+	protected double[] sampleThreads(Rand random) throws Exception {
+		double[] values = new double[3];
+		values[0] = random.nextDouble();
+		for (int i = 1; i < values.length; i++) {
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			values[i] = executor.submit(() -> random.nextDouble()).get();
+			executor.shutdown();
+		}
+		return values;
+	}
+
+	@Test
+	public void testWorkerStreams() throws Exception {
+		double[][] first = sampleWorkers(new RandomL64X128(5));
+		double[][] second = sampleWorkers(new RandomL64X128(5));
+		for (int i = 0; i < first.length; i++) {
+			Assertions.assertArrayEquals(first[i], second[i], 0.0);
+		}
+		Assertions.assertNotEquals(first[0][0], first[1][0]);
+	}
+
+	/**
+	 * Starts several threads at once that are bound to their worker streams.
+	 */
+	protected double[][] sampleWorkers(RandomThreadLocal random) throws Exception {
+		final int threads = 4;
+		double[][] values = new double[threads][SAMPLES];
+		CyclicBarrier barrier = new CyclicBarrier(threads);
+		Thread[] workers = new Thread[threads];
+		for (int i = 0; i < threads; i++) {
+			final int worker = i;
+			workers[i] = new Thread(() -> {
+				try {
+					barrier.await();
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+				random.bind(worker);
+				for (int k = 0; k < SAMPLES; k++) {
+					values[worker][k] = random.nextDouble();
+				}
+			});
+		}
+		// start the workers in reverse order to change the timing
+		for (int i = threads - 1; i >= 0; i--) {
+			workers[i].start();
+		}
+		for (Thread thread : workers) {
+			thread.join();
+		}
+		return values;
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		RandomSplittable random = new RandomSplittable(11);
+		random.nextDouble();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(random);
+		}
+		RandomSplittable copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (RandomSplittable) in.readObject();
+		}
+		Assertions.assertTrue(testConsistency(new RandomSplittable(11), copy));
+	}
+
+	@Test
+	public void testSetSeed() {
+		RandomSplittable random = new RandomSplittable(7);
+		double value = random.nextDouble();
+		random.nextDouble();
+		random.setSeed(7);
+		Assertions.assertEquals(value, random.nextDouble(), 0.0);
+	}
+
+	@Test
+	public void testModule() {
+		RandomModule module = new RandomModule();
+		module.setType(RandType.SPLITTABLE);
+		Assertions.assertTrue(Guice.createInjector(module).getInstance(Rand.class) instanceof RandomSplittable);
+		module.setType(RandType.L64X128);
+		Assertions.assertTrue(Guice.createInjector(module).getInstance(Rand.class) instanceof RandomL64X128);
+	}
+
+	public boolean testConsistency(Rand r0, Rand r1) {
+		for (int i = 0; i < SAMPLES; i++) {
+			Assertions.assertEquals(r0.nextDouble(), r1.nextDouble(), 0.0);
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			Assertions.assertEquals(r0.nextBoolean(), r1.nextBoolean());
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			Assertions.assertEquals(r0.nextInt(), r1.nextInt());
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			Assertions.assertEquals(r0.nextInt(100), r1.nextInt(100));
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			Assertions.assertEquals(r0.nextFloat(), r1.nextFloat(), 0.0);
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			Assertions.assertEquals(r0.nextLong(), r1.nextLong());
+		}
+		for (int i = 0; i < SAMPLES; i++) {
+			Assertions.assertEquals(r0.nextGaussian(), r1.nextGaussian(), 0.0);
+		}
+
+		return true;
+	}
+}
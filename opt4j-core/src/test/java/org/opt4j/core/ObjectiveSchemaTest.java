@@ -0,0 +1,96 @@
+package org.opt4j.core;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Objective.Sign;
+
+public class ObjectiveSchemaTest {
+
+	protected final Objective a = new Objective("a", Sign.MIN);
+	protected final Objective b = new Objective("b", Sign.MAX);
+	protected final Objective c = new Objective("c", Sign.MIN);
+
+	@Test
+	public void schema() {
+		ObjectiveSchema schema = new ObjectiveSchema(c, a, b);
+		Assertions.assertEquals(3, schema.size());
+		Assertions.assertEquals(a, schema.get(0));
+		Assertions.assertEquals(2, schema.indexOf(c));
+		Assertions.assertEquals(-1, schema.indexOf(new Objective("d")));
+		Assertions.assertTrue(schema.isMaximized(1));
+		Assertions.assertFalse(schema.isMaximized(0));
+		assertThrows(IllegalArgumentException.class, () -> new ObjectiveSchema(a, new Objective("a", Sign.MAX)));
+	}
+
+	@Test
+	public void sameArrayAsMap() {
+		ObjectiveSchema schema = new ObjectiveSchema(a, b, c);
+		Objectives flat = schema.create();
+		Objectives map = new Objectives();
+		for (Objectives objectives : new Objectives[] { flat, map }) {
+			objectives.add(c, 3);
+			objectives.add(b, 2.5);
+			objectives.add(a, new DoubleValue(-1.0));
+		}
+		Assertions.assertSame(schema, flat.getSchema());
+		Assertions.assertNull(map.getSchema());
+		Assertions.assertArrayEquals(map.array(), flat.array());
+		Assertions.assertEquals(3, flat.size());
+		Assertions.assertEquals(map.getKeys().toString(), flat.getKeys().toString());
+
+		flat.add(b, 4.0);
+		Assertions.assertEquals(-4.0, flat.array()[1], 0.0);
+		Assertions.assertEquals(new DoubleValue(4.0), flat.get(b));
+		Assertions.assertEquals(new DoubleValue(3.0), flat.get(c));
+		Assertions.assertNull(flat.get(new Objective("d")));
+	}
+
+	@Test
+	public void compatibilityView() {
+		ObjectiveSchema schema = new ObjectiveSchema(a, b);
+		Objectives objectives = schema.create();
+		IntegerValue value = new IntegerValue(7);
+		objectives.add(b, value);
+
+		Assertions.assertSame(value, objectives.get(b));
+		Assertions.assertEquals(b, objectives.get(value));
+		Assertions.assertEquals(new DoubleValue(null), objectives.get(a));
+		Assertions.assertEquals(Double.MAX_VALUE, objectives.array()[0], 0.0);
+
+		Iterator<Entry<Objective, Value<?>>> it = objectives.iterator();
+		Assertions.assertEquals(a, it.next().getKey());
+		Assertions.assertEquals(value, it.next().getValue());
+		Assertions.assertFalse(it.hasNext());
+		Assertions.assertEquals(2, objectives.getValues().size());
+
+		objectives.add(a, Objective.INFEASIBLE);
+		Assertions.assertNull(objectives.get(a).getDouble());
+		assertThrows(IllegalArgumentException.class, () -> objectives.add(new Objective("d"), 1.0));
+	}
+
+	@Test
+	public void dominance() {
+		ObjectiveSchema schema = new ObjectiveSchema(a, b);
+		Objectives o1 = schema.create();
+		o1.add(a, 1.0);
+		o1.add(b, 2.0);
+		Objectives o2 = new Objectives();
+		o2.add(a, 1.0);
+		o2.add(b, 1.0);
+		Assertions.assertTrue(o1.dominates(o2));
+		Assertions.assertTrue(o1.weaklyDominates(o2));
+		Assertions.assertFalse(o2.weaklyDominates(o1));
+
+		Objectives o3 = schema.create();
+		o3.addAll(o2);
+		Assertions.assertTrue(o3.isEqual(o2));
+		Objectives o4 = new Objectives();
+		o4.addAll(o1);
+		Assertions.assertTrue(o4.isEqual(o1));
+	}
+}
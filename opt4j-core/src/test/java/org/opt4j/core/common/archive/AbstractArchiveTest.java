@@ -3,6 +3,7 @@ package org.opt4j.core.common.archive;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -128,6 +129,53 @@ public class AbstractArchiveTest {
 		Assertions.assertTrue(list.contains(i0));
 	}
 
+	/**
+	 * Tests {@link AbstractArchive#removeDominatedCandidates(List)} with random
+	 * candidates that contain many equal objectives. Of the candidates with
+	 * equal objectives, the last one is kept.
+	 */
+	@Test
+	public void removeDominatedCandidatesRandomTest() {
+		Injector injector = Guice.createInjector(new MockProblemModule());
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+
+		Objective o0 = new Objective("o0");
+		Objective o1 = new Objective("o1");
+		Objective o2 = new Objective("o2");
+
+		TestArchive archive = new TestArchive();
+		Random random = new Random(0);
+
+		for (int run = 0; run < 100; run++) {
+			List<Individual> list = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				Individual individual = factory.create();
+				Objectives objectives = new Objectives();
+				objectives.add(o0, random.nextInt(4));
+				objectives.add(o1, random.nextInt(4));
+				objectives.add(o2, random.nextInt(4));
+				individual.setObjectives(objectives);
+				list.add(individual);
+			}
+
+			List<Individual> expected = new ArrayList<>();
+			for (int i = 0; i < list.size(); i++) {
+				Objectives objectives = list.get(i).getObjectives();
+				boolean keep = true;
+				for (int j = 0; j < list.size() && keep; j++) {
+					Objectives other = list.get(j).getObjectives();
+					keep = !other.dominates(objectives) && !(j > i && other.isEqual(objectives));
+				}
+				if (keep) {
+					expected.add(list.get(i));
+				}
+			}
+
+			archive.removeDominatedCandidates(list);
+			Assertions.assertEquals(expected, list);
+		}
+	}
+
 	/**
 	 * Tests {@link AbstractArchive#removeArchiveDominated(List)} with two
 	 * nondominated individuals.
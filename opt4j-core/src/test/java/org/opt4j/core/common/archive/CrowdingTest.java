@@ -0,0 +1,74 @@
+package org.opt4j.core.common.archive;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.Objective;
+import org.opt4j.core.Objectives;
+
+public class CrowdingTest {
+
+	protected static List<Individual> createFront(Random random, int n, int m) {
+		Objective[] objective = new Objective[m];
+		for (int k = 0; k < m; k++) {
+			objective[k] = new Objective("o" + k);
+		}
+		List<Individual> front = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			Objectives objectives = new Objectives();
+			for (int k = 0; k < m; k++) {
+				objectives.add(objective[k], random.nextInt(20));
+			}
+			Individual individual = mock(Individual.class);
+			when(individual.getObjectives()).thenReturn(objectives);
+			front.add(individual);
+		}
+		return front;
+	}
+
+	@Test
+	public void getDensityValues() {
+		List<Individual> front = createFront(new Random(0), 5, 2);
+		double[][] objectives = { { 0, 4 }, { 1, 3 }, { 3, 1 }, { 4, 0 }, { 2, 2 } };
+		double[] values = new Crowding().getDensityValues(objectives);
+		Assertions.assertEquals(Double.MAX_VALUE, values[0]);
+		Assertions.assertEquals(Double.MAX_VALUE, values[3]);
+		Assertions.assertEquals(1.0, values[1], 1e-12);
+		Assertions.assertEquals(1.0, values[2], 1e-12);
+		Assertions.assertEquals(1.0, values[4], 1e-12);
+		Assertions.assertArrayEquals(values, new Crowding().getDensityValues(objectives, front));
+		Assertions.assertEquals(0, new Crowding().getDensityValues(new double[0][]).length);
+	}
+
+	@Test
+	public void mapAdapter() {
+		Random random = new Random(1);
+		Crowding crowding = new Crowding();
+		for (int m = 1; m <= 3; m++) {
+			List<Individual> front = createFront(random, 50, m);
+			double[] values = crowding.getDensityValues(FrontDensityIndicator.toMatrix(front));
+			Map<Individual, Double> map = crowding.getDensityValues(front);
+			for (int i = 0; i < front.size(); i++) {
+				Assertions.assertEquals(values[i], map.get(front.get(i)), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void order() {
+		double[] values = { 0.5, Double.MAX_VALUE, 0.1, 0.5, 2.0 };
+		Assertions.assertArrayEquals(new int[] { 1, 4, 0, 3, 2 }, new Crowding().order(values));
+
+		int[] order = { 0, 1, 2, 3, 4 };
+		Crowding.sort(order, values, new int[5]);
+		Assertions.assertArrayEquals(new int[] { 2, 0, 3, 4, 1 }, order);
+	}
+}
@@ -0,0 +1,127 @@
+package org.opt4j.core.common.archive;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.Objective;
+import org.opt4j.core.Objectives;
+import org.opt4j.core.common.archive.CrowdingArchiveTest.MockProblemModule;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class IncrementalCrowdingTest {
+
+	protected final Objective[] objectives = { new Objective("o0"), new Objective("o1"), new Objective("o2") };
+
+	protected Individual create(IndividualFactory factory, Random random, int m) {
+		Individual individual = factory.create();
+		Objectives o = new Objectives();
+		double sum = 0;
+		for (int k = 0; k < m - 1; k++) {
+			double value = random.nextDouble();
+			sum += value;
+			o.add(objectives[k], value);
+		}
+		o.add(objectives[m - 1], m - sum);
+		individual.setObjectives(o);
+		return individual;
+	}
+
+	@Test
+	public void sameDistancesAsCrowding() {
+		Injector injector = Guice.createInjector(new MockProblemModule());
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Random random = new Random(0);
+
+		for (int m = 2; m <= 3; m++) {
+			IncrementalCrowding incremental = new IncrementalCrowding();
+			List<Individual> individuals = new ArrayList<>();
+			for (int step = 0; step < 300; step++) {
+				if (individuals.size() > 3 && random.nextInt(3) == 0) {
+					Individual removed = individuals.remove(random.nextInt(individuals.size()));
+					Assertions.assertTrue(incremental.remove(removed));
+				} else {
+					Individual added = create(factory, random, m);
+					individuals.add(added);
+					Assertions.assertTrue(incremental.add(added));
+					Assertions.assertFalse(incremental.add(added));
+				}
+				Assertions.assertEquals(individuals.size(), incremental.size());
+
+				Map<Individual, Double> expected = new Crowding().getDensityValues(individuals);
+				for (Individual individual : individuals) {
+					double value = expected.get(individual);
+					if (value >= Double.MAX_VALUE) {
+						Assertions.assertEquals(Double.POSITIVE_INFINITY, incremental.getDistance(individual));
+					} else {
+						Assertions.assertEquals(value, incremental.getDistance(individual), 1e-9);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void removeWorst() {
+		Injector injector = Guice.createInjector(new MockProblemModule());
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Random random = new Random(1);
+
+		IncrementalCrowding incremental = new IncrementalCrowding();
+		List<Individual> individuals = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			Individual individual = create(factory, random, 2);
+			individuals.add(individual);
+			incremental.add(individual);
+		}
+		while (incremental.size() > 2) {
+			Map<Individual, Double> expected = new Crowding().getDensityValues(individuals);
+			double min = Double.POSITIVE_INFINITY;
+			for (double value : expected.values()) {
+				min = Math.min(min, value);
+			}
+			Individual worst = incremental.removeWorst();
+			Assertions.assertEquals(min, expected.get(worst), 1e-9);
+			individuals.remove(worst);
+		}
+		incremental.clear();
+		Assertions.assertNull(incremental.removeWorst());
+	}
+
+	@Test
+	public void incrementalArchive() {
+		Injector injector = Guice.createInjector(new MockProblemModule());
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Random random = new Random(2);
+
+		CrowdingArchive archive = new CrowdingArchive(20, true);
+		Assertions.assertTrue(archive.isIncremental());
+		Assertions.assertFalse(new CrowdingArchive(20).isIncremental());
+
+		for (int generation = 0; generation < 30; generation++) {
+			Set<Individual> offspring = new HashSet<>();
+			for (int i = 0; i < 10; i++) {
+				offspring.add(create(factory, random, 2));
+			}
+			archive.update(offspring);
+			Assertions.assertTrue(archive.size() <= 20);
+			Assertions.assertEquals(archive.size(), archive.crowding.size());
+			for (Individual individual : archive) {
+				Assertions.assertTrue(archive.crowding.contains(individual));
+			}
+		}
+		Assertions.assertEquals(20, archive.size());
+
+		archive.clear();
+		Assertions.assertEquals(0, archive.crowding.size());
+	}
+}
@@ -0,0 +1,106 @@
+package org.opt4j.core.common.archive;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.IndividualSet;
+import org.opt4j.core.IndividualSetListener;
+import org.opt4j.core.Objective;
+import org.opt4j.core.Objectives;
+import org.opt4j.core.common.archive.CrowdingArchiveTest.MockProblemModule;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class IndexedArchiveTest {
+
+	protected final Objective[] objectives = { new Objective("o0"), new Objective("o1"), new Objective("o2") };
+
+	protected Individual create(IndividualFactory factory, double... values) {
+		Individual individual = factory.create();
+		Objectives o = new Objectives();
+		for (int k = 0; k < values.length; k++) {
+			o.add(objectives[k], values[k]);
+		}
+		individual.setObjectives(o);
+		return individual;
+	}
+
+	@Test
+	public void updateSameAsUnbounded() {
+		Injector injector = Guice.createInjector(new MockProblemModule());
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Random random = new Random(0);
+
+		for (int m = 2; m <= 3; m++) {
+			IndexedArchive indexed = new IndexedArchive();
+			UnboundedArchive unbounded = new UnboundedArchive();
+
+			for (int generation = 0; generation < 50; generation++) {
+				Set<Individual> offspring = new HashSet<>();
+				for (int i = 0; i < 40; i++) {
+					double[] values = new double[m];
+					double sum = 0;
+					for (int k = 0; k < m - 1; k++) {
+						values[k] = random.nextInt(100);
+						sum += values[k];
+					}
+					values[m - 1] = 200 - sum + random.nextInt(10) - generation * 0.1;
+					offspring.add(create(factory, values));
+				}
+				Assertions.assertEquals(unbounded.update(offspring), indexed.update(offspring));
+				Assertions.assertEquals(new HashSet<>(unbounded), new HashSet<>(indexed));
+				Assertions.assertEquals(indexed.size(), indexed.tree.size());
+			}
+			Assertions.assertTrue(indexed.size() > 20);
+		}
+	}
+
+	@Test
+	public void listenersAndRemoval() {
+		Injector injector = Guice.createInjector(new MockProblemModule());
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+
+		IndexedArchive archive = new IndexedArchive();
+		final List<Individual> added = new ArrayList<>();
+		final List<Individual> removed = new ArrayList<>();
+		archive.addListener(new IndividualSetListener() {
+			@Override
+			public void individualAdded(IndividualSet collection, Individual individual) {
+				added.add(individual);
+			}
+
+			@Override
+			public void individualRemoved(IndividualSet collection, Individual individual) {
+				removed.add(individual);
+			}
+		});
+
+		Individual i0 = create(factory, 2, 2);
+		Individual i1 = create(factory, 1, 3);
+		Individual i2 = create(factory, 1, 1);
+		Individual i3 = create(factory, 2, 2);
+
+		Assertions.assertTrue(archive.update(i0));
+		Assertions.assertTrue(archive.update(i1));
+		Assertions.assertFalse(archive.update(i3));
+		Assertions.assertTrue(archive.update(i2));
+		Assertions.assertEquals(List.of(i0, i1, i2), added);
+		Assertions.assertEquals(Set.of(i0, i1), new HashSet<>(removed));
+		Assertions.assertEquals(Set.of(i2), new HashSet<>(archive));
+
+		archive.remove(i2);
+		Assertions.assertTrue(archive.update(i0));
+		Assertions.assertTrue(archive.tree.contains(i0));
+		Assertions.assertFalse(archive.tree.contains(i2));
+		archive.clear();
+		Assertions.assertEquals(0, archive.tree.size());
+	}
+}
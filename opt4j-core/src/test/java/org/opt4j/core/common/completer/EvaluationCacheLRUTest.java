@@ -0,0 +1,116 @@
+package org.opt4j.core.common.completer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.Objectives;
+import org.opt4j.core.common.completer.SequentialIndividualCompleterTest.MockProblemModule;
+import org.opt4j.core.common.metrics.Metrics;
+import org.opt4j.core.common.metrics.MetricsModule;
+import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.core.genotype.IntegerGenotype;
+import org.opt4j.core.optimizer.TerminationException;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class EvaluationCacheLRUTest {
+
+	@Test
+	public void invalidCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new EvaluationCacheLRU(0));
+		assertThrows(IllegalArgumentException.class, () -> new IndividualCompleterModule().setCacheCapacity(0));
+	}
+
+	@Test
+	public void disabledByDefault() {
+		Injector injector = Guice.createInjector(new MockProblemModule(), new IndividualCompleterModule());
+		Assertions.assertEquals(EvaluationCacheDisabled.class, injector.getInstance(EvaluationCache.class).getClass());
+	}
+
+	@Test
+	public void complete() throws TerminationException {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setCaching(true);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Individual i1 = factory.create();
+		Individual i2 = factory.create();
+
+		SequentialIndividualCompleter completer = injector.getInstance(SequentialIndividualCompleter.class);
+		EvaluationCache cache = injector.getInstance(EvaluationCache.class);
+		Assertions.assertEquals(EvaluationCacheLRU.class, cache.getClass());
+
+		completer.complete(i1);
+		Assertions.assertEquals(0, cache.getHits());
+		Assertions.assertEquals(1, cache.getMisses());
+		Assertions.assertEquals(1, cache.size());
+
+		completer.complete(i2);
+		Assertions.assertTrue(i2.isEvaluated());
+		Assertions.assertSame(i1.getObjectives(), i2.getObjectives());
+		Assertions.assertSame(i1.getPhenotype(), i2.getPhenotype());
+		Assertions.assertEquals(1, cache.getHits());
+		Assertions.assertEquals(0.5, cache.getHitRate());
+	}
+
+	@Test
+	public void evict() {
+		EvaluationCacheLRU cache = new EvaluationCacheLRU(2);
+		IndividualFactory factory = Guice.createInjector(new MockProblemModule()).getInstance(IndividualFactory.class);
+
+		for (int i = 0; i < 3; i++) {
+			IntegerGenotype genotype = new IntegerGenotype(0, 10);
+			genotype.add(i);
+			Individual individual = factory.create(genotype);
+			individual.setPhenotype(i);
+			individual.setObjectives(new Objectives());
+			cache.put(individual);
+		}
+		Assertions.assertEquals(2, cache.size());
+
+		IntegerGenotype genotype = new IntegerGenotype(0, 10);
+		genotype.add(0);
+		Assertions.assertFalse(cache.lookup(factory.create(genotype)));
+
+		genotype = new IntegerGenotype(0, 10);
+		genotype.add(2);
+		Individual individual = factory.create(genotype);
+		Assertions.assertTrue(cache.lookup(individual));
+		Assertions.assertEquals(2, individual.getPhenotype());
+	}
+
+	@Test
+	public void differentGenotypeClasses() {
+		EvaluationCacheLRU cache = new EvaluationCacheLRU(2);
+		IndividualFactory factory = Guice.createInjector(new MockProblemModule()).getInstance(IndividualFactory.class);
+
+		Individual individual = factory.create(new BooleanGenotype());
+		individual.setPhenotype("boolean");
+		individual.setObjectives(new Objectives());
+		cache.put(individual);
+
+		Assertions.assertFalse(cache.lookup(factory.create(new DoubleGenotype())));
+		Assertions.assertTrue(cache.lookup(factory.create(new BooleanGenotype())));
+	}
+
+	@Test
+	public void metrics() throws TerminationException {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setCaching(true);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module, new MetricsModule());
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		SequentialIndividualCompleter completer = injector.getInstance(SequentialIndividualCompleter.class);
+		completer.complete(factory.create(), factory.create(), factory.create());
+
+		Metrics metrics = injector.getInstance(Metrics.class);
+		Assertions.assertEquals(2, metrics.counter(Metrics.CACHE_HITS).getCount());
+		Assertions.assertEquals(1, metrics.counter(Metrics.CACHE_MISSES).getCount());
+	}
+}
@@ -39,4 +39,26 @@ public class IndividualCompleterModuleTest {
 
 		Assertions.assertEquals(ParallelIndividualCompleter.class, completer.getClass());
 	}
+
+	@Test
+	public void configVirtual() {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.VIRTUAL);
+
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+		IndividualCompleter completer = injector.getInstance(IndividualCompleter.class);
+
+		Assertions.assertEquals(VirtualIndividualCompleter.class, completer.getClass());
+	}
+
+	@Test
+	public void configPipelined() {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.PIPELINED);
+
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+		IndividualCompleter completer = injector.getInstance(IndividualCompleter.class);
+
+		Assertions.assertEquals(PipelinedIndividualCompleter.class, completer.getClass());
+	}
 }
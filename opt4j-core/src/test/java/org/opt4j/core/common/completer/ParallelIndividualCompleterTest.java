@@ -61,4 +61,21 @@ public class ParallelIndividualCompleterTest {
 
 		completer.complete(i1);
 	}
+
+	@Test
+	public void completeAsync() throws Exception {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.PARALLEL);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Individual i1 = factory.create();
+
+		ParallelIndividualCompleter completer = injector.getInstance(ParallelIndividualCompleter.class);
+
+		Assertions.assertSame(i1, completer.completeAsync(i1).get());
+		Assertions.assertTrue(i1.isEvaluated());
+		Assertions.assertTrue(completer.completeAsync(i1).isDone());
+		completer.optimizationStopped(null);
+	}
 }
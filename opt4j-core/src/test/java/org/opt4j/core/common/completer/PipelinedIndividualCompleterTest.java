@@ -0,0 +1,133 @@
+package org.opt4j.core.common.completer;
+
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.Individual.State;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.common.completer.IndividualCompleterModule.Type;
+import org.opt4j.core.common.completer.PipelinedIndividualCompleter.Stage;
+import org.opt4j.core.common.completer.SequentialIndividualCompleterTest.MockProblemModule;
+import org.opt4j.core.optimizer.Control;
+import org.opt4j.core.optimizer.TerminationException;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class PipelinedIndividualCompleterTest {
+
+	@Test
+	public void invalidThreadCount() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			IndividualCompleterModule module = new IndividualCompleterModule();
+			module.setDecodeThreads(0);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			IndividualCompleterModule module = new IndividualCompleterModule();
+			module.setEvaluateThreads(0);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			IndividualCompleterModule module = new IndividualCompleterModule();
+			module.setBufferSize(0);
+		});
+	}
+
+	@Test
+	public void complete() throws TerminationException {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.PIPELINED);
+		module.setDecodeThreads(3);
+		module.setEvaluateThreads(2);
+		module.setBufferSize(1);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		List<Individual> individuals = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			individuals.add(factory.create());
+		}
+		individuals.get(0).setPhenotype("my phenotype");
+
+		PipelinedIndividualCompleter completer = injector.getInstance(PipelinedIndividualCompleter.class);
+
+		completer.complete(individuals);
+		for (Individual individual : individuals) {
+			Assertions.assertTrue(individual.isEvaluated());
+		}
+		Assertions.assertTrue(completer.getUtilization(Stage.DECODE) >= 0);
+		Assertions.assertTrue(completer.getUtilization(Stage.EVALUATE) >= 0);
+
+		completer.complete(individuals);
+		completer.optimizationStopped(null);
+		Assertions.assertTrue(completer.executor.isShutdown());
+	}
+
+	@Test
+	public void completeTerminated() {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.PIPELINED);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Individual i1 = factory.create();
+		Individual i2 = factory.create();
+
+		injector.getInstance(Control.class).doTerminate();
+		PipelinedIndividualCompleter completer = injector.getInstance(PipelinedIndividualCompleter.class);
+
+		assertThrows(TerminationException.class, () -> completer.complete(i1, i2));
+		Assertions.assertEquals(State.GENOTYPED, i1.getState());
+		completer.optimizationStopped(null);
+	}
+
+	@Test
+	public void completeAsync() throws Exception {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.PIPELINED);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Individual i1 = factory.create();
+
+		PipelinedIndividualCompleter completer = injector.getInstance(PipelinedIndividualCompleter.class);
+
+		Assertions.assertSame(i1, completer.completeAsync(i1).get());
+		Assertions.assertTrue(i1.isEvaluated());
+		Assertions.assertTrue(completer.completeAsync(i1).isDone());
+		completer.optimizationStopped(null);
+	}
+
+	@Test
+	public void decodeWorkerInterrupted() throws InterruptedException {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.PIPELINED);
+		module.setBufferSize(1);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		PipelinedIndividualCompleter completer = injector.getInstance(PipelinedIndividualCompleter.class);
+
+		// a full evaluation queue blocks the decoding worker
+		completer.evaluateQueue.add(new PipelinedIndividualCompleter.Task(factory.create(),
+				new PipelinedIndividualCompleter.Batch(1)));
+		PipelinedIndividualCompleter.Batch batch = new PipelinedIndividualCompleter.Batch(1);
+		completer.decodeQueue.add(new PipelinedIndividualCompleter.Task(factory.create(), batch));
+
+		Thread worker = new Thread(completer.new DecodeWorker());
+		worker.start();
+		while (!completer.decodeQueue.isEmpty() || worker.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+		worker.interrupt();
+		worker.join();
+
+		Assertions.assertEquals(0, batch.latch.getCount());
+		Assertions.assertTrue(batch.failure.get() instanceof InterruptedException);
+	}
+}
@@ -0,0 +1,116 @@
+package org.opt4j.core.common.completer;
+
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.common.completer.IndividualCompleterModule.Type;
+import org.opt4j.core.common.completer.SequentialIndividualCompleterTest.MockProblemModule;
+import org.opt4j.core.optimizer.Control;
+import org.opt4j.core.optimizer.TerminationException;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class VirtualIndividualCompleterTest {
+
+	@Test
+	public void invalidPermitCount() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			IndividualCompleterModule module = new IndividualCompleterModule();
+			module.setPermits(0);
+		});
+	}
+
+	@Test
+	public void optimizationStopped() {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.VIRTUAL);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		VirtualIndividualCompleter completer = injector.getInstance(VirtualIndividualCompleter.class);
+
+		completer.optimizationStopped(null);
+		Assertions.assertTrue(completer.executor.isShutdown());
+	}
+
+	@Test
+	public void complete() throws TerminationException {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setPermits(1);
+		module.setType(Type.VIRTUAL);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Individual i1 = factory.create();
+		Individual i2 = factory.create();
+		Individual i3 = factory.create();
+
+		VirtualIndividualCompleter completer = injector.getInstance(VirtualIndividualCompleter.class);
+
+		completer.complete(i1, i2, i3);
+		Assertions.assertTrue(i1.isEvaluated());
+		Assertions.assertTrue(i2.isEvaluated());
+		Assertions.assertTrue(i3.isEvaluated());
+		Assertions.assertEquals(1, completer.permits.availablePermits());
+
+		completer.complete(i1);
+	}
+
+	@Test
+	public void completeTerminated() {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.VIRTUAL);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Individual i1 = factory.create();
+
+		injector.getInstance(Control.class).doTerminate();
+		VirtualIndividualCompleter completer = injector.getInstance(VirtualIndividualCompleter.class);
+
+		assertThrows(TerminationException.class, () -> completer.complete(i1));
+		Assertions.assertFalse(i1.isEvaluated());
+	}
+
+	@Test
+	public void completeAsync() throws Exception {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setType(Type.VIRTUAL);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Individual i1 = factory.create();
+
+		VirtualIndividualCompleter completer = injector.getInstance(VirtualIndividualCompleter.class);
+
+		Assertions.assertSame(i1, completer.completeAsync(i1).get());
+		Assertions.assertTrue(i1.isEvaluated());
+		Assertions.assertTrue(completer.completeAsync(i1).isDone());
+		completer.optimizationStopped(null);
+	}
+
+	@Test
+	public void completeRejected() {
+		IndividualCompleterModule module = new IndividualCompleterModule();
+		module.setPermits(1);
+		module.setType(Type.VIRTUAL);
+		Injector injector = Guice.createInjector(new MockProblemModule(), module);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		Individual i1 = factory.create();
+
+		VirtualIndividualCompleter completer = injector.getInstance(VirtualIndividualCompleter.class);
+		completer.optimizationStopped(null);
+
+		assertThrows(RejectedExecutionException.class, () -> completer.complete(i1));
+		Assertions.assertEquals(1, completer.permits.availablePermits());
+		assertThrows(RejectedExecutionException.class, () -> completer.completeAsync(i1));
+		Assertions.assertEquals(1, completer.permits.availablePermits());
+	}
+}
@@ -0,0 +1,86 @@
+package org.opt4j.core.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class MetricsDefaultTest {
+
+	@Test
+	public void testCounter() {
+		MetricsDefault metrics = new MetricsDefault();
+		Assertions.assertTrue(metrics.isEnabled());
+		Counter counter = metrics.counter("a");
+		Assertions.assertSame(counter, metrics.counter("a"));
+		counter.increment();
+		counter.add(4);
+		Assertions.assertEquals(5, metrics.getCounters().get("a").getCount());
+	}
+
+	@Test
+	public void testTimer() {
+		MetricsDefault metrics = new MetricsDefault();
+		Timer timer = metrics.timer("t");
+		timer.record(10);
+		timer.record(30);
+		long start = timer.start();
+		timer.stop(start);
+		Assertions.assertEquals(3, timer.getCount());
+		Assertions.assertTrue(timer.getTotalTime() >= 40);
+		Assertions.assertTrue(timer.getMaxTime() >= 30);
+		Assertions.assertEquals(1, metrics.getTimers().size());
+	}
+
+	@Test
+	public void testHistogram() {
+		MetricsDefault metrics = new MetricsDefault();
+		Histogram histogram = metrics.histogram("h");
+		histogram.record(5);
+		histogram.record(2);
+		histogram.record(9);
+		Assertions.assertEquals(3, histogram.getCount());
+		Assertions.assertEquals(16, histogram.getSum());
+		Assertions.assertEquals(2, histogram.getMin());
+		Assertions.assertEquals(9, histogram.getMax());
+		Assertions.assertEquals(9, histogram.getLast());
+	}
+
+	@Test
+	public void testDisabled() {
+		Metrics metrics = Guice.createInjector().getInstance(Metrics.class);
+		Assertions.assertFalse(metrics.isEnabled());
+		metrics.timer(Metrics.ITERATION).record(10);
+		metrics.counter(Metrics.ARCHIVE_CHANGED).increment();
+		Assertions.assertEquals(0, metrics.timer(Metrics.ITERATION).getCount());
+		Assertions.assertTrue(metrics.getTimers().isEmpty());
+	}
+
+	@Test
+	public void testModule() {
+		MetricsModule module = new MetricsModule();
+		module.setJmx(true);
+		Injector injector = Guice.createInjector(module);
+		Metrics metrics = injector.getInstance(Metrics.class);
+		Assertions.assertTrue(metrics instanceof MetricsDefault);
+		Assertions.assertSame(metrics, injector.getInstance(Metrics.class));
+	}
+
+	@Test
+	public void testLoggerFormat() {
+		MetricsDefault metrics = new MetricsDefault();
+		metrics.timer(Metrics.EVALUATE).record(2000000);
+		metrics.counter(Metrics.ARCHIVE_CHANGED).add(3);
+		metrics.histogram(Metrics.ARCHIVE_SIZE).record(7);
+		MetricsLogger logger = new MetricsLogger(metrics, 1);
+		String line = logger.format(4);
+		Assertions.assertTrue(line.startsWith("iteration 4"));
+		Assertions.assertTrue(line.contains("evaluator.evaluate count=1 total=2.000ms"));
+		Assertions.assertTrue(line.contains("archive.changed count=3"));
+		Assertions.assertTrue(line.contains("archive.size last=7"));
+		assertThrows(IllegalArgumentException.class, () -> new MetricsLogger(metrics, 0));
+	}
+}
@@ -124,4 +124,23 @@ public class CompositeGenotypeTest {
 
 		Assertions.assertEquals("[one=[];two=[];]", composite.toString());
 	}
+
+	@Test
+	public void equalsContent() {
+		CompositeGenotype<String, Genotype> composite1 = new CompositeGenotype<String, Genotype>();
+		IntegerGenotype one = new IntegerGenotype(0, 2);
+		one.add(1);
+		composite1.put("one", one);
+
+		CompositeGenotype<String, Genotype> composite2 = new CompositeGenotype<String, Genotype>();
+		IntegerGenotype other = new IntegerGenotype(0, 2);
+		other.add(1);
+		composite2.put("one", other);
+
+		Assertions.assertEquals(composite1, composite2);
+		Assertions.assertEquals(composite1.hashCode(), composite2.hashCode());
+
+		other.set(0, 2);
+		Assertions.assertNotEquals(composite1, composite2);
+	}
 }
@@ -0,0 +1,121 @@
+package org.opt4j.core.genotype;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DoubleArrayGenotypeTest {
+
+	@Test
+	public void testInit() {
+		Random rand = new Random(0);
+		double[] lowerBounds = { -1.0, -0.5, 0.0 };
+		double[] upperBounds = { -0.5, 0.0, 0.5 };
+		DoubleArrayGenotype genotype = new DoubleArrayGenotype(new DoubleBounds(lowerBounds, upperBounds));
+		Assertions.assertTrue(genotype.isEmpty());
+		genotype.init(rand, 3);
+		Assertions.assertEquals(3, genotype.size());
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertTrue(genotype.getDouble(i) >= lowerBounds[i]);
+			Assertions.assertTrue(genotype.getDouble(i) <= upperBounds[i]);
+			Assertions.assertEquals(genotype.getDouble(i), genotype.get(i), 0.0);
+		}
+		assertThrows(IllegalArgumentException.class, () -> genotype.init(rand, 4));
+	}
+
+	@Test
+	public void testSameInitAsDoubleGenotype() {
+		DoubleArrayGenotype array = new DoubleArrayGenotype(0, 1);
+		DoubleGenotype list = new DoubleGenotype(0, 1);
+		array.init(new Random(7), 10);
+		list.init(new Random(7), 10);
+		Assertions.assertEquals(list, array);
+		Assertions.assertEquals(array, list);
+		Assertions.assertEquals(list.hashCode(), array.hashCode());
+	}
+
+	@Test
+	public void testNewInstance() {
+		DoubleArrayGenotype genotype = new DoubleArrayGenotype(0, 1);
+		genotype.init(new Random(), 5);
+		DoubleArrayGenotype other = genotype.newInstance();
+		Assertions.assertTrue(other.isEmpty());
+		other.init(new Random(), 5);
+		Assertions.assertEquals(5, other.size());
+	}
+
+	@Test
+	public void testListOperations() {
+		DoubleArrayGenotype genotype = new DoubleArrayGenotype();
+		List<Double> reference = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			genotype.add((double) i);
+			reference.add((double) i);
+		}
+		genotype.add(3, -1.0);
+		reference.add(3, -1.0);
+		genotype.remove(10);
+		reference.remove(10);
+		genotype.remove(Double.valueOf(5));
+		reference.remove(Double.valueOf(5));
+		genotype.set(0, 42.0);
+		reference.set(0, 42.0);
+		genotype.addAll(2, Arrays.asList(7.0, 8.0));
+		reference.addAll(2, Arrays.asList(7.0, 8.0));
+		genotype.removeIf(v -> v > 15);
+		reference.removeIf(v -> v > 15);
+		genotype.subList(1, 3).clear();
+		reference.subList(1, 3).clear();
+		Assertions.assertEquals(reference, genotype);
+		Assertions.assertEquals(reference.toString(), genotype.toString());
+		Assertions.assertEquals(reference.indexOf(7.0), genotype.indexOf(7.0));
+		Assertions.assertTrue(genotype.contains(reference.get(0)));
+		Assertions.assertFalse(genotype.contains(42.0));
+		Assertions.assertFalse(genotype.contains(5.0));
+
+		Iterator<Double> it = genotype.iterator();
+		while (it.hasNext()) {
+			if (it.next() < 10) {
+				it.remove();
+			}
+		}
+		reference.removeIf(v -> v < 10);
+		Assertions.assertEquals(reference, genotype);
+
+		genotype.clear();
+		Assertions.assertTrue(genotype.isEmpty());
+	}
+
+	@Test
+	public void testPrimitiveAccess() {
+		DoubleArrayGenotype genotype = new DoubleArrayGenotype();
+		genotype.setAll(new double[] { 1.0, 2.0, 3.0, 4.0 }, 3);
+		Assertions.assertEquals(3, genotype.size());
+		genotype.setDouble(1, 5.0);
+		genotype.addDouble(6.0);
+		Assertions.assertEquals(Arrays.asList(1.0, 5.0, 3.0, 6.0), genotype);
+		genotype.array()[0] = 9.0;
+		Assertions.assertEquals(9.0, genotype.get(0), 0.0);
+		genotype.setSize(6);
+		Assertions.assertEquals(6, genotype.size());
+		Assertions.assertEquals(0.0, genotype.getDouble(5), 0.0);
+		assertThrows(IndexOutOfBoundsException.class, () -> genotype.getDouble(6));
+	}
+
+	@Test
+	public void testClone() {
+		DoubleArrayGenotype genotype = new DoubleArrayGenotype(0, 1);
+		genotype.init(new Random(), 4);
+		DoubleArrayGenotype clone = (DoubleArrayGenotype) genotype.clone();
+		Assertions.assertEquals(genotype, clone);
+		clone.setDouble(0, 2.0);
+		Assertions.assertNotEquals(genotype, clone);
+	}
+}
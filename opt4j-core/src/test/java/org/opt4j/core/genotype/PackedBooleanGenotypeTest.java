@@ -0,0 +1,166 @@
+package org.opt4j.core.genotype;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PackedBooleanGenotypeTest {
+
+	@Test
+	public void testInit() {
+		Random random = new Random();
+		PackedBooleanGenotype genotype1 = new PackedBooleanGenotype();
+		genotype1.init(random, 10);
+		Assertions.assertEquals(10, genotype1.size());
+		genotype1.init(random, 150);
+		Assertions.assertEquals(150, genotype1.size());
+		PackedBooleanGenotype genotype2 = genotype1.newInstance();
+		Assertions.assertTrue(genotype2.isEmpty());
+	}
+
+	@Test
+	public void testSameInitAsBooleanGenotype() {
+		PackedBooleanGenotype packed = new PackedBooleanGenotype();
+		BooleanGenotype list = new BooleanGenotype();
+		packed.init(new Random(3), 200);
+		list.init(new Random(3), 200);
+		Assertions.assertEquals(list, packed);
+		Assertions.assertEquals(packed, list);
+		Assertions.assertEquals(list.hashCode(), packed.hashCode());
+		Assertions.assertEquals(list.toString(), packed.toString());
+
+		int cardinality = 0;
+		for (boolean value : list) {
+			cardinality += value ? 1 : 0;
+		}
+		Assertions.assertEquals(cardinality, packed.cardinality());
+	}
+
+	@Test
+	public void testListOperations() {
+		Random random = new Random(5);
+		PackedBooleanGenotype genotype = new PackedBooleanGenotype();
+		List<Boolean> reference = new ArrayList<>();
+		for (int i = 0; i < 150; i++) {
+			boolean value = random.nextBoolean();
+			genotype.add(value);
+			reference.add(value);
+		}
+		genotype.add(3, true);
+		reference.add(3, true);
+		genotype.add(64, false);
+		reference.add(64, false);
+		genotype.remove(10);
+		reference.remove(10);
+		genotype.remove(Boolean.FALSE);
+		reference.remove(Boolean.FALSE);
+		genotype.set(70, true);
+		reference.set(70, true);
+		genotype.addAll(2, Arrays.asList(true, false));
+		reference.addAll(2, Arrays.asList(true, false));
+		genotype.subList(60, 80).clear();
+		reference.subList(60, 80).clear();
+		Assertions.assertEquals(reference, genotype);
+		Assertions.assertEquals(reference.indexOf(false), genotype.indexOf(false));
+		Assertions.assertEquals(reference.lastIndexOf(true), genotype.lastIndexOf(true));
+
+		Iterator<Boolean> it = genotype.iterator();
+		int i = 0;
+		while (it.hasNext()) {
+			it.next();
+			if (i++ % 3 == 0) {
+				it.remove();
+			}
+		}
+		it = reference.iterator();
+		i = 0;
+		while (it.hasNext()) {
+			it.next();
+			if (i++ % 3 == 0) {
+				it.remove();
+			}
+		}
+		Assertions.assertEquals(reference, genotype);
+
+		genotype.sort(null);
+		reference.sort(null);
+		Assertions.assertEquals(reference, genotype);
+
+		genotype.clear();
+		Assertions.assertTrue(genotype.isEmpty());
+		Assertions.assertEquals(0, genotype.cardinality());
+	}
+
+	@Test
+	public void testPrimitiveAccess() {
+		PackedBooleanGenotype genotype = new PackedBooleanGenotype();
+		genotype.setSize(130);
+		Assertions.assertEquals(130, genotype.size());
+		Assertions.assertEquals(0, genotype.cardinality());
+		genotype.setBoolean(64, true);
+		genotype.flip(129);
+		genotype.addBoolean(true);
+		Assertions.assertTrue(genotype.get(64));
+		Assertions.assertTrue(genotype.getBoolean(129));
+		Assertions.assertTrue(genotype.getBoolean(130));
+		Assertions.assertEquals(3, genotype.cardinality());
+		genotype.flip(64);
+		Assertions.assertFalse(genotype.getBoolean(64));
+		assertThrows(IndexOutOfBoundsException.class, () -> genotype.getBoolean(131));
+
+		genotype.setSize(100);
+		Assertions.assertEquals(0, genotype.cardinality());
+		genotype.setSize(131);
+		Assertions.assertEquals(0, genotype.cardinality());
+	}
+
+	@Test
+	public void testSetAll() {
+		PackedBooleanGenotype genotype = new PackedBooleanGenotype();
+		genotype.setAll(new long[] { -1L, -1L }, 70);
+		Assertions.assertEquals(70, genotype.size());
+		Assertions.assertEquals(70, genotype.cardinality());
+
+		PackedBooleanGenotype copy = genotype.newInstance();
+		copy.setAll(genotype.words(), genotype.size());
+		Assertions.assertEquals(genotype, copy);
+	}
+
+	@Test
+	public void testSetMasked() {
+		PackedBooleanGenotype first = new PackedBooleanGenotype();
+		PackedBooleanGenotype second = new PackedBooleanGenotype();
+		first.init(new Random(1), 100);
+		second.init(new Random(2), 100);
+		long[] mask = { 0xF0F0F0F0F0F0F0F0L, -1L };
+
+		PackedBooleanGenotype genotype = new PackedBooleanGenotype();
+		genotype.setMasked(first, second, mask);
+		Assertions.assertEquals(100, genotype.size());
+		for (int i = 0; i < 100; i++) {
+			boolean set = (mask[i >> 6] & (1L << i)) != 0;
+			Assertions.assertEquals(set ? first.getBoolean(i) : second.getBoolean(i), genotype.getBoolean(i));
+		}
+		Assertions.assertEquals(0, genotype.words()[1] & ~PackedBooleanGenotype.lastWordMask(100));
+
+		second.setSize(99);
+		assertThrows(IllegalArgumentException.class, () -> genotype.setMasked(first, second, mask));
+	}
+
+	@Test
+	public void testClone() {
+		PackedBooleanGenotype genotype = new PackedBooleanGenotype();
+		genotype.init(new Random(), 100);
+		PackedBooleanGenotype clone = (PackedBooleanGenotype) genotype.clone();
+		Assertions.assertEquals(genotype, clone);
+		clone.flip(99);
+		Assertions.assertNotEquals(genotype, clone);
+	}
+}
@@ -0,0 +1,102 @@
+package org.opt4j.core.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.optimizer.Control.State;
+
+public class ControlTest {
+
+	@Test
+	public void testStates() throws TerminationException, StopException {
+		Control control = new Control();
+		List<State> states = new ArrayList<>();
+		control.addListener(states::add);
+
+		Assertions.assertTrue(control.isRunning());
+		control.checkpoint();
+		control.checkpointStop();
+
+		control.doStart();
+		control.doPause();
+		control.doPause();
+		Assertions.assertTrue(control.isPaused());
+		control.doStart();
+		Assertions.assertTrue(control.isRunning());
+		control.doStop();
+		Assertions.assertTrue(control.isStopped());
+		control.checkpoint();
+		assertThrows(StopException.class, () -> control.checkpointStop());
+		control.doStart();
+		Assertions.assertTrue(control.isStopped());
+		control.doTerminate();
+		Assertions.assertTrue(control.isTerminated());
+		control.doStop();
+		Assertions.assertTrue(control.isTerminated());
+		assertThrows(TerminationException.class, () -> control.checkpoint());
+		assertThrows(TerminationException.class, () -> control.checkpointStop());
+
+		Assertions.assertEquals(List.of(State.PAUSED, State.RUNNING, State.STOPPED, State.TERMINATED), states);
+	}
+
+	@Test
+	public void testPauseAndResume() throws Exception {
+		Control control = new Control();
+		control.doPause();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			CountDownLatch started = new CountDownLatch(4);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(() -> {
+					started.countDown();
+					control.checkpoint();
+					return null;
+				}));
+			}
+			started.await();
+			assertThrows(TimeoutException.class, () -> futures.get(0).get(50, TimeUnit.MILLISECONDS));
+
+			control.doStart();
+			for (Future<?> future : futures) {
+				future.get(5, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testPauseAndTerminate() throws Exception {
+		Control control = new Control();
+		control.doPause();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Boolean> future = executor.submit(() -> {
+				try {
+					control.checkpointStop();
+					return false;
+				} catch (TerminationException e) {
+					return true;
+				}
+			});
+			assertThrows(TimeoutException.class, () -> future.get(50, TimeUnit.MILLISECONDS));
+			control.doTerminate();
+			Assertions.assertTrue(future.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.Individual;
+import org.opt4j.core.common.archive.ArchiveModule;
+import org.opt4j.core.optimizer.Archive;
+
+import com.google.inject.Guice;
+
+/**
+ * The {@link ArchiveBenchmark} measures the update of an {@link Archive} for
+ * each {@link ArchiveModule.Type}. Each invocation starts with an empty
+ * archive that is updated with a sequence of generations; the capacity of
+ * bounded archives is the size of a generation.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArchiveBenchmark {
+
+	@Param({ "DTLZ2", "WFG4" })
+	public String problem;
+
+	@Param({ "2", "3", "5" })
+	public int m;
+
+	@Param({ "100", "1000" })
+	public int size;
+
+	@Param({ "10" })
+	public int generations;
+
+	@Param({ "UNBOUNDED", "POPULATION", "ADAPTIVE_GRID", "CROWDING", "INDEXED" })
+	public ArchiveModule.Type type;
+
+	protected final List<Set<Individual>> offspring = new ArrayList<>();
+
+	protected Archive archive;
+
+	@Setup
+	public void setup() {
+		List<Individual> individuals = Populations.create(problem, m, size * generations, 0);
+		offspring.clear();
+		for (int i = 0; i < generations; i++) {
+			offspring.add(new LinkedHashSet<>(individuals.subList(i * size, (i + 1) * size)));
+		}
+
+		ArchiveModule module = new ArchiveModule();
+		module.setType(type);
+		module.setCapacity(size);
+		archive = Guice.createInjector(module).getInstance(Archive.class);
+	}
+
+	@Benchmark
+	public int update() {
+		archive.clear();
+		for (Set<Individual> generation : offspring) {
+			archive.update(generation);
+		}
+		return archive.size();
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.optimizer.Control;
+import org.opt4j.core.optimizer.StopException;
+import org.opt4j.core.optimizer.TerminationException;
+
+/**
+ * The {@link ControlBenchmark} measures the {@link Control#checkpoint()} in
+ * the running state, as called by the completion threads for each individual.
+ * The {@code synchronized} variant is a monitor-based {@link Control} as a
+ * baseline for the contention.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControlBenchmark {
+
+	@Param({ "default", "synchronized" })
+	public String control;
+
+	protected Control instance;
+
+	/**
+	 * A {@link Control} with monitor-based checkpoints.
+	 */
+	public static class SynchronizedControl extends Control {
+		@Override
+		public synchronized void checkpoint() throws TerminationException {
+			super.checkpoint();
+		}
+
+		@Override
+		public synchronized void checkpointStop() throws TerminationException, StopException {
+			super.checkpointStop();
+		}
+	}
+
+	@Setup
+	public void setup() {
+		instance = control.equals("synchronized") ? new SynchronizedControl() : new Control();
+	}
+
+	@Benchmark
+	public void checkpoint() throws TerminationException {
+		instance.checkpoint();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void sharedCheckpoint() throws TerminationException {
+		instance.checkpoint();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void sharedCheckpointStop() throws TerminationException, StopException {
+		instance.checkpointStop();
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.Individual;
+import org.opt4j.core.common.archive.Crowding;
+import org.opt4j.core.common.archive.FrontDensityIndicator;
+
+/**
+ * The {@link CrowdingBenchmark} measures the {@link Crowding} distances of a
+ * population with the primitive and the map-based interface.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrowdingBenchmark {
+
+	@Param({ "DTLZ2", "WFG4" })
+	public String problem;
+
+	@Param({ "2", "3", "5" })
+	public int m;
+
+	@Param({ "100", "1000", "10000" })
+	public int size;
+
+	protected List<Individual> population;
+
+	protected double[][] objectives;
+
+	protected final Crowding crowding = new Crowding();
+
+	@Setup
+	public void setup() {
+		population = Populations.create(problem, m, size, 0);
+		objectives = FrontDensityIndicator.toMatrix(population);
+	}
+
+	@Benchmark
+	public double[] primitive() {
+		return crowding.getDensityValues(objectives);
+	}
+
+	@Benchmark
+	public Map<Individual, Double> map() {
+		return crowding.getDensityValues(population);
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.Individual;
+import org.opt4j.core.common.archive.FrontDensityIndicator;
+import org.opt4j.optimizers.ea.Hypervolume;
+import org.opt4j.optimizers.ea.HypervolumeWFG;
+import org.opt4j.optimizers.ea.NonDominatedFronts;
+
+/**
+ * The {@link HypervolumeBenchmark} measures the hypervolume contributions of
+ * the first non-dominated front of a population. Two objectives use the 2D
+ * algorithm; more objectives use the N-dimensional algorithm.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HypervolumeBenchmark {
+
+	@Param({ "DTLZ2", "WFG4" })
+	public String problem;
+
+	@Param({ "2", "3", "4" })
+	public int m;
+
+	@Param({ "100", "1000" })
+	public int size;
+
+	@Param({ "HYPERVOLUME", "HYPERVOLUME_WFG" })
+	public String indicator;
+
+	protected List<Individual> front;
+
+	protected double[][] objectives;
+
+	protected Hypervolume hypervolume;
+
+	@Setup
+	public void setup() {
+		List<Individual> population = Populations.create(problem, m, size, 0);
+		front = new ArrayList<>(new NonDominatedFronts(population).getFrontAtIndex(0));
+		objectives = FrontDensityIndicator.toMatrix(front);
+		hypervolume = indicator.equals("HYPERVOLUME_WFG") ? new HypervolumeWFG(1.0) : new Hypervolume(1.0);
+	}
+
+	@Benchmark
+	public double[] contributions() {
+		return hypervolume.getDensityValues(objectives, front);
+	}
+}
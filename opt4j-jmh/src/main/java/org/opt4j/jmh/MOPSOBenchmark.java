@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.common.random.RandomModule;
+import org.opt4j.core.optimizer.IndividualCompleter;
+import org.opt4j.core.optimizer.Population;
+import org.opt4j.core.optimizer.TerminationException;
+import org.opt4j.core.start.Constant;
+import org.opt4j.operators.mutate.MutationRate;
+import org.opt4j.optimizers.mopso.MOPSO;
+import org.opt4j.optimizers.mopso.MOPSOModule;
+import org.opt4j.optimizers.mopso.MutateDoubleNonUniform;
+import org.opt4j.optimizers.mopso.MutateDoubleUniform;
+import org.opt4j.optimizers.mopso.Particle;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+/**
+ * The {@link MOPSOBenchmark} measures the movement of all particles of a swarm
+ * in the {@link MOPSO}, i.e., the calculation of the velocities and positions
+ * including the mutation.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MOPSOBenchmark {
+
+	/**
+	 * The {@link MOPSOMove} exposes the movement of the particles of the
+	 * {@link MOPSO}.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	public static class MOPSOMove extends MOPSO {
+
+		/**
+		 * Constructs a {@link MOPSOMove}.
+		 * 
+		 * @param population
+		 *            the population
+		 * @param individualFactory
+		 *            the individual (particle) factory
+		 * @param completer
+		 *            the completer
+		 * @param random
+		 *            the random number generator
+		 * @param uniform
+		 *            the uniform mutation
+		 * @param nonUniform
+		 *            the non-uniform mutation
+		 * @param mutationRate
+		 *            the mutation rate
+		 * @param size
+		 *            the number of particles
+		 * @param archiveSize
+		 *            the size of the archive for the global leaders
+		 */
+		@Inject
+		public MOPSOMove(Population population, IndividualFactory individualFactory, IndividualCompleter completer,
+				Rand random, MutateDoubleUniform uniform, MutateDoubleNonUniform nonUniform,
+				MutationRate mutationRate, @Constant(value = "size", namespace = MOPSO.class) int size,
+				@Constant(value = "archiveSize", namespace = MOPSO.class) int archiveSize) {
+			super(population, individualFactory, completer, random, uniform, nonUniform, mutationRate, size,
+					archiveSize);
+		}
+
+		/**
+		 * Moves the particles to their next positions.
+		 * 
+		 * @param particles
+		 *            the particles
+		 * @param leaders
+		 *            the global leader of each particle
+		 * @param next
+		 *            the array that is filled with the new particles
+		 */
+		public void moveAll(Particle[] particles, Particle[] leaders, Particle[] next) {
+			move(particles, leaders, next, particles.length);
+		}
+	}
+
+	@Param({ "DTLZ2", "WFG4" })
+	public String problem;
+
+	@Param({ "1000", "10000" })
+	public int size;
+
+	protected MOPSOMove mopso;
+
+	protected Particle[] particles;
+
+	protected Particle[] leaders;
+
+	protected Particle[] next;
+
+	@Setup
+	public void setup() throws TerminationException {
+		RandomModule random = new RandomModule();
+		random.setSeed(0);
+		Injector injector = Guice.createInjector(Populations.getProblem(problem, 3), random, new MOPSOModule());
+		mopso = injector.getInstance(MOPSOMove.class);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		List<Individual> individuals = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			Particle particle = (Particle) factory.create();
+			particle.setId(i);
+			individuals.add(particle);
+		}
+		injector.getInstance(IndividualCompleter.class).complete(individuals);
+
+		particles = individuals.toArray(new Particle[size]);
+		leaders = new Particle[size];
+		for (int i = 0; i < size; i++) {
+			Particle particle = particles[i];
+			particle.setBest(particle.getGenotype(), particle.getObjectives());
+			leaders[i] = particles[(i * 31) % size];
+		}
+		next = new Particle[size];
+	}
+
+	@Benchmark
+	public Particle[] move() {
+		mopso.moveAll(particles, leaders, next);
+		Particle[] swap = particles;
+		particles = next;
+		next = swap;
+		return particles;
+	}
+}
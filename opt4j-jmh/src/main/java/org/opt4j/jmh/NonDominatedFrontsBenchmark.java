@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.Individual;
+import org.opt4j.core.common.archive.FrontDensityIndicator;
+import org.opt4j.optimizers.ea.NonDominatedFronts;
+import org.opt4j.optimizers.ea.NonDominatedSorting;
+import org.opt4j.optimizers.ea.NonDominatedSortingEfficient;
+import org.opt4j.optimizers.ea.NonDominatedSortingFast;
+import org.opt4j.optimizers.ea.NonDominatedSortingParallel;
+
+/**
+ * The {@link NonDominatedFrontsBenchmark} measures the sorting of a population
+ * into {@link NonDominatedFronts} for each {@link NonDominatedSorting}.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NonDominatedFrontsBenchmark {
+
+	@Param({ "DTLZ2", "WFG4" })
+	public String problem;
+
+	@Param({ "2", "3", "5" })
+	public int m;
+
+	@Param({ "100", "1000", "5000" })
+	public int size;
+
+	@Param({ "EFFICIENT", "FAST", "PARALLEL" })
+	public String sorting;
+
+	protected List<Individual> population;
+
+	protected double[][] objectives;
+
+	protected NonDominatedSorting nonDominatedSorting;
+
+	@Setup
+	public void setup() {
+		population = Populations.create(problem, m, size, 0);
+		objectives = FrontDensityIndicator.toMatrix(population);
+		switch (sorting) {
+		case "FAST":
+			nonDominatedSorting = new NonDominatedSortingFast();
+			break;
+		case "PARALLEL":
+			nonDominatedSorting = new NonDominatedSortingParallel(0);
+			break;
+		default:
+			nonDominatedSorting = new NonDominatedSortingEfficient();
+			break;
+		}
+	}
+
+	@Benchmark
+	public NonDominatedFronts fronts() {
+		return new NonDominatedFronts(population, nonDominatedSorting);
+	}
+
+	@Benchmark
+	public int[] ranks() {
+		return nonDominatedSorting.sort(objectives);
+	}
+}
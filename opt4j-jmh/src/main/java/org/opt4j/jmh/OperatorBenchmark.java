@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.Genotype;
+import org.opt4j.core.common.random.RandomModule;
+import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.DoubleArrayGenotype;
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.core.genotype.IntegerGenotype;
+import org.opt4j.core.genotype.PackedBooleanGenotype;
+import org.opt4j.core.genotype.PermutationGenotype;
+import org.opt4j.operators.crossover.Crossover;
+import org.opt4j.operators.crossover.CrossoverGenericImplementation;
+import org.opt4j.operators.crossover.Pair;
+import org.opt4j.operators.mutate.Mutate;
+import org.opt4j.operators.mutate.MutateGenericImplementation;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+/**
+ * The {@link OperatorBenchmark} measures the default {@link Crossover} and
+ * {@link Mutate} operators for each basic genotype type, including the
+ * array-backed {@link DoubleArrayGenotype} and {@link PackedBooleanGenotype}.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperatorBenchmark {
+
+	@Param({ "BOOLEAN", "PACKED_BOOLEAN", "DOUBLE", "DOUBLE_ARRAY", "INTEGER", "PERMUTATION" })
+	public String genotype;
+
+	@Param({ "100", "1000" })
+	public int size;
+
+	protected Genotype parent1;
+
+	protected Genotype parent2;
+
+	protected Crossover<Genotype> crossover;
+
+	protected Mutate<Genotype> mutate;
+
+	@Setup
+	public void setup() {
+		Injector injector = Guice.createInjector(new RandomModule());
+		crossover = injector.getInstance(CrossoverGenericImplementation.class);
+		mutate = injector.getInstance(MutateGenericImplementation.class);
+
+		Random random = new Random(0);
+		parent1 = create(random);
+		parent2 = create(random);
+	}
+
+	protected Genotype create(Random random) {
+		switch (genotype) {
+		case "DOUBLE": {
+			DoubleGenotype g = new DoubleGenotype(0, 1);
+			g.init(random, size);
+			return g;
+		}
+		case "DOUBLE_ARRAY": {
+			DoubleArrayGenotype g = new DoubleArrayGenotype(0, 1);
+			g.init(random, size);
+			return g;
+		}
+		case "PACKED_BOOLEAN": {
+			PackedBooleanGenotype g = new PackedBooleanGenotype();
+			g.init(random, size);
+			return g;
+		}
+		case "INTEGER": {
+			IntegerGenotype g = new IntegerGenotype(0, 100);
+			g.init(random, size);
+			return g;
+		}
+		case "PERMUTATION": {
+			List<Integer> elements = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				elements.add(i);
+			}
+			PermutationGenotype<Integer> g = new PermutationGenotype<>(elements);
+			g.init(random);
+			return g;
+		}
+		default: {
+			BooleanGenotype g = new BooleanGenotype();
+			g.init(random, size);
+			return g;
+		}
+		}
+	}
+
+	@Benchmark
+	public Pair<Genotype> crossover() {
+		return crossover.crossover(parent1, parent2);
+	}
+
+	@Benchmark
+	public Genotype mutate() {
+		mutate.mutate(parent1, 1.0 / size);
+		return parent1;
+	}
+}
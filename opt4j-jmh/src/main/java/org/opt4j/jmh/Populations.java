@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opt4j.benchmarks.dtlz.DTLZModule;
+import org.opt4j.benchmarks.wfg.WFGModule;
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.common.random.RandomModule;
+import org.opt4j.core.optimizer.IndividualCompleter;
+import org.opt4j.core.optimizer.TerminationException;
+import org.opt4j.core.problem.ProblemModule;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+/**
+ * The {@link Populations} creates the evaluated input populations of the
+ * benchmarks. The problems are the functions of the DTLZ and WFG benchmark
+ * suites with a configurable number of objectives.
+ * 
+ * @author agent
+ * 
+ */
+public class Populations {
+
+	private Populations() {
+	}
+
+	/**
+	 * Returns the {@link ProblemModule} of a benchmark problem.
+	 * 
+	 * @param problem
+	 *            the name of the function, e.g., {@code DTLZ2} or {@code WFG4}
+	 * @param m
+	 *            the number of objectives
+	 * @return the problem module
+	 */
+	public static ProblemModule getProblem(String problem, int m) {
+		if (problem.startsWith("DTLZ")) {
+			DTLZModule module = new DTLZModule();
+			module.setFunction(DTLZModule.Function.valueOf(problem));
+			module.setM(m);
+			return module;
+		} else if (problem.startsWith("WFG")) {
+			WFGModule module = new WFGModule();
+			module.setFunction(WFGModule.Function.valueOf(problem));
+			module.setEncoding(WFGModule.Encoding.DOUBLE);
+			module.setM(m);
+			return module;
+		}
+		throw new IllegalArgumentException("Unknown problem: " + problem);
+	}
+
+	/**
+	 * Creates and evaluates a population with random genotypes.
+	 * 
+	 * @param problem
+	 *            the name of the function, e.g., {@code DTLZ2} or {@code WFG4}
+	 * @param m
+	 *            the number of objectives
+	 * @param size
+	 *            the size of the population
+	 * @param seed
+	 *            the seed for the random genotypes
+	 * @return the evaluated individuals
+	 */
+	public static List<Individual> create(String problem, int m, int size, long seed) {
+		RandomModule random = new RandomModule();
+		random.setSeed(seed);
+		Injector injector = Guice.createInjector(getProblem(problem, m), random);
+
+		IndividualFactory factory = injector.getInstance(IndividualFactory.class);
+		IndividualCompleter completer = injector.getInstance(IndividualCompleter.class);
+
+		List<Individual> individuals = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			individuals.add(factory.create());
+		}
+		try {
+			completer.complete(individuals);
+		} catch (TerminationException e) {
+			throw new IllegalStateException(e);
+		}
+		return individuals;
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.common.random.RandomModule;
+import org.opt4j.core.common.random.RandomModule.RandType;
+
+import com.google.inject.Guice;
+
+/**
+ * The {@link RandomBenchmark} measures the random number generators of the
+ * {@link RandomModule}. The {@code shared} benchmarks use one generator from
+ * several threads to measure the contention on the generator.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomBenchmark {
+
+	@Param({ "MERSENNE_TWISTER", "JAVA", "SPLITTABLE", "L64X128" })
+	public RandType type;
+
+	protected Rand random;
+
+	@Setup
+	public void setup() {
+		RandomModule module = new RandomModule();
+		module.setType(type);
+		random = Guice.createInjector(module).getInstance(Rand.class);
+	}
+
+	@Benchmark
+	public int nextInt() {
+		return random.nextInt();
+	}
+
+	@Benchmark
+	public double nextDouble() {
+		return random.nextDouble();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public double sharedNextDouble() {
+		return random.nextDouble();
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opt4j.core.Individual;
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.common.random.RandomMersenneTwister;
+import org.opt4j.optimizers.ea.Spea2;
+
+/**
+ * The {@link Spea2Benchmark} measures the fitness calculation of the
+ * {@link Spea2} for a population: The full recalculation and the incremental
+ * update if a quarter of the population is replaced.
+ * 
+ * @author agent
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Spea2Benchmark {
+
+	/**
+	 * The {@link Spea2Fitness} exposes the fitness calculation of the
+	 * {@link Spea2}.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	public static class Spea2Fitness extends Spea2 {
+
+		/**
+		 * Constructs a {@link Spea2Fitness}.
+		 * 
+		 * @param random
+		 *            the random number generator
+		 */
+		public Spea2Fitness(Rand random) {
+			super(0, random);
+		}
+
+		/**
+		 * Adds the population to the internal sets.
+		 * 
+		 * @param population
+		 *            the population
+		 */
+		public void setPopulation(List<Individual> population) {
+			init(population.size());
+			update(population);
+		}
+
+		/**
+		 * Updates the internal sets incrementally with the population.
+		 * 
+		 * @param population
+		 *            the population
+		 */
+		public void updatePopulation(List<Individual> population) {
+			update(population);
+		}
+
+		/**
+		 * Calculates the strength and fitness values of all individuals.
+		 */
+		public void fitness() {
+			calculateFitness();
+		}
+	}
+
+	@Param({ "DTLZ2", "WFG4" })
+	public String problem;
+
+	@Param({ "2", "3", "5" })
+	public int m;
+
+	@Param({ "100", "500", "1000" })
+	public int size;
+
+	protected Spea2Fitness spea2;
+
+	protected List<Individual> population;
+
+	protected List<Individual> replaced;
+
+	protected boolean toggle = false;
+
+	@Setup
+	public void setup() {
+		population = Populations.create(problem, m, size, 0);
+		replaced = new ArrayList<>(population.subList(size / 4, size));
+		replaced.addAll(Populations.create(problem, m, size / 4, 1));
+		spea2 = new Spea2Fitness(new RandomMersenneTwister(0));
+		spea2.setPopulation(population);
+	}
+
+	@Benchmark
+	public Spea2 calculateFitness() {
+		spea2.fitness();
+		return spea2;
+	}
+
+	@Benchmark
+	public Spea2 updateQuarter() {
+		toggle = !toggle;
+		spea2.updatePopulation(toggle ? replaced : population);
+		return spea2;
+	}
+}
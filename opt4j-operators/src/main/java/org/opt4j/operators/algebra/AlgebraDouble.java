@@ -24,13 +24,16 @@
 package org.opt4j.operators.algebra;
 
 import org.opt4j.core.Genotype;
+import org.opt4j.core.genotype.DoubleArrayGenotype;
 import org.opt4j.core.genotype.DoubleGenotype;
 import org.opt4j.operators.normalize.NormalizeDouble;
 
 import com.google.inject.Inject;
 
 /**
- * The {@link AlgebraDouble} for {@link DoubleGenotype}.
+ * The {@link AlgebraDouble} for {@link DoubleGenotype}. If the first genotype
+ * is a {@link DoubleArrayGenotype}, the term is calculated directly on the
+ * backing arrays.
  * 
  * @author lukasiewycz
  * 
@@ -76,6 +79,12 @@ public class AlgebraDouble implements Algebra<DoubleGenotype> {
 
 		double[] values = new double[n];
 
+		if (offspring instanceof DoubleArrayGenotype) {
+			algebra(term, list, (DoubleArrayGenotype) offspring, values, size);
+			normalize.normalize(offspring);
+			return offspring;
+		}
+
 		for (int j = 0; j < size; j++) {
 			for (int i = 0; i < n; i++) {
 				if (list[i] == null) {
@@ -93,4 +102,46 @@ public class AlgebraDouble implements Algebra<DoubleGenotype> {
 		return offspring;
 	}
 
+	/**
+	 * Calculates the term for each element and writes the results to the
+	 * backing array of the offspring without boxing the values.
+	 * 
+	 * @param term
+	 *            the term
+	 * @param list
+	 *            the genotypes
+	 * @param offspring
+	 *            the offspring
+	 * @param values
+	 *            the array for the variables of the term
+	 * @param size
+	 *            the number of elements
+	 */
+	protected void algebra(Term term, DoubleGenotype[] list, DoubleArrayGenotype offspring, double[] values,
+			int size) {
+		int n = list.length;
+		double[][] arrays = new double[n][];
+		for (int i = 0; i < n; i++) {
+			if (list[i] instanceof DoubleArrayGenotype) {
+				arrays[i] = ((DoubleArrayGenotype) list[i]).array();
+			}
+		}
+
+		offspring.setSize(size);
+		double[] result = offspring.array();
+
+		for (int j = 0; j < size; j++) {
+			for (int i = 0; i < n; i++) {
+				if (arrays[i] != null) {
+					values[i] = arrays[i][j];
+				} else if (list[i] == null) {
+					values[i] = 0;
+				} else {
+					values[i] = list[i].get(j);
+				}
+			}
+			result[j] = term.calculate(values);
+		}
+	}
+
 }
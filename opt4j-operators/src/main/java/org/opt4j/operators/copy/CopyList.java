@@ -24,8 +24,10 @@
 package org.opt4j.operators.copy;
 
 import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.DoubleArrayGenotype;
 import org.opt4j.core.genotype.DoubleGenotype;
 import org.opt4j.core.genotype.ListGenotype;
+import org.opt4j.core.genotype.PackedBooleanGenotype;
 import org.opt4j.core.genotype.PermutationGenotype;
 
 /**
@@ -44,6 +46,19 @@ public class CopyList implements Copy<ListGenotype<?>> {
 	 */
 	@Override
 	public ListGenotype<?> copy(ListGenotype<?> genotype) {
+		if (genotype instanceof DoubleArrayGenotype) {
+			DoubleArrayGenotype source = (DoubleArrayGenotype) genotype;
+			DoubleArrayGenotype copy = source.newInstance();
+			copy.setAll(source.array(), source.size());
+			return copy;
+		}
+		if (genotype instanceof PackedBooleanGenotype) {
+			PackedBooleanGenotype source = (PackedBooleanGenotype) genotype;
+			PackedBooleanGenotype copy = source.newInstance();
+			copy.setAll(source.words(), source.size());
+			return copy;
+		}
+
 		ListGenotype<Object> copy = genotype.newInstance();
 
 		for (Object element : genotype) {
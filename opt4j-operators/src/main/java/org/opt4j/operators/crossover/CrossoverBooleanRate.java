@@ -25,6 +25,7 @@ package org.opt4j.operators.crossover;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.PackedBooleanGenotype;
 import org.opt4j.core.start.Constant;
 
 import com.google.inject.Inject;
@@ -51,4 +52,41 @@ public class CrossoverBooleanRate extends CrossoverListRate<BooleanGenotype> imp
 			Rand random) {
 		super(rate, random);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverListRate#crossover(org.opt4j.core
+	 * .genotype.ListGenotype, org.opt4j.core.genotype.ListGenotype)
+	 */
+	@Override
+	public Pair<BooleanGenotype> crossover(BooleanGenotype p1, BooleanGenotype p2) {
+		if (!(p1 instanceof PackedBooleanGenotype) || !(p2 instanceof PackedBooleanGenotype)) {
+			return super.crossover(p1, p2);
+		}
+
+		int size = p1.size();
+		long[] mask = new long[PackedBooleanGenotype.wordCount(size)];
+
+		boolean select = random.nextBoolean();
+
+		for (int i = 0; i < size; i++) {
+			if (random.nextDouble() < rate) {
+				select = !select;
+			}
+			if (select) {
+				mask[i >> 6] |= 1L << i;
+			}
+		}
+
+		PackedBooleanGenotype g1 = (PackedBooleanGenotype) p1;
+		PackedBooleanGenotype g2 = (PackedBooleanGenotype) p2;
+		PackedBooleanGenotype o1 = g1.newInstance();
+		PackedBooleanGenotype o2 = g2.newInstance();
+		o1.setMasked(g1, g2, mask);
+		o2.setMasked(g2, g1, mask);
+
+		return new Pair<>(o1, o2);
+	}
 }
@@ -23,8 +23,12 @@
 
 package org.opt4j.operators.crossover;
 
+import java.util.SortedSet;
+import java.util.TreeSet;
+
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.PackedBooleanGenotype;
 import org.opt4j.core.start.Constant;
 
 import com.google.inject.Inject;
@@ -51,4 +55,54 @@ public class CrossoverBooleanXPoint extends CrossoverListXPoint<BooleanGenotype>
 		super(x, random);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverListXPoint#crossover(org.opt4j.
+	 * core.genotype.ListGenotype, org.opt4j.core.genotype.ListGenotype)
+	 */
+	@Override
+	public Pair<BooleanGenotype> crossover(BooleanGenotype p1, BooleanGenotype p2) {
+		if (!(p1 instanceof PackedBooleanGenotype) || !(p2 instanceof PackedBooleanGenotype)) {
+			return super.crossover(p1, p2);
+		}
+
+		int size = p1.size();
+
+		if (x <= 0 || x > size - 1) {
+			throw new IllegalArgumentException(this.getClass() + " : x is " + x + " for binary vector size " + size);
+		}
+
+		SortedSet<Integer> points = new TreeSet<>();
+
+		while (points.size() < x) {
+			points.add(random.nextInt(size - 1) + 1);
+		}
+		points.add(size);
+
+		boolean select = !random.nextBoolean();
+		long[] mask = new long[PackedBooleanGenotype.wordCount(size)];
+
+		int from = 0;
+		for (int to : points) {
+			if (select) {
+				for (int i = from; i < to; i++) {
+					mask[i >> 6] |= 1L << i;
+				}
+			}
+			select = !select;
+			from = to;
+		}
+
+		PackedBooleanGenotype g1 = (PackedBooleanGenotype) p1;
+		PackedBooleanGenotype g2 = (PackedBooleanGenotype) p2;
+		PackedBooleanGenotype o1 = g1.newInstance();
+		PackedBooleanGenotype o2 = g2.newInstance();
+		o1.setMasked(g1, g2, mask);
+		o2.setMasked(g2, g1, mask);
+
+		return new Pair<>(o1, o2);
+	}
+
 }
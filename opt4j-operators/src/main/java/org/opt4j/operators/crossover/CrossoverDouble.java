@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.DoubleArrayGenotype;
 import org.opt4j.core.genotype.DoubleGenotype;
 import org.opt4j.operators.normalize.NormalizeDouble;
 
@@ -71,7 +72,18 @@ public abstract class CrossoverDouble implements Crossover<DoubleGenotype> {
 		DoubleGenotype o1 = p1.newInstance();
 		DoubleGenotype o2 = p2.newInstance();
 
-		crossover(p1, p2, o1, o2);
+		if (p1 instanceof DoubleArrayGenotype && p2 instanceof DoubleArrayGenotype && o1 instanceof DoubleArrayGenotype
+				&& o2 instanceof DoubleArrayGenotype) {
+			int size = p1.size();
+			DoubleArrayGenotype a1 = (DoubleArrayGenotype) o1;
+			DoubleArrayGenotype a2 = (DoubleArrayGenotype) o2;
+			a1.setSize(size);
+			a2.setSize(size);
+			crossover(((DoubleArrayGenotype) p1).array(), ((DoubleArrayGenotype) p2).array(), a1.array(), a2.array(),
+					size);
+		} else {
+			crossover(p1, p2, o1, o2);
+		}
 
 		normalize.normalize(o1);
 		normalize.normalize(o2);
@@ -95,4 +107,34 @@ public abstract class CrossoverDouble implements Crossover<DoubleGenotype> {
 	 */
 	protected abstract void crossover(List<Double> p1, List<Double> p2, List<Double> o1, List<Double> o2);
 
+	/**
+	 * Performs a crossover of two parent double arrays, e.g., of
+	 * {@link DoubleArrayGenotype}s. The offspring arrays are already sized.
+	 * The default implementation uses the list-based
+	 * {@link #crossover(List, List, List, List)}; operators should override
+	 * this method with an implementation that does not box the values.
+	 * 
+	 * @param p1
+	 *            the first parent
+	 * @param p2
+	 *            the second parent
+	 * @param o1
+	 *            the first offspring
+	 * @param o2
+	 *            the second offspring
+	 * @param size
+	 *            the number of values
+	 */
+	protected void crossover(double[] p1, double[] p2, double[] o1, double[] o2, int size) {
+		DoubleArrayGenotype l1 = new DoubleArrayGenotype();
+		DoubleArrayGenotype l2 = new DoubleArrayGenotype();
+		DoubleArrayGenotype m1 = new DoubleArrayGenotype();
+		DoubleArrayGenotype m2 = new DoubleArrayGenotype();
+		l1.setAll(p1, size);
+		l2.setAll(p2, size);
+		crossover(l1, l2, m1, m2);
+		System.arraycopy(m1.array(), 0, o1, 0, size);
+		System.arraycopy(m2.array(), 0, o2, 0, size);
+	}
+
 }
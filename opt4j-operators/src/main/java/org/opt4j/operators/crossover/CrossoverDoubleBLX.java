@@ -89,6 +89,22 @@ public class CrossoverDoubleBLX extends CrossoverDoubleElementwise {
 		return new Pair<>(o1, o2);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDoubleElementwise#crossover(double,
+	 * double, double[], double[], int)
+	 */
+	@Override
+	protected void crossover(double x, double y, double[] o1, double[] o2, int i) {
+		double lo = Math.min(x, y);
+		double hi = Math.max(x, y);
+
+		o1[i] = next(lo, hi);
+		o2[i] = next(lo, hi);
+	}
+
 	/**
 	 * Calculates a random value in the interval
 	 * {@code [lo-(hi-lo)*alpha;hi+(hi-lo)*alpha]}.
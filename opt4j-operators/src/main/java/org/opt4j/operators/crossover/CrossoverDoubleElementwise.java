@@ -68,6 +68,43 @@ public abstract class CrossoverDoubleElementwise extends CrossoverDouble {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.crossover.CrossoverDouble#crossover(double[],
+	 * double[], double[], double[], int)
+	 */
+	@Override
+	protected void crossover(double[] p1, double[] p2, double[] o1, double[] o2, int size) {
+		for (int i = 0; i < size; i++) {
+			crossover(p1[i], p2[i], o1, o2, i);
+		}
+	}
+
+	/**
+	 * Performs a crossover with two double values and writes the resulting
+	 * values to the {@code i}-th entry of the offspring arrays. The default
+	 * implementation uses {@link #crossover(double, double)}; operators should
+	 * override this method with an implementation that does not box the
+	 * values.
+	 * 
+	 * @param x
+	 *            the first value
+	 * @param y
+	 *            the second value
+	 * @param o1
+	 *            the first offspring
+	 * @param o2
+	 *            the second offspring
+	 * @param i
+	 *            the index of the values
+	 */
+	protected void crossover(double x, double y, double[] o1, double[] o2, int i) {
+		Pair<Double> values = crossover(x, y);
+		o1[i] = values.getFirst();
+		o2[i] = values.getSecond();
+	}
+
 	/**
 	 * Performs a crossover with two double values.
 	 * 
@@ -101,13 +101,7 @@ public class CrossoverDoubleSBX extends CrossoverDoubleElementwise {
 	 */
 	@Override
 	public Pair<Double> crossover(double x, double y) {
-		double u = random.nextDouble(); // [0,1)
-		double beta;
-		if (0.5 <= u) {
-			beta = Math.pow(2 * u, 1 / (nu + 1));
-		} else {
-			beta = Math.pow(1 / (2 - 2 * u), 1 / (nu + 1));
-		}
+		double beta = beta();
 
 		double o1 = 0.5 * ((1 + beta) * x + (1 - beta) * y);
 		double o2 = 0.5 * ((1 - beta) * x + (1 + beta) * y);
@@ -121,4 +115,41 @@ public class CrossoverDoubleSBX extends CrossoverDoubleElementwise {
 		return new Pair<>(o1, o2);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDoubleElementwise#crossover(double,
+	 * double, double[], double[], int)
+	 */
+	@Override
+	protected void crossover(double x, double y, double[] offspring1, double[] offspring2, int i) {
+		double beta = beta();
+
+		double o1 = 0.5 * ((1 + beta) * x + (1 - beta) * y);
+		double o2 = 0.5 * ((1 - beta) * x + (1 + beta) * y);
+
+		if (random.nextDouble() < 0.5) {
+			offspring1[i] = o2;
+			offspring2[i] = o1;
+		} else {
+			offspring1[i] = o1;
+			offspring2[i] = o2;
+		}
+	}
+
+	/**
+	 * Draws the spread factor {@code beta} of the polynomial distribution.
+	 * 
+	 * @return the spread factor
+	 */
+	protected double beta() {
+		double u = random.nextDouble(); // [0,1)
+		if (0.5 <= u) {
+			return Math.pow(2 * u, 1 / (nu + 1));
+		} else {
+			return Math.pow(1 / (2 - 2 * u), 1 / (nu + 1));
+		}
+	}
+
 }
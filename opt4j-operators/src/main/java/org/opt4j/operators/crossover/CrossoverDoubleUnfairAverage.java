@@ -116,4 +116,28 @@ public class CrossoverDoubleUnfairAverage extends CrossoverDouble {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.crossover.CrossoverDouble#crossover(double[],
+	 * double[], double[], double[], int)
+	 */
+	@Override
+	protected void crossover(double[] p1, double[] p2, double[] o1, double[] o2, int size) {
+		int j = random.nextInt(size);
+
+		for (int i = 0; i < size; i++) {
+			double x = p1[i];
+			double y = p2[i];
+
+			if (i <= j) {
+				o1[i] = (1 + alpha) * x - alpha * y;
+				o2[i] = (1 - alpha) * x + alpha * y;
+			} else {
+				o1[i] = -alpha * x + (1 + alpha) * y;
+				o2[i] = alpha * x + (1 - alpha) * y;
+			}
+		}
+	}
+
 }
@@ -24,6 +24,7 @@
 package org.opt4j.operators.diversity;
 
 import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.PackedBooleanGenotype;
 
 /**
  * The {@link DiversityBooleanFraction} calculates the {@link Diversity} between
@@ -44,6 +45,16 @@ public class DiversityBooleanFraction implements DiversityBoolean {
 	 */
 	@Override
 	public double diversity(BooleanGenotype a, BooleanGenotype b) {
+		if (a instanceof PackedBooleanGenotype && b instanceof PackedBooleanGenotype) {
+			long[] x = ((PackedBooleanGenotype) a).words();
+			long[] y = ((PackedBooleanGenotype) b).words();
+			int n = PackedBooleanGenotype.wordCount(a.size());
+			int diversity = 0;
+			for (int i = 0; i < n; i++) {
+				diversity += Long.bitCount(x[i] ^ y[i]);
+			}
+			return (double) diversity / a.size();
+		}
 
 		double diversity = 0;
 		for (int i = 0; i < a.size(); i++) {
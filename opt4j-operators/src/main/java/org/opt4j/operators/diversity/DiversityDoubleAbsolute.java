@@ -23,6 +23,7 @@
 
 package org.opt4j.operators.diversity;
 
+import org.opt4j.core.genotype.DoubleArrayGenotype;
 import org.opt4j.core.genotype.DoubleGenotype;
 
 /**
@@ -46,6 +47,16 @@ public class DiversityDoubleAbsolute implements DiversityDouble {
 		int size = a.size();
 
 		double diversity = 0;
+		if (a instanceof DoubleArrayGenotype && b instanceof DoubleArrayGenotype) {
+			double[] x = ((DoubleArrayGenotype) a).array();
+			double[] y = ((DoubleArrayGenotype) b).array();
+			for (int i = 0; i < size; i++) {
+				double diff = a.getUpperBound(i) - a.getLowerBound(i);
+				diversity += Math.abs(x[i] - y[i]) / diff;
+			}
+			return diversity / size;
+		}
+
 		for (int i = 0; i < size; i++) {
 			double diff = a.getUpperBound(i) - a.getLowerBound(i);
 			diversity += Math.abs(a.get(i) - b.get(i)) / diff;
@@ -23,6 +23,7 @@
 
 package org.opt4j.operators.diversity;
 
+import org.opt4j.core.genotype.DoubleArrayGenotype;
 import org.opt4j.core.genotype.DoubleGenotype;
 
 /**
@@ -45,6 +46,17 @@ public class DiversityDoubleEuclidean implements DiversityDouble {
 	public double diversity(DoubleGenotype a, DoubleGenotype b) {
 		double diversity = 0;
 		int size = a.size();
+		if (a instanceof DoubleArrayGenotype && b instanceof DoubleArrayGenotype) {
+			double[] x = ((DoubleArrayGenotype) a).array();
+			double[] y = ((DoubleArrayGenotype) b).array();
+			for (int i = 0; i < size; i++) {
+				double diff = a.getUpperBound(i) - a.getLowerBound(i);
+				double dist = (x[i] - y[i]) / diff;
+				diversity += dist * dist;
+			}
+			return Math.sqrt(diversity) / Math.sqrt(size);
+		}
+
 		for (int i = 0; i < size; i++) {
 			double diff = a.getUpperBound(i) - a.getLowerBound(i);
 			double dist = (a.get(i) - b.get(i)) / diff;
@@ -27,6 +27,7 @@ import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.PackedBooleanGenotype;
 
 import com.google.inject.Inject;
 
@@ -62,6 +63,16 @@ public class MutateBoolean implements Mutate<BooleanGenotype> {
 	public void mutate(BooleanGenotype genotype, double p) {
 		int size = genotype.size();
 
+		if (genotype instanceof PackedBooleanGenotype) {
+			long[] words = ((PackedBooleanGenotype) genotype).words();
+			for (int i = 0; i < size; i++) {
+				if (random.nextDouble() < p) {
+					words[i >> 6] ^= 1L << i;
+				}
+			}
+			return;
+		}
+
 		for (int i = 0; i < size; i++) {
 			if (random.nextDouble() < p) {
 				genotype.set(i, !genotype.get(i));
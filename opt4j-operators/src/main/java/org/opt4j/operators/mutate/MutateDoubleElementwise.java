@@ -24,6 +24,7 @@
 package org.opt4j.operators.mutate;
 
 import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.DoubleArrayGenotype;
 import org.opt4j.core.genotype.DoubleGenotype;
 import org.opt4j.operators.normalize.NormalizeDouble;
 
@@ -56,6 +57,15 @@ public abstract class MutateDoubleElementwise extends MutateDouble {
 	 */
 	@Override
 	protected void mutateList(DoubleGenotype vector, double p) {
+		if (vector instanceof DoubleArrayGenotype) {
+			double[] values = ((DoubleArrayGenotype) vector).array();
+			int size = vector.size();
+			for (int i = 0; i < size; i++) {
+				values[i] = mutateElement(values[i], vector.getLowerBound(i), vector.getUpperBound(i), p);
+			}
+			return;
+		}
+
 		for (int i = 0; i < vector.size(); i++) {
 			double x = vector.get(i);
 			double y = mutateElement(x, vector.getLowerBound(i), vector.getUpperBound(i), p);
@@ -27,6 +27,7 @@ import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.PackedBooleanGenotype;
 import org.opt4j.operators.diversity.DiversityBoolean;
 
 import com.google.inject.Inject;
@@ -64,7 +65,11 @@ public class NeighborBoolean implements Neighbor<BooleanGenotype> {
 
 		int i = random.nextInt(size);
 
-		genotype.set(i, !genotype.get(i));
+		if (genotype instanceof PackedBooleanGenotype) {
+			((PackedBooleanGenotype) genotype).flip(i);
+		} else {
+			genotype.set(i, !genotype.get(i));
+		}
 	}
 
 }
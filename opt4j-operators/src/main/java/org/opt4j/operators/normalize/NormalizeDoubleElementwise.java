@@ -22,6 +22,7 @@
  
 package org.opt4j.operators.normalize;
 
+import org.opt4j.core.genotype.DoubleArrayGenotype;
 import org.opt4j.core.genotype.DoubleGenotype;
 
 /**
@@ -46,6 +47,22 @@ public abstract class NormalizeDoubleElementwise implements NormalizeDouble {
 	public void normalize(DoubleGenotype genotype) {
 		int size = genotype.size();
 
+		if (genotype instanceof DoubleArrayGenotype) {
+			double[] values = ((DoubleArrayGenotype) genotype).array();
+			for (int i = 0; i < size; i++) {
+				double value = values[i];
+				double lb = genotype.getLowerBound(i);
+				double ub = genotype.getUpperBound(i);
+
+				if (value < lb || ub < value) {
+					value = normalize(value, lb, ub);
+					assert (lb <= value && value <= ub);
+					values[i] = value;
+				}
+			}
+			return;
+		}
+
 		for (int i = 0; i < size; i++) {
 			double value = genotype.get(i);
 			double lb = genotype.getLowerBound(i);
@@ -26,6 +26,9 @@ import java.util.Collection;
 
 import org.opt4j.core.Individual;
 import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.common.metrics.Metrics;
+import org.opt4j.core.common.metrics.MetricsDisabled;
+import org.opt4j.core.common.metrics.Timer;
 import org.opt4j.core.optimizer.IndividualCompleter;
 import org.opt4j.core.optimizer.IterativeOptimizer;
 import org.opt4j.core.optimizer.Population;
@@ -62,6 +65,12 @@ public class EvolutionaryAlgorithm implements IterativeOptimizer {
 
 	private final IndividualCompleter completer;
 
+	protected Timer parentsTimer = MetricsDisabled.TIMER;
+
+	protected Timer lamesTimer = MetricsDisabled.TIMER;
+
+	protected Timer matingTimer = MetricsDisabled.TIMER;
+
 	/**
 	 * Constructs an {@link EvolutionaryAlgorithm} with a {@link Population}, an
 	 * {@link IndividualFactory}, a {@link IndividualCompleter}, a
@@ -118,6 +127,19 @@ public class EvolutionaryAlgorithm implements IterativeOptimizer {
 		}
 	}
 
+	/**
+	 * Injects the {@link Metrics} of the selection and the mating.
+	 * 
+	 * @param metrics
+	 *            the metrics
+	 */
+	@Inject
+	protected void injectMetrics(Metrics metrics) {
+		this.parentsTimer = metrics.timer(Metrics.SELECTOR_PARENTS);
+		this.lamesTimer = metrics.timer(Metrics.SELECTOR_LAMES);
+		this.matingTimer = metrics.timer(Metrics.MATING);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -137,8 +159,10 @@ public class EvolutionaryAlgorithm implements IterativeOptimizer {
 	public void next() throws TerminationException {
 		// remove lames
 		if (population.size() > alpha) {
+			long start = lamesTimer.start();
 			Collection<Individual> lames = selector.getLames(population.size()
 					- alpha, population);
+			lamesTimer.stop(start);
 			population.removeAll(lames);
 		}
 		// set the number of new offspring individuals per generation
@@ -156,10 +180,14 @@ public class EvolutionaryAlgorithm implements IterativeOptimizer {
 				completer.complete(population);
 			}
 
+			long start = parentsTimer.start();
 			Collection<Individual> parents = selector
 					.getParents(mu, population);
+			parentsTimer.stop(start);
+			start = matingTimer.start();
 			Collection<Individual> offspring = mating.getOffspring(
 					offspringCount, parents);
+			matingTimer.stop(start);
 			population.addAll(offspring);
 		}
 	}
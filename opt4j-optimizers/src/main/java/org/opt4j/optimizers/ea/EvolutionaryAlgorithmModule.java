@@ -68,6 +68,34 @@ public class EvolutionaryAlgorithmModule extends OptimizerModule {
 	@Ignore
 	protected CrossoverRateType crossoverRateType = CrossoverRateType.CONSTANT;
 
+	@Info("The replacement strategy. The steady-state mode inserts each offspring as soon as it is evaluated.")
+	@Order(5)
+	protected Mode mode = Mode.GENERATIONAL;
+
+	/**
+	 * The {@link Mode} determines when the offspring are inserted into the
+	 * population.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	public enum Mode {
+		/**
+		 * All offspring of a generation are evaluated before the selection.
+		 * 
+		 * @see EvolutionaryAlgorithm
+		 */
+		@Info("Evaluate all offspring of a generation before the selection")
+		GENERATIONAL,
+		/**
+		 * Each offspring is inserted as soon as it is evaluated.
+		 * 
+		 * @see SteadyStateEvolutionaryAlgorithm
+		 */
+		@Info("Insert each offspring as soon as it is evaluated")
+		STEADY_STATE;
+	}
+
 	/**
 	 * The {@link CrossoverRateType} allows to choose between different types of
 	 * crossover rates.
@@ -197,6 +225,25 @@ public class EvolutionaryAlgorithmModule extends OptimizerModule {
 		this.crossoverRate = crossoverRate;
 	}
 
+	/**
+	 * Returns the replacement {@link Mode}.
+	 * 
+	 * @return the mode
+	 */
+	public Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Sets the replacement {@link Mode}.
+	 * 
+	 * @param mode
+	 *            the mode to set
+	 */
+	public void setMode(Mode mode) {
+		this.mode = mode;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -204,7 +251,11 @@ public class EvolutionaryAlgorithmModule extends OptimizerModule {
 	 */
 	@Override
 	public void config() {
-		bindIterativeOptimizer(EvolutionaryAlgorithm.class);
+		if (mode == Mode.STEADY_STATE) {
+			bindIterativeOptimizer(SteadyStateEvolutionaryAlgorithm.class);
+		} else {
+			bindIterativeOptimizer(EvolutionaryAlgorithm.class);
+		}
 		bind(CrossoverRate.class).to(ConstantCrossoverRate.class).in(SINGLETON);
 	}
 }
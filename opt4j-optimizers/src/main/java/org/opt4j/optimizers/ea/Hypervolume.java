@@ -25,14 +25,13 @@ package org.opt4j.optimizers.ea;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.opt4j.core.Individual;
+import org.opt4j.core.common.archive.Crowding;
 import org.opt4j.core.common.archive.FrontDensityIndicator;
 import org.opt4j.core.start.Constant;
 
@@ -83,6 +82,18 @@ public class Hypervolume implements FrontDensityIndicator {
 		return getDensityValues(individuals, this.offset);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.archive.FrontDensityIndicator#getDensityValues(
+	 * double[][], java.util.List)
+	 */
+	@Override
+	public double[] getDensityValues(double[][] objectives, List<Individual> individuals) {
+		return getDensityValues(objectives, this.offset);
+	}
+
 	/**
 	 * Calculates the density values for a front of non-dominated individuals
 	 * based on the contribution of the {@link Hypervolume}.
@@ -117,6 +128,34 @@ public class Hypervolume implements FrontDensityIndicator {
 		}
 	}
 
+	/**
+	 * Calculates the density values for a front of non-dominated solutions
+	 * that is given as a matrix of objective values (minimization) based on
+	 * the contribution of the {@link Hypervolume}. The {@code i}-th value
+	 * belongs to the {@code i}-th row.
+	 * 
+	 * @param objectives
+	 *            the objective values of the front
+	 * @param offset
+	 *            the offset
+	 * @return the density values
+	 */
+	protected double[] getDensityValues(double[][] objectives, double offset) {
+		if (objectives.length == 0) {
+			throw new IllegalArgumentException("Individuals is empty.");
+		}
+
+		int m = objectives[0].length;
+
+		if (m < 2) {
+			return new double[objectives.length];
+		} else if (m == 2) {
+			return calculateHypervolumeContribution2D(objectives, offset);
+		} else {
+			return calculateHypervolumeContributionN(objectives, offset);
+		}
+	}
+
 	/**
 	 * Calculates the {@link Hypervolume} contribution for n dimensions.
 	 * 
@@ -127,18 +166,33 @@ public class Hypervolume implements FrontDensityIndicator {
 	 * @return the map of density values
 	 */
 	protected Map<Individual, Double> calculateHypervolumeContributionN(List<Individual> individuals, double offset) {
-		Map<Individual, Double> result = new HashMap<>();
-		List<double[]> front = invert(normalize(getMinValues(individuals)), offset);
+		return toMap(individuals,
+				calculateHypervolumeContributionN(FrontDensityIndicator.toMatrix(individuals), offset));
+	}
 
-		int m = front.get(0).length;
+	/**
+	 * Calculates the {@link Hypervolume} contribution for n dimensions.
+	 * 
+	 * @param objectives
+	 *            the objective values of the front (minimization)
+	 * @param offset
+	 *            the offset
+	 * @return the contribution of each row
+	 */
+	protected double[] calculateHypervolumeContributionN(double[][] objectives, double offset) {
+		double[][] normalized = invert(normalize(objectives), offset);
+		List<double[]> front = new ArrayList<>(Arrays.asList(normalized));
+		double[] result = new double[normalized.length];
+
+		int m = normalized[0].length;
 
-		double hvAll = calculateHypervolume(front, m);
+		double hvAll = calculateHypervolume(new ArrayList<>(front), m);
 
 		for (int i = 0; i < front.size(); i++) {
 			List<double[]> iFront = new ArrayList<>(front);
 			iFront.remove(i);
 			double iHv = calculateHypervolume(iFront, m);
-			result.put(individuals.get(i), hvAll - iHv);
+			result[i] = hvAll - iHv;
 		}
 
 		return result;
@@ -154,32 +208,58 @@ public class Hypervolume implements FrontDensityIndicator {
 	 * @return the map of density values
 	 */
 	protected Map<Individual, Double> calculateHypervolumeContribution2D(List<Individual> individuals, double offset) {
-		Map<Individual, Double> result = new HashMap<>();
-		List<double[]> front = invert(normalize(getMinValues(individuals)), offset);
-		List<double[]> sorted = new ArrayList<>(front);
-
-		Collections.sort(sorted, new Comparator<double[]>() {
-			@Override
-			public int compare(double[] o1, double[] o2) {
-				Double v1 = o1[0];
-				Double v2 = o2[0];
-				return v1.compareTo(v2);
-			}
-		});
+		return toMap(individuals,
+				calculateHypervolumeContribution2D(FrontDensityIndicator.toMatrix(individuals), offset));
+	}
 
-		final int size = sorted.size();
+	/**
+	 * Calculates the {@link Hypervolume} contribution for two dimensions.
+	 * 
+	 * @param objectives
+	 *            the objective values of the front (minimization)
+	 * @param offset
+	 *            the offset
+	 * @return the contribution of each row
+	 */
+	protected double[] calculateHypervolumeContribution2D(double[][] objectives, double offset) {
+		double[][] front = invert(normalize(objectives), offset);
+		final int size = front.length;
 
+		int[] sorted = new int[size];
+		double[] keys = new double[size];
 		for (int i = 0; i < size; i++) {
-			double diffX = sorted.get(i)[0] - (i > 0 ? sorted.get(i - 1)[0] : 0);
-			double diffY = sorted.get(i)[1] - (i < size - 1 ? sorted.get(i + 1)[1] : 0);
-			double contribution = diffX * diffY;
+			sorted[i] = i;
+			keys[i] = front[i][0];
+		}
+		Crowding.sort(sorted, keys, new int[size]);
 
-			result.put(individuals.get(front.indexOf(sorted.get(i))), contribution);
+		double[] result = new double[size];
+		for (int i = 0; i < size; i++) {
+			double diffX = front[sorted[i]][0] - (i > 0 ? front[sorted[i - 1]][0] : 0);
+			double diffY = front[sorted[i]][1] - (i < size - 1 ? front[sorted[i + 1]][1] : 0);
+			result[sorted[i]] = diffX * diffY;
 		}
 
 		return result;
 	}
 
+	/**
+	 * Maps the values to the individuals.
+	 * 
+	 * @param individuals
+	 *            the individuals
+	 * @param values
+	 *            the value of each individual
+	 * @return the map of the individuals to their values
+	 */
+	protected Map<Individual, Double> toMap(List<Individual> individuals, double[] values) {
+		Map<Individual, Double> result = new HashMap<>();
+		for (int i = 0; i < values.length; i++) {
+			result.put(individuals.get(i), values[i]);
+		}
+		return result;
+	}
+
 	/**
 	 * Transforms the non-dominated {@link Individual}s to a front where each
 	 * objective is to be minimized.
@@ -236,6 +316,45 @@ public class Hypervolume implements FrontDensityIndicator {
 		return normalized;
 	}
 
+	/**
+	 * Normalizes a front of non-dominated solutions to values between 0 and 1.
+	 * 
+	 * @param front
+	 *            the front of non-dominated solutions
+	 * @return the normalized front
+	 */
+	protected double[][] normalize(double[][] front) {
+		int m = front[0].length;
+
+		double[] min = new double[m];
+		double[] max = new double[m];
+
+		Arrays.fill(min, +Double.MAX_VALUE);
+		Arrays.fill(max, -Double.MAX_VALUE);
+
+		for (double[] p : front) {
+			for (int i = 0; i < m; i++) {
+				min[i] = Math.min(min[i], p[i]);
+				max[i] = Math.max(max[i], p[i]);
+			}
+		}
+
+		for (int i = 0; i < m; i++) {
+			if (min[i] == max[i]) {
+				max[i]++;
+			}
+		}
+
+		double[][] normalized = new double[front.length][m];
+		for (int j = 0; j < front.length; j++) {
+			double[] p = front[j];
+			for (int i = 0; i < m; i++) {
+				normalized[j][i] = (p[i] - min[i]) / (max[i] - min[i]);
+			}
+		}
+		return normalized;
+	}
+
 	/**
 	 * Inverts (from a minimization to a maximization problem) a front of
 	 * solutions and adds an offset value to each dimension.
@@ -264,6 +383,25 @@ public class Hypervolume implements FrontDensityIndicator {
 		return inverted;
 	}
 
+	/**
+	 * Inverts (from a minimization to a maximization problem) a front of
+	 * solutions in place and adds an offset value to each dimension.
+	 * 
+	 * @param front
+	 *            the front of non-dominated solutions
+	 * @param offset
+	 *            the offset
+	 * @return the inverted front
+	 */
+	protected double[][] invert(double[][] front, double offset) {
+		for (double[] element : front) {
+			for (int i = 0; i < element.length; i++) {
+				element[i] = 1.0 + offset - element[i];
+			}
+		}
+		return front;
+	}
+
 	/**
 	 * Implements the {@link Hypervolume} calculations as proposed by Zitzler,
 	 * E., and Thiele, L. (1998). All points have positive values in all
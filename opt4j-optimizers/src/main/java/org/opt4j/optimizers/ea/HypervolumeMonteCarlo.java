@@ -0,0 +1,328 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.optimizers.ea;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+
+/**
+ * The {@link HypervolumeMonteCarlo} is a {@link Hypervolume} indicator that
+ * estimates the exclusive hypervolume contributions by sampling, see
+ * "Bringmann, K., and Friedrich, T. (2012): Approximating the least hypervolume
+ * contributor: NP-hard in general, but fast in practice. Theoretical Computer
+ * Science 425, 104-116".
+ * <p>
+ * For each point, samples are drawn uniformly from a box that contains its
+ * exclusive region: The box is bounded by the point itself and, in each
+ * dimension, by the largest value of the other points that are not worse in all
+ * remaining dimensions. A sample counts as a hit if no other point dominates
+ * it. The contribution is the box volume times the hit rate.
+ * </p>
+ * <p>
+ * Each point is sampled with up to {@code samples} samples. If {@code maxError}
+ * is positive, the sampling of a point stops as soon as the standard error of
+ * its estimate is below this value. The standard errors of the last
+ * calculation are available via {@link #getEstimate()}. Each point uses its own
+ * random number generator that is seeded from the {@link Rand}, such that the
+ * sequential and the parallel sampling give identical results.
+ * </p>
+ * 
+ * @see SMSModule
+ * @author agent
+ * 
+ */
+public class HypervolumeMonteCarlo extends Hypervolume {
+
+	/**
+	 * The number of samples that are drawn between two checks of the error.
+	 */
+	protected static final int BATCH = 1000;
+
+	protected final Random random;
+
+	protected final int samples;
+
+	protected final double maxError;
+
+	protected final boolean parallel;
+
+	protected volatile Estimate estimate = null;
+
+	/**
+	 * The {@link Estimate} contains the estimated contributions and their
+	 * standard errors.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	public static class Estimate {
+
+		protected final double[] values;
+
+		protected final double[] errors;
+
+		protected final int[] samples;
+
+		/**
+		 * Constructs an {@link Estimate} for {@code n} points.
+		 * 
+		 * @param n
+		 *            the number of points
+		 */
+		Estimate(int n) {
+			this.values = new double[n];
+			this.errors = new double[n];
+			this.samples = new int[n];
+		}
+
+		/**
+		 * Returns the estimated contributions.
+		 * 
+		 * @return the contributions
+		 */
+		public double[] getValues() {
+			return values;
+		}
+
+		/**
+		 * Returns the standard errors of the estimated contributions.
+		 * 
+		 * @return the standard errors
+		 */
+		public double[] getErrors() {
+			return errors;
+		}
+
+		/**
+		 * Returns the number of samples that were drawn for each point.
+		 * 
+		 * @return the number of samples
+		 */
+		public int[] getSamples() {
+			return samples;
+		}
+	}
+
+	/**
+	 * Constructs a {@link HypervolumeMonteCarlo}.
+	 * 
+	 * @param offset
+	 *            the offset that is added to each dimension before the
+	 *            hypervolume is calculated
+	 * @param random
+	 *            the random number generator
+	 * @param samples
+	 *            the maximal number of samples per point
+	 * @param maxError
+	 *            the standard error at which the sampling of a point stops
+	 *            ({@code 0} to always draw all samples)
+	 * @param parallel
+	 *            {@code true} if the points are sampled in parallel
+	 */
+	@Inject
+	public HypervolumeMonteCarlo(@Constant(value = "offset", namespace = Hypervolume.class) double offset, Rand random,
+			@Constant(value = "samples", namespace = HypervolumeMonteCarlo.class) int samples,
+			@Constant(value = "maxError", namespace = HypervolumeMonteCarlo.class) double maxError,
+			@Constant(value = "parallel", namespace = HypervolumeMonteCarlo.class) boolean parallel) {
+		super(offset);
+		if (samples <= 0) {
+			throw new IllegalArgumentException("The number of samples must be positive: " + samples);
+		}
+		if (maxError < 0) {
+			throw new IllegalArgumentException("The maximal error must not be negative: " + maxError);
+		}
+		this.random = random;
+		this.samples = samples;
+		this.maxError = maxError;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns the {@link Estimate} of the last calculation. The entries are in
+	 * the order of the points of the front.
+	 * 
+	 * @return the estimate or {@code null} if nothing was calculated yet
+	 */
+	public Estimate getEstimate() {
+		return estimate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.optimizers.ea.Hypervolume#calculateHypervolumeContributionN(
+	 * double[][], double)
+	 */
+	@Override
+	protected double[] calculateHypervolumeContributionN(double[][] objectives, double offset) {
+		Estimate estimate = estimateContributions(invert(normalize(objectives), offset));
+		this.estimate = estimate;
+		return estimate.values;
+	}
+
+	/**
+	 * Estimates the exclusive hypervolume contribution of each point. All
+	 * points have positive values in all dimensions that are maximized and the
+	 * hypervolume is calculated from {@code 0}.
+	 * 
+	 * @param front
+	 *            the non-dominated points
+	 * @return the estimate
+	 */
+	public Estimate estimateContributions(double[][] front) {
+		final int n = front.length;
+		final Estimate estimate = new Estimate(n);
+		final long[] seeds = new long[n];
+		synchronized (random) {
+			for (int i = 0; i < n; i++) {
+				seeds[i] = random.nextLong();
+			}
+		}
+
+		IntStream indices = IntStream.range(0, n);
+		if (parallel) {
+			indices = indices.parallel();
+		}
+		indices.forEach(i -> estimate(front, i, new SplittableRandom(seeds[i]), estimate));
+		return estimate;
+	}
+
+	/**
+	 * Estimates the exclusive contribution of the {@code i}-th point.
+	 * 
+	 * @param front
+	 *            the non-dominated points
+	 * @param i
+	 *            the index of the point
+	 * @param random
+	 *            the random number generator of this point
+	 * @param estimate
+	 *            the estimate that is filled
+	 */
+	protected void estimate(double[][] front, int i, SplittableRandom random, Estimate estimate) {
+		final int n = front.length;
+		final double[] p = front[i];
+		final int m = p.length;
+
+		// the box that contains the exclusive region of p
+		double[] lower = new double[m];
+		for (int j = 0; j < n; j++) {
+			if (j != i) {
+				double[] q = front[j];
+				int worse = -1;
+				for (int k = 0; k < m; k++) {
+					if (q[k] < p[k]) {
+						worse = worse == -1 ? k : -2;
+					}
+				}
+				if (worse >= 0) {
+					lower[worse] = Math.max(lower[worse], q[worse]);
+				} else if (worse == -1) {
+					// p is weakly dominated by q
+					return;
+				}
+			}
+		}
+		double box = 1;
+		for (int k = 0; k < m; k++) {
+			box *= p[k] - lower[k];
+		}
+		if (box <= 0) {
+			return;
+		}
+
+		// only points that exceed the lower bound in all dimensions can
+		// dominate a sample
+		double[][] relevant = new double[n][];
+		int size = 0;
+		for (int j = 0; j < n; j++) {
+			double[] q = front[j];
+			boolean isRelevant = j != i;
+			for (int k = 0; k < m && isRelevant; k++) {
+				isRelevant = q[k] > lower[k];
+			}
+			if (isRelevant) {
+				relevant[size++] = q;
+			}
+		}
+
+		double[] x = new double[m];
+		int drawn = 0;
+		int hits = 0;
+		double error = 0;
+		while (drawn < samples) {
+			int batch = Math.min(BATCH, samples - drawn);
+			for (int b = 0; b < batch; b++) {
+				for (int k = 0; k < m; k++) {
+					x[k] = lower[k] + random.nextDouble() * (p[k] - lower[k]);
+				}
+				if (!isDominated(x, relevant, size)) {
+					hits++;
+				}
+			}
+			drawn += batch;
+			// the add-two estimate avoids a zero error for hit rates of 0 or 1
+			double rate = (hits + 1.0) / (drawn + 2.0);
+			error = box * Math.sqrt(rate * (1 - rate) / drawn);
+			if (maxError > 0 && error <= maxError) {
+				break;
+			}
+		}
+
+		estimate.values[i] = box * hits / drawn;
+		estimate.errors[i] = error;
+		estimate.samples[i] = drawn;
+	}
+
+	/**
+	 * Returns {@code true} if the sample is dominated by one of the points.
+	 * 
+	 * @param x
+	 *            the sample
+	 * @param points
+	 *            the points
+	 * @param size
+	 *            the number of points
+	 * @return {@code true} if the sample is dominated
+	 */
+	protected static boolean isDominated(double[] x, double[][] points, int size) {
+		for (int j = 0; j < size; j++) {
+			double[] q = points[j];
+			boolean dominates = true;
+			for (int k = 0; k < x.length && dominates; k++) {
+				dominates = q[k] >= x[k];
+			}
+			if (dominates) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
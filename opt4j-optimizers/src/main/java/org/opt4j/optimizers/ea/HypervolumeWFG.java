@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.optimizers.ea;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+
+/**
+ * The {@link HypervolumeWFG} is a {@link Hypervolume} indicator that computes
+ * the exclusive hypervolume contributions with the WFG algorithm, see "While,
+ * L., Bradstreet, L., and Barone, L. (2012): A Fast Way of Calculating Exact
+ * Hypervolumes. IEEE Transactions on Evolutionary Computation 16(1), 86-95".
+ * <p>
+ * The exclusive contribution of a point {@code p} is the volume of {@code p}
+ * minus the hypervolume of the limit set, i.e., all other points limited to the
+ * box of {@code p}. Since most limited points are dominated, the limit sets are
+ * small. The hypervolume of a set is calculated with the WFG recursion that
+ * sorts the points by the last objective such that each limit set can be
+ * calculated with one objective less. All calculations are done on primitive
+ * arrays. The two-dimensional case is handled as in {@link Hypervolume}.
+ * </p>
+ * 
+ * @see SMSModule
+ * @author agent
+ * 
+ */
+public class HypervolumeWFG extends Hypervolume {
+
+	/**
+	 * Constructs a {@link HypervolumeWFG}.
+	 * 
+	 * @param offset
+	 *            the offset that is added to each dimension before the
+	 *            hypervolume is calculated
+	 */
+	@Inject
+	public HypervolumeWFG(@Constant(value = "offset", namespace = Hypervolume.class) double offset) {
+		super(offset);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.optimizers.ea.Hypervolume#calculateHypervolumeContributionN(
+	 * double[][], double)
+	 */
+	@Override
+	protected double[] calculateHypervolumeContributionN(double[][] objectives, double offset) {
+		return calculateContributions(invert(normalize(objectives), offset));
+	}
+
+	/**
+	 * Calculates the exclusive hypervolume contribution of each point. All
+	 * points have positive values in all dimensions that are maximized and the
+	 * hypervolume is calculated from {@code 0}.
+	 * 
+	 * @param front
+	 *            the points
+	 * @return the exclusive contribution of each point
+	 */
+	public double[] calculateContributions(double[][] front) {
+		final int n = front.length;
+		double[] contributions = new double[n];
+		if (n == 0) {
+			return contributions;
+		}
+		final int m = front[0].length;
+		double[][] limit = new double[n - 1][m];
+
+		for (int i = 0; i < n; i++) {
+			double[] p = front[i];
+			int size = 0;
+			for (int j = 0; j < n; j++) {
+				if (j != i) {
+					double[] q = front[j];
+					double[] l = limit[size++];
+					for (int k = 0; k < m; k++) {
+						l[k] = Math.min(p[k], q[k]);
+					}
+				}
+			}
+			contributions[i] = volume(p, m) - calculateHypervolume(limit, size, m);
+		}
+		return contributions;
+	}
+
+	/**
+	 * Calculates the hypervolume of the first {@code n} points with respect to
+	 * the first {@code m} objectives. The order of the points in the array is
+	 * changed.
+	 * 
+	 * @param points
+	 *            the points
+	 * @param n
+	 *            the number of points
+	 * @param m
+	 *            the number of objectives
+	 * @return the hypervolume
+	 */
+	public double calculateHypervolume(double[][] points, int n, int m) {
+		n = filterNondominated(points, n, m);
+		if (n == 0) {
+			return 0;
+		} else if (n == 1) {
+			return volume(points[0], m);
+		} else if (m == 1) {
+			return points[0][0];
+		} else if (m == 2) {
+			return calculateHypervolume2D(points, n);
+		}
+
+		// sort ascending in the last objective such that all succeeding points
+		// are limited to the value of the current point in the last objective
+		final int last = m - 1;
+		Arrays.sort(points, 0, n, Comparator.comparingDouble(p -> p[last]));
+
+		double[][] limit = new double[n - 1][last];
+		double volume = 0;
+		for (int i = 0; i < n; i++) {
+			double[] p = points[i];
+			int size = 0;
+			for (int j = i + 1; j < n; j++) {
+				double[] q = points[j];
+				double[] l = limit[size++];
+				for (int k = 0; k < last; k++) {
+					l[k] = Math.min(p[k], q[k]);
+				}
+			}
+			volume += p[last] * (volume(p, last) - calculateHypervolume(limit, size, last));
+		}
+		return volume;
+	}
+
+	/**
+	 * Calculates the hypervolume of the first {@code n} non-dominated points
+	 * in two dimensions.
+	 * 
+	 * @param points
+	 *            the points
+	 * @param n
+	 *            the number of points
+	 * @return the hypervolume
+	 */
+	protected double calculateHypervolume2D(double[][] points, int n) {
+		// after filtering, the points are sorted descending in the first
+		// objective and, thus, ascending in the second objective
+		double volume = 0;
+		double y = 0;
+		for (int i = 0; i < n; i++) {
+			double[] p = points[i];
+			volume += p[0] * (p[1] - y);
+			y = p[1];
+		}
+		return volume;
+	}
+
+	/**
+	 * Removes the weakly dominated points from the first {@code n} points and
+	 * moves the remaining points to the beginning of the array, sorted
+	 * descending in the first objective.
+	 * 
+	 * @param points
+	 *            the points
+	 * @param n
+	 *            the number of points
+	 * @param m
+	 *            the number of objectives
+	 * @return the number of non-dominated points
+	 */
+	protected int filterNondominated(double[][] points, int n, int m) {
+		Arrays.sort(points, 0, n, (a, b) -> {
+			for (int k = 0; k < m; k++) {
+				int c = Double.compare(b[k], a[k]);
+				if (c != 0) {
+					return c;
+				}
+			}
+			return 0;
+		});
+
+		int size = 0;
+		for (int i = 0; i < n; i++) {
+			double[] p = points[i];
+			boolean dominated = false;
+			for (int j = 0; j < size && !dominated; j++) {
+				dominated = weaklyDominates(points[j], p, m);
+			}
+			if (!dominated) {
+				points[i] = points[size];
+				points[size++] = p;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns {@code true} if the point {@code a} is not smaller than the
+	 * point {@code b} in any of the first {@code m} objectives.
+	 * 
+	 * @param a
+	 *            the first point
+	 * @param b
+	 *            the second point
+	 * @param m
+	 *            the number of objectives
+	 * @return {@code true} if {@code a} weakly dominates {@code b}
+	 */
+	protected static boolean weaklyDominates(double[] a, double[] b, int m) {
+		for (int k = 0; k < m; k++) {
+			if (a[k] < b[k]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the volume of the box spanned by the point and the origin in the
+	 * first {@code m} objectives.
+	 * 
+	 * @param p
+	 *            the point
+	 * @param m
+	 *            the number of objectives
+	 * @return the volume
+	 */
+	protected static double volume(double[] p, int m) {
+		double volume = 1;
+		for (int k = 0; k < m; k++) {
+			volume *= p[k];
+		}
+		return volume;
+	}
+}
@@ -2,7 +2,6 @@ package org.opt4j.optimizers.ea;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +12,11 @@ import org.opt4j.core.Objectives;
  * The {@link NonDominatedFronts} sorts each evaluated {@link Individual} into
  * fronts based on the number of other individuals it is dominated by. The first
  * front consists of points that are not dominated at all and so on.
+ * <p>
+ * The actual sorting is done by a {@link NonDominatedSorting} strategy on the
+ * {@link Objectives#array()} values of the individuals. Within each front, the
+ * individuals keep the iteration order of the given collection.
+ * </p>
  * 
  * @author Fedor Smirnov
  *
@@ -23,7 +27,7 @@ public class NonDominatedFronts {
 
 	/**
 	 * Creates the {@link NonDominatedFronts} for the given collection of
-	 * {@link Individual}s.
+	 * {@link Individual}s using the default {@link NonDominatedSorting}.
 	 * 
 	 * @param individuals
 	 *            the {@link Individual}s that are sorted into non dominated
@@ -34,53 +38,68 @@ public class NonDominatedFronts {
 	}
 
 	/**
-	 * Sorts the given {@link Individual}s into non-dominated fronts.
+	 * Creates the {@link NonDominatedFronts} for the given collection of
+	 * {@link Individual}s.
+	 * 
+	 * @param individuals
+	 *            the {@link Individual}s that are sorted into non dominated
+	 *            fronts
+	 * @param sorting
+	 *            the {@link NonDominatedSorting} strategy
+	 */
+	public NonDominatedFronts(Collection<Individual> individuals, NonDominatedSorting sorting) {
+		this.fronts = generateFronts(individuals, sorting);
+	}
+
+	/**
+	 * Sorts the given {@link Individual}s into non-dominated fronts using the
+	 * default {@link NonDominatedSorting}.
 	 * 
 	 * @param individuals
 	 *            the collection of {@link Individual}s that shall be sorted
 	 * @return the non-dominated fronts
 	 */
 	protected List<Collection<Individual>> generateFronts(Collection<Individual> individuals) {
-		List<Collection<Individual>> fronts = new ArrayList<>();
-		// Assigns an id to each individual that corresponds to its index in an
-		// array.
-		Map<Individual, Integer> indexMap = new HashMap<>();
-		int index = 0;
-		for (Individual individual : individuals) {
-			indexMap.put(individual, index++);
+		return generateFronts(individuals, new NonDominatedSortingEfficient());
+	}
+
+	/**
+	 * Sorts the given {@link Individual}s into non-dominated fronts.
+	 * 
+	 * @param individuals
+	 *            the collection of {@link Individual}s that shall be sorted
+	 * @param sorting
+	 *            the {@link NonDominatedSorting} strategy
+	 * @return the non-dominated fronts
+	 */
+	protected List<Collection<Individual>> generateFronts(Collection<Individual> individuals,
+			NonDominatedSorting sorting) {
+		// Assigns an id to each individual that corresponds to its row in the
+		// objective matrix.
+		List<Individual> individualList = new ArrayList<>(individuals);
+		final int n = individualList.size();
+		double[][] objectives = new double[n][];
+		for (int i = 0; i < n; i++) {
+			objectives[i] = individualList.get(i).getObjectives().array();
 		}
-		// Initializes a map where an individual is assigned to the individuals
-		// that it dominates.
-		Map<Individual, List<Individual>> dominatedIndividualsMap = new HashMap<>();
-		// Creates an array where for each individual, the number of individuals
-		// that dominate it is stored.
-		int[] dominatingIndividualNumber = new int[individuals.size()];
-		for (Individual e : individuals) {
-			dominatedIndividualsMap.put(e, new ArrayList<>());
-			dominatingIndividualNumber[indexMap.get(e)] = 0;
+
+		int[] ranks = sorting.sort(objectives);
+
+		int frontNumber = 1;
+		for (int rank : ranks) {
+			frontNumber = Math.max(frontNumber, rank + 1);
 		}
-		determineDomination(individuals, dominatedIndividualsMap, dominatingIndividualNumber, indexMap);
-		// The first front consists of individuals that are dominated by zero
-		// other individuals.
-		List<Individual> f1 = new ArrayList<>();
-		for (Individual i : individuals) {
-			if (dominatingIndividualNumber[indexMap.get(i)] == 0) {
-				f1.add(i);
-			}
+		int[] frontSizes = new int[frontNumber];
+		for (int rank : ranks) {
+			frontSizes[rank]++;
 		}
-		fronts.add(f1);
-		List<Individual> currentFront = f1;
-		// Creates the subsequent fronts. Front f_i is made up by individuals
-		// that
-		// are not dominated if all individuals from fronts f_j with j < i are
-		// removed.
-		while (!currentFront.isEmpty()) {
-			List<Individual> nextFront = getNextFront(currentFront, dominatedIndividualsMap, dominatingIndividualNumber,
-					indexMap);
-			if (!nextFront.isEmpty()) {
-				fronts.add(nextFront);
-			}
-			currentFront = nextFront;
+
+		List<Collection<Individual>> fronts = new ArrayList<>(frontNumber);
+		for (int i = 0; i < frontNumber; i++) {
+			fronts.add(new ArrayList<>(frontSizes[i]));
+		}
+		for (int i = 0; i < n; i++) {
+			fronts.get(ranks[i]).add(individualList.get(i));
 		}
 		return fronts;
 	}
@@ -124,7 +143,10 @@ public class NonDominatedFronts {
 	 *            a map storing the indices of the individuals used to access
 	 *            the dominatingIndividualNumber
 	 * @return the list of individuals forming the next non-dominated front
+	 * @deprecated the fronts are determined by a {@link NonDominatedSorting},
+	 *             this method is no longer used
 	 */
+	@Deprecated
 	protected List<Individual> getNextFront(List<Individual> currentFront,
 			Map<Individual, List<Individual>> dominatedIndividualsMap, int[] dominatingIndividualNumber,
 			Map<Individual, Integer> individual2IndexMap) {
@@ -159,7 +181,10 @@ public class NonDominatedFronts {
 	 * @param individual2IndexMap
 	 *            a map mapping each individual onto its index in the
 	 *            dominatingIndividualNumber - array
+	 * @deprecated the fronts are determined by a {@link NonDominatedSorting},
+	 *             this method is no longer used
 	 */
+	@Deprecated
 	protected void determineDomination(Collection<Individual> individuals,
 			Map<Individual, List<Individual>> dominatedIndividualsMap, int[] dominatingIndividualNumber,
 			Map<Individual, Integer> individual2IndexMap) {
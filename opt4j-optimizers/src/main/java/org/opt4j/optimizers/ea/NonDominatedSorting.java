@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.optimizers.ea;
+
+import org.opt4j.core.Objectives;
+
+import com.google.inject.ImplementedBy;
+
+/**
+ * The {@link NonDominatedSorting} is the strategy that is used by the
+ * {@link NonDominatedFronts} to sort points into non-dominated fronts. The
+ * points are given as a contiguous objective matrix (one row per point, one
+ * column per objective, all objectives minimized as in
+ * {@link Objectives#array()}), the result is the front index (rank) of each
+ * row. The first front has the rank {@code 0}.
+ * 
+ * @see NonDominatedFronts
+ * @author agent
+ * 
+ */
+@ImplementedBy(NonDominatedSortingEfficient.class)
+public interface NonDominatedSorting {
+
+	/**
+	 * Sorts the given points into non-dominated fronts.
+	 * 
+	 * @param objectives
+	 *            the objective matrix with one row per point
+	 * @return the rank of each point, i.e., the index of its front
+	 */
+	public int[] sort(double[][] objectives);
+
+	/**
+	 * Returns {@code true} if the point {@code a} dominates the point
+	 * {@code b}, i.e., it is not worse in all objectives and better in at least
+	 * one objective.
+	 * 
+	 * @param a
+	 *            the first point
+	 * @param b
+	 *            the second point
+	 * @return {@code true} if {@code a} dominates {@code b}
+	 */
+	public static boolean dominates(double[] a, double[] b) {
+		boolean equal = true;
+		for (int i = 0; i < a.length; i++) {
+			if (a[i] > b[i]) {
+				return false;
+			} else if (a[i] < b[i]) {
+				equal = false;
+			}
+		}
+		return !equal;
+	}
+}
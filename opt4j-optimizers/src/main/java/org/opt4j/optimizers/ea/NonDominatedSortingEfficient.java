@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.optimizers.ea;
+
+import java.util.Arrays;
+
+import org.opt4j.core.common.dominance.DominanceKernel;
+import org.opt4j.core.common.dominance.DominanceKernelScalar;
+
+import com.google.inject.Inject;
+
+/**
+ * The {@link NonDominatedSortingEfficient} implements the efficient
+ * non-dominated sorting with binary search (ENS-BS), see "An Efficient Approach
+ * to Nondominated Sorting for Evolutionary Multiobjective Optimization, X.
+ * Zhang, Y. Tian, R. Cheng, and Y. Jin, IEEE Transactions on Evolutionary
+ * Computation, 2015".
+ * <p>
+ * The points are sorted lexicographically such that no point can be dominated
+ * by a succeeding point. Each point is then inserted into the first front that
+ * contains no dominating point, found by a binary search over the fronts.
+ * Points that are equal in all objectives are sorted into the same front. For
+ * up to two objectives, only the last point of a front has to be checked,
+ * which results in a complexity of {@code O(N log N)}.
+ * </p>
+ * <p>
+ * The points of each front are stored column-wise and checked by the
+ * {@link DominanceKernel}.
+ * </p>
+ * 
+ * @see NonDominatedFronts
+ * @author agent
+ * 
+ */
+public class NonDominatedSortingEfficient implements NonDominatedSorting {
+
+	/**
+	 * The number of points of a front that are checked by the
+	 * {@link DominanceKernel} at once.
+	 */
+	protected static final int BLOCK = 64;
+
+	protected DominanceKernel kernel = new DominanceKernelScalar();
+
+	/**
+	 * Sets the {@link DominanceKernel} that is used to compare the points.
+	 * 
+	 * @param kernel
+	 *            the dominance kernel
+	 */
+	@Inject
+	protected void injectKernel(DominanceKernel kernel) {
+		this.kernel = kernel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.optimizers.ea.NonDominatedSorting#sort(double[][])
+	 */
+	@Override
+	public int[] sort(double[][] objectives) {
+		final int n = objectives.length;
+		int[] ranks = new int[n];
+		if (n == 0) {
+			return ranks;
+		}
+
+		final int m = objectives[0].length;
+		final boolean lastOnly = m <= 2;
+		int[] order = lexicographicOrder(objectives);
+
+		double[][][] fronts = new double[8][][];
+		int[] frontSizes = new int[8];
+		int frontCount = 0;
+
+		for (int s : order) {
+			double[] point = objectives[s];
+
+			int lo = 0;
+			int hi = frontCount;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (isDominated(point, fronts[mid], frontSizes[mid], lastOnly)) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+
+			if (lo == frontCount) {
+				if (frontCount == fronts.length) {
+					fronts = Arrays.copyOf(fronts, frontCount * 2);
+					frontSizes = Arrays.copyOf(frontSizes, frontCount * 2);
+				}
+				fronts[frontCount++] = new double[m][8];
+			}
+			add(fronts[lo], frontSizes[lo]++, point);
+			ranks[s] = lo;
+		}
+		return ranks;
+	}
+
+	/**
+	 * Returns {@code true} if the point is dominated by a point of the front.
+	 * The blocks of the front are checked in reverse order since later points
+	 * are more likely to dominate the given point.
+	 * <p>
+	 * A point of the front that is equal to the given point cannot coexist
+	 * with a dominating point of the same front. Thus, the first weakly
+	 * dominating point decides.
+	 * </p>
+	 * 
+	 * @param point
+	 *            the point
+	 * @param front
+	 *            the column-wise points of the front
+	 * @param size
+	 *            the size of the front
+	 * @param lastOnly
+	 *            {@code true} if only the last point has to be checked
+	 * @return {@code true} if the point is dominated
+	 */
+	protected boolean isDominated(double[] point, double[][] front, int size, boolean lastOnly) {
+		int last = lastOnly ? size - 1 : 0;
+		for (int to = size; to > last; to -= BLOCK) {
+			int j = kernel.findWeaklyDominating(point, front, Math.max(last, to - BLOCK), to);
+			if (j >= 0) {
+				for (int k = 0; k < point.length; k++) {
+					if (front[k][j] != point[k]) {
+						return true;
+					}
+				}
+				return false;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds a point to the column-wise points of a front and grows the columns
+	 * if required.
+	 * 
+	 * @param front
+	 *            the column-wise points of the front
+	 * @param index
+	 *            the index of the point
+	 * @param point
+	 *            the point
+	 */
+	protected static void add(double[][] front, int index, double[] point) {
+		for (int k = 0; k < point.length; k++) {
+			if (index == front[k].length) {
+				front[k] = Arrays.copyOf(front[k], index * 2);
+			}
+			front[k][index] = point[k];
+		}
+	}
+
+	/**
+	 * Returns the indices of the points in lexicographic order of their
+	 * objectives. Equal points keep their relative order.
+	 * 
+	 * @param objectives
+	 *            the objective matrix
+	 * @return the sorted indices
+	 */
+	protected static int[] lexicographicOrder(double[][] objectives) {
+		final int n = objectives.length;
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		mergeSort(order, new int[n], 0, n, objectives);
+		return order;
+	}
+
+	/**
+	 * Sorts the range {@code [from,to)} of the indices with a stable merge
+	 * sort.
+	 * 
+	 * @param order
+	 *            the indices
+	 * @param buffer
+	 *            a buffer of the same size
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param objectives
+	 *            the objective matrix
+	 */
+	private static void mergeSort(int[] order, int[] buffer, int from, int to, double[][] objectives) {
+		if (to - from < 2) {
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		mergeSort(order, buffer, from, mid, objectives);
+		mergeSort(order, buffer, mid, to, objectives);
+		if (compare(objectives[order[mid - 1]], objectives[order[mid]]) <= 0) {
+			return;
+		}
+		System.arraycopy(order, from, buffer, from, to - from);
+		int i = from;
+		int j = mid;
+		for (int k = from; k < to; k++) {
+			if (j >= to || (i < mid && compare(objectives[buffer[i]], objectives[buffer[j]]) <= 0)) {
+				order[k] = buffer[i++];
+			} else {
+				order[k] = buffer[j++];
+			}
+		}
+	}
+
+	/**
+	 * Compares two points lexicographically.
+	 * 
+	 * @param a
+	 *            the first point
+	 * @param b
+	 *            the second point
+	 * @return a negative value, zero, or a positive value if {@code a} is
+	 *         smaller, equal, or greater than {@code b}
+	 */
+	private static int compare(double[] a, double[] b) {
+		for (int i = 0; i < a.length; i++) {
+			if (a[i] < b[i]) {
+				return -1;
+			} else if (a[i] > b[i]) {
+				return 1;
+			}
+		}
+		return 0;
+	}
+}
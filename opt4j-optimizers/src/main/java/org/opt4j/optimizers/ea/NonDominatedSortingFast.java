@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.optimizers.ea;
+
+import java.util.Arrays;
+
+import org.opt4j.core.common.dominance.DominanceKernel;
+import org.opt4j.core.common.dominance.DominanceKernelScalar;
+
+import com.google.inject.Inject;
+
+/**
+ * The {@link NonDominatedSortingFast} is the fast non-dominated sorting from
+ * the NSGA-II paper with a complexity of {@code O(MN²)}. Each pair of points
+ * is compared once; for each point, the number of dominating points and the
+ * list of dominated points are stored. The fronts are then peeled off by
+ * decrementing the domination counters.
+ * 
+ * @see Nsga2
+ * @author agent
+ * 
+ */
+public class NonDominatedSortingFast implements NonDominatedSorting {
+
+	protected DominanceKernel kernel = new DominanceKernelScalar();
+
+	/**
+	 * Sets the {@link DominanceKernel} that is used to compare the points.
+	 * 
+	 * @param kernel
+	 *            the dominance kernel
+	 */
+	@Inject
+	protected void injectKernel(DominanceKernel kernel) {
+		this.kernel = kernel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.optimizers.ea.NonDominatedSorting#sort(double[][])
+	 */
+	@Override
+	public int[] sort(double[][] objectives) {
+		final int n = objectives.length;
+		int[] dominationCount = new int[n];
+		int[][] dominated = new int[n][];
+		int[] dominatedSize = new int[n];
+		count(objectives, dominationCount, dominated, dominatedSize);
+		return peel(dominationCount, dominated, dominatedSize);
+	}
+
+	/**
+	 * Compares each point with each other point and stores the number of
+	 * dominating points and the list of dominated points for each point.
+	 * 
+	 * @param objectives
+	 *            the objective matrix
+	 * @param dominationCount
+	 *            the number of dominating points for each point (filled)
+	 * @param dominated
+	 *            the dominated points for each point (filled)
+	 * @param dominatedSize
+	 *            the number of dominated points for each point (filled)
+	 */
+	protected void count(double[][] objectives, int[] dominationCount, int[][] dominated, int[] dominatedSize) {
+		final int n = objectives.length;
+		for (int i = 0; i < n; i++) {
+			dominated[i] = new int[4];
+		}
+
+		double[][] columns = DominanceKernel.columns(objectives);
+		byte[] relation = new byte[n];
+		for (int i = 0; i < n; i++) {
+			kernel.compare(objectives[i], columns, i + 1, n, relation);
+			for (int j = i + 1; j < n; j++) {
+				if (relation[j] == DominanceKernel.DOMINATES) {
+					dominated[i] = add(dominated[i], dominatedSize[i]++, j);
+					dominationCount[j]++;
+				} else if (relation[j] == DominanceKernel.DOMINATED) {
+					dominated[j] = add(dominated[j], dominatedSize[j]++, i);
+					dominationCount[i]++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determines the ranks from the domination counters and the lists of
+	 * dominated points. The first front consists of the points that are not
+	 * dominated at all, the front {@code k+1} consists of the points that are
+	 * only dominated by points of the fronts {@code 0} to {@code k}.
+	 * 
+	 * @param dominationCount
+	 *            the number of dominating points for each point (modified)
+	 * @param dominated
+	 *            the dominated points for each point
+	 * @param dominatedSize
+	 *            the number of dominated points for each point
+	 * @return the ranks
+	 */
+	protected int[] peel(int[] dominationCount, int[][] dominated, int[] dominatedSize) {
+		return peelSequential(dominationCount, dominated, dominatedSize);
+	}
+
+	/**
+	 * Determines the ranks sequentially, see
+	 * {@link #peel(int[], int[][], int[])}.
+	 * 
+	 * @param dominationCount
+	 *            the number of dominating points for each point (modified)
+	 * @param dominated
+	 *            the dominated points for each point
+	 * @param dominatedSize
+	 *            the number of dominated points for each point
+	 * @return the ranks
+	 */
+	protected static int[] peelSequential(int[] dominationCount, int[][] dominated, int[] dominatedSize) {
+		final int n = dominationCount.length;
+		int[] ranks = new int[n];
+		int[] current = new int[n];
+		int[] next = new int[n];
+		int currentSize = 0;
+
+		for (int i = 0; i < n; i++) {
+			if (dominationCount[i] == 0) {
+				current[currentSize++] = i;
+			}
+		}
+
+		int rank = 0;
+		while (currentSize > 0) {
+			int nextSize = 0;
+			for (int k = 0; k < currentSize; k++) {
+				int p = current[k];
+				ranks[p] = rank;
+				for (int l = 0; l < dominatedSize[p]; l++) {
+					int q = dominated[p][l];
+					if (--dominationCount[q] == 0) {
+						next[nextSize++] = q;
+					}
+				}
+			}
+			int[] tmp = current;
+			current = next;
+			next = tmp;
+			currentSize = nextSize;
+			rank++;
+		}
+		return ranks;
+	}
+
+	/**
+	 * Sets the value at the given position of the array and grows the array if
+	 * necessary.
+	 * 
+	 * @param array
+	 *            the array
+	 * @param index
+	 *            the position
+	 * @param value
+	 *            the value
+	 * @return the (possibly new) array
+	 */
+	protected static int[] add(int[] array, int index, int value) {
+		if (index == array.length) {
+			array = Arrays.copyOf(array, array.length * 2);
+		}
+		array[index] = value;
+		return array;
+	}
+}
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.optimizers.ea;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.opt4j.core.common.dominance.DominanceKernel;
+import org.opt4j.core.optimizer.Optimizer;
+import org.opt4j.core.optimizer.OptimizerStateListener;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+
+/**
+ * The {@link NonDominatedSortingParallel} is a fork-join parallel version of
+ * the {@link NonDominatedSortingFast}. The domination counting is split over
+ * the points such that each task determines the dominating and dominated
+ * points of its own range without synchronization. The front peeling
+ * processes the points of large fronts in parallel with atomic domination
+ * counters.
+ * <p>
+ * The ranks are identical to the ranks of the sequential sortings. Small
+ * inputs (or a parallelism below two) are sorted sequentially without the
+ * pool, and small fronts are peeled on the calling thread. The own fork-join pool is shut down when
+ * the optimization stops.
+ * </p>
+ * 
+ * @see NonDominatedSortingFast
+ * @author agent
+ * 
+ */
+public class NonDominatedSortingParallel extends NonDominatedSortingFast implements OptimizerStateListener {
+
+	/**
+	 * The minimal number of points (or front members) that is processed by a
+	 * single task.
+	 */
+	protected static final int GRAIN = 64;
+
+	protected final int parallelism;
+
+	protected ForkJoinPool pool = null;
+
+	/**
+	 * Constructs a {@link NonDominatedSortingParallel}.
+	 * 
+	 * @param parallelism
+	 *            the number of threads; a value of {@code 0} uses the common
+	 *            fork-join pool
+	 */
+	@Inject
+	public NonDominatedSortingParallel(
+			@Constant(value = "parallelism", namespace = NonDominatedSortingParallel.class) int parallelism) {
+		if (parallelism < 0) {
+			throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+		}
+		this.parallelism = parallelism;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.optimizers.ea.NonDominatedSortingFast#sort(double[][])
+	 */
+	@Override
+	public int[] sort(double[][] objectives) {
+		final int n = objectives.length;
+		int[] dominationCount = new int[n];
+		int[][] dominated = new int[n][];
+		int[] dominatedSize = new int[n];
+
+		if (n < 4 * GRAIN || getPool().getParallelism() < 2) {
+			count(objectives, dominationCount, dominated, dominatedSize);
+			return peelSequential(dominationCount, dominated, dominatedSize);
+		}
+
+		double[][] columns = DominanceKernel.columns(objectives);
+		getPool().invoke(new Count(kernel, objectives, columns, dominationCount, dominated, dominatedSize, 0, n));
+
+		return peel(dominationCount, dominated, dominatedSize);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.optimizers.ea.NonDominatedSortingFast#peel(int[],
+	 * int[][], int[])
+	 */
+	@Override
+	protected int[] peel(int[] dominationCount, int[][] dominated, int[] dominatedSize) {
+		final int n = dominationCount.length;
+		AtomicIntegerArray counts = new AtomicIntegerArray(dominationCount);
+		int[] ranks = new int[n];
+		int[] current = new int[n];
+		int[] next = new int[n];
+		int currentSize = 0;
+
+		for (int i = 0; i < n; i++) {
+			if (dominationCount[i] == 0) {
+				current[currentSize++] = i;
+			}
+		}
+
+		int rank = 0;
+		while (currentSize > 0) {
+			AtomicInteger nextSize = new AtomicInteger();
+			Peel peel = new Peel(current, 0, currentSize, rank, ranks, counts, dominated, dominatedSize, next,
+					nextSize);
+			if (currentSize > GRAIN) {
+				getPool().invoke(peel);
+			} else {
+				// a small front is processed by a single task anyway
+				peel.compute();
+			}
+			int[] tmp = current;
+			current = next;
+			next = tmp;
+			currentSize = nextSize.get();
+			rank++;
+		}
+		return ranks;
+	}
+
+	/**
+	 * Returns the fork-join pool.
+	 * 
+	 * @return the pool
+	 */
+	protected synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = parallelism == 0 ? ForkJoinPool.commonPool() : new ForkJoinPool(parallelism);
+		}
+		return pool;
+	}
+
+	/**
+	 * Shuts the fork-join pool down unless it is the common pool. A new pool is
+	 * created if the {@link NonDominatedSortingParallel} is used again.
+	 */
+	protected synchronized void shutdownPool() {
+		if (pool != null && pool != ForkJoinPool.commonPool()) {
+			pool.shutdown();
+		}
+		pool = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStarted(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public void optimizationStarted(Optimizer optimizer) {
+		// do nothing
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStopped(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public void optimizationStopped(Optimizer optimizer) {
+		shutdownPool();
+	}
+
+	/**
+	 * The {@link Count} determines the dominating and dominated points for the
+	 * points of a range.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	@SuppressWarnings("serial")
+	protected static class Count extends RecursiveAction {
+
+		protected final DominanceKernel kernel;
+		protected final double[][] objectives;
+		protected final double[][] columns;
+		protected final int[] dominationCount;
+		protected final int[][] dominated;
+		protected final int[] dominatedSize;
+		protected final int from;
+		protected final int to;
+
+		Count(DominanceKernel kernel, double[][] objectives, double[][] columns, int[] dominationCount,
+				int[][] dominated, int[] dominatedSize, int from, int to) {
+			this.kernel = kernel;
+			this.objectives = objectives;
+			this.columns = columns;
+			this.dominationCount = dominationCount;
+			this.dominated = dominated;
+			this.dominatedSize = dominatedSize;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > GRAIN) {
+				int mid = (from + to) >>> 1;
+				invokeAll(
+						new Count(kernel, objectives, columns, dominationCount, dominated, dominatedSize, from, mid),
+						new Count(kernel, objectives, columns, dominationCount, dominated, dominatedSize, mid, to));
+				return;
+			}
+
+			final int n = objectives.length;
+			byte[] relation = new byte[n];
+			for (int i = from; i < to; i++) {
+				kernel.compare(objectives[i], columns, 0, n, relation);
+				int[] list = new int[4];
+				int size = 0;
+				int count = 0;
+				for (int j = 0; j < n; j++) {
+					if (i != j) {
+						if (relation[j] == DominanceKernel.DOMINATES) {
+							list = add(list, size++, j);
+						} else if (relation[j] == DominanceKernel.DOMINATED) {
+							count++;
+						}
+					}
+				}
+				dominated[i] = list;
+				dominatedSize[i] = size;
+				dominationCount[i] = count;
+			}
+		}
+	}
+
+	/**
+	 * The {@link Peel} assigns the rank to the points of a range of the
+	 * current front and decrements the domination counters of the points they
+	 * dominate. Points whose counter reaches zero form the next front.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	@SuppressWarnings("serial")
+	protected static class Peel extends RecursiveAction {
+
+		protected final int[] current;
+		protected final int from;
+		protected final int to;
+		protected final int rank;
+		protected final int[] ranks;
+		protected final AtomicIntegerArray counts;
+		protected final int[][] dominated;
+		protected final int[] dominatedSize;
+		protected final int[] next;
+		protected final AtomicInteger nextSize;
+
+		Peel(int[] current, int from, int to, int rank, int[] ranks, AtomicIntegerArray counts, int[][] dominated,
+				int[] dominatedSize, int[] next, AtomicInteger nextSize) {
+			this.current = current;
+			this.from = from;
+			this.to = to;
+			this.rank = rank;
+			this.ranks = ranks;
+			this.counts = counts;
+			this.dominated = dominated;
+			this.dominatedSize = dominatedSize;
+			this.next = next;
+			this.nextSize = nextSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > GRAIN) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new Peel(current, from, mid, rank, ranks, counts, dominated, dominatedSize, next, nextSize),
+						new Peel(current, mid, to, rank, ranks, counts, dominated, dominatedSize, next, nextSize));
+				return;
+			}
+
+			for (int k = from; k < to; k++) {
+				int p = current[k];
+				ranks[p] = rank;
+				for (int l = 0; l < dominatedSize[p]; l++) {
+					int q = dominated[p][l];
+					if (counts.decrementAndGet(q) == 0) {
+						next[nextSize.getAndIncrement()] = q;
+					}
+				}
+			}
+		}
+	}
+}
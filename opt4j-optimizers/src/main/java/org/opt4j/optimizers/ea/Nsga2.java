@@ -24,13 +24,11 @@ package org.opt4j.optimizers.ea;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 import org.opt4j.core.Individual;
+import org.opt4j.core.common.archive.Crowding;
 import org.opt4j.core.common.archive.FrontDensityIndicator;
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.start.Constant;
@@ -52,6 +50,7 @@ public class Nsga2 implements Selector {
 	protected final Random random;
 	protected final int tournament;
 	protected final FrontDensityIndicator indicator;
+	protected NonDominatedSorting sorting = new NonDominatedSortingEfficient();
 
 	/**
 	 * Constructs a {@link Nsga2} {@link Selector}.
@@ -69,6 +68,18 @@ public class Nsga2 implements Selector {
 		this.indicator = indicator;
 	}
 
+	/**
+	 * Sets the {@link NonDominatedSorting} that is used to determine the
+	 * {@link NonDominatedFronts}.
+	 * 
+	 * @param sorting
+	 *            the non-dominated sorting
+	 */
+	@Inject
+	protected void injectSorting(NonDominatedSorting sorting) {
+		this.sorting = sorting;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -90,37 +101,43 @@ public class Nsga2 implements Selector {
 		List<Individual> all = new ArrayList<>(population);
 		List<Individual> parents = new ArrayList<>();
 
-		NonDominatedFronts fronts = new NonDominatedFronts(all);
-		Map<Individual, Integer> rank = getRank(fronts);
-		Map<Individual, Double> distance = new HashMap<>();
+		double[][] objectives = FrontDensityIndicator.toMatrix(all);
+		int[] rank = sorting.sort(objectives);
+		int[][] fronts = getFronts(rank);
+		double[] distance = new double[all.size()];
+		boolean[] calculated = new boolean[fronts.length];
 
 		final int size = all.size();
 
 		for (int i = 0; i < mu; i++) {
-			Individual winner = all.get(random.nextInt(size));
+			int winner = random.nextInt(size);
 
 			for (int t = 0; t < tournament; t++) {
-				Individual opponent = all.get(random.nextInt(size));
-				if (rank.get(opponent) < rank.get(winner) || opponent == winner) {
+				int opponent = random.nextInt(size);
+				if (rank[opponent] < rank[winner] || opponent == winner) {
 					winner = opponent;
-				} else if (rank.get(opponent) == rank.get(winner)) {
+				} else if (rank[opponent] == rank[winner]) {
 					// The winner is determined considering the crowding
 					// distance
 
-					if (!distance.containsKey(winner)) {
-						List<Individual> front = new ArrayList<>(fronts.getFrontAtIndex(rank.get(winner)));
-						distance.putAll(indicator.getDensityValues(front));
+					if (!calculated[rank[winner]]) {
+						int[] front = fronts[rank[winner]];
+						double[] values = getDensityValues(front, objectives, all);
+						for (int j = 0; j < front.length; j++) {
+							distance[front[j]] = values[j];
+						}
+						calculated[rank[winner]] = true;
 					}
 
 					// Opponent wins, if it has a better crowding distance
-					if (distance.get(opponent) > distance.get(winner)) {
+					if (distance[opponent] > distance[winner]) {
 						winner = opponent;
 					}
 
 				}
 			}
 
-			parents.add(winner);
+			parents.add(all.get(winner));
 		}
 
 		return parents;
@@ -133,36 +150,78 @@ public class Nsga2 implements Selector {
 	 */
 	@Override
 	public Collection<Individual> getLames(int size, Collection<Individual> population) {
+		List<Individual> all = new ArrayList<>(population);
 		List<Individual> lames = new ArrayList<>();
 
-		NonDominatedFronts fronts = new NonDominatedFronts(population);
-		for (int i = fronts.getFrontNumber() - 1; i >= 0; i--) {
-			List<Individual> front = new ArrayList<>(fronts.getFrontAtIndex(i));
-			if (lames.size() + front.size() < size) {
-				lames.addAll(front);
+		double[][] objectives = FrontDensityIndicator.toMatrix(all);
+		int[][] fronts = getFronts(sorting.sort(objectives));
+		for (int i = fronts.length - 1; i >= 0 && lames.size() < size; i--) {
+			int[] front = fronts[i];
+			if (lames.size() + front.length < size) {
+				for (int index : front) {
+					lames.add(all.get(index));
+				}
 			} else {
-				final Map<Individual, Double> density = indicator.getDensityValues(front);
-				Collections.sort(front, (Individual o1, Individual o2) -> density.get(o1).compareTo(density.get(o2)));
-				lames.addAll(front.subList(0, size - lames.size()));
+				double[] density = getDensityValues(front, objectives, all);
+				int[] order = new int[front.length];
+				for (int j = 0; j < order.length; j++) {
+					order[j] = j;
+				}
+				Crowding.sort(order, density, new int[order.length]);
+				for (int j = 0, n = size - lames.size(); j < n; j++) {
+					lames.add(all.get(front[order[j]]));
+				}
 			}
 		}
 		return lames;
 	}
 
 	/**
-	 * Determine the ranks of fronts.
+	 * Groups the indices by their rank.
 	 * 
-	 * @param fronts
-	 *            the fronts
-	 * @return the ranks
+	 * @param rank
+	 *            the rank of each index
+	 * @return the indices of each front in ascending order
 	 */
-	protected Map<Individual, Integer> getRank(NonDominatedFronts fronts) {
-		Map<Individual, Integer> ranks = new HashMap<>();
-		for (int i = 0; i < fronts.getFrontNumber(); i++) {
-			for (Individual p : fronts.getFrontAtIndex(i)) {
-				ranks.put(p, i);
-			}
+	protected int[][] getFronts(int[] rank) {
+		int number = 0;
+		for (int r : rank) {
+			number = Math.max(number, r + 1);
+		}
+		int[] sizes = new int[number];
+		for (int r : rank) {
+			sizes[r]++;
+		}
+		int[][] fronts = new int[number][];
+		for (int f = 0; f < number; f++) {
+			fronts[f] = new int[sizes[f]];
+			sizes[f] = 0;
+		}
+		for (int i = 0; i < rank.length; i++) {
+			fronts[rank[i]][sizes[rank[i]]++] = i;
+		}
+		return fronts;
+	}
+
+	/**
+	 * Returns the density values of a front from the
+	 * {@link FrontDensityIndicator}.
+	 * 
+	 * @param front
+	 *            the indices of the front
+	 * @param objectives
+	 *            the objective values of all individuals
+	 * @param all
+	 *            all individuals
+	 * @return the density values of the front
+	 */
+	protected double[] getDensityValues(int[] front, double[][] objectives, List<Individual> all) {
+		double[][] rows = new double[front.length][];
+		List<Individual> individuals = new ArrayList<>(front.length);
+		for (int j = 0; j < front.length; j++) {
+			rows[j] = objectives[front[j]];
+			individuals.add(all.get(front[j]));
 		}
-		return ranks;
+		return indicator.getDensityValues(rows, individuals);
 	}
 }
@@ -23,6 +23,7 @@ import org.opt4j.core.common.archive.Crowding;
 import org.opt4j.core.common.archive.FrontDensityIndicator;
 import org.opt4j.core.config.annotations.Citation;
 import org.opt4j.core.config.annotations.Info;
+import org.opt4j.core.config.annotations.Required;
 import org.opt4j.core.start.Constant;
 
 /**
@@ -41,6 +42,41 @@ public class Nsga2Module extends SelectorModule {
 	@Constant(value = "tournament", namespace = Nsga2.class)
 	protected int tournament = 0;
 
+	@Info("The non-dominated sorting algorithm")
+	protected Sorting sorting = Sorting.EFFICIENT;
+
+	@Info("The number of threads of the parallel sorting (0 uses the common fork-join pool)")
+	@Required(property = "sorting", elements = { "PARALLEL" })
+	@Constant(value = "parallelism", namespace = NonDominatedSortingParallel.class)
+	protected int parallelism = 0;
+
+	/** Non-dominated sorting algorithm. */
+	public enum Sorting {
+		/**
+		 * Efficient non-dominated sorting with binary search.
+		 * 
+		 * @see NonDominatedSortingEfficient
+		 */
+		@Info("Efficient non-dominated sorting with binary search (ENS-BS)")
+		EFFICIENT,
+
+		/**
+		 * Fast non-dominated sorting of the NSGA-II paper.
+		 * 
+		 * @see NonDominatedSortingFast
+		 */
+		@Info("Fast non-dominated sorting of the NSGA-II paper with quadratic complexity")
+		FAST,
+
+		/**
+		 * Fork-join parallel version of the fast non-dominated sorting.
+		 * 
+		 * @see NonDominatedSortingParallel
+		 */
+		@Info("Fork-join parallel version of the fast non-dominated sorting")
+		PARALLEL;
+	}
+
 	/**
 	 * Returns the tournament value.
 	 * 
@@ -62,6 +98,52 @@ public class Nsga2Module extends SelectorModule {
 		this.tournament = tournament;
 	}
 
+	/**
+	 * Returns the non-dominated sorting algorithm.
+	 * 
+	 * @see #setSorting
+	 * @return the non-dominated sorting algorithm
+	 */
+	public Sorting getSorting() {
+		return sorting;
+	}
+
+	/**
+	 * Sets the non-dominated sorting algorithm.
+	 * 
+	 * @see #getSorting
+	 * @param sorting
+	 *            the non-dominated sorting algorithm
+	 */
+	public void setSorting(Sorting sorting) {
+		this.sorting = sorting;
+	}
+
+	/**
+	 * Returns the number of threads of the parallel sorting.
+	 * 
+	 * @see #setParallelism
+	 * @return the number of threads
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of threads of the parallel sorting. A value of {@code 0}
+	 * uses the common fork-join pool.
+	 * 
+	 * @see #getParallelism
+	 * @param parallelism
+	 *            the number of threads
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 0) {
+			throw new IllegalArgumentException("The parallelism must not be negative: " + parallelism);
+		}
+		this.parallelism = parallelism;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -71,6 +153,20 @@ public class Nsga2Module extends SelectorModule {
 	public void config() {
 		bindSelector(Nsga2.class);
 		bind(FrontDensityIndicator.class).to(Crowding.class);
+
+		switch (sorting) {
+		case FAST:
+			bind(NonDominatedSorting.class).to(NonDominatedSortingFast.class);
+			break;
+		case PARALLEL:
+			bind(NonDominatedSortingParallel.class).in(SINGLETON);
+			bind(NonDominatedSorting.class).to(NonDominatedSortingParallel.class);
+			addOptimizerStateListener(NonDominatedSortingParallel.class);
+			break;
+		default:
+			bind(NonDominatedSorting.class).to(NonDominatedSortingEfficient.class);
+			break;
+		}
 	}
 
 }
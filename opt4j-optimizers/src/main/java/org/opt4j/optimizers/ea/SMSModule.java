@@ -22,6 +22,7 @@ import static org.opt4j.core.config.annotations.Citation.PublicationMonth.UNKNOW
 import org.opt4j.core.common.archive.FrontDensityIndicator;
 import org.opt4j.core.config.annotations.Citation;
 import org.opt4j.core.config.annotations.Info;
+import org.opt4j.core.config.annotations.Required;
 import org.opt4j.core.start.Constant;
 
 /**
@@ -41,6 +42,54 @@ public class SMSModule extends SelectorModule {
 	@Constant(value = "offset", namespace = Hypervolume.class)
 	protected double offset = 1.0;
 
+	@Info("The calculation of the hypervolume contributions")
+	protected Type type = Type.SLICING;
+
+	@Info("The maximal number of samples per individual")
+	@Required(property = "type", elements = { "MONTE_CARLO" })
+	@Constant(value = "samples", namespace = HypervolumeMonteCarlo.class)
+	protected int samples = 10000;
+
+	@Info("The standard error at which the sampling of an individual stops (0 to always draw all samples)")
+	@Required(property = "type", elements = { "MONTE_CARLO" })
+	@Constant(value = "maxError", namespace = HypervolumeMonteCarlo.class)
+	protected double maxError = 0;
+
+	@Info("Sample the individuals in parallel")
+	@Required(property = "type", elements = { "MONTE_CARLO" })
+	@Constant(value = "parallel", namespace = HypervolumeMonteCarlo.class)
+	protected boolean parallel = false;
+
+	/** Calculation of the hypervolume contributions. */
+	public enum Type {
+		/**
+		 * Recalculates the hypervolume without each point with the slicing
+		 * algorithm.
+		 * 
+		 * @see Hypervolume
+		 */
+		@Info("Recalculates the hypervolume without each point with the slicing algorithm")
+		SLICING,
+
+		/**
+		 * Calculates the exclusive contributions with the WFG algorithm.
+		 * 
+		 * @see HypervolumeWFG
+		 */
+		@Info("Calculates the exclusive contributions with the WFG algorithm (recommended for more than three objectives)")
+		@Citation(authors = "Lyndon While, Lucas Bradstreet, and Luigi Barone", title = "A Fast Way of Calculating Exact Hypervolumes", journal = "IEEE Transactions on Evolutionary Computation", volume = 16, number = 1, pageFirst = 86, pageLast = 95, year = 2012, month = UNKNOWN)
+		WFG,
+
+		/**
+		 * Estimates the exclusive contributions by sampling.
+		 * 
+		 * @see HypervolumeMonteCarlo
+		 */
+		@Info("Estimates the exclusive contributions by sampling (recommended for many objectives)")
+		@Citation(authors = "Karl Bringmann and Tobias Friedrich", title = "Approximating the least hypervolume contributor: NP-hard in general, but fast in practice", journal = "Theoretical Computer Science", volume = 425, pageFirst = 104, pageLast = 116, year = 2012, month = UNKNOWN)
+		MONTE_CARLO;
+	}
+
 	@Info("The tournament value")
 	@Constant(value = "tournament", namespace = Nsga2.class)
 	protected int tournament = 0;
@@ -85,6 +134,97 @@ public class SMSModule extends SelectorModule {
 		this.offset = offset;
 	}
 
+	/**
+	 * Returns the calculation type of the hypervolume contributions.
+	 * 
+	 * @see #setType
+	 * @return the calculation type
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Sets the calculation type of the hypervolume contributions.
+	 * 
+	 * @see #getType
+	 * @param type
+	 *            the calculation type
+	 */
+	public void setType(Type type) {
+		this.type = type;
+	}
+
+	/**
+	 * Returns the maximal number of samples per individual.
+	 * 
+	 * @see #setSamples
+	 * @return the maximal number of samples
+	 */
+	public int getSamples() {
+		return samples;
+	}
+
+	/**
+	 * Sets the maximal number of samples per individual.
+	 * 
+	 * @see #getSamples
+	 * @param samples
+	 *            the maximal number of samples
+	 */
+	public void setSamples(int samples) {
+		if (samples <= 0) {
+			throw new IllegalArgumentException("The number of samples must be positive: " + samples);
+		}
+		this.samples = samples;
+	}
+
+	/**
+	 * Returns the standard error at which the sampling of an individual stops.
+	 * 
+	 * @see #setMaxError
+	 * @return the maximal standard error
+	 */
+	public double getMaxError() {
+		return maxError;
+	}
+
+	/**
+	 * Sets the standard error at which the sampling of an individual stops. A
+	 * value of {@code 0} always draws all samples.
+	 * 
+	 * @see #getMaxError
+	 * @param maxError
+	 *            the maximal standard error
+	 */
+	public void setMaxError(double maxError) {
+		if (maxError < 0) {
+			throw new IllegalArgumentException("The maximal error must not be negative: " + maxError);
+		}
+		this.maxError = maxError;
+	}
+
+	/**
+	 * Returns {@code true} if the individuals are sampled in parallel.
+	 * 
+	 * @see #setParallel
+	 * @return {@code true} if the individuals are sampled in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Sets whether the individuals are sampled in parallel.
+	 * 
+	 * @see #isParallel
+	 * @param parallel
+	 *            {@code true} if the individuals are sampled in parallel
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -93,7 +233,18 @@ public class SMSModule extends SelectorModule {
 	@Override
 	public void config() {
 		bindSelector(Nsga2.class);
-		bind(FrontDensityIndicator.class).to(Hypervolume.class);
+
+		switch (type) {
+		case WFG:
+			bind(FrontDensityIndicator.class).to(HypervolumeWFG.class);
+			break;
+		case MONTE_CARLO:
+			bind(FrontDensityIndicator.class).to(HypervolumeMonteCarlo.class);
+			break;
+		default:
+			bind(FrontDensityIndicator.class).to(Hypervolume.class);
+			break;
+		}
 	}
 
 }
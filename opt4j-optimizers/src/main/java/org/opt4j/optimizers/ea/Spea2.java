@@ -23,19 +23,19 @@
 package org.opt4j.optimizers.ea;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.opt4j.core.Individual;
 import org.opt4j.core.Objectives;
+import org.opt4j.core.common.dominance.DominanceKernel;
+import org.opt4j.core.common.dominance.DominanceKernelScalar;
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.start.Constant;
 
@@ -51,6 +51,14 @@ import com.google.inject.Inject;
  * Control, pages 19&ndash;26, 2002.".
  * </p>
  * <p>
+ * The strength and fitness values are updated incrementally: If an
+ * {@link Individual} is added or removed, only the values of the sets that
+ * dominate or are dominated by its set are changed. The dominance relation is
+ * kept in a bit matrix and the symmetric distances in a packed triangular
+ * array. The environmental truncation works on k-nearest neighbor lists that
+ * are extended on demand.
+ * </p>
+ * <p>
  * The {@link Spea2}-Selector will not work properly if the {@link Objectives}
  * are not fixed, i.e., the {@link Objectives} of an {@link Individual} change
  * during the optimization process. This caused by the internal caching of
@@ -64,13 +72,35 @@ public class Spea2 implements Selector {
 
 	protected final Rand random;
 	protected final int tournament;
+	protected DominanceKernel kernel = new DominanceKernelScalar();
 
 	protected final Map<Individual, Spea2IndividualSet> map = new LinkedHashMap<>();
 	protected final Set<Spea2IndividualSet> individualSets = new LinkedHashSet<>();
 
-	protected final LinkedList<Integer> freeIDs = new LinkedList<>();
-	protected double[][] distance;
-	protected boolean fitnessDirty = true;
+	/**
+	 * The initial number of neighbors in the nearest neighbor lists of the
+	 * truncation.
+	 */
+	protected static final int NEIGHBORS = 8;
+
+	protected final BitSet usedIDs = new BitSet();
+	protected int capacity = 0;
+	protected int words = 0;
+	protected long relations = 0;
+	protected boolean deferred = false;
+
+	protected Spea2IndividualSet[] sets = new Spea2IndividualSet[0];
+	protected double[][] points = new double[0][];
+	protected double[][] columns = null;
+	protected byte[] relation = new byte[0];
+	protected int[] strength = new int[0];
+	protected int[] fitness = new int[0];
+	protected double[] distance = new double[0];
+	protected double[] nearest = new double[0];
+	protected int[] nearestIDs = new int[0];
+	protected double[] row = new double[0];
+	protected long[][] dominates = new long[0][];
+	protected long[][] dominated = new long[0][];
 
 	/**
 	 * A wrapper for multiple equal (based on their objectives)
@@ -79,43 +109,21 @@ public class Spea2 implements Selector {
 	 * @author lukasiewycz
 	 * 
 	 */
-	private static class Spea2IndividualSet extends LinkedHashSet<Individual>
-			implements Comparable<Spea2IndividualSet> {
+	protected static class Spea2IndividualSet extends LinkedHashSet<Individual> {
 		private static final long serialVersionUID = 1L;
 		protected final int id;
-		protected int fitness;
-		protected int strength;
 		protected final Objectives objectives;
-		protected double nextDistance = 0;
 
 		Spea2IndividualSet(Individual individual, int id) {
 			this.id = id;
 			this.add(individual);
 			this.objectives = individual.getObjectives();
-			this.fitness = 0;
-			this.strength = 0;
 		}
 
 		public Objectives getObjectives() {
 			return objectives;
 		}
 
-		public int getFitness() {
-			return fitness;
-		}
-
-		public void setFitness(int fitness) {
-			this.fitness = fitness;
-		}
-
-		public int getStrength() {
-			return strength;
-		}
-
-		public void setStrength(int strength) {
-			this.strength = strength;
-		}
-
 		public Individual first() {
 			assert (size() != 0);
 			return iterator().next();
@@ -125,14 +133,6 @@ public class Spea2 implements Selector {
 			return id;
 		}
 
-		public double getNextDistance() {
-			return nextDistance;
-		}
-
-		public void setNextDistance(double nextDistance) {
-			this.nextDistance = nextDistance;
-		}
-
 		@Override
 		public int hashCode() {
 			return id;
@@ -148,11 +148,6 @@ public class Spea2 implements Selector {
 			return this.getObjectives().dominates(individualSet.getObjectives());
 		}
 
-		@Override
-		public int compareTo(Spea2IndividualSet o) {
-			return o.fitness - this.fitness;
-		}
-
 	}
 
 	/**
@@ -170,6 +165,18 @@ public class Spea2 implements Selector {
 		this.random = random;
 	}
 
+	/**
+	 * Sets the {@link DominanceKernel} that compares a new
+	 * {@link Spea2IndividualSet} with all present ones.
+	 * 
+	 * @param kernel
+	 *            the dominance kernel
+	 */
+	@Inject
+	protected void injectKernel(DominanceKernel kernel) {
+		this.kernel = kernel;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -177,11 +184,7 @@ public class Spea2 implements Selector {
 	 */
 	@Override
 	public void init(int maxsize) {
-		for (int i = 0; i < maxsize; i++) {
-			freeIDs.add(i);
-		}
-
-		distance = new double[maxsize][maxsize];
+		ensureCapacity(maxsize);
 	}
 
 	/*
@@ -208,8 +211,8 @@ public class Spea2 implements Selector {
 				Spea2IndividualSet wWinner = map.get(winner);
 				Spea2IndividualSet wOpponent = map.get(opponent);
 
-				double oFitness = wWinner.getFitness();
-				double wFitness = wOpponent.getFitness();
+				double oFitness = fitness[wWinner.getId()];
+				double wFitness = fitness[wOpponent.getId()];
 
 				if (oFitness > wFitness || (winner == opponent)) {
 					winner = opponent;
@@ -249,7 +252,7 @@ public class Spea2 implements Selector {
 
 			if (countIndividuals(dominated) >= lambda) {
 
-				Collections.sort(dominated);
+				dominated.sort((w0, w1) -> fitness[w1.getId()] - fitness[w0.getId()]);
 				List<Individual> lameCandidates = new ArrayList<>();
 
 				int i = 0;
@@ -288,11 +291,21 @@ public class Spea2 implements Selector {
 	public Collection<Individual> getLamesFromNonDominated(int count) {
 		Set<Individual> set = new LinkedHashSet<>();
 
+		/*
+		 * The removal of non-dominated individuals may decrease the fitness
+		 * of dominated sets. These were already selected by the caller and
+		 * are not considered here.
+		 */
+		List<Spea2IndividualSet> nonDominated = getNonDominated();
+
 		while (set.size() < count) {
 			int maxsize = 0;
 
 			List<Spea2IndividualSet> candidates = new ArrayList<>();
-			for (Spea2IndividualSet individualSet : getNonDominated()) {
+			for (Spea2IndividualSet individualSet : nonDominated) {
+				if (individualSet.isEmpty()) {
+					continue;
+				}
 				if (individualSet.size() > maxsize) {
 					maxsize = individualSet.size();
 					candidates.clear();
@@ -325,7 +338,9 @@ public class Spea2 implements Selector {
 	}
 
 	/**
-	 * Returns n with nearest neighbor based on distances.
+	 * Returns n with nearest neighbor based on distances. Iteratively, the
+	 * candidate with the lexicographically smallest sorted distances to the
+	 * remaining candidates is selected (the first one in case of ties).
 	 * 
 	 * @param n
 	 *            the number of required IndividualSets
@@ -338,94 +353,361 @@ public class Spea2 implements Selector {
 		assert (candidates.size() > n);
 
 		List<Spea2IndividualSet> lames = new ArrayList<>();
-
-		Map<Spea2IndividualSet, List<Spea2IndividualSet>> orderedLists = getNearestPreOrder(candidates);
+		NeighborLists lists = createNeighborLists(candidates);
+		lists.init();
 
 		while (lames.size() < n) {
-			List<Spea2IndividualSet> lcandidates = new ArrayList<>(orderedLists.keySet());
+			lames.add(lists.removeWinner());
+		}
 
-			int size = lcandidates.size();
+		assert (lames.size() == n);
 
-			for (int k = 0; k < size - 1; k++) {
-				double min = Double.MAX_VALUE;
+		return lames;
+	}
 
-				for (Spea2IndividualSet candidate : lcandidates) {
-					double value = distance(candidate, orderedLists.get(candidate).get(k));
-					min = Math.min(min, value);
-				}
+	/**
+	 * Creates the {@link NeighborLists} for the truncation.
+	 * 
+	 * @param candidates
+	 *            the candidate IndividualSets
+	 * @return the neighbor lists
+	 */
+	protected NeighborLists createNeighborLists(Collection<Spea2IndividualSet> candidates) {
+		return new NeighborLists(candidates);
+	}
 
-				for (Iterator<Spea2IndividualSet> it = lcandidates.iterator(); it.hasNext();) {
-					Spea2IndividualSet candidate = it.next();
-					double value = distance(candidate, orderedLists.get(candidate).get(k));
-					if (value > min) {
-						it.remove();
-					}
-				}
+	/**
+	 * <p>
+	 * The {@link NeighborLists} contain for each candidate of the truncation
+	 * the sorted distances to its nearest (remaining) candidates. Each list
+	 * holds only the k nearest neighbors in primitive arrays and is rebuilt
+	 * with twice as many neighbors if a comparison requires more. Removed
+	 * candidates are skipped lazily.
+	 * </p>
+	 * <p>
+	 * The candidate with the lexicographically smallest list is determined by
+	 * a tournament tree. Each match is decided within the k nearest neighbors
+	 * of both candidates. Thus, if a candidate is removed, only the matches of
+	 * the candidates that contain it in their lists are replayed.
+	 * </p>
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected class NeighborLists {
+
+		protected final Spea2IndividualSet[] candidates;
+		protected final int[] ids;
+		protected final boolean[] alive;
+		protected final double[][] distances;
+		protected final int[][] neighbors;
+		protected final int[] heads;
+		protected final int[] lengths;
+		protected final boolean[] complete;
+		protected int remaining;
+
+		protected final int[][] reverse;
+		protected final int[] reverseSizes;
+		protected final int[] marks;
+		protected int round = 0;
+
+		protected final int leaves;
+		protected final int[] tree;
+
+		/**
+		 * Constructs the {@link NeighborLists}.
+		 * 
+		 * @param candidates
+		 *            the candidate IndividualSets
+		 */
+		public NeighborLists(Collection<Spea2IndividualSet> candidates) {
+			this.candidates = candidates.toArray(new Spea2IndividualSet[0]);
+			int size = this.candidates.length;
+			ids = new int[size];
+			for (int c = 0; c < size; c++) {
+				ids[c] = this.candidates[c].getId();
+			}
+			alive = new boolean[size];
+			Arrays.fill(alive, true);
+			distances = new double[size][];
+			neighbors = new int[size][];
+			heads = new int[size];
+			lengths = new int[size];
+			complete = new boolean[size];
+			remaining = size;
+
+			reverse = new int[size][];
+			reverseSizes = new int[size];
+			marks = new int[size];
+
+			leaves = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+			tree = new int[2 * leaves];
+		}
 
-				if (lcandidates.size() == 1) {
-					break;
+		/**
+		 * Builds the lists and plays the tournament.
+		 */
+		public void init() {
+			buildAll();
+			for (int c = 0; c < candidates.length; c++) {
+				link(c);
+			}
+			for (int i = 0; i < leaves; i++) {
+				tree[leaves + i] = i < candidates.length ? i : -1;
+			}
+			for (int node = leaves - 1; node > 0; node--) {
+				tree[node] = play(tree[2 * node], tree[2 * node + 1]);
+			}
+		}
+
+		/**
+		 * Builds the initial lists of all candidates.
+		 */
+		protected void buildAll() {
+			for (int c = 0; c < candidates.length; c++) {
+				build(c, NEIGHBORS);
+			}
+		}
+
+		/**
+		 * Removes and returns the candidate with the lexicographically
+		 * smallest list.
+		 * 
+		 * @return the removed IndividualSet
+		 */
+		public Spea2IndividualSet removeWinner() {
+			int c = tree[1];
+			alive[c] = false;
+			remaining--;
+			round++;
+
+			replay(c);
+			int[] list = reverse[c];
+			for (int i = 0; i < reverseSizes[c]; i++) {
+				int other = list[i];
+				if (alive[other] && marks[other] != round) {
+					marks[other] = round;
+					replay(other);
 				}
 			}
+			return candidates[c];
+		}
 
-			Spea2IndividualSet lame = lcandidates.get(0);
-			lames.add(lame);
-			orderedLists.remove(lame);
+		/**
+		 * Replays all matches from the leaf of a candidate to the root.
+		 * 
+		 * @param c
+		 *            the candidate index
+		 */
+		protected void replay(int c) {
+			int node = leaves + c;
+			tree[node] = alive[c] ? c : -1;
+			for (node >>>= 1; node > 0; node >>>= 1) {
+				tree[node] = play(tree[2 * node], tree[2 * node + 1]);
+			}
+		}
 
-			for (List<Spea2IndividualSet> list : orderedLists.values()) {
-				list.remove(lame);
+		/**
+		 * Plays a match, the smaller index wins in case of equal lists.
+		 * 
+		 * @param a
+		 *            the first candidate index (or {@code -1})
+		 * @param b
+		 *            the second candidate index (or {@code -1}), greater
+		 *            than {@code a}
+		 * @return the winner
+		 */
+		protected int play(int a, int b) {
+			if (a < 0) {
+				return b;
+			} else if (b < 0) {
+				return a;
 			}
+			return compare(a, b) <= 0 ? a : b;
+		}
 
+		/**
+		 * Compares the sorted distances of two candidates lexicographically.
+		 * 
+		 * @param a
+		 *            the first candidate index
+		 * @param b
+		 *            the second candidate index
+		 * @return a negative value, zero, or a positive value if the
+		 *         distances of {@code a} are smaller, equal, or greater than
+		 *         the distances of {@code b}
+		 */
+		public int compare(int a, int b) {
+			int pa = heads[a] = skip(a, heads[a]);
+			int pb = heads[b] = skip(b, heads[b]);
+
+			for (int k = 0; k < remaining - 1; k++) {
+				pa = skip(a, pa);
+				if (pa == lengths[a]) {
+					build(a, 2 * lengths[a]);
+					link(a);
+					pa = k;
+				}
+				pb = skip(b, pb);
+				if (pb == lengths[b]) {
+					build(b, 2 * lengths[b]);
+					link(b);
+					pb = k;
+				}
+
+				double da = distances[a][pa];
+				double db = distances[b][pb];
+				if (da < db) {
+					return -1;
+				} else if (da > db) {
+					return 1;
+				}
+				pa++;
+				pb++;
+			}
+			return 0;
 		}
 
-		assert (lames.size() == n);
+		/**
+		 * Returns the next position of a remaining neighbor.
+		 * 
+		 * @param c
+		 *            the candidate index
+		 * @param p
+		 *            the current position
+		 * @return the next position or the length of the list
+		 */
+		protected int skip(int c, int p) {
+			int[] list = neighbors[c];
+			int length = lengths[c];
+			while (p < length && !alive[list[p]]) {
+				p++;
+			}
+			return p;
+		}
 
-		return lames;
-	}
+		/**
+		 * Registers a candidate in the reverse lists of its neighbors.
+		 * 
+		 * @param c
+		 *            the candidate index
+		 */
+		protected void link(int c) {
+			int[] list = neighbors[c];
+			for (int p = 0; p < lengths[c]; p++) {
+				int i = list[p];
+				int[] r = reverse[i];
+				if (r == null) {
+					r = reverse[i] = new int[NEIGHBORS];
+				} else if (reverseSizes[i] == r.length) {
+					r = reverse[i] = Arrays.copyOf(r, 2 * r.length);
+				}
+				r[reverseSizes[i]++] = c;
+			}
+		}
 
-	/**
-	 * Helper function to preorder the candidates for getNearest() operation
-	 * 
-	 * @param candidates
-	 *            the candidate IndividualSets
-	 * @return the preordered IndividualSets
-	 */
-	protected Map<Spea2IndividualSet, List<Spea2IndividualSet>> getNearestPreOrder(
-			Collection<Spea2IndividualSet> candidates) {
-		Map<Spea2IndividualSet, List<Spea2IndividualSet>> orderedLists = new LinkedHashMap<>();
-
-		for (Spea2IndividualSet w0 : candidates) {
-			List<Spea2IndividualSet> list = new ArrayList<>();
-			for (Spea2IndividualSet w1 : candidates) {
-				if (w0 != w1) {
-					w1.setNextDistance(distance(w0, w1));
-					list.add(w1);
+		/**
+		 * Builds the list of the k nearest remaining neighbors of a
+		 * candidate with a bounded max-heap. Different candidates can be
+		 * built concurrently.
+		 * 
+		 * @param c
+		 *            the candidate index
+		 * @param k
+		 *            the number of neighbors
+		 */
+		protected void build(int c, int k) {
+			k = Math.max(Math.min(k, remaining - 1), 1);
+			double[] heap = new double[k];
+			int[] index = new int[k];
+			int n = 0;
+
+			int id0 = ids[c];
+			for (int i = 0; i < ids.length; i++) {
+				if (i == c || !alive[i]) {
+					continue;
+				}
+				double d = distance[index(id0, ids[i])];
+				if (n < k) {
+					siftUp(heap, index, n++, d, i);
+				} else if (d < heap[0]) {
+					siftDown(heap, index, n, d, i);
 				}
 			}
-			Collections.sort(list, new Comparator<Spea2IndividualSet>() {
-				@Override
-				public int compare(Spea2IndividualSet o1, Spea2IndividualSet o2) {
-					double v = o1.getNextDistance() - o2.getNextDistance();
-					if (v < 0) {
-						return -1;
-					} else if (v > 0) {
-						return 1;
-					} else {
-						return 0;
-					}
+
+			// heap sort in ascending order
+			for (int last = n - 1; last > 0; last--) {
+				double d = heap[last];
+				int i = index[last];
+				heap[last] = heap[0];
+				index[last] = index[0];
+				siftDown(heap, index, last, d, i);
+			}
+
+			distances[c] = heap;
+			neighbors[c] = index;
+			heads[c] = 0;
+			lengths[c] = n;
+			complete[c] = (n == remaining - 1);
+		}
+
+		private void siftUp(double[] heap, int[] index, int p, double d, int i) {
+			while (p > 0) {
+				int parent = (p - 1) >>> 1;
+				if (heap[parent] >= d) {
+					break;
 				}
+				heap[p] = heap[parent];
+				index[p] = index[parent];
+				p = parent;
+			}
+			heap[p] = d;
+			index[p] = i;
+		}
 
-			});
-			orderedLists.put(w0, list);
+		private void siftDown(double[] heap, int[] index, int n, double d, int i) {
+			int p = 0;
+			while (true) {
+				int child = 2 * p + 1;
+				if (child >= n) {
+					break;
+				}
+				if (child + 1 < n && heap[child + 1] > heap[child]) {
+					child++;
+				}
+				if (heap[child] <= d) {
+					break;
+				}
+				heap[p] = heap[child];
+				index[p] = index[child];
+				p = child;
+			}
+			heap[p] = d;
+			index[p] = i;
 		}
-		return orderedLists;
 	}
 
+	/**
+	 * Returns the distance of an IndividualSet to its nearest neighbor.
+	 * 
+	 * @param w0
+	 *            the IndividualSet
+	 * @return the minimal distance
+	 */
 	protected double getMinDistance(Spea2IndividualSet w0) {
-		double min = Double.MAX_VALUE;
-		for (Spea2IndividualSet w1 : individualSets) {
-			if (w0 != w1) {
-				min = Math.min(min, distance(w0, w1));
+		int id0 = w0.getId();
+		double min = nearest[id0];
+		if (Double.isNaN(min)) {
+			min = Double.MAX_VALUE;
+			int minID = -1;
+			for (int id1 = usedIDs.nextSetBit(0); id1 >= 0; id1 = usedIDs.nextSetBit(id1 + 1)) {
+				if (id0 != id1 && distance[index(id0, id1)] < min) {
+					min = distance[index(id0, id1)];
+					minID = id1;
+				}
 			}
+			nearest[id0] = min;
+			nearestIDs[id0] = minID;
 		}
 		return min;
 	}
@@ -447,6 +729,14 @@ public class Spea2 implements Selector {
 			Set<Individual> removes = new LinkedHashSet<>(map.keySet());
 			removes.removeAll(popSet);
 
+			/*
+			 * A changed strength changes the fitness of all sets dominated by
+			 * this set. Thus, for dense dominance relations and many changes,
+			 * a single recalculation based on the relations is faster.
+			 */
+			long n = Math.max(popSet.size(), 1);
+			deferred = (adds.size() + removes.size()) * relations > n * n;
+
 			for (Individual individual : removes) {
 				remove(individual);
 			}
@@ -454,15 +744,80 @@ public class Spea2 implements Selector {
 			for (Individual individual : adds) {
 				add(individual);
 			}
+
+			if (deferred) {
+				deferred = false;
+				calculateFitness();
+			}
 		}
 
 		assert (population.size() == map.size());
+	}
 
-		if (fitnessDirty) {
-			calculateFitness();
-			fitnessDirty = false;
+	/**
+	 * Returns the index of two ids in the packed triangular distance array.
+	 * 
+	 * @param id0
+	 *            the first id
+	 * @param id1
+	 *            the second id
+	 * @return the index
+	 */
+	protected static int index(int id0, int id1) {
+		int i = Math.max(id0, id1);
+		int j = Math.min(id0, id1);
+		return (int) ((long) i * (i - 1) >>> 1) + j;
+	}
+
+	/**
+	 * Ensures that the internal arrays can hold the specified number of
+	 * IndividualSets.
+	 * 
+	 * @param size
+	 *            the required number of IndividualSets
+	 */
+	protected void ensureCapacity(int size) {
+		if (size <= capacity) {
+			return;
+		}
+		int newCapacity = Math.max(size, capacity + (capacity >> 1));
+		long length = (long) newCapacity * (newCapacity - 1) >>> 1;
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Too many individuals for the distance matrix: " + newCapacity);
 		}
 
+		distance = Arrays.copyOf(distance, (int) length);
+		sets = Arrays.copyOf(sets, newCapacity);
+		points = Arrays.copyOf(points, newCapacity);
+		if (columns != null) {
+			for (int k = 0; k < columns.length; k++) {
+				columns[k] = Arrays.copyOf(columns[k], newCapacity);
+			}
+		}
+		relation = new byte[newCapacity];
+		strength = Arrays.copyOf(strength, newCapacity);
+		fitness = Arrays.copyOf(fitness, newCapacity);
+		nearest = Arrays.copyOf(nearest, newCapacity);
+		nearestIDs = Arrays.copyOf(nearestIDs, newCapacity);
+		row = new double[newCapacity];
+
+		int newWords = (newCapacity + 63) >>> 6;
+		dominates = grow(dominates, newCapacity, newWords);
+		dominated = grow(dominated, newCapacity, newWords);
+		capacity = newCapacity;
+		words = newWords;
+	}
+
+	private long[][] grow(long[][] matrix, int newCapacity, int newWords) {
+		matrix = Arrays.copyOf(matrix, newCapacity);
+		for (int id = 0; id < newCapacity; id++) {
+			if (id >= capacity) {
+				matrix[id] = new long[newWords];
+			} else if (newWords != words) {
+				matrix[id] = Arrays.copyOf(matrix[id], newWords);
+			}
+		}
+		return matrix;
 	}
 
 	/**
@@ -475,7 +830,10 @@ public class Spea2 implements Selector {
 	 * @return the distance
 	 */
 	protected double distance(Spea2IndividualSet w0, Spea2IndividualSet w1) {
-		return distance[w0.getId()][w1.getId()];
+		if (w0 == w1) {
+			return 0.0;
+		}
+		return distance[index(w0.getId(), w1.getId())];
 	}
 
 	/**
@@ -485,32 +843,94 @@ public class Spea2 implements Selector {
 	 *            the individual to add
 	 */
 	protected void add(Individual individual) {
-		int id0 = freeIDs.removeFirst();
+		int id0 = usedIDs.nextClearBit(0);
+		ensureCapacity(id0 + 1);
 		Spea2IndividualSet w0 = new Spea2IndividualSet(individual, id0);
 
+		double[] p0 = w0.getObjectives().array();
+		double[] row = this.row;
+
 		Spea2IndividualSet eq = null;
+		double min = Double.MAX_VALUE;
+		int minID = -1;
 
-		for (Spea2IndividualSet w1 : individualSets) {
-			int id1 = w1.getId();
-			double dist = calculateDistance(w0, w1);
+		// at most one set has the distance 0 since equal sets are merged
+		for (int id1 = usedIDs.nextSetBit(0); id1 >= 0; id1 = usedIDs.nextSetBit(id1 + 1)) {
+			double dist = calculateDistance(p0, points[id1]);
 			if (dist == 0.0) {
-				eq = w1;
+				eq = sets[id1];
 				break;
 			}
-			distance[id0][id1] = dist;
-			distance[id1][id0] = dist;
+			row[id1] = dist;
+			if (dist < min) {
+				min = dist;
+				minID = id1;
+			}
 		}
+
 		if (eq != null) {
-			freeIDs.add(id0);
 			w0 = eq;
 			w0.add(individual);
 		} else {
-			distance[id0][id0] = 0.0;
+			usedIDs.set(id0);
+			sets[id0] = w0;
+			points[id0] = p0;
+			if (columns == null) {
+				columns = new double[p0.length][capacity];
+			}
+			for (int k = 0; k < p0.length; k++) {
+				columns[k][id0] = p0[k];
+			}
+			byte[] relation = this.relation;
+			kernel.compare(p0, columns, 0, usedIDs.length(), relation);
+			nearest[id0] = min;
+			nearestIDs[id0] = minID;
+
+			long[] dominates0 = dominates[id0];
+			long[] dominated0 = dominated[id0];
+			long bit0 = 1L << id0;
+			int word0 = id0 >>> 6;
+			int s = 0;
+			int f = 0;
+			for (int id1 = usedIDs.nextSetBit(0); id1 >= 0; id1 = usedIDs.nextSetBit(id1 + 1)) {
+				if (id1 == id0) {
+					continue;
+				}
+				double dist = row[id1];
+				distance[index(id0, id1)] = dist;
+				if (dist < nearest[id1]) {
+					nearest[id1] = dist;
+					nearestIDs[id1] = id0;
+				}
+				long bit1 = 1L << id1;
+				int word1 = id1 >>> 6;
+				byte c = relation[id1];
+				if (c == DominanceKernel.DOMINATES) {
+					dominates0[word1] |= bit1;
+					dominated[id1][word0] |= bit0;
+					relations++;
+					if (!deferred) {
+						s += sets[id1].size();
+					}
+				} else if (c == DominanceKernel.DOMINATED) {
+					dominated0[word1] |= bit1;
+					dominates[id1][word0] |= bit0;
+					relations++;
+					if (!deferred) {
+						f += strength[id1] * sets[id1].size();
+					}
+				}
+			}
+			// the values for an empty set, the individual is counted below
+			strength[id0] = s;
+			fitness[id0] = f;
 			individualSets.add(w0);
 		}
 
 		map.put(individual, w0);
-		fitnessDirty = true;
+		if (!deferred) {
+			updateFitness(w0, 1);
+		}
 	}
 
 	/**
@@ -521,53 +941,161 @@ public class Spea2 implements Selector {
 	 */
 	protected void remove(Individual individual) {
 		Spea2IndividualSet individualSet = map.remove(individual);
+		individualSet.remove(individual);
+		if (!deferred) {
+			updateFitness(individualSet, -1);
+		}
 
-		if (individualSet.size() == 1) {
+		if (individualSet.isEmpty()) {
+			int id0 = individualSet.getId();
 			individualSets.remove(individualSet);
-			freeIDs.add(individualSet.getId());
-		} else {
-			individualSet.remove(individual);
+			usedIDs.clear(id0);
+			sets[id0] = null;
+			points[id0] = null;
+
+			long mask = ~(1L << id0);
+			int word0 = id0 >>> 6;
+			relations -= count(dominates[id0]) + count(dominated[id0]);
+			clearColumn(dominates[id0], dominated, word0, mask);
+			clearColumn(dominated[id0], dominates, word0, mask);
+			Arrays.fill(dominates[id0], 0);
+			Arrays.fill(dominated[id0], 0);
+
+			for (int id1 = usedIDs.nextSetBit(0); id1 >= 0; id1 = usedIDs.nextSetBit(id1 + 1)) {
+				if (nearestIDs[id1] == id0) {
+					nearest[id1] = Double.NaN;
+				}
+			}
 		}
-
-		fitnessDirty = true;
 	}
 
 	/**
-	 * Calculate the distance between two {@code Spea2IndividualSet}s.
+	 * Updates the strength and fitness values after the size of an
+	 * IndividualSet changed. The strength of each dominating set changes by
+	 * {@code delta} and, thus, the fitness of all sets dominated by these.
 	 * 
 	 * @param w0
-	 *            the first set
-	 * @param w1
-	 *            the second set
+	 *            the IndividualSet (with the new size)
+	 * @param delta
+	 *            the size difference
+	 */
+	protected void updateFitness(Spea2IndividualSet w0, int delta) {
+		int id0 = w0.getId();
+
+		addFitness(dominates[id0], delta * strength[id0]);
+
+		long[] row = dominated[id0];
+		for (int w = 0; w < row.length; w++) {
+			long bits = row[w];
+			while (bits != 0) {
+				int id1 = (w << 6) + Long.numberOfTrailingZeros(bits);
+				strength[id1] += delta;
+				addFitness(dominates[id1], delta * sets[id1].size());
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	/**
+	 * Adds a value to the fitness of all sets in a row of the dominance
+	 * matrix.
+	 * 
+	 * @param row
+	 *            the row of the dominance matrix
+	 * @param value
+	 *            the value to add
+	 */
+	private void addFitness(long[] row, int value) {
+		if (value == 0) {
+			return;
+		}
+		for (int w = 0; w < row.length; w++) {
+			long bits = row[w];
+			while (bits != 0) {
+				fitness[(w << 6) + Long.numberOfTrailingZeros(bits)] += value;
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	private static int count(long[] row) {
+		int count = 0;
+		for (long bits : row) {
+			count += Long.bitCount(bits);
+		}
+		return count;
+	}
+
+	/**
+	 * Clears a column in the transposed matrix for all set bits of a row.
+	 * 
+	 * @param row
+	 *            the row
+	 * @param transposed
+	 *            the transposed matrix
+	 * @param word
+	 *            the word of the column
+	 * @param mask
+	 *            the mask that clears the column
+	 */
+	private void clearColumn(long[] row, long[][] transposed, int word, long mask) {
+		for (int w = 0; w < row.length; w++) {
+			long bits = row[w];
+			while (bits != 0) {
+				transposed[(w << 6) + Long.numberOfTrailingZeros(bits)][word] &= mask;
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	/**
+	 * Calculate the euclidean distance between the objective arrays of two
+	 * {@code Spea2IndividualSet}s, see {@link Objectives#distance(Objectives)}.
+	 * 
+	 * @param p0
+	 *            the objective array of the first set
+	 * @param p1
+	 *            the objective array of the second set
 	 * @return the distance
 	 */
-	protected double calculateDistance(Spea2IndividualSet w0, Spea2IndividualSet w1) {
-		return w0.getObjectives().distance(w1.getObjectives());
+	protected double calculateDistance(double[] p0, double[] p1) {
+		double s = 0;
+		for (int i = 0; i < p0.length; i++) {
+			s += (p0[i] - p1[i]) * (p0[i] - p1[i]);
+		}
+		return Math.sqrt(s);
 	}
 
 	/**
-	 * Calculate the fitness.
+	 * Calculate the strength and fitness of all IndividualSets from the
+	 * dominance relations.
 	 */
 	protected void calculateFitness() {
-		for (Spea2IndividualSet individual : individualSets) {
-			int s = 0;
-			for (Spea2IndividualSet other : individualSets) {
-				if (individual != other && individual.dominates(other)) {
-					s += other.size();
-				}
-			}
-			individual.setStrength(s);
+		int[] weight = new int[capacity];
+		for (int id = usedIDs.nextSetBit(0); id >= 0; id = usedIDs.nextSetBit(id + 1)) {
+			weight[id] = sets[id].size();
+		}
+		for (int id = usedIDs.nextSetBit(0); id >= 0; id = usedIDs.nextSetBit(id + 1)) {
+			strength[id] = sum(dominates[id], weight);
 		}
+		for (int id = usedIDs.nextSetBit(0); id >= 0; id = usedIDs.nextSetBit(id + 1)) {
+			weight[id] *= strength[id];
+		}
+		for (int id = usedIDs.nextSetBit(0); id >= 0; id = usedIDs.nextSetBit(id + 1)) {
+			fitness[id] = sum(dominated[id], weight);
+		}
+	}
 
-		for (Spea2IndividualSet individual : individualSets) {
-			int f = 0;
-			for (Spea2IndividualSet other : individualSets) {
-				if (individual != other && other.dominates(individual)) {
-					f += other.getStrength() * other.size();
-				}
+	private static int sum(long[] row, int[] weight) {
+		int sum = 0;
+		for (int w = 0; w < row.length; w++) {
+			long bits = row[w];
+			while (bits != 0) {
+				sum += weight[(w << 6) + Long.numberOfTrailingZeros(bits)];
+				bits &= bits - 1;
 			}
-			individual.setFitness(f);
 		}
+		return sum;
 	}
 
 	/**
@@ -579,7 +1107,7 @@ public class Spea2 implements Selector {
 		List<Spea2IndividualSet> dominated = new ArrayList<>();
 
 		for (Spea2IndividualSet w0 : individualSets) {
-			if (w0.getFitness() > 0.0) {
+			if (fitness[w0.getId()] > 0) {
 				dominated.add(w0);
 			}
 		}
@@ -596,7 +1124,7 @@ public class Spea2 implements Selector {
 		List<Spea2IndividualSet> dominated = new ArrayList<>();
 
 		for (Spea2IndividualSet w0 : individualSets) {
-			if (w0.getFitness() == 0.0) {
+			if (fitness[w0.getId()] == 0) {
 				dominated.add(w0);
 			}
 		}
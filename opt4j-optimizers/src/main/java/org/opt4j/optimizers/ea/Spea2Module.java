@@ -21,6 +21,7 @@ import static org.opt4j.core.config.annotations.Citation.PublicationMonth.UNKNOW
 
 import org.opt4j.core.config.annotations.Citation;
 import org.opt4j.core.config.annotations.Info;
+import org.opt4j.core.config.annotations.Required;
 import org.opt4j.core.start.Constant;
 
 /**
@@ -37,6 +38,14 @@ public class Spea2Module extends SelectorModule {
 	@Constant(value = "tournament", namespace = Spea2.class)
 	protected int tournament = 0;
 
+	@Info("Use the fork-join parallel environmental truncation.")
+	protected boolean parallel = false;
+
+	@Info("The number of threads of the parallel truncation (0 uses the common fork-join pool).")
+	@Required(property = "parallel", elements = { "TRUE" })
+	@Constant(value = "parallelism", namespace = Spea2Parallel.class)
+	protected int parallelism = 0;
+
 	/**
 	 * Returns the number of tournaments.
 	 * 
@@ -58,6 +67,52 @@ public class Spea2Module extends SelectorModule {
 		this.tournament = tournament;
 	}
 
+	/**
+	 * Returns {@code true} if the parallel truncation is used.
+	 * 
+	 * @see #setParallel
+	 * @return {@code true} if the parallel truncation is used
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Sets the use of the parallel truncation.
+	 * 
+	 * @see #isParallel
+	 * @param parallel
+	 *            {@code true} if the parallel truncation is used
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns the number of threads of the parallel truncation.
+	 * 
+	 * @see #setParallelism
+	 * @return the number of threads
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of threads of the parallel truncation. A value of
+	 * {@code 0} uses the common fork-join pool.
+	 * 
+	 * @see #getParallelism
+	 * @param parallelism
+	 *            the number of threads
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 0) {
+			throw new IllegalArgumentException("The parallelism must not be negative: " + parallelism);
+		}
+		this.parallelism = parallelism;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -65,6 +120,12 @@ public class Spea2Module extends SelectorModule {
 	 */
 	@Override
 	public void config() {
-		bindSelector(Spea2.class);
+		if (parallel) {
+			bind(Spea2Parallel.class).in(SINGLETON);
+			bindSelector(Spea2Parallel.class);
+			addOptimizerStateListener(Spea2Parallel.class);
+		} else {
+			bindSelector(Spea2.class);
+		}
 	}
 }
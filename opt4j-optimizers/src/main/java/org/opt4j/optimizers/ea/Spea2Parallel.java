@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.optimizers.ea;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.optimizer.Optimizer;
+import org.opt4j.core.optimizer.OptimizerStateListener;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+
+/**
+ * The {@link Spea2Parallel} is a fork-join parallel version of the
+ * {@link Spea2} selector. The neighbor lists of the environmental truncation
+ * are built in parallel for ranges of candidates. The tournament over the
+ * lists is played sequentially such that ties are always resolved in favor of
+ * the first candidate.
+ * <p>
+ * The selected lames are identical to the lames of the sequential
+ * {@link Spea2}. Small candidate sets are processed sequentially. The own
+ * fork-join pool is shut down when the optimization stops.
+ * </p>
+ * 
+ * @see Spea2
+ * @author agent
+ * 
+ */
+public class Spea2Parallel extends Spea2 implements OptimizerStateListener {
+
+	/**
+	 * The minimal number of candidates that is processed by a single task.
+	 */
+	protected static final int GRAIN = 64;
+
+	protected final int parallelism;
+
+	protected ForkJoinPool pool = null;
+
+	/**
+	 * Constructs a {@link Spea2Parallel}.
+	 * 
+	 * @param tournament
+	 *            the number of tournaments
+	 * @param random
+	 *            the random number generator
+	 * @param parallelism
+	 *            the number of threads; a value of {@code 0} uses the common
+	 *            fork-join pool
+	 */
+	@Inject
+	public Spea2Parallel(@Constant(value = "tournament", namespace = Spea2.class) int tournament, Rand random,
+			@Constant(value = "parallelism", namespace = Spea2Parallel.class) int parallelism) {
+		super(tournament, random);
+		if (parallelism < 0) {
+			throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+		}
+		this.parallelism = parallelism;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.optimizers.ea.Spea2#createNeighborLists(java.util.Collection)
+	 */
+	@Override
+	protected NeighborLists createNeighborLists(Collection<Spea2IndividualSet> candidates) {
+		if (candidates.size() < 4 * GRAIN || getPool().getParallelism() < 2) {
+			return super.createNeighborLists(candidates);
+		}
+		return new ParallelNeighborLists(candidates);
+	}
+
+	/**
+	 * Returns the fork-join pool.
+	 * 
+	 * @return the pool
+	 */
+	protected synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = parallelism == 0 ? ForkJoinPool.commonPool() : new ForkJoinPool(parallelism);
+		}
+		return pool;
+	}
+
+	/**
+	 * Shuts the fork-join pool down unless it is the common pool. A new pool is
+	 * created if the {@link Spea2Parallel} is used again.
+	 */
+	protected synchronized void shutdownPool() {
+		if (pool != null && pool != ForkJoinPool.commonPool()) {
+			pool.shutdown();
+		}
+		pool = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStarted(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public void optimizationStarted(Optimizer optimizer) {
+		// do nothing
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.optimizer.OptimizerStateListener#optimizationStopped(org
+	 * .opt4j.core.optimizer.Optimizer)
+	 */
+	@Override
+	public void optimizationStopped(Optimizer optimizer) {
+		shutdownPool();
+	}
+
+	/**
+	 * The {@link ParallelNeighborLists} build the initial lists of the
+	 * candidates in parallel.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected class ParallelNeighborLists extends NeighborLists {
+
+		/**
+		 * Constructs the {@link ParallelNeighborLists}.
+		 * 
+		 * @param candidates
+		 *            the candidate IndividualSets
+		 */
+		public ParallelNeighborLists(Collection<Spea2IndividualSet> candidates) {
+			super(candidates);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.opt4j.optimizers.ea.Spea2.NeighborLists#buildAll()
+		 */
+		@Override
+		protected void buildAll() {
+			getPool().invoke(new Build(0, candidates.length));
+		}
+
+		/**
+		 * The {@link Build} builds the lists for a range of candidates.
+		 * 
+		 * @author agent
+		 * 
+		 */
+		@SuppressWarnings("serial")
+		protected class Build extends RecursiveAction {
+
+			protected final int from;
+			protected final int to;
+
+			Build(int from, int to) {
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected void compute() {
+				if (to - from > GRAIN) {
+					int mid = (from + to) >>> 1;
+					invokeAll(new Build(from, mid), new Build(mid, to));
+					return;
+				}
+				for (int c = from; c < to; c++) {
+					build(c, NEIGHBORS);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package org.opt4j.optimizers.ea;
+
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.common.metrics.Metrics;
+import org.opt4j.core.common.metrics.MetricsDisabled;
+import org.opt4j.core.common.metrics.Timer;
+import org.opt4j.core.optimizer.IndividualCompleter;
+import org.opt4j.core.optimizer.IterativeOptimizer;
+import org.opt4j.core.optimizer.Population;
+import org.opt4j.core.optimizer.TerminationException;
+import org.opt4j.core.start.Constant;
+import org.opt4j.operators.crossover.Crossover;
+import org.opt4j.operators.mutate.Mutate;
+
+import com.google.inject.Inject;
+
+/**
+ * <p>
+ * The {@link SteadyStateEvolutionaryAlgorithm} is a steady-state variant of
+ * the {@link EvolutionaryAlgorithm} based on the operators {@link Crossover}
+ * and {@link Mutate}.
+ * </p>
+ * <p>
+ * Instead of completing a whole generation of offspring at once, it keeps
+ * {@code lambda} offspring in the {@link IndividualCompleter} using
+ * {@link IndividualCompleter#completeAsync(Individual)}. Each offspring is
+ * inserted into the {@link Population} as soon as it is evaluated, the
+ * {@link Selector} removes a lame, and a new offspring is created by the
+ * {@link Mating}. Thus, a single slow evaluation does not stall the others.
+ * One iteration corresponds to {@code lambda} inserted offspring.
+ * </p>
+ * 
+ * @author agent
+ * 
+ */
+public class SteadyStateEvolutionaryAlgorithm implements IterativeOptimizer {
+
+	protected final int alpha;
+
+	protected final int lambda;
+
+	protected final int mu;
+
+	protected final Selector selector;
+
+	protected final Mating mating;
+
+	protected final BlockingQueue<Completion> completed = new LinkedBlockingQueue<>();
+
+	protected int pending = 0;
+
+	private final IndividualFactory individualFactory;
+
+	private final Population population;
+
+	private final IndividualCompleter completer;
+
+	protected Timer parentsTimer = MetricsDisabled.TIMER;
+
+	protected Timer lamesTimer = MetricsDisabled.TIMER;
+
+	protected Timer matingTimer = MetricsDisabled.TIMER;
+
+	/**
+	 * The {@link Completion} is the result of an asynchronous completion.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	protected static class Completion {
+
+		protected final Individual individual;
+
+		protected final Throwable failure;
+
+		/**
+		 * Constructs a {@link Completion}.
+		 * 
+		 * @param individual
+		 *            the completed individual
+		 * @param failure
+		 *            the failure or {@code null}
+		 */
+		public Completion(Individual individual, Throwable failure) {
+			this.individual = individual;
+			this.failure = failure;
+		}
+	}
+
+	/**
+	 * Constructs a {@link SteadyStateEvolutionaryAlgorithm}.
+	 * 
+	 * @param population
+	 *            the population
+	 * @param individualFactory
+	 *            the individual factory
+	 * @param completer
+	 *            the completer
+	 * @param selector
+	 *            the selector
+	 * @param mating
+	 *            the mating
+	 * @param alpha
+	 *            the population size
+	 * @param mu
+	 *            the number of parents
+	 * @param lambda
+	 *            the number of offspring that are completed concurrently
+	 */
+	@Inject
+	public SteadyStateEvolutionaryAlgorithm(Population population, IndividualFactory individualFactory,
+			IndividualCompleter completer, Selector selector, Mating mating,
+			@Constant(value = "alpha", namespace = EvolutionaryAlgorithm.class) int alpha,
+			@Constant(value = "mu", namespace = EvolutionaryAlgorithm.class) int mu,
+			@Constant(value = "lambda", namespace = EvolutionaryAlgorithm.class) int lambda) {
+		this.selector = selector;
+		this.mating = mating;
+		this.alpha = alpha;
+		this.mu = mu;
+		this.lambda = lambda;
+		this.individualFactory = individualFactory;
+		this.population = population;
+		this.completer = completer;
+
+		if (alpha <= 0) {
+			throw new IllegalArgumentException("Invalid alpha: " + alpha);
+		}
+
+		if (mu <= 0) {
+			throw new IllegalArgumentException("Invalid mu: " + mu);
+		}
+
+		if (lambda <= 0) {
+			throw new IllegalArgumentException("Invalid lambda: " + lambda);
+		}
+	}
+
+	/**
+	 * Injects the {@link Metrics} of the selection and the mating.
+	 * 
+	 * @param metrics
+	 *            the metrics
+	 */
+	@Inject
+	protected void injectMetrics(Metrics metrics) {
+		this.parentsTimer = metrics.timer(Metrics.SELECTOR_PARENTS);
+		this.lamesTimer = metrics.timer(Metrics.SELECTOR_LAMES);
+		this.matingTimer = metrics.timer(Metrics.MATING);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.optimizer.IterativeOptimizer#initialize()
+	 */
+	@Override
+	public void initialize() {
+		selector.init(alpha + lambda);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.optimizer.IterativeOptimizer#next()
+	 */
+	@Override
+	public void next() throws TerminationException {
+		if (population.isEmpty()) {
+			// the initial population is completed as a whole
+			while (population.size() < alpha) {
+				population.add(individualFactory.create());
+			}
+			completer.complete(population);
+		}
+
+		int inserted = 0;
+		while (inserted < lambda) {
+			// keep lambda offspring in the completer
+			if (pending < lambda) {
+				long start = parentsTimer.start();
+				Collection<Individual> parents = selector.getParents(mu, population);
+				parentsTimer.stop(start);
+				start = matingTimer.start();
+				Collection<Individual> offspring = mating.getOffspring(lambda - pending, parents);
+				matingTimer.stop(start);
+				for (Individual individual : offspring) {
+					submit(individual);
+				}
+			}
+
+			Completion completion = take();
+			pending--;
+			if (completion.failure != null) {
+				rethrow(completion.failure);
+			}
+
+			population.add(completion.individual);
+			inserted++;
+			if (population.size() > alpha) {
+				long start = lamesTimer.start();
+				Collection<Individual> lames = selector.getLames(population.size() - alpha, population);
+				lamesTimer.stop(start);
+				population.removeAll(lames);
+			}
+		}
+	}
+
+	/**
+	 * Submits an offspring to the {@link IndividualCompleter}.
+	 * 
+	 * @param individual
+	 *            the offspring
+	 */
+	protected void submit(Individual individual) {
+		pending++;
+		completer.completeAsync(individual)
+				.whenComplete((result, failure) -> completed.add(new Completion(individual, failure)));
+	}
+
+	/**
+	 * Waits for the next completed offspring.
+	 * 
+	 * @return the completion
+	 */
+	protected Completion take() {
+		while (true) {
+			try {
+				return completed.take();
+			} catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Rethrows the failure of an asynchronous completion.
+	 * 
+	 * @param failure
+	 *            the failure
+	 * @throws TerminationException
+	 *             if the optimization is terminated
+	 */
+	protected void rethrow(Throwable failure) throws TerminationException {
+		if (failure instanceof CompletionException && failure.getCause() != null) {
+			failure = failure.getCause();
+		}
+		if (failure instanceof TerminationException) {
+			throw (TerminationException) failure;
+		} else if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		throw new RuntimeException(failure);
+	}
+}
@@ -5,9 +5,13 @@ import static org.opt4j.core.config.annotations.Citation.PublicationMonth.UNKNOW
 import org.opt4j.core.config.annotations.Citation;
 import org.opt4j.core.config.annotations.Info;
 import org.opt4j.core.config.annotations.Parent;
+import org.opt4j.core.config.annotations.Required;
 import org.opt4j.core.optimizer.OptimizerModule;
+import org.opt4j.core.start.Constant;
 import org.opt4j.optimizers.ea.Coupler;
 import org.opt4j.optimizers.ea.EvolutionaryAlgorithmModule;
+import org.opt4j.optimizers.ea.NonDominatedSorting;
+import org.opt4j.optimizers.ea.NonDominatedSortingParallel;
 import org.opt4j.optimizers.ea.Selector;
 
 /**
@@ -26,6 +30,60 @@ import org.opt4j.optimizers.ea.Selector;
 @Parent(EvolutionaryAlgorithmModule.class)
 public class AeSeHModule extends OptimizerModule {
 
+	@Info("Use the fork-join parallel non-dominated sorting for the survivor generation")
+	protected boolean parallelSorting = false;
+
+	@Info("The number of threads of the parallel sorting (0 uses the common fork-join pool)")
+	@Required(property = "parallelSorting", elements = { "true" })
+	@Constant(value = "parallelism", namespace = NonDominatedSortingParallel.class)
+	protected int parallelism = 0;
+
+	/**
+	 * Returns {@code true} if the parallel non-dominated sorting is used.
+	 * 
+	 * @see #setParallelSorting
+	 * @return {@code true} if the parallel sorting is used
+	 */
+	public boolean isParallelSorting() {
+		return parallelSorting;
+	}
+
+	/**
+	 * Sets whether the parallel non-dominated sorting is used.
+	 * 
+	 * @see #isParallelSorting
+	 * @param parallelSorting
+	 *            {@code true} if the parallel sorting is used
+	 */
+	public void setParallelSorting(boolean parallelSorting) {
+		this.parallelSorting = parallelSorting;
+	}
+
+	/**
+	 * Returns the number of threads of the parallel sorting.
+	 * 
+	 * @see #setParallelism
+	 * @return the number of threads
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of threads of the parallel sorting. A value of {@code 0}
+	 * uses the common fork-join pool.
+	 * 
+	 * @see #getParallelism
+	 * @param parallelism
+	 *            the number of threads
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 0) {
+			throw new IllegalArgumentException("The parallelism must not be negative: " + parallelism);
+		}
+		this.parallelism = parallelism;
+	}
+
 	@Override
 	protected void config() {
 
@@ -42,5 +100,11 @@ public class AeSeHModule extends OptimizerModule {
 
 		bind(Selector.class).to(EpsilonSamplingSelector.class);
 		bind(Coupler.class).to(EpsilonNeighborhoodCoupler.class);
+
+		if (parallelSorting) {
+			bind(NonDominatedSortingParallel.class).in(SINGLETON);
+			bind(NonDominatedSorting.class).to(NonDominatedSortingParallel.class);
+			addOptimizerStateListener(NonDominatedSortingParallel.class);
+		}
 	}
 }
@@ -12,8 +12,13 @@ import java.util.Set;
 import org.opt4j.core.Individual;
 import org.opt4j.core.Objective;
 import org.opt4j.core.Objectives;
+import org.opt4j.core.common.archive.Crowding;
+import org.opt4j.core.common.dominance.DominanceKernel;
+import org.opt4j.core.common.dominance.DominanceKernelScalar;
 import org.opt4j.core.start.Constant;
 import org.opt4j.optimizers.ea.NonDominatedFronts;
+import org.opt4j.optimizers.ea.NonDominatedSorting;
+import org.opt4j.optimizers.ea.NonDominatedSortingEfficient;
 
 import com.google.inject.Inject;
 
@@ -31,6 +36,8 @@ public class ESamplingSurvivorGenerationBasic implements ESamplingSurvivorGenera
 	protected final EpsilonMapping epsilonMapping;
 	protected final EpsilonAdaptation epsilonAdaption;
 	protected final AdaptiveEpsilon adaptiveEpsilonSampling;
+	protected NonDominatedSorting sorting = new NonDominatedSortingEfficient();
+	protected DominanceKernel kernel = new DominanceKernelScalar();
 
 	/**
 	 * Basic constructor.
@@ -58,11 +65,35 @@ public class ESamplingSurvivorGenerationBasic implements ESamplingSurvivorGenera
 				epsilonSampleDeltaMin);
 	}
 
+	/**
+	 * Sets the {@link NonDominatedSorting} that is used to determine the
+	 * {@link NonDominatedFronts}.
+	 * 
+	 * @param sorting
+	 *            the non-dominated sorting
+	 */
+	@Inject
+	protected void injectSorting(NonDominatedSorting sorting) {
+		this.sorting = sorting;
+	}
+
+	/**
+	 * Sets the {@link DominanceKernel} that determines the ε-dominated
+	 * individuals.
+	 * 
+	 * @param kernel
+	 *            the dominance kernel
+	 */
+	@Inject
+	protected void injectKernel(DominanceKernel kernel) {
+		this.kernel = kernel;
+	}
+
 	@Override
 	public Set<Individual> getSurvivors(Collection<Individual> population, int survivorNumber) {
 		Set<Individual> survivors;
 		// get the non-dominated front and the extreme solutions
-		NonDominatedFronts fronts = new NonDominatedFronts(population);
+		NonDominatedFronts fronts = new NonDominatedFronts(population, sorting);
 		Collection<Individual> paretoSolutions = fronts.getFrontAtIndex(0);
 		Set<Individual> extremeIndividuals = getExtremeIndividuals(paretoSolutions);
 
@@ -143,10 +174,20 @@ public class ESamplingSurvivorGenerationBasic implements ESamplingSurvivorGenera
 	 */
 	protected void applyEpsilonSampling(List<Individual> firstFront, Set<Individual> epsilonDominantIndividuals,
 			Set<Individual> epsilonDominatedIndividuals, double samplingEpsilon) {
+		if (firstFront.isEmpty()) {
+			return;
+		}
+		Map<Objective, Double> objectiveAmplitudes = epsilonMapping
+				.findObjectiveAmplitudes(new HashSet<>(firstFront));
+		List<Objective> objectives = new ArrayList<>(firstFront.get(0).getObjectives().getKeys());
+		double[] shifts = epsilonMapping.getEpsilonShifts(objectives, samplingEpsilon, objectiveAmplitudes);
+		if (shifts != null && isFinite(shifts)) {
+			applyEpsilonSampling(firstFront, epsilonDominantIndividuals, epsilonDominatedIndividuals, shifts);
+			return;
+		}
+
 		// apply epsilon sampling until the individual list is empty
 		List<Individual> nonDominatedIndividuals = new ArrayList<>(firstFront);
-		Map<Objective, Double> objectiveAmplitudes = epsilonMapping
-				.findObjectiveAmplitudes(new HashSet<>(nonDominatedIndividuals));
 		while (!nonDominatedIndividuals.isEmpty()) {
 			// pick a random individual
 			Individual epsilonDominant = nonDominatedIndividuals.get(random.nextInt(nonDominatedIndividuals.size()));
@@ -155,10 +196,16 @@ public class ESamplingSurvivorGenerationBasic implements ESamplingSurvivorGenera
 			Objectives epsilonEnhancedObjectives = epsilonMapping.mapObjectives(epsilonDominant.getObjectives(),
 					samplingEpsilon, objectiveAmplitudes);
 			// gather all individuals epsilon dominated by the picked individual
-			for (int i = 0; i < nonDominatedIndividuals.size(); i++) {
-				Individual comparisonIndividual = nonDominatedIndividuals.get(i);
-				if (epsilonEnhancedObjectives.dominates(comparisonIndividual.getObjectives())) {
-					epsilonDominated.add(comparisonIndividual);
+			final int size = nonDominatedIndividuals.size();
+			List<double[]> points = new ArrayList<>(size);
+			for (Individual comparisonIndividual : nonDominatedIndividuals) {
+				points.add(comparisonIndividual.getObjectives().array());
+			}
+			byte[] relation = new byte[size];
+			kernel.compare(epsilonEnhancedObjectives.array(), DominanceKernel.columns(points), 0, size, relation);
+			for (int i = 0; i < size; i++) {
+				if (relation[i] == DominanceKernel.DOMINATES) {
+					epsilonDominated.add(nonDominatedIndividuals.get(i));
 				}
 			}
 			nonDominatedIndividuals.removeAll(epsilonDominated);
@@ -167,6 +214,203 @@ public class ESamplingSurvivorGenerationBasic implements ESamplingSurvivorGenera
 		}
 	}
 
+	/**
+	 * Applies ε-sampling for an ε mapping that subtracts a constant shift from
+	 * each objective. The picks and the resulting sets are identical to the
+	 * scan over the remaining individuals.
+	 * <p>
+	 * As the individuals are mutually non-dominated, an individual that is
+	 * ε-dominated by the picked one is smaller in at least one objective with
+	 * a positive shift, and at most by this shift. Thus, only the individuals
+	 * within these slabs are checked, which are found by a binary search on
+	 * the individuals sorted by each objective. The random picks address the
+	 * remaining individuals in their original order through a Fenwick tree.
+	 * </p>
+	 * 
+	 * @param firstFront
+	 *            the input individuals which constitute the first non-dominated
+	 *            front of the current population
+	 * @param epsilonDominantIndividuals
+	 *            the set that will be filled with the epsilon-dominant
+	 *            individuals
+	 * @param epsilonDominatedIndividuals
+	 *            the set that will be filled with epsilon-dominated individuals
+	 * @param shifts
+	 *            the ε shifts of the objectives
+	 */
+	protected void applyEpsilonSampling(List<Individual> firstFront, Set<Individual> epsilonDominantIndividuals,
+			Set<Individual> epsilonDominatedIndividuals, double[] shifts) {
+		final int n = firstFront.size();
+		final int m = shifts.length;
+		double[][] values = new double[n][];
+		for (int i = 0; i < n; i++) {
+			values[i] = firstFront.get(i).getObjectives().array();
+		}
+
+		// sort the individuals along each objective with a positive shift
+		int dimensions = 0;
+		int[] axes = new int[m];
+		int[][] orders = new int[m][];
+		double[][] keys = new double[m][];
+		double[] column = new double[n];
+		int[] buffer = new int[n];
+		for (int j = 0; j < m; j++) {
+			if (shifts[j] > 0) {
+				int[] order = new int[n];
+				for (int i = 0; i < n; i++) {
+					order[i] = i;
+					column[i] = values[i][j];
+				}
+				Crowding.sort(order, column, buffer);
+				double[] key = new double[n];
+				for (int k = 0; k < n; k++) {
+					key[k] = column[order[k]];
+				}
+				axes[dimensions] = j;
+				orders[dimensions] = order;
+				keys[dimensions] = key;
+				dimensions++;
+			}
+		}
+
+		// a Fenwick tree that counts the remaining individuals
+		int[] tree = new int[n + 1];
+		for (int i = 1; i <= n; i++) {
+			tree[i]++;
+			int parent = i + (i & -i);
+			if (parent <= n) {
+				tree[parent] += tree[i];
+			}
+		}
+		boolean[] removed = new boolean[n];
+		int[] marks = new int[n];
+		double[] mapped = new double[m];
+		// the column-wise block of the individuals within the slabs
+		int[] candidates = new int[n];
+		double[][] columns = new double[m][n];
+		byte[] relation = new byte[n];
+		int remaining = n;
+
+		for (int round = 1; remaining > 0; round++) {
+			// pick a random individual
+			int pick = select(tree, random.nextInt(remaining));
+			remove(tree, pick);
+			removed[pick] = true;
+			remaining--;
+
+			double[] p = values[pick];
+			for (int j = 0; j < m; j++) {
+				mapped[j] = p[j] - shifts[j];
+			}
+			// gather the individuals within the slabs
+			int size = 0;
+			for (int d = 0; d < dimensions; d++) {
+				int j = axes[d];
+				int[] order = orders[d];
+				double[] key = keys[d];
+				for (int k = lowerBound(key, mapped[j]); k < n && key[k] <= p[j]; k++) {
+					int i = order[k];
+					if (!removed[i] && marks[i] != round) {
+						marks[i] = round;
+						double[] v = values[i];
+						for (int l = 0; l < m; l++) {
+							columns[l][size] = v[l];
+						}
+						candidates[size++] = i;
+					}
+				}
+			}
+			// gather all individuals epsilon dominated by the picked individual
+			kernel.compare(mapped, columns, 0, size, relation);
+			for (int c = 0; c < size; c++) {
+				if (relation[c] == DominanceKernel.DOMINATES) {
+					int i = candidates[c];
+					remove(tree, i);
+					removed[i] = true;
+					remaining--;
+					epsilonDominatedIndividuals.add(firstFront.get(i));
+				}
+			}
+			epsilonDominantIndividuals.add(firstFront.get(pick));
+		}
+	}
+
+	/**
+	 * Returns {@code true} if all values are finite.
+	 * 
+	 * @param values
+	 *            the values
+	 * @return {@code true} if all values are finite
+	 */
+	protected static boolean isFinite(double[] values) {
+		for (double value : values) {
+			if (!Double.isFinite(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the first index of a sorted array with a value not smaller than
+	 * the given value.
+	 * 
+	 * @param sorted
+	 *            the sorted values
+	 * @param value
+	 *            the value
+	 * @return the first index
+	 */
+	protected static int lowerBound(double[] sorted, double value) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] < value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the k-th (zero-based) remaining element of a
+	 * Fenwick tree.
+	 * 
+	 * @param tree
+	 *            the Fenwick tree
+	 * @param k
+	 *            the rank
+	 * @return the index
+	 */
+	protected static int select(int[] tree, int k) {
+		int position = 0;
+		for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>>= 1) {
+			int next = position + step;
+			if (next < tree.length && tree[next] <= k) {
+				position = next;
+				k -= tree[next];
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * Removes an element from a Fenwick tree.
+	 * 
+	 * @param tree
+	 *            the Fenwick tree
+	 * @param index
+	 *            the index of the element
+	 */
+	protected static void remove(int[] tree, int index) {
+		for (int i = index + 1; i < tree.length; i += i & -i) {
+			tree[i]--;
+		}
+	}
+
 	/**
 	 * In the case where the first non-dominated front does not suffice to
 	 * create enough survivors, dominated solutions are added to the survivor
@@ -1,5 +1,6 @@
 package org.opt4j.optimizers.ea.aeseh;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -45,4 +46,24 @@ public interface EpsilonMapping {
 	 */
 	public Map<Objective, Double> findObjectiveAmplitudes(Set<Individual> individuals);
 
+	/**
+	 * Returns the values that {@link #mapObjectives} subtracts from the
+	 * {@link Objectives#array()} values, in the order of the given
+	 * {@link Objective}s. These shifts allow checking the ε dominance on
+	 * primitive arrays. The default implementation returns {@code null},
+	 * which means that the mapping is not a constant shift per objective.
+	 * 
+	 * @param objectives
+	 *            the objectives in the order of the {@link Objectives#array()}
+	 * @param epsilon
+	 *            the ε value
+	 * @param objectiveAmplitudes
+	 *            a map containing the amplitude values of the objectives
+	 * @return the shift of each objective or {@code null}
+	 */
+	public default double[] getEpsilonShifts(List<Objective> objectives, double epsilon,
+			Map<Objective, Double> objectiveAmplitudes) {
+		return null;
+	}
+
 }
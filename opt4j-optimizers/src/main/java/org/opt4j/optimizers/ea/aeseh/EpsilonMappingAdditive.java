@@ -2,6 +2,7 @@ package org.opt4j.optimizers.ea.aeseh;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -10,6 +11,7 @@ import org.opt4j.core.Individual;
 import org.opt4j.core.Objective;
 import org.opt4j.core.Objective.Sign;
 import org.opt4j.core.Objectives;
+import org.opt4j.core.Value;
 
 /**
  * The {@link EpsilonMappingAdditive} implements the evenly spaced adaptive ε
@@ -52,34 +54,59 @@ public class EpsilonMappingAdditive implements EpsilonMapping {
 		return result;
 	}
 
+	/**
+	 * Returns the ε fraction of the objective amplitudes. Subtracting these
+	 * shifts from the {@link Objectives#array()} values yields exactly the
+	 * array of the {@link Objectives} returned by {@link #mapObjectives}.
+	 * 
+	 * @param objectives
+	 *            the objectives in the order of the {@link Objectives#array()}
+	 * @param epsilon
+	 *            the fraction used for the enhancement
+	 * @param objectiveAmplitudes
+	 *            the map mapping its objective onto its amplitude
+	 * @return the shift of each objective
+	 */
+	@Override
+	public double[] getEpsilonShifts(List<Objective> objectives, double epsilon,
+			Map<Objective, Double> objectiveAmplitudes) {
+		double[] shifts = new double[objectives.size()];
+		for (int i = 0; i < shifts.length; i++) {
+			Double amplitude = objectiveAmplitudes.get(objectives.get(i));
+			if (amplitude != null) {
+				shifts[i] = epsilon * amplitude;
+			}
+		}
+		return shifts;
+	}
+
 	@Override
 	public Map<Objective, Double> findObjectiveAmplitudes(Set<Individual> individuals) {
-		Map<Objective, Double> maximumMap = new HashMap<>();
-		Map<Objective, Double> minimumMap = new HashMap<>();
-		Map<Objective, Double> amplitudeMap = new HashMap<>();
+		// the minimum and maximum of each objective
+		Map<Objective, double[]> rangeMap = new HashMap<>();
 		for (Individual indi : individuals) {
 			Objectives objectives = indi.getObjectives();
-			Iterator<Objective> iterator = objectives.getKeys().iterator();
 			double[] values = objectives.array();
-			for (int i = 0; i < objectives.size(); i++) {
-				Objective obj = iterator.next();
-				if (objectives.get(obj).getValue() == Objective.INFEASIBLE) {
+			int i = 0;
+			for (Entry<Objective, Value<?>> entry : objectives) {
+				double value = values[i++];
+				if (entry.getValue().getValue() == Objective.INFEASIBLE) {
 					continue;
 				}
-				double value = values[i];
-				if (!maximumMap.containsKey(obj) || maximumMap.get(obj) < value) {
-					maximumMap.put(obj, value);
-				}
-				if (!minimumMap.containsKey(obj) || minimumMap.get(obj) > value) {
-					minimumMap.put(obj, value);
+				double[] range = rangeMap.get(entry.getKey());
+				if (range == null) {
+					rangeMap.put(entry.getKey(), new double[] { value, value });
+				} else if (range[0] > value) {
+					range[0] = value;
+				} else if (range[1] < value) {
+					range[1] = value;
 				}
 			}
 		}
-		for (Entry<Objective, Double> maxEntry : maximumMap.entrySet()) {
-			Objective obj = maxEntry.getKey();
-			Double maximum = maxEntry.getValue();
-			Double minimum = minimumMap.get(obj);
-			amplitudeMap.put(obj, maximum - minimum);
+		Map<Objective, Double> amplitudeMap = new HashMap<>();
+		for (Entry<Objective, double[]> rangeEntry : rangeMap.entrySet()) {
+			double[] range = rangeEntry.getValue();
+			amplitudeMap.put(rangeEntry.getKey(), range[1] - range[0]);
 		}
 		return amplitudeMap;
 	}
@@ -31,6 +31,7 @@ public class EpsilonNeighborhoodCoupler implements Coupler {
 	protected final Random random;
 	protected final int plannedNeighborhoodNumber;
 	protected final AdaptiveEpsilon adaptiveEpsilonNeighborhood;
+	protected final NeighborhoodIndex index = new NeighborhoodIndex();
 
 	/**
 	 * Basic constructor.
@@ -117,17 +118,76 @@ public class EpsilonNeighborhoodCoupler implements Coupler {
 	 *         neighborhood.
 	 */
 	protected List<Set<Individual>> createNeighborhoods(List<Individual> survivorPool) {
-		List<Set<Individual>> neighborhoods = new ArrayList<>();
+		List<Set<Individual>> neighborhoods;
 		Map<Objective, Double> objectiveAmplitudes = epsilonMapping
 				.findObjectiveAmplitudes(new HashSet<>(survivorPool));
+		double epsilon = adaptiveEpsilonNeighborhood.getEpsilon();
+		double[] shifts = null;
+		if (!survivorPool.isEmpty()) {
+			List<Objective> objectives = new ArrayList<>(survivorPool.get(0).getObjectives().getKeys());
+			shifts = epsilonMapping.getEpsilonShifts(objectives, epsilon, objectiveAmplitudes);
+		}
+		if (shifts != null && ESamplingSurvivorGenerationBasic.isFinite(shifts)
+				&& index.update(survivorPool, shifts.length)) {
+			neighborhoods = createNeighborhoods(shifts);
+		} else {
+			neighborhoods = createNeighborhoods(survivorPool, epsilon, objectiveAmplitudes);
+		}
+		// adapt the epsilon
+		boolean epsilonTooBig = neighborhoods.size() < plannedNeighborhoodNumber;
+		epsilonAdaption.adaptEpsilon(adaptiveEpsilonNeighborhood, epsilonTooBig);
+		return neighborhoods;
+	}
+
+	/**
+	 * Creates the neighborhoods with the {@link NeighborhoodIndex} that
+	 * contains the survivors.
+	 * 
+	 * @param shifts
+	 *            the ε shifts of the objectives
+	 * @return a list of individual sets. Each set is considered as a
+	 *         neighborhood.
+	 */
+	protected List<Set<Individual>> createNeighborhoods(double[] shifts) {
+		List<Set<Individual>> neighborhoods = new ArrayList<>();
+		while (index.remaining() > 0) {
+			// pick a random individual
+			Individual reference = index.take(random.nextInt(index.remaining()));
+			Set<Individual> neighborhood = new HashSet<>();
+			// put the individuals epsilon-dominated by the reference into its
+			// neighborhood
+			index.takeEpsilonDominated(reference, shifts, neighborhood);
+			neighborhood.add(reference);
+			neighborhoods.add(neighborhood);
+		}
+		return neighborhoods;
+	}
+
+	/**
+	 * Creates the neighborhoods by scanning the remaining survivors for each
+	 * reference. This is used for {@link EpsilonMapping}s that do not provide
+	 * {@link EpsilonMapping#getEpsilonShifts}.
+	 * 
+	 * @param survivorPool
+	 *            a list of {@link Individual}s that can be used as parents
+	 * @param epsilon
+	 *            the ε value
+	 * @param objectiveAmplitudes
+	 *            a map containing the amplitude values of the objectives
+	 * @return a list of individual sets. Each set is considered as a
+	 *         neighborhood.
+	 */
+	protected List<Set<Individual>> createNeighborhoods(List<Individual> survivorPool, double epsilon,
+			Map<Objective, Double> objectiveAmplitudes) {
+		List<Set<Individual>> neighborhoods = new ArrayList<>();
 		List<Individual> survivors = new ArrayList<>(survivorPool);
 		while (!survivors.isEmpty()) {
 			// pick a random individual
 			int idx = random.nextInt(survivors.size());
 			Individual reference = survivors.remove(idx);
 			Set<Individual> neighborhood = new HashSet<>();
-			Objectives epsilonEnhancedObjectives = epsilonMapping.mapObjectives(reference.getObjectives(),
-					adaptiveEpsilonNeighborhood.getEpsilon(), objectiveAmplitudes);
+			Objectives epsilonEnhancedObjectives = epsilonMapping.mapObjectives(reference.getObjectives(), epsilon,
+					objectiveAmplitudes);
 			// put the individuals epsilon-dominated by the reference into its
 			// neighborhood
 			for (Individual candidate : survivors) {
@@ -139,9 +199,6 @@ public class EpsilonNeighborhoodCoupler implements Coupler {
 			neighborhood.add(reference);
 			neighborhoods.add(neighborhood);
 		}
-		// adapt the epsilon
-		boolean epsilonTooBig = neighborhoods.size() < plannedNeighborhoodNumber;
-		epsilonAdaption.adaptEpsilon(adaptiveEpsilonNeighborhood, epsilonTooBig);
 		return neighborhoods;
 	}
 }
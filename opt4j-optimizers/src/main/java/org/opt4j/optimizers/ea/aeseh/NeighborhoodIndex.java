@@ -0,0 +1,614 @@
+package org.opt4j.optimizers.ea.aeseh;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opt4j.core.Individual;
+import org.opt4j.core.Objectives;
+
+/**
+ * The {@link NeighborhoodIndex} is a k-d tree over the objective values
+ * ({@link Objectives#array()}) of the survivors that is used by the
+ * {@link EpsilonNeighborhoodCoupler} to find the ε-dominated individuals of a
+ * reference individual with an orthant query instead of a scan over all
+ * survivors.
+ * <p>
+ * The index is kept between the generations and updated incrementally: new
+ * survivors are inserted into the leaves, which are split once they overflow,
+ * and removed survivors are deleted from their leaves. The tree is rebuilt
+ * once the number of updates since the last build exceeds its size.
+ * </p>
+ * <p>
+ * Within a generation, the individuals are taken from the index in the order
+ * of the survivor list, which is maintained with a Fenwick tree. Thus, the
+ * neighborhoods are identical to the neighborhoods of the scan.
+ * </p>
+ * 
+ * @author agent
+ *
+ */
+public class NeighborhoodIndex {
+
+	/**
+	 * The maximal number of individuals in a leaf.
+	 */
+	protected static final int BUCKET = 16;
+
+	protected final Map<Individual, Integer> slots = new HashMap<>();
+	protected Individual[] individuals = new Individual[0];
+	protected Objectives[] objectives = new Objectives[0];
+	protected double[][] points = new double[0][];
+	protected Node[] leaves = new Node[0];
+	protected boolean[] taken = new boolean[0];
+	protected int[] free = new int[0];
+	protected int freeSize = 0;
+	protected int capacity = 0;
+
+	protected Node root = null;
+	protected int updates = 0;
+
+	protected int[] order = new int[0];
+	protected int[] positions = new int[0];
+	protected int[] tree = new int[1];
+	protected int remaining = 0;
+
+	/**
+	 * A node of the k-d tree. A leaf holds the slots of its individuals, an
+	 * inner node splits its individuals at a value of one objective. The
+	 * maximal objective values and the number of individuals that are not
+	 * taken are tracked for each subtree.
+	 * 
+	 * @author agent
+	 *
+	 */
+	protected static class Node {
+		protected Node parent;
+		protected Node low;
+		protected Node high;
+		protected int axis;
+		protected double split;
+		protected double[] max;
+		protected int[] bucket;
+		protected int bucketSize;
+		protected int count;
+
+		protected boolean isLeaf() {
+			return bucket != null;
+		}
+	}
+
+	/**
+	 * Updates the index with the survivors of the current generation and
+	 * makes all of them available in the order of the list.
+	 * 
+	 * @param survivors
+	 *            the survivors
+	 * @param dimension
+	 *            the number of objectives
+	 * @return {@code true} if the survivors are distinct and have the given
+	 *         number of objectives, otherwise the index cannot be used
+	 */
+	public boolean update(List<Individual> survivors, int dimension) {
+		restore();
+
+		Map<Individual, Integer> current = new HashMap<>();
+		for (Individual individual : survivors) {
+			if (current.put(individual, current.size()) != null
+					|| individual.getObjectives().array().length != dimension) {
+				clear();
+				return false;
+			}
+		}
+
+		// remove the former survivors and the re-evaluated individuals
+		for (Individual individual : slots.keySet().toArray(new Individual[0])) {
+			Integer slot = slots.get(individual);
+			if (!current.containsKey(individual) || individual.getObjectives() != objectives[slot]) {
+				delete(slot);
+			}
+		}
+
+		ensureCapacity(survivors.size());
+		order = new int[survivors.size()];
+		for (int i = 0; i < order.length; i++) {
+			Individual individual = survivors.get(i);
+			Integer slot = slots.get(individual);
+			if (slot == null) {
+				slot = insert(individual);
+			}
+			order[i] = slot;
+		}
+
+		if (updates > slots.size()) {
+			rebuild();
+		}
+
+		positions = new int[capacity];
+		for (int i = 0; i < order.length; i++) {
+			positions[order[i]] = i;
+		}
+		int n = order.length;
+		tree = new int[n + 1];
+		for (int i = 1; i <= n; i++) {
+			tree[i]++;
+			int parent = i + (i & -i);
+			if (parent <= n) {
+				tree[parent] += tree[i];
+			}
+		}
+		remaining = n;
+		return true;
+	}
+
+	/**
+	 * Returns the number of individuals that are not taken.
+	 * 
+	 * @return the number of remaining individuals
+	 */
+	public int remaining() {
+		return remaining;
+	}
+
+	/**
+	 * Takes the k-th (zero-based) remaining individual in the order of the
+	 * survivor list.
+	 * 
+	 * @param k
+	 *            the rank
+	 * @return the individual
+	 */
+	public Individual take(int k) {
+		int position = 0;
+		for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>>= 1) {
+			int next = position + step;
+			if (next < tree.length && tree[next] <= k) {
+				position = next;
+				k -= tree[next];
+			}
+		}
+		int slot = order[position];
+		take(slot, position);
+		return individuals[slot];
+	}
+
+	/**
+	 * Takes all remaining individuals that are ε-dominated by the reference,
+	 * i.e., that are dominated by the objective values of the reference minus
+	 * the shifts.
+	 * 
+	 * @param reference
+	 *            the reference individual
+	 * @param shifts
+	 *            the ε shifts of the objectives
+	 * @param neighborhood
+	 *            the collection the ε-dominated individuals are added to
+	 */
+	public void takeEpsilonDominated(Individual reference, double[] shifts, Collection<Individual> neighborhood) {
+		double[] values = reference.getObjectives().array();
+		double[] lower = new double[values.length];
+		for (int j = 0; j < lower.length; j++) {
+			lower[j] = values[j] - shifts[j];
+		}
+		if (root != null) {
+			collect(root, lower, neighborhood);
+		}
+	}
+
+	/**
+	 * Takes the individuals of a subtree that are dominated by the given
+	 * values.
+	 * 
+	 * @param node
+	 *            the root of the subtree
+	 * @param lower
+	 *            the values
+	 * @param neighborhood
+	 *            the collection the dominated individuals are added to
+	 */
+	protected void collect(Node node, double[] lower, Collection<Individual> neighborhood) {
+		if (node.count == 0) {
+			return;
+		}
+		double[] max = node.max;
+		for (int j = 0; j < lower.length; j++) {
+			if (max[j] < lower[j]) {
+				return;
+			}
+		}
+		if (node.isLeaf()) {
+			for (int i = 0; i < node.bucketSize; i++) {
+				int slot = node.bucket[i];
+				if (!taken[slot] && dominates(lower, points[slot])) {
+					take(slot, positions[slot]);
+					neighborhood.add(individuals[slot]);
+				}
+			}
+		} else {
+			collect(node.low, lower, neighborhood);
+			collect(node.high, lower, neighborhood);
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the first values dominate the second values (as
+	 * {@link Objectives#dominates(Objectives)}).
+	 * 
+	 * @param va
+	 *            the first values
+	 * @param vb
+	 *            the second values
+	 * @return {@code true} if {@code va} dominates {@code vb}
+	 */
+	protected static boolean dominates(double[] va, double[] vb) {
+		boolean equal = true;
+		for (int i = 0; i < va.length; i++) {
+			if (va[i] > vb[i]) {
+				return false;
+			} else if (va[i] < vb[i]) {
+				equal = false;
+			}
+		}
+		return !equal;
+	}
+
+	/**
+	 * Marks an individual as taken.
+	 * 
+	 * @param slot
+	 *            the slot of the individual
+	 * @param position
+	 *            the position of the individual in the survivor list
+	 */
+	protected void take(int slot, int position) {
+		taken[slot] = true;
+		for (Node node = leaves[slot]; node != null; node = node.parent) {
+			node.count--;
+		}
+		for (int i = position + 1; i < tree.length; i += i & -i) {
+			tree[i]--;
+		}
+		remaining--;
+	}
+
+	/**
+	 * Makes the taken individuals available again.
+	 */
+	protected void restore() {
+		for (int slot = 0; slot < capacity; slot++) {
+			if (taken[slot]) {
+				taken[slot] = false;
+				for (Node node = leaves[slot]; node != null; node = node.parent) {
+					node.count++;
+				}
+			}
+		}
+		remaining = 0;
+	}
+
+	/**
+	 * Removes all individuals.
+	 */
+	protected void clear() {
+		slots.clear();
+		Arrays.fill(individuals, null);
+		Arrays.fill(objectives, null);
+		Arrays.fill(points, null);
+		Arrays.fill(leaves, null);
+		freeSize = 0;
+		for (int slot = capacity - 1; slot >= 0; slot--) {
+			free[freeSize++] = slot;
+		}
+		root = null;
+		updates = 0;
+		order = new int[0];
+		tree = new int[1];
+		remaining = 0;
+	}
+
+	/**
+	 * Ensures that the given number of individuals can be stored.
+	 * 
+	 * @param size
+	 *            the number of individuals
+	 */
+	protected void ensureCapacity(int size) {
+		if (size <= capacity) {
+			return;
+		}
+		int newCapacity = Math.max(size, capacity + (capacity >> 1));
+		individuals = Arrays.copyOf(individuals, newCapacity);
+		objectives = Arrays.copyOf(objectives, newCapacity);
+		points = Arrays.copyOf(points, newCapacity);
+		leaves = Arrays.copyOf(leaves, newCapacity);
+		taken = Arrays.copyOf(taken, newCapacity);
+		free = Arrays.copyOf(free, newCapacity);
+		for (int slot = newCapacity - 1; slot >= capacity; slot--) {
+			free[freeSize++] = slot;
+		}
+		capacity = newCapacity;
+	}
+
+	/**
+	 * Inserts an individual into the tree.
+	 * 
+	 * @param individual
+	 *            the individual
+	 * @return the slot of the individual
+	 */
+	protected int insert(Individual individual) {
+		int slot = free[--freeSize];
+		slots.put(individual, slot);
+		individuals[slot] = individual;
+		objectives[slot] = individual.getObjectives();
+		double[] point = points[slot] = objectives[slot].array();
+		updates++;
+
+		if (root == null) {
+			root = createLeaf(null, point.length);
+		}
+		Node node = root;
+		while (true) {
+			node.count++;
+			double[] max = node.max;
+			for (int j = 0; j < point.length; j++) {
+				if (max[j] < point[j]) {
+					max[j] = point[j];
+				}
+			}
+			if (node.isLeaf()) {
+				break;
+			}
+			node = point[node.axis] < node.split ? node.low : node.high;
+		}
+		if (node.bucketSize == node.bucket.length) {
+			node.bucket = Arrays.copyOf(node.bucket, 2 * node.bucket.length);
+		}
+		node.bucket[node.bucketSize++] = slot;
+		leaves[slot] = node;
+		if (node.bucketSize > BUCKET) {
+			split(node);
+		}
+		return slot;
+	}
+
+	/**
+	 * Deletes an individual from the tree. The maximal values of the subtrees
+	 * are not tightened.
+	 * 
+	 * @param slot
+	 *            the slot of the individual
+	 */
+	protected void delete(int slot) {
+		Node leaf = leaves[slot];
+		for (int i = 0; i < leaf.bucketSize; i++) {
+			if (leaf.bucket[i] == slot) {
+				leaf.bucket[i] = leaf.bucket[--leaf.bucketSize];
+				break;
+			}
+		}
+		for (Node node = leaf; node != null; node = node.parent) {
+			node.count--;
+		}
+		slots.remove(individuals[slot]);
+		individuals[slot] = null;
+		objectives[slot] = null;
+		points[slot] = null;
+		leaves[slot] = null;
+		free[freeSize++] = slot;
+		updates++;
+	}
+
+	/**
+	 * Rebuilds a balanced tree.
+	 */
+	protected void rebuild() {
+		int[] all = new int[slots.size()];
+		int size = 0;
+		for (int slot : slots.values()) {
+			all[size++] = slot;
+		}
+		root = size == 0 ? null : build(null, all, 0, size);
+		updates = 0;
+	}
+
+	/**
+	 * Builds a subtree for a range of slots.
+	 * 
+	 * @param parent
+	 *            the parent node
+	 * @param all
+	 *            the slots
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @return the root of the subtree
+	 */
+	protected Node build(Node parent, int[] all, int from, int to) {
+		int dimension = points[all[from]].length;
+		Node node = createLeaf(parent, dimension);
+		for (int i = from; i < to; i++) {
+			int slot = all[i];
+			double[] point = points[slot];
+			for (int j = 0; j < dimension; j++) {
+				if (node.max[j] < point[j]) {
+					node.max[j] = point[j];
+				}
+			}
+		}
+		node.count = to - from;
+
+		if (to - from > BUCKET) {
+			int axis = widestAxis(all, from, to);
+			double split = median(all, from, to, axis);
+			if (!Double.isNaN(split)) {
+				int mid = partition(all, from, to, axis, split);
+				node.bucket = null;
+				node.bucketSize = 0;
+				node.axis = axis;
+				node.split = split;
+				node.low = build(node, all, from, mid);
+				node.high = build(node, all, mid, to);
+				return node;
+			}
+		}
+
+		if (node.bucket.length < to - from) {
+			node.bucket = new int[to - from];
+		}
+		for (int i = from; i < to; i++) {
+			node.bucket[node.bucketSize++] = all[i];
+			leaves[all[i]] = node;
+		}
+		return node;
+	}
+
+	/**
+	 * Splits an overflowing leaf into two leaves.
+	 * 
+	 * @param leaf
+	 *            the leaf
+	 */
+	protected void split(Node leaf) {
+		int[] bucket = Arrays.copyOf(leaf.bucket, leaf.bucketSize);
+		int axis = widestAxis(bucket, 0, bucket.length);
+		double split = median(bucket, 0, bucket.length, axis);
+		if (Double.isNaN(split)) {
+			// all values are equal
+			return;
+		}
+		int mid = partition(bucket, 0, bucket.length, axis, split);
+		int dimension = leaf.max.length;
+		Node low = createLeaf(leaf, dimension);
+		Node high = createLeaf(leaf, dimension);
+		for (int i = 0; i < bucket.length; i++) {
+			int slot = bucket[i];
+			Node child = i < mid ? low : high;
+			double[] point = points[slot];
+			for (int j = 0; j < dimension; j++) {
+				if (child.max[j] < point[j]) {
+					child.max[j] = point[j];
+				}
+			}
+			child.bucket[child.bucketSize++] = slot;
+			if (!taken[slot]) {
+				child.count++;
+			}
+			leaves[slot] = child;
+		}
+		leaf.axis = axis;
+		leaf.split = split;
+		leaf.low = low;
+		leaf.high = high;
+		leaf.bucket = null;
+		leaf.bucketSize = 0;
+	}
+
+	/**
+	 * Returns the objective with the widest range of values.
+	 * 
+	 * @param all
+	 *            the slots
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @return the axis
+	 */
+	protected int widestAxis(int[] all, int from, int to) {
+		int dimension = points[all[from]].length;
+		int axis = 0;
+		double widest = -1;
+		for (int j = 0; j < dimension; j++) {
+			double min = Double.POSITIVE_INFINITY;
+			double max = Double.NEGATIVE_INFINITY;
+			for (int i = from; i < to; i++) {
+				double value = points[all[i]][j];
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+			}
+			if (max - min > widest) {
+				widest = max - min;
+				axis = j;
+			}
+		}
+		return axis;
+	}
+
+	/**
+	 * Returns the median value of an objective that is used to split a range
+	 * of slots. If the median equals the minimum, the next greater value is
+	 * returned such that both parts are non-empty.
+	 * 
+	 * @param all
+	 *            the slots
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param axis
+	 *            the objective
+	 * @return the split value or {@code NaN} if all values are equal
+	 */
+	protected double median(int[] all, int from, int to, int axis) {
+		double[] values = new double[to - from];
+		for (int i = from; i < to; i++) {
+			values[i - from] = points[all[i]][axis];
+		}
+		Arrays.sort(values);
+		int k = values.length / 2;
+		while (k < values.length && values[k] == values[0]) {
+			k++;
+		}
+		return k < values.length ? values[k] : Double.NaN;
+	}
+
+	/**
+	 * Partitions a range of slots such that all values of an objective before
+	 * the returned index are smaller than the split value.
+	 * 
+	 * @param all
+	 *            the slots
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param axis
+	 *            the objective
+	 * @param split
+	 *            the split value
+	 * @return the index of the first slot of the upper part
+	 */
+	protected int partition(int[] all, int from, int to, int axis, double split) {
+		int mid = from;
+		for (int i = from; i < to; i++) {
+			if (points[all[i]][axis] < split) {
+				int tmp = all[mid];
+				all[mid++] = all[i];
+				all[i] = tmp;
+			}
+		}
+		return mid;
+	}
+
+	/**
+	 * Creates an empty leaf.
+	 * 
+	 * @param parent
+	 *            the parent node
+	 * @param dimension
+	 *            the number of objectives
+	 * @return the leaf
+	 */
+	protected Node createLeaf(Node parent, int dimension) {
+		Node node = new Node();
+		node.parent = parent;
+		node.max = new double[dimension];
+		Arrays.fill(node.max, Double.NEGATIVE_INFINITY);
+		node.bucket = new int[BUCKET + 1];
+		return node;
+	}
+}
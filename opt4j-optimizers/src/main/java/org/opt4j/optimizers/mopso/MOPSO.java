@@ -23,10 +23,8 @@
 package org.opt4j.optimizers.mopso;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Random;
 
 import org.opt4j.core.Genotype;
@@ -35,7 +33,9 @@ import org.opt4j.core.IndividualFactory;
 import org.opt4j.core.Objectives;
 import org.opt4j.core.common.archive.Crowding;
 import org.opt4j.core.common.archive.CrowdingArchive;
+import org.opt4j.core.common.archive.FrontDensityIndicator;
 import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.DoubleArrayGenotype;
 import org.opt4j.core.genotype.DoubleGenotype;
 import org.opt4j.core.optimizer.Archive;
 import org.opt4j.core.optimizer.IncompatibilityException;
@@ -44,12 +44,7 @@ import org.opt4j.core.optimizer.IterativeOptimizer;
 import org.opt4j.core.optimizer.Population;
 import org.opt4j.core.optimizer.TerminationException;
 import org.opt4j.core.start.Constant;
-import org.opt4j.operators.algebra.Add;
-import org.opt4j.operators.algebra.AlgebraDouble;
-import org.opt4j.operators.algebra.Index;
-import org.opt4j.operators.algebra.Term;
 import org.opt4j.operators.mutate.MutationRate;
-import org.opt4j.operators.normalize.NormalizeDouble;
 
 import com.google.inject.Inject;
 
@@ -60,6 +55,15 @@ import com.google.inject.Inject;
  * In Proceedings of Evolutionary Multi-Criterion Optimization, 2005". This
  * implementation is based on the OMOPSO. Thus, this MOPSO is restricted to
  * problems that are based on the {@link DoubleGenotype}.
+ * <p>
+ * The velocities and positions are calculated on primitive arrays with the
+ * compiled {@link VelocityTerm}. The particles of the current and the next
+ * iteration are kept in two reused arrays, and the velocity genotypes of the
+ * former particles are reused. Thus, the velocities are
+ * {@link DoubleArrayGenotype}s and the velocity of a former particle is reset
+ * to {@code null} once it is reused such that no two particles share a
+ * velocity.
+ * </p>
  * 
  * @author lukasiewycz
  * 
@@ -72,14 +76,10 @@ public class MOPSO implements IterativeOptimizer {
 
 	protected final ParticleFactory particleFactory;
 
-	protected final AlgebraDouble algebra;
-
 	protected final Random random;
 
 	protected final VelocityTerm velocityTerm;
 
-	protected final Term positionTerm;
-
 	protected final MutateDoubleUniform uniform;
 
 	protected final MutateDoubleUniform nonUniform;
@@ -90,6 +90,16 @@ public class MOPSO implements IterativeOptimizer {
 
 	private final IndividualCompleter completer;
 
+	protected Particle[] current = new Particle[0];
+
+	protected Particle[] next = new Particle[0];
+
+	protected Particle[] lead = new Particle[0];
+
+	protected DoubleArrayGenotype[] velocities = new DoubleArrayGenotype[0];
+
+	protected double[][] buffers = new double[5][0];
+
 	/**
 	 * Constructs a {@link MOPSO}.
 	 * 
@@ -128,16 +138,6 @@ public class MOPSO implements IterativeOptimizer {
 
 		this.size = size;
 
-		this.algebra = new AlgebraDouble(new NormalizeDouble() {
-			@Override
-			public void normalize(DoubleGenotype genotype) {
-				// do nothing
-			}
-		});
-
-		Index x = new Index(0);
-		Index v = new Index(1);
-		positionTerm = new Add(x, v);
 		velocityTerm = new VelocityTerm(random);
 	}
 
@@ -176,62 +176,116 @@ public class MOPSO implements IterativeOptimizer {
 			// determine the leaders
 			updateLeaders(leaders, population);
 
+			int n = population.size();
+			if (current.length < n) {
+				current = new Particle[n];
+				next = new Particle[n];
+				lead = new Particle[n];
+			}
+			int i = 0;
+			for (Individual individual : population) {
+				current[i++] = (Particle) individual;
+			}
+
 			// determine one leader for each particle
-			Map<Particle, Particle> lead = getLeaders(leaders, population);
+			getLeaders(leaders, current, lead, n);
 			// determine the next position of each particle
-			Map<Particle, Particle> next = move(population, lead);
+			move(current, lead, next, n);
 
-			population.addAll(next.values());
+			for (i = 0; i < n; i++) {
+				population.add(next[i]);
+			}
 			completer.complete(population);
 
 			// update the personal best of each particle
-			updatePersonalBest(next);
+			updatePersonalBest(current, next, n);
 
 			// remove the old positions
-			population.removeAll(next.keySet());
+			for (i = 0; i < n; i++) {
+				population.remove(current[i]);
+			}
+			Arrays.fill(current, 0, n, null);
+			Arrays.fill(next, 0, n, null);
+			Arrays.fill(lead, 0, n, null);
 		}
 	}
 
 	/**
-	 * Determine the new positions for the {@link Particle}s in the
-	 * {@link Population}.
+	 * Determine the new positions for the {@link Particle}s. The new velocity
+	 * is written into the velocity genotype of a former particle with the same
+	 * id if available and the position is reflected at the bounds. The
+	 * velocity of each given particle is reset to {@code null} if it is kept
+	 * for reuse.
 	 * 
-	 * @param population
-	 *            the population
+	 * @param particles
+	 *            the particles
 	 * @param leaders
-	 *            the map for the global leaders
-	 * @return the map of the old to the new particle
+	 *            the global leader of each particle
+	 * @param next
+	 *            the array that is filled with the new particles
+	 * @param n
+	 *            the number of particles
 	 */
-	protected Map<Particle, Particle> move(Population population, Map<Particle, Particle> leaders) {
-		Map<Particle, Particle> map = new HashMap<>();
-
-		for (Individual individual : population) {
-
-			Particle particle = (Particle) individual;
+	protected void move(Particle[] particles, Particle[] leaders, Particle[] next, int n) {
+		for (int i = 0; i < n; i++) {
+			Particle particle = particles[i];
 
 			DoubleGenotype position = (DoubleGenotype) particle.getGenotype();
-			DoubleGenotype velocity = (DoubleGenotype) particle.getVelocity();
-			DoubleGenotype best = (DoubleGenotype) particle.getBest();
+			Genotype velocity = particle.getVelocity();
 			int id = particle.getId();
+			int size = position.size();
 
-			DoubleGenotype leader = (DoubleGenotype) leaders.get(particle).getGenotype();
+			double[] x = values(position, 0, size);
+			double[] v = values(velocity, 1, size);
+			double[] best = values(particle.getBest(), 2, size);
+			double[] leader = values(leaders[i].getGenotype(), 3, size);
 
 			velocityTerm.randomize();
 
-			DoubleGenotype nextVelocity = algebra.algebra(velocityTerm, position, velocity, best, leader);
-
-			DoubleGenotype nextPosition = algebra.algebra(positionTerm, position, nextVelocity);
+			DoubleArrayGenotype nextVelocity = null;
+			if (id >= 0 && id < velocities.length) {
+				nextVelocity = velocities[id];
+				velocities[id] = null;
+			}
+			if (nextVelocity == null) {
+				nextVelocity = new DoubleArrayGenotype();
+			}
+			nextVelocity.setSize(size);
+			double[] nv = nextVelocity.array();
+			velocityTerm.calculate(x, v, best, leader, nv, size);
+
+			// a copy avoids the reflective instantiation
+			DoubleGenotype nextPosition = position.getClass() == DoubleArrayGenotype.class
+					? (DoubleGenotype) position.clone()
+					: position.newInstance();
+			double[] nx;
+			if (nextPosition instanceof DoubleArrayGenotype) {
+				((DoubleArrayGenotype) nextPosition).setSize(size);
+				nx = ((DoubleArrayGenotype) nextPosition).array();
+			} else {
+				nextPosition.clear();
+				nx = buffer(4, size);
+			}
 
-			for (int k = 0; k < nextPosition.size(); k++) {
-				double value = nextPosition.get(k);
+			for (int k = 0; k < size; k++) {
+				// the same order of operations as the position term
+				double value = 0.0;
+				value += x[k];
+				value += nv[k];
 				double lb = nextPosition.getLowerBound(k);
 				double ub = nextPosition.getUpperBound(k);
 				if (value < lb) {
-					nextPosition.set(k, lb);
-					nextVelocity.set(k, -nextVelocity.get(k));
+					value = lb;
+					nv[k] = -nv[k];
 				} else if (value > ub) {
-					nextPosition.set(k, ub);
-					nextVelocity.set(k, -nextVelocity.get(k));
+					value = ub;
+					nv[k] = -nv[k];
+				}
+				nx[k] = value;
+			}
+			if (!(nextPosition instanceof DoubleArrayGenotype)) {
+				for (int k = 0; k < size; k++) {
+					nextPosition.add(nx[k]);
 				}
 			}
 
@@ -241,12 +295,63 @@ public class MOPSO implements IterativeOptimizer {
 				nonUniform.mutate(nextPosition, mutationRate.get());
 			} // else do nothing
 
-			Particle p = particleFactory.create(id, nextPosition, nextVelocity);
+			next[i] = particleFactory.create(id, nextPosition, nextVelocity);
 
-			map.put(particle, p);
+			// the velocity of the former particle is reused in the next
+			// iteration
+			if (velocity != null && velocity.getClass() == DoubleArrayGenotype.class && id >= 0) {
+				if (id >= velocities.length) {
+					velocities = Arrays.copyOf(velocities, Math.max(id + 1, 2 * velocities.length));
+				}
+				velocities[id] = (DoubleArrayGenotype) velocity;
+				// the particle might still be referenced by an archive
+				particle.setVelocity(null);
+			}
 		}
+	}
 
-		return map;
+	/**
+	 * Returns the first {@code n} values of a {@link DoubleGenotype} as an
+	 * array. A missing genotype has only zero values.
+	 * 
+	 * @param genotype
+	 *            the genotype (or {@code null})
+	 * @param index
+	 *            the index of the buffer that is used for copies
+	 * @param n
+	 *            the number of values
+	 * @return the values
+	 */
+	protected double[] values(Genotype genotype, int index, int n) {
+		if (genotype instanceof DoubleArrayGenotype && genotype.size() >= n) {
+			return ((DoubleArrayGenotype) genotype).array();
+		}
+		double[] buffer = buffer(index, n);
+		if (genotype == null) {
+			Arrays.fill(buffer, 0, n, 0.0);
+		} else {
+			DoubleGenotype values = (DoubleGenotype) genotype;
+			for (int k = 0; k < n; k++) {
+				buffer[k] = values.get(k);
+			}
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns a buffer with at least {@code n} elements.
+	 * 
+	 * @param index
+	 *            the index of the buffer
+	 * @param n
+	 *            the number of elements
+	 * @return the buffer
+	 */
+	protected double[] buffer(int index, int n) {
+		if (buffers[index].length < n) {
+			buffers[index] = new double[n];
+		}
+		return buffers[index];
 	}
 
 	/**
@@ -264,14 +369,18 @@ public class MOPSO implements IterativeOptimizer {
 	/**
 	 * Update the personal best of each {@link Particle}.
 	 * 
+	 * @param former
+	 *            the old positions
 	 * @param next
-	 *            the old and new positions
+	 *            the new positions
+	 * @param n
+	 *            the number of particles
 	 */
-	protected void updatePersonalBest(Map<Particle, Particle> next) {
-		for (Entry<Particle, Particle> entry : next.entrySet()) {
+	protected void updatePersonalBest(Particle[] former, Particle[] next, int n) {
+		for (int i = 0; i < n; i++) {
 
-			Particle old = entry.getKey();
-			Particle current = entry.getValue();
+			Particle old = former[i];
+			Particle current = next[i];
 
 			if (dominates(old, current)) {
 				current.setBest(old.getBest(), old.getBestObjectives());
@@ -305,39 +414,23 @@ public class MOPSO implements IterativeOptimizer {
 	 * 
 	 * @param leaders
 	 *            the archive of available leader
-	 * @param population
-	 *            the population
-	 * @return the map of each particle to its leader
+	 * @param particles
+	 *            the particles
+	 * @param lead
+	 *            the array that is filled with the leader of each particle
+	 * @param n
+	 *            the number of particles
 	 */
-	protected Map<Particle, Particle> getLeaders(Archive leaders, Population population) {
-		Map<Particle, Particle> map = new HashMap<>();
-
-		Crowding crowding = new Crowding();
-		Map<Individual, Double> values = crowding.getDensityValues(leaders);
-
+	protected void getLeaders(Archive leaders, Particle[] particles, Particle[] lead, int n) {
 		List<Individual> l = new ArrayList<>(leaders);
-		List<Individual> best = new ArrayList<>();
+		double[] values = new Crowding().getDensityValues(FrontDensityIndicator.toMatrix(l));
 
-		for (int i = 0; i < population.size(); i++) {
-			Individual i1 = l.get(random.nextInt(l.size()));
-			Individual i2 = l.get(random.nextInt(l.size()));
+		for (int i = 0; i < n; i++) {
+			int i1 = random.nextInt(l.size());
+			int i2 = random.nextInt(l.size());
 
-			if (values.get(i1) >= values.get(i2)) {
-				best.add(i1);
-			} else {
-				best.add(i2);
-			}
-		}
-
-		int i = 0;
-
-		for (Individual individual : population) {
-			Particle particle = (Particle) individual;
-			Particle leader = (Particle) best.get(i++);
-			map.put(particle, leader);
+			lead[i] = (Particle) l.get(values[i1] >= values[i2] ? i1 : i2);
 		}
-
-		return map;
 	}
 
 }
@@ -84,6 +84,39 @@ public class VelocityTerm implements Term {
 		return term.calculate(values);
 	}
 
+	/**
+	 * Calculates the velocity for the first {@code n} elements of primitive
+	 * arrays. This is the compiled form of the term and yields the same values
+	 * as {@link #calculate(double...)} with the arguments {@code x},
+	 * {@code v}, {@code xbest}, and {@code xleader}.
+	 * 
+	 * @param x
+	 *            the position
+	 * @param v
+	 *            the velocity
+	 * @param xbest
+	 *            the personal best position
+	 * @param xleader
+	 *            the position of the leader
+	 * @param result
+	 *            the array that is filled with the new velocity
+	 * @param n
+	 *            the number of elements
+	 */
+	public void calculate(double[] x, double[] v, double[] xbest, double[] xleader, double[] result, int n) {
+		double w = W.getValue();
+		double c1 = C1.getValue() * r1.getValue();
+		double c2 = C2.getValue() * r2.getValue();
+		for (int k = 0; k < n; k++) {
+			// the same order of operations as the term
+			double sum = 0.0;
+			sum += w * v[k];
+			sum += c1 * (xbest[k] - x[k]);
+			sum += c2 * (xleader[k] - x[k]);
+			result[k] = sum;
+		}
+	}
+
 	/**
 	 * Randomizes the constants of the term.
 	 */
@@ -0,0 +1,71 @@
+package org.opt4j.optimizers.ea;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.common.random.RandomJava;
+import org.opt4j.optimizers.ea.HypervolumeMonteCarlo.Estimate;
+
+public class HypervolumeMonteCarloTest {
+
+	@Test
+	public void estimateContributions() {
+		double[][] front = HypervolumeWFGTest.randomFront(new Random(3), 20, 4);
+		double[] exact = new HypervolumeWFG(1.0).calculateContributions(front);
+
+		HypervolumeMonteCarlo monteCarlo = new HypervolumeMonteCarlo(1.0, new RandomJava(1), 20000, 0, false);
+		Estimate estimate = monteCarlo.estimateContributions(front);
+
+		for (int i = 0; i < front.length; i++) {
+			Assertions.assertEquals(20000, estimate.getSamples()[i]);
+			Assertions.assertTrue(estimate.getErrors()[i] > 0);
+			Assertions.assertEquals(exact[i], estimate.getValues()[i], 5 * estimate.getErrors()[i]);
+		}
+	}
+
+	@Test
+	public void estimateContributionsParallel() {
+		double[][] front = HypervolumeWFGTest.randomFront(new Random(4), 30, 5);
+
+		Estimate sequential = new HypervolumeMonteCarlo(1.0, new RandomJava(7), 5000, 0, false)
+				.estimateContributions(front);
+		Estimate parallel = new HypervolumeMonteCarlo(1.0, new RandomJava(7), 5000, 0, true)
+				.estimateContributions(front);
+
+		Assertions.assertArrayEquals(sequential.getValues(), parallel.getValues());
+		Assertions.assertArrayEquals(sequential.getErrors(), parallel.getErrors());
+	}
+
+	@Test
+	public void estimateContributionsMaxError() {
+		double[][] front = HypervolumeWFGTest.randomFront(new Random(5), 10, 3);
+		Estimate estimate = new HypervolumeMonteCarlo(1.0, new RandomJava(1), 1000000, 0.01, false)
+				.estimateContributions(front);
+
+		for (int i = 0; i < front.length; i++) {
+			Assertions.assertTrue(estimate.getSamples()[i] < 1000000);
+			Assertions.assertTrue(estimate.getErrors()[i] <= 0.01);
+		}
+	}
+
+	@Test
+	public void estimateContributionsDominated() {
+		double[][] front = { { 1, 2, 3 }, { 1, 2, 3 }, { 0.5, 1, 1 }, { 3, 2, 1 } };
+		Estimate estimate = new HypervolumeMonteCarlo(1.0, new RandomJava(1), 1000, 0, false)
+				.estimateContributions(front);
+
+		Assertions.assertEquals(0.0, estimate.getValues()[0]);
+		Assertions.assertEquals(0.0, estimate.getValues()[1]);
+		Assertions.assertEquals(0.0, estimate.getValues()[2]);
+		Assertions.assertTrue(estimate.getValues()[3] > 0);
+	}
+
+	@Test
+	public void invalidParameters() {
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new HypervolumeMonteCarlo(1.0, new RandomJava(1), 0, 0, false));
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new HypervolumeMonteCarlo(1.0, new RandomJava(1), 10, -1, false));
+	}
+}
@@ -0,0 +1,79 @@
+package org.opt4j.optimizers.ea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HypervolumeWFGTest {
+
+	protected static double[][] randomFront(Random random, int n, int m) {
+		double[][] front = new double[n][m];
+		for (double[] p : front) {
+			double sum = 0;
+			for (int k = 0; k < m; k++) {
+				p[k] = random.nextDouble() + 0.01;
+				sum += p[k];
+			}
+			for (int k = 0; k < m; k++) {
+				p[k] = p[k] / sum + 0.5;
+			}
+		}
+		return front;
+	}
+
+	protected static List<double[]> copy(double[][] points) {
+		List<double[]> list = new ArrayList<>();
+		for (double[] p : points) {
+			list.add(p.clone());
+		}
+		return list;
+	}
+
+	@Test
+	public void calculateHypervolume() {
+		Random random = new Random(1);
+		Hypervolume slicing = new Hypervolume(1.0);
+		HypervolumeWFG wfg = new HypervolumeWFG(1.0);
+
+		for (int m = 2; m <= 5; m++) {
+			for (int n : new int[] { 1, 2, 5, 20 }) {
+				double[][] points = new double[n][m];
+				for (double[] p : points) {
+					for (int k = 0; k < m; k++) {
+						p[k] = random.nextInt(5) + 1;
+					}
+				}
+				double expected = slicing.calculateHypervolume(copy(points), m);
+				Assertions.assertEquals(expected, wfg.calculateHypervolume(points, n, m), 1e-9);
+			}
+		}
+	}
+
+	@Test
+	public void calculateContributions() {
+		Random random = new Random(2);
+		Hypervolume slicing = new Hypervolume(1.0);
+		HypervolumeWFG wfg = new HypervolumeWFG(1.0);
+
+		for (int m = 3; m <= 5; m++) {
+			double[][] front = randomFront(random, 30, m);
+			double all = slicing.calculateHypervolume(copy(front), m);
+			double[] contributions = wfg.calculateContributions(front);
+
+			for (int i = 0; i < front.length; i++) {
+				List<double[]> others = copy(front);
+				others.remove(i);
+				double expected = all - slicing.calculateHypervolume(others, m);
+				Assertions.assertEquals(expected, contributions[i], 1e-9);
+			}
+		}
+	}
+
+	@Test
+	public void calculateContributionsEmpty() {
+		Assertions.assertEquals(0, new HypervolumeWFG(1.0).calculateContributions(new double[0][]).length);
+	}
+}
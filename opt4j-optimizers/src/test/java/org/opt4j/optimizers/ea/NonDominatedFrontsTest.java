@@ -65,7 +65,15 @@ public class NonDominatedFrontsTest {
 
 	@Test
 	public void testGenerateFronts() {
-		NonDominatedFronts fronts = new NonDominatedFronts(getIndividualSet());
+		testGenerateFronts(new NonDominatedFronts(getIndividualSet()));
+	}
+
+	@Test
+	public void testGenerateFrontsFast() {
+		testGenerateFronts(new NonDominatedFronts(getIndividualSet(), new NonDominatedSortingFast()));
+	}
+
+	protected void testGenerateFronts(NonDominatedFronts fronts) {
 		Assertions.assertEquals(4, fronts.getFrontNumber());
 
 		Assertions.assertEquals(3, fronts.getFrontAtIndex(0).size());
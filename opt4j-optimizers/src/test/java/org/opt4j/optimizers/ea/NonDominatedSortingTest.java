@@ -0,0 +1,116 @@
+package org.opt4j.optimizers.ea;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NonDominatedSortingTest {
+
+	protected static double[][] randomMatrix(Random random, int n, int m, int values) {
+		double[][] objectives = new double[n][m];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < m; j++) {
+				objectives[i][j] = random.nextInt(values);
+			}
+		}
+		return objectives;
+	}
+
+	/**
+	 * Determines the ranks by repeatedly removing the non-dominated points.
+	 */
+	protected static int[] referenceRanks(double[][] objectives) {
+		int n = objectives.length;
+		int[] ranks = new int[n];
+		boolean[] removed = new boolean[n];
+		int remaining = n;
+		int rank = 0;
+		while (remaining > 0) {
+			boolean[] front = new boolean[n];
+			for (int i = 0; i < n; i++) {
+				if (!removed[i]) {
+					boolean dominated = false;
+					for (int j = 0; j < n && !dominated; j++) {
+						dominated = !removed[j] && NonDominatedSorting.dominates(objectives[j], objectives[i]);
+					}
+					front[i] = !dominated;
+				}
+			}
+			for (int i = 0; i < n; i++) {
+				if (front[i]) {
+					ranks[i] = rank;
+					removed[i] = true;
+					remaining--;
+				}
+			}
+			rank++;
+		}
+		return ranks;
+	}
+
+	protected void testSorting(NonDominatedSorting sorting) {
+		Random random = new Random(42);
+		for (int m = 1; m <= 5; m++) {
+			for (int n : new int[] { 0, 1, 2, 10, 100, 300 }) {
+				// few distinct values lead to many duplicates and ties
+				double[][] objectives = randomMatrix(random, n, m, m == 1 ? 10 : 20);
+				Assertions.assertArrayEquals(referenceRanks(objectives), sorting.sort(objectives));
+			}
+		}
+	}
+
+	@Test
+	public void sortFast() {
+		testSorting(new NonDominatedSortingFast());
+	}
+
+	@Test
+	public void sortEfficient() {
+		testSorting(new NonDominatedSortingEfficient());
+	}
+
+	@Test
+	public void sortParallel() {
+		testSorting(new NonDominatedSortingParallel(0));
+		testSorting(new NonDominatedSortingParallel(1));
+
+		// large enough to be sorted in parallel
+		Random random = new Random(7);
+		NonDominatedSorting parallel = new NonDominatedSortingParallel(4);
+		for (int m = 2; m <= 4; m++) {
+			double[][] objectives = randomMatrix(random, 1500, m, 50);
+			Assertions.assertArrayEquals(referenceRanks(objectives), parallel.sort(objectives));
+			Assertions.assertArrayEquals(new NonDominatedSortingEfficient().sort(objectives), parallel.sort(objectives));
+		}
+	}
+
+	@Test
+	public void sortParallelStopped() {
+		NonDominatedSortingParallel parallel = new NonDominatedSortingParallel(2);
+		ForkJoinPool pool = parallel.getPool();
+		parallel.optimizationStopped(null);
+		Assertions.assertTrue(pool.isShutdown());
+
+		double[][] objectives = randomMatrix(new Random(3), 500, 2, 50);
+		Assertions.assertArrayEquals(referenceRanks(objectives), parallel.sort(objectives));
+		parallel.optimizationStopped(null);
+
+		NonDominatedSortingParallel common = new NonDominatedSortingParallel(0);
+		common.getPool();
+		common.optimizationStopped(null);
+		Assertions.assertFalse(ForkJoinPool.commonPool().isShutdown());
+	}
+
+	@Test
+	public void sortParallelInvalid() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new NonDominatedSortingParallel(-1));
+	}
+
+	@Test
+	public void sortEfficientSignedZero() {
+		double[][] objectives = { { 0.0, 2.0 }, { -0.0, 1.0 }, { 0.0, 1.0 } };
+		Assertions.assertArrayEquals(referenceRanks(objectives), new NonDominatedSortingEfficient().sort(objectives));
+	}
+}
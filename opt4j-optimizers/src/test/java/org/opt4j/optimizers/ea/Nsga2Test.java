@@ -0,0 +1,108 @@
+package org.opt4j.optimizers.ea;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.Objective;
+import org.opt4j.core.Objectives;
+import org.opt4j.core.common.archive.Crowding;
+import org.opt4j.core.common.archive.FrontDensityIndicator;
+import org.opt4j.core.common.random.RandomJava;
+
+public class Nsga2Test {
+
+	protected static List<Individual> createPopulation(Random random, int n, int m) {
+		Objective[] objective = new Objective[m];
+		for (int k = 0; k < m; k++) {
+			objective[k] = new Objective("o" + k);
+		}
+		List<Individual> population = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			Objectives objectives = new Objectives();
+			for (int k = 0; k < m; k++) {
+				objectives.add(objective[k], random.nextDouble());
+			}
+			Individual individual = mock(Individual.class);
+			when(individual.getObjectives()).thenReturn(objectives);
+			population.add(individual);
+		}
+		return population;
+	}
+
+	/**
+	 * The map based selection of the lames.
+	 */
+	protected static List<Individual> getLames(int size, Collection<Individual> population,
+			FrontDensityIndicator indicator) {
+		List<Individual> lames = new ArrayList<>();
+		NonDominatedFronts fronts = new NonDominatedFronts(population);
+		for (int i = fronts.getFrontNumber() - 1; i >= 0 && lames.size() < size; i--) {
+			List<Individual> front = new ArrayList<>(fronts.getFrontAtIndex(i));
+			if (lames.size() + front.size() < size) {
+				lames.addAll(front);
+			} else {
+				final Map<Individual, Double> density = indicator.getDensityValues(front);
+				Collections.sort(front, (o1, o2) -> density.get(o1).compareTo(density.get(o2)));
+				lames.addAll(front.subList(0, size - lames.size()));
+			}
+		}
+		return lames;
+	}
+
+	@Test
+	public void getLames() {
+		Random random = new Random(0);
+		FrontDensityIndicator[] indicators = { new Crowding(), new Hypervolume(1.0), new HypervolumeWFG(1.0) };
+		for (FrontDensityIndicator indicator : indicators) {
+			for (int m = 2; m <= 3; m++) {
+				List<Individual> population = createPopulation(random, 60, m);
+				Nsga2 nsga2 = new Nsga2(new RandomJava(0), 0, indicator);
+				for (int size : new int[] { 0, 1, 17, 30, 60 }) {
+					Assertions.assertEquals(getLames(size, population, indicator), nsga2.getLames(size, population));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void getParents() {
+		Random random = new Random(1);
+		List<Individual> population = createPopulation(random, 100, 2);
+		Nsga2 nsga2 = new Nsga2(new RandomJava(0), 1, new Crowding());
+		Collection<Individual> parents = nsga2.getParents(50, population);
+		Assertions.assertEquals(50, parents.size());
+		Assertions.assertTrue(population.containsAll(parents));
+
+		Map<Individual, Integer> rank = getRank(new NonDominatedFronts(population));
+		double mean = 0;
+		for (Individual parent : parents) {
+			mean += rank.get(parent);
+		}
+		double populationMean = 0;
+		for (Individual individual : population) {
+			populationMean += rank.get(individual);
+		}
+		Assertions.assertTrue(mean / parents.size() < populationMean / population.size());
+	}
+
+	protected static Map<Individual, Integer> getRank(NonDominatedFronts fronts) {
+		Map<Individual, Integer> ranks = new HashMap<>();
+		for (int i = 0; i < fronts.getFrontNumber(); i++) {
+			for (Individual p : fronts.getFrontAtIndex(i)) {
+				ranks.put(p, i);
+			}
+		}
+		return ranks;
+	}
+}
@@ -0,0 +1,179 @@
+package org.opt4j.optimizers.ea;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.Objective;
+import org.opt4j.core.Objectives;
+import org.opt4j.core.common.random.RandomJava;
+
+public class Spea2Test {
+
+	protected static final Objective o0 = new Objective("o0");
+	protected static final Objective o1 = new Objective("o1");
+
+	protected static Individual createIndividual(double v0, double v1) {
+		Objectives objectives = new Objectives();
+		objectives.add(o0, v0);
+		objectives.add(o1, v1);
+		Individual individual = mock(Individual.class);
+		when(individual.getObjectives()).thenReturn(objectives);
+		return individual;
+	}
+
+	/**
+	 * Checks the strength and fitness values against the definition.
+	 */
+	protected static void assertFitness(Spea2 spea2) {
+		for (Spea2.Spea2IndividualSet set : spea2.individualSets) {
+			int strength = 0;
+			int fitness = 0;
+			for (Spea2.Spea2IndividualSet other : spea2.individualSets) {
+				if (set.dominates(other)) {
+					strength += other.size();
+				}
+			}
+			for (Spea2.Spea2IndividualSet other : spea2.individualSets) {
+				if (other.dominates(set)) {
+					int s = 0;
+					for (Spea2.Spea2IndividualSet dominated : spea2.individualSets) {
+						if (other.dominates(dominated)) {
+							s += dominated.size();
+						}
+					}
+					fitness += s * other.size();
+				}
+			}
+			Assertions.assertEquals(strength, spea2.strength[set.getId()]);
+			Assertions.assertEquals(fitness, spea2.fitness[set.getId()]);
+		}
+	}
+
+	@Test
+	public void testIncrementalFitness() {
+		Random random = new Random(0);
+		Spea2 spea2 = new Spea2(0, new RandomJava(0));
+		spea2.init(10);
+
+		List<Individual> population = new ArrayList<>();
+		for (int generation = 0; generation < 40; generation++) {
+			// single changes are incremental, many changes are batched
+			int changes = generation % 2 == 0 ? 1 : 15;
+			while (population.size() < 40 + changes) {
+				// a coarse grid to get equal objectives
+				population.add(createIndividual(random.nextInt(6), random.nextInt(6)));
+			}
+			Collections.shuffle(population, random);
+			population.subList(0, changes).clear();
+			spea2.update(population);
+			assertFitness(spea2);
+		}
+	}
+
+	@Test
+	public void testGetLamesDominated() {
+		Spea2 spea2 = new Spea2(0, new RandomJava(0));
+		spea2.init(4);
+		Individual i0 = createIndividual(0, 3);
+		Individual i1 = createIndividual(3, 0);
+		Individual i2 = createIndividual(1, 4);
+		Individual i3 = createIndividual(4, 4);
+		List<Individual> population = Arrays.asList(i0, i1, i2, i3);
+
+		Collection<Individual> lames = spea2.getLames(1, population);
+		Assertions.assertEquals(Arrays.asList(i3), new ArrayList<>(lames));
+		lames = spea2.getLames(2, population);
+		Assertions.assertTrue(lames.contains(i2) && lames.contains(i3));
+	}
+
+	@Test
+	public void testGetLamesTruncation() {
+		Spea2 spea2 = new Spea2(0, new RandomJava(0));
+		spea2.init(5);
+		Individual i0 = createIndividual(0, 10);
+		Individual i1 = createIndividual(4, 6);
+		Individual i2 = createIndividual(5, 5);
+		Individual i3 = createIndividual(7, 3);
+		Individual i4 = createIndividual(10, 0);
+		List<Individual> population = Arrays.asList(i0, i1, i2, i3, i4);
+
+		Collection<Individual> lames = spea2.getLames(2, population);
+		// i1 and i2 are the closest pair, i2 has the closer second neighbor
+		Assertions.assertEquals(Arrays.asList(i2, i3), new ArrayList<>(lames));
+	}
+
+	@Test
+	public void testGetLamesEqualObjectives() {
+		Spea2 spea2 = new Spea2(0, new RandomJava(0));
+		spea2.init(4);
+		Individual i0 = createIndividual(0, 1);
+		Individual i1 = createIndividual(0, 1);
+		Individual i2 = createIndividual(1, 0);
+		List<Individual> population = Arrays.asList(i0, i1, i2);
+
+		Collection<Individual> lames = spea2.getLames(1, population);
+		Assertions.assertEquals(Arrays.asList(i0), new ArrayList<>(lames));
+		Assertions.assertEquals(2, spea2.individualSets.size());
+	}
+
+	@Test
+	public void testGetParents() {
+		Spea2 spea2 = new Spea2(2, new RandomJava(0));
+		Individual i0 = createIndividual(0, 0);
+		Individual i1 = createIndividual(1, 1);
+		List<Individual> population = Arrays.asList(i0, i1);
+
+		Collection<Individual> parents = spea2.getParents(10, population);
+		Assertions.assertEquals(10, parents.size());
+		Assertions.assertTrue(parents.contains(i0));
+	}
+
+
+	@Test
+	public void testGetLamesParallel() {
+		Random random = new Random(3);
+		List<Individual> population = new ArrayList<>();
+		for (int i = 0; i < 600; i++) {
+			// a non-dominated front with many equal distances
+			int x = random.nextInt(2000);
+			population.add(createIndividual(x, 2000 - x));
+		}
+
+		Spea2 spea2 = new Spea2(0, new RandomJava(0));
+		spea2.init(600);
+		Spea2 parallel = new Spea2Parallel(0, new RandomJava(0), 4);
+		parallel.init(600);
+
+		for (int n : new int[] { 1, 100, 450 }) {
+			List<Individual> expected = new ArrayList<>(spea2.getLames(n, population));
+			List<Individual> actual = new ArrayList<>(parallel.getLames(n, population));
+			Assertions.assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testParallelInvalid() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new Spea2Parallel(0, new RandomJava(0), -1));
+	}
+
+	@Test
+	public void testParallelStopped() {
+		Spea2Parallel parallel = new Spea2Parallel(0, new RandomJava(0), 2);
+		ForkJoinPool pool = parallel.getPool();
+		parallel.optimizationStopped(null);
+		Assertions.assertTrue(pool.isShutdown());
+		Assertions.assertNotSame(pool, parallel.getPool());
+		parallel.optimizationStopped(null);
+	}
+}
@@ -0,0 +1,120 @@
+package org.opt4j.optimizers.ea;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Individual;
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.optimizer.IndividualCompleter;
+import org.opt4j.core.optimizer.Population;
+import org.opt4j.core.optimizer.TerminationException;
+
+public class SteadyStateEvolutionaryAlgorithmTest {
+
+	protected static class MockCompleter implements IndividualCompleter {
+		protected final List<Individual> completed = new ArrayList<>();
+
+		@Override
+		public void complete(Iterable<? extends Individual> iterable) {
+			for (Individual individual : iterable) {
+				completed.add(individual);
+			}
+		}
+
+		@Override
+		public void complete(Individual... individuals) {
+			for (Individual individual : individuals) {
+				completed.add(individual);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected static Selector mockSelector() {
+		Selector selector = mock(Selector.class);
+		when(selector.getParents(anyInt(), any(Collection.class))).thenAnswer(i -> new ArrayList<>(i.getArgument(1)));
+		when(selector.getLames(anyInt(), any(Collection.class))).thenAnswer(i -> {
+			List<Individual> all = new ArrayList<>(i.getArgument(1));
+			return all.subList(0, i.getArgument(0));
+		});
+		return selector;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected static Mating mockMating() {
+		Mating mating = mock(Mating.class);
+		when(mating.getOffspring(anyInt(), any(Collection.class))).thenAnswer(i -> {
+			List<Individual> offspring = new ArrayList<>();
+			for (int k = 0; k < (int) i.getArgument(0); k++) {
+				offspring.add(mock(Individual.class));
+			}
+			return offspring;
+		});
+		return mating;
+	}
+
+	@Test
+	public void invalidParameters() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new SteadyStateEvolutionaryAlgorithm(
+				new Population(), null, new MockCompleter(), null, null, 0, 1, 1));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new SteadyStateEvolutionaryAlgorithm(
+				new Population(), null, new MockCompleter(), null, null, 1, 0, 1));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new SteadyStateEvolutionaryAlgorithm(
+				new Population(), null, new MockCompleter(), null, null, 1, 1, 0));
+	}
+
+	@Test
+	public void next() throws TerminationException {
+		IndividualFactory factory = mock(IndividualFactory.class);
+		when(factory.create()).thenAnswer(i -> mock(Individual.class));
+		Selector selector = mockSelector();
+		Mating mating = mockMating();
+		MockCompleter completer = new MockCompleter();
+		Population population = new Population();
+
+		SteadyStateEvolutionaryAlgorithm ea = new SteadyStateEvolutionaryAlgorithm(population, factory, completer,
+				selector, mating, 10, 4, 3);
+		ea.initialize();
+		verify(selector).init(13);
+
+		ea.next();
+		Assertions.assertEquals(10, population.size());
+		verify(factory, times(10)).create();
+		verify(selector, times(3)).getLames(anyInt(), any());
+		Assertions.assertEquals(10 + 3 + ea.pending, completer.completed.size());
+
+		ea.next();
+		Assertions.assertEquals(10, population.size());
+		verify(factory, times(10)).create();
+		verify(selector, times(6)).getLames(anyInt(), any());
+	}
+
+	@Test
+	public void nextTerminated() {
+		IndividualFactory factory = mock(IndividualFactory.class);
+		when(factory.create()).thenAnswer(i -> mock(Individual.class));
+		MockCompleter completer = new MockCompleter() {
+			@Override
+			public CompletableFuture<Individual> completeAsync(Individual individual) {
+				return CompletableFuture.failedFuture(new TerminationException());
+			}
+		};
+		Population population = new Population();
+
+		SteadyStateEvolutionaryAlgorithm ea = new SteadyStateEvolutionaryAlgorithm(population, factory, completer,
+				mockSelector(), mockMating(), 5, 2, 2);
+		ea.initialize();
+		Assertions.assertThrows(TerminationException.class, () -> ea.next());
+	}
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
@@ -145,4 +146,50 @@ public class ESamplingSurvivorGenerationBasicTest2 {
 		Assertions.assertTrue(dominated.contains(thirdIndi));
 	}
 
+	@Test
+	public void testApplyEpsilonSamplingIndexed() {
+		// a mapping without shifts is checked by the scan over all individuals
+		EpsilonMapping scanMapping = new EpsilonMapping() {
+			@Override
+			public Objectives mapObjectives(Objectives original, double epsilon,
+					Map<Objective, Double> objectiveAmplitudes) {
+				return mapping.mapObjectives(original, epsilon, objectiveAmplitudes);
+			}
+
+			@Override
+			public Map<Objective, Double> findObjectiveAmplitudes(Set<Individual> individuals) {
+				return mapping.findObjectiveAmplitudes(individuals);
+			}
+		};
+		Objective thirdObj = new Objective("third", Sign.MIN);
+		Random random = new Random(11);
+		List<Individual> front = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			// points on a plane are mutually non-dominated, with duplicates
+			double x = random.nextInt(25);
+			double y = random.nextInt(25);
+			Individual individual = mock(Individual.class);
+			Objectives objectives = new Objectives();
+			objectives.add(firstObj, x);
+			objectives.add(secondObj, y);
+			objectives.add(thirdObj, x + y);
+			when(individual.getObjectives()).thenReturn(objectives);
+			front.add(individual);
+		}
+
+		for (double epsilon : new double[] { 0.0, 0.01, 0.05, 0.3 }) {
+			Set<Individual> dominant = new HashSet<>();
+			Set<Individual> dominated = new HashSet<>();
+			new ESamplingSurvivorGenerationBasic(new Random(epsilon == 0 ? 1 : 2), mapping, adaptation, .2, .0, .0,
+					.0).applyEpsilonSampling(front, dominant, dominated, epsilon);
+			Set<Individual> expectedDominant = new HashSet<>();
+			Set<Individual> expectedDominated = new HashSet<>();
+			new ESamplingSurvivorGenerationBasic(new Random(epsilon == 0 ? 1 : 2), scanMapping, adaptation, .2, .0,
+					.0, .0).applyEpsilonSampling(front, expectedDominant, expectedDominated, epsilon);
+			Assertions.assertEquals(expectedDominant, dominant);
+			Assertions.assertEquals(expectedDominated, dominated);
+			Assertions.assertEquals(front.size(), dominant.size() + dominated.size());
+		}
+	}
+
 }
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -99,4 +100,44 @@ public class EpsilonNeighborhoodCouplerTest {
 		Assertions.assertTrue(couple.getSecond().equals(second));
 	}
 
+	@Test
+	public void testCreateNeighborhoodsIndexed() {
+		EpsilonMappingAdditive mapping = new EpsilonMappingAdditive();
+		// a mapping without shifts is checked by the scan over all survivors
+		EpsilonMapping scanMapping = new EpsilonMapping() {
+			@Override
+			public Objectives mapObjectives(Objectives original, double epsilon,
+					Map<Objective, Double> objectiveAmplitudes) {
+				return mapping.mapObjectives(original, epsilon, objectiveAmplitudes);
+			}
+
+			@Override
+			public Map<Objective, Double> findObjectiveAmplitudes(Set<Individual> individuals) {
+				return mapping.findObjectiveAmplitudes(individuals);
+			}
+		};
+		EpsilonAdaptation adaptation = mock(EpsilonAdaptation.class);
+		EpsilonNeighborhoodCoupler coupler = new EpsilonNeighborhoodCoupler(mapping, adaptation, new Random(5), 10,
+				0.1, 0, 0, 0);
+		EpsilonNeighborhoodCoupler scanCoupler = new EpsilonNeighborhoodCoupler(scanMapping, adaptation,
+				new Random(5), 10, 0.1, 0, 0, 0);
+
+		Random random = new Random(3);
+		List<Individual> survivors = new ArrayList<>();
+		for (int generation = 0; generation < 5; generation++) {
+			// replace a part of the survivors to update the index
+			Collections.shuffle(survivors, random);
+			survivors.subList(0, survivors.size() / 3).clear();
+			while (survivors.size() < 150) {
+				Individual individual = mock(Individual.class);
+				Objectives objectives = getObj(random.nextInt(20), random.nextInt(20));
+				objectives.add(new Objective("third"), random.nextInt(20));
+				when(individual.getObjectives()).thenReturn(objectives);
+				survivors.add(individual);
+			}
+			List<Set<Individual>> neighborhoods = coupler.createNeighborhoods(survivors);
+			Assertions.assertEquals(scanCoupler.createNeighborhoods(survivors), neighborhoods);
+		}
+	}
+
 }
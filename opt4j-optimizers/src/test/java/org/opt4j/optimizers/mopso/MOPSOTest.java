@@ -0,0 +1,146 @@
+package org.opt4j.optimizers.mopso;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.Genotype;
+import org.opt4j.core.common.random.RandomJava;
+import org.opt4j.core.genotype.DoubleArrayGenotype;
+import org.opt4j.core.optimizer.IndividualCompleter;
+import org.opt4j.core.optimizer.Population;
+import org.opt4j.core.problem.Creator;
+import org.opt4j.operators.mutate.MutationRate;
+
+public class MOPSOTest {
+
+	@SuppressWarnings("unchecked")
+	protected static MOPSO createMOPSO(int size) {
+		MutationRate mutationRate = mock(MutationRate.class);
+		when(mutationRate.get()).thenReturn(0.0);
+		ParticleFactory factory = new ParticleFactory(Particle::new, mock(Creator.class));
+		return new MOPSO(new Population(), factory, mock(IndividualCompleter.class), new RandomJava(0),
+				mock(MutateDoubleUniform.class), mock(MutateDoubleNonUniform.class), mutationRate, size, size);
+	}
+
+	protected static DoubleArrayGenotype createGenotype(double... values) {
+		DoubleArrayGenotype genotype = new DoubleArrayGenotype(0.0, 1.0);
+		genotype.setAll(values, values.length);
+		return genotype;
+	}
+
+	protected static Particle createParticle(int id, Genotype position, Genotype velocity) {
+		Particle particle = new Particle();
+		particle.setGenotype(position);
+		particle.setVelocity(velocity);
+		particle.setBest(position, null);
+		particle.setId(id);
+		return particle;
+	}
+
+	/**
+	 * Checks that the velocity calculation on arrays equals the term.
+	 */
+	@Test
+	public void testVelocityTermArray() {
+		Random random = new Random(0);
+		VelocityTerm velocityTerm = new VelocityTerm(new RandomJava(0));
+		final int n = 16;
+		double[] x = new double[n];
+		double[] v = new double[n];
+		double[] best = new double[n];
+		double[] leader = new double[n];
+		double[] result = new double[n];
+
+		for (int run = 0; run < 100; run++) {
+			velocityTerm.randomize();
+			for (int k = 0; k < n; k++) {
+				x[k] = random.nextDouble();
+				v[k] = random.nextDouble() - 0.5;
+				best[k] = random.nextDouble();
+				leader[k] = random.nextDouble();
+			}
+			velocityTerm.calculate(x, v, best, leader, result, n);
+			for (int k = 0; k < n; k++) {
+				Assertions.assertEquals(velocityTerm.calculate(x[k], v[k], best[k], leader[k]), result[k], 0.0);
+			}
+		}
+	}
+
+	/**
+	 * Checks that a position beyond the bounds is clamped and the velocity is
+	 * negated.
+	 */
+	@Test
+	public void testReflection() {
+		MOPSO mopso = createMOPSO(1);
+		Particle particle = createParticle(0, createGenotype(0.5, 0.5, 0.5), createGenotype(8.0, -8.0, 0.1));
+		Particle[] next = new Particle[1];
+
+		mopso.move(new Particle[] { particle }, new Particle[] { particle }, next, 1);
+
+		// the position equals the personal best and the leader
+		double w = mopso.velocityTerm.W.getValue();
+		DoubleArrayGenotype position = (DoubleArrayGenotype) next[0].getGenotype();
+		DoubleArrayGenotype velocity = (DoubleArrayGenotype) next[0].getVelocity();
+		Assertions.assertEquals(1.0, position.getDouble(0), 0.0);
+		Assertions.assertEquals(0.0, position.getDouble(1), 0.0);
+		Assertions.assertEquals(0.5 + w * 0.1, position.getDouble(2), 0.0);
+		Assertions.assertEquals(-w * 8.0, velocity.getDouble(0), 0.0);
+		Assertions.assertEquals(w * 8.0, velocity.getDouble(1), 0.0);
+		Assertions.assertEquals(w * 0.1, velocity.getDouble(2), 0.0);
+	}
+
+	/**
+	 * Checks that no two particles share a velocity over several iterations,
+	 * including the former particles.
+	 */
+	@Test
+	public void testVelocitiesNotShared() {
+		final int size = 5;
+		MOPSO mopso = createMOPSO(size);
+		Random random = new Random(0);
+
+		Particle[] particles = new Particle[size];
+		for (int i = 0; i < size; i++) {
+			particles[i] = createParticle(i, createGenotype(random.nextDouble(), random.nextDouble()),
+					createGenotype(0.0, 0.0));
+		}
+		List<Particle> all = new ArrayList<>();
+		Collections.addAll(all, particles);
+		Particle[] leaders = new Particle[size];
+		Particle[] next = new Particle[size];
+
+		for (int iteration = 0; iteration < 10; iteration++) {
+			for (int i = 0; i < size; i++) {
+				leaders[i] = particles[random.nextInt(size)];
+			}
+			mopso.move(particles, leaders, next, size);
+			Collections.addAll(all, next);
+
+			Set<Genotype> velocities = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Particle particle : all) {
+				Genotype velocity = particle.getVelocity();
+				if (velocity != null) {
+					Assertions.assertTrue(velocities.add(velocity));
+				}
+			}
+			for (int i = 0; i < size; i++) {
+				Assertions.assertNotNull(next[i].getVelocity());
+				Assertions.assertNull(particles[i].getVelocity());
+			}
+
+			Particle[] swap = particles;
+			particles = next;
+			next = swap;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.vector;
+
+import org.opt4j.core.common.dominance.DominanceKernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link DominanceKernelVector} is a {@link DominanceKernel} that uses the
+ * Java Vector API. The lanes of a vector are consecutive points of the
+ * column-wise block such that one candidate is compared with
+ * {@link VectorSpecies#length()} points per instruction. The remaining points
+ * are compared with scalar operations.
+ * 
+ * @author agent
+ * 
+ */
+public class DominanceKernelVector implements DominanceKernel {
+
+	protected static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.dominance.DominanceKernel#compare(double[],
+	 * double[][], int, int, byte[])
+	 */
+	@Override
+	public void compare(double[] candidate, double[][] columns, int from, int to, byte[] relation) {
+		final int m = candidate.length;
+		final int lanes = SPECIES.length();
+		int j = from;
+		for (; j + lanes <= to; j += lanes) {
+			VectorMask<Double> better = SPECIES.maskAll(false);
+			VectorMask<Double> worse = SPECIES.maskAll(false);
+			for (int k = 0; k < m; k++) {
+				DoubleVector points = DoubleVector.fromArray(SPECIES, columns[k], j);
+				better = better.or(points.compare(VectorOperators.GT, candidate[k]));
+				worse = worse.or(points.compare(VectorOperators.LT, candidate[k]));
+			}
+			long b = better.toLong();
+			long w = worse.toLong();
+			for (int l = 0; l < lanes; l++) {
+				boolean isBetter = (b >>> l & 1) != 0;
+				boolean isWorse = (w >>> l & 1) != 0;
+				relation[j + l] = isBetter == isWorse ? NONE : (isBetter ? DOMINATES : DOMINATED);
+			}
+		}
+		for (; j < to; j++) {
+			boolean better = false;
+			boolean worse = false;
+			for (int k = 0; k < m; k++) {
+				double a = candidate[k];
+				double c = columns[k][j];
+				better |= a < c;
+				worse |= a > c;
+			}
+			relation[j] = better == worse ? NONE : (better ? DOMINATES : DOMINATED);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.core.common.dominance.DominanceKernel#findWeaklyDominating(
+	 * double[], double[][], int, int)
+	 */
+	@Override
+	public int findWeaklyDominating(double[] candidate, double[][] columns, int from, int to) {
+		final int m = candidate.length;
+		final int lanes = SPECIES.length();
+		int j = from;
+		for (; j + lanes <= to; j += lanes) {
+			VectorMask<Double> weak = SPECIES.maskAll(true);
+			for (int k = 0; k < m && weak.anyTrue(); k++) {
+				DoubleVector points = DoubleVector.fromArray(SPECIES, columns[k], j);
+				weak = weak.andNot(points.compare(VectorOperators.GT, candidate[k]));
+			}
+			int first = weak.firstTrue();
+			if (first < lanes) {
+				return j + first;
+			}
+		}
+		for (; j < to; j++) {
+			int k = 0;
+			while (k < m && !(candidate[k] < columns[k][j])) {
+				k++;
+			}
+			if (k == m) {
+				return j;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2014 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.vector;
+
+import org.opt4j.core.common.dominance.DominanceKernel;
+import org.opt4j.core.common.dominance.DominanceKernelScalar;
+import org.opt4j.core.config.Icons;
+import org.opt4j.core.config.annotations.Icon;
+import org.opt4j.core.config.annotations.Info;
+import org.opt4j.core.start.Opt4JModule;
+
+/**
+ * The {@link VectorModule} binds the {@link DominanceKernelVector}. If the
+ * {@code jdk.incubator.vector} module is not available in the Java runtime,
+ * the {@link DominanceKernelScalar} is bound instead.
+ * 
+ * @author agent
+ * 
+ */
+@Icon(Icons.PUZZLE_GREEN)
+@Info("Uses the Java Vector API for the dominance comparisons in the archives, the non-dominated sorting, SPEA2, and the ε-sampling. Requires the Java option --add-modules jdk.incubator.vector.")
+public class VectorModule extends Opt4JModule {
+
+	/**
+	 * Returns {@code true} if the {@code jdk.incubator.vector} module is
+	 * available in the Java runtime.
+	 * 
+	 * @return {@code true} if the Vector API is available
+	 */
+	public static boolean isAvailable() {
+		return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.core.start.Opt4JModule#config()
+	 */
+	@Override
+	protected void config() {
+		if (isAvailable()) {
+			bind(DominanceKernel.class).to(DominanceKernelVector.class).in(SINGLETON);
+		} else {
+			bind(DominanceKernel.class).to(DominanceKernelScalar.class).in(SINGLETON);
+		}
+	}
+}
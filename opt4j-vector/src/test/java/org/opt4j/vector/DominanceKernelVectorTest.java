@@ -0,0 +1,79 @@
+package org.opt4j.vector;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opt4j.core.common.dominance.DominanceKernel;
+import org.opt4j.core.common.dominance.DominanceKernelScalar;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class DominanceKernelVectorTest {
+
+	protected static double[][] points(Random random, int n, int m, int levels) {
+		double[][] points = new double[n][m];
+		for (int i = 0; i < n; i++) {
+			for (int k = 0; k < m; k++) {
+				points[i][k] = levels > 0 ? random.nextInt(levels) : random.nextDouble();
+			}
+		}
+		return points;
+	}
+
+	protected static void assertSame(double[][] points) {
+		DominanceKernel scalar = new DominanceKernelScalar();
+		DominanceKernel vector = new DominanceKernelVector();
+		double[][] columns = DominanceKernel.columns(points);
+		final int n = points.length;
+		byte[] expected = new byte[n];
+		byte[] actual = new byte[n];
+		for (int i = 0; i < n; i++) {
+			int from = i % 3;
+			scalar.compare(points[i], columns, from, n, expected);
+			vector.compare(points[i], columns, from, n, actual);
+			Assertions.assertArrayEquals(expected, actual);
+			Assertions.assertEquals(scalar.findWeaklyDominating(points[i], columns, from, n),
+					vector.findWeaklyDominating(points[i], columns, from, n));
+		}
+	}
+
+	@Test
+	public void compareRandom() {
+		Random random = new Random(0);
+		for (int n : new int[] { 1, 7, 64, 101 }) {
+			assertSame(points(random, n, 2, 0));
+			assertSame(points(random, n, 5, 0));
+		}
+	}
+
+	@Test
+	public void compareTies() {
+		Random random = new Random(1);
+		for (int n : new int[] { 3, 33, 130 }) {
+			assertSame(points(random, n, 2, 3));
+			assertSame(points(random, n, 4, 2));
+		}
+	}
+
+	@Test
+	public void findWeaklyDominating() {
+		DominanceKernel vector = new DominanceKernelVector();
+		double[][] points = new double[37][];
+		for (int j = 0; j < points.length; j++) {
+			points[j] = new double[] { j, points.length - j };
+		}
+		double[][] columns = DominanceKernel.columns(points);
+		Assertions.assertEquals(-1, vector.findWeaklyDominating(new double[] { 10.5, 26 }, columns, 0, 37));
+		Assertions.assertEquals(10, vector.findWeaklyDominating(new double[] { 10, 27 }, columns, 0, 37));
+		Assertions.assertEquals(30, vector.findWeaklyDominating(new double[] { 40, 40 }, columns, 30, 37));
+	}
+
+	@Test
+	public void module() {
+		Injector injector = Guice.createInjector(new VectorModule());
+		DominanceKernel kernel = injector.getInstance(DominanceKernel.class);
+		Assertions.assertTrue(kernel instanceof DominanceKernelVector);
+	}
+}